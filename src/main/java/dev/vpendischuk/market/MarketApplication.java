@@ -4,13 +4,23 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.util.Properties;
 
 /**
  * The application entry point class.
+ * <p>
+ * The R2DBC auto-configuration is excluded, as the build with the reactive API
+ *   (<b>reactive</b> Maven profile) configures its own connection pool and keeps
+ *   its transaction manager out of the context (see <code>ReactiveConfiguration</code>).
  */
-@SpringBootApplication
+@SpringBootApplication(excludeName = {
+        "org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration",
+        "org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration"
+})
+@EnableScheduling
 public class MarketApplication {
     /* ---------------------------- Static fields -------------------------- */
 
@@ -19,10 +29,17 @@ public class MarketApplication {
      */
     private static final Logger logger = LoggerFactory.getLogger(MarketApplication.class);
 
+    /**
+     * Maximum number of recorded startup steps.
+     */
+    private static final int STARTUP_STEP_CAPACITY = 10_000;
+
     /* -------------------------- Public methods -------------------------- */
 
     /**
      * The application entry point method.
+     * <p>
+     * The startup steps are recorded, so their breakdown can be retrieved at <code>/admin/startup</code>.
      *
      * @param args command line arguments.
      */
@@ -32,7 +49,10 @@ public class MarketApplication {
         // Configuring logging from command line arguments.
         configureLogging(properties, args);
 
-        new SpringApplicationBuilder(MarketApplication.class).properties(properties).run(args);
+        new SpringApplicationBuilder(MarketApplication.class)
+                .applicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY))
+                .properties(properties)
+                .run(args);
     }
 
     /* -------------------------- Private methods -------------------------- */
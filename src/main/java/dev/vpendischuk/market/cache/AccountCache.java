@@ -0,0 +1,233 @@
+package dev.vpendischuk.market.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.vpendischuk.market.cache.model.AccountBookReadModel;
+import dev.vpendischuk.market.cache.model.AccountReadModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * In-memory cache of {@link AccountReadModel} instances mapped by account IDs.
+ * <p>
+ * Services that modify account data update the cached models in place,
+ *   so account data may be served without querying the database
+ *   once the model has been loaded. Changes made by other application instances
+ *   are not seen until the model expires, so the models are only used to display account data.
+ * <p>
+ * Changes made within a transaction are applied to the cached model only once the transaction
+ *   commits, so a rolled back change is never served. If the transaction is rolled back,
+ *   the model is removed from the cache instead, as it may have been loaded in the meantime.
+ *   The changes are applied before the other completion callbacks (such as the invalidation
+ *   of the cached responses), so the responses are re-rendered from the changed model.
+ */
+@Component
+public class AccountCache {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link AccountCache} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(AccountCache.class);
+
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * Underlying Caffeine cache.
+     */
+    private final Cache<Long, AccountReadModel> cache;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link AccountCache} instance.
+     *
+     * @param maximumSize maximum number of cached account models.
+     * @param expireAfterWrite time after which a cached account model is reloaded from the database.
+     */
+    public AccountCache(@Value("${market.cache.account.maximum-size:1000}") long maximumSize,
+                        @Value("${market.cache.account.expire-after-write:1m}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Retrieves the cached model of the account with the specified ID,
+     *   loading it with the specified loader if it's not cached.
+     *
+     * @param accountId account ID.
+     * @param loader function that loads the account model by its ID
+     *   and returns null if the account does not exist.
+     * @return the account model or null, if the account does not exist.
+     */
+    public AccountReadModel get(long accountId, Function<Long, AccountReadModel> loader) {
+        return cache.get(accountId, loader);
+    }
+
+    /**
+     * Retrieves the underlying Caffeine cache to be managed by the {@link CacheRegistry}.
+     *
+     * @return underlying Caffeine cache.
+     */
+    Cache<Long, AccountReadModel> getCache() {
+        return cache;
+    }
+
+    /**
+     * Retrieves the approximate number of cached account models.
+     *
+     * @return number of cached account models.
+     */
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Sets the balance of the cached account model, if the model is cached.
+     *
+     * @param accountId account ID.
+     * @param balance new account balance.
+     */
+    public void updateBalance(long accountId, int balance) {
+        afterCommit(accountId, () ->
+                cache.asMap().computeIfPresent(accountId, (id, account) -> account.withBalance(balance)));
+    }
+
+    /**
+     * Adds (or replaces) a purchased book entry in the cached account model,
+     *   if the model is cached.
+     *
+     * @param accountId account ID.
+     * @param book purchased book's read model.
+     */
+    public void updateBook(long accountId, AccountBookReadModel book) {
+        afterCommit(accountId, () ->
+                cache.asMap().computeIfPresent(accountId, (id, account) -> account.withBook(book)));
+    }
+
+    /**
+     * Sets the amount of a purchased book in the cached account model, if the model is cached.
+     * <p>
+     * If the model has no entry for the book yet, the model is removed from the cache
+     *   to be reloaded on the next read, as the book data is not at hand.
+     *
+     * @param accountId account ID.
+     * @param bookId purchased book ID.
+     * @param amount new amount of books purchased.
+     */
+    public void updateBookAmount(long accountId, long bookId, int amount) {
+        afterCommit(accountId, () ->
+                cache.asMap().computeIfPresent(accountId, (id, account) -> account.withBookAmount(bookId, amount)));
+    }
+
+    /**
+     * Removes the model of the account with the specified ID from the cache.
+     * <p>
+     * Within a transaction, the model is removed again once the transaction completes,
+     *   as it may have been reloaded from the data preceding the change in the meantime.
+     *
+     * @param accountId account ID.
+     */
+    public void invalidate(long accountId) {
+        logger.debug("Invalidating cached model of Account ID {}", accountId);
+        cache.invalidate(accountId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new CacheSynchronization(
+                    () -> cache.invalidate(accountId), () -> cache.invalidate(accountId)));
+        }
+    }
+
+    /**
+     * Removes all account models from the cache.
+     * <p>
+     * Within a transaction, the models are removed again once the transaction completes.
+     */
+    public void invalidateAll() {
+        logger.debug("Invalidating all cached account models");
+        cache.invalidateAll();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new CacheSynchronization(
+                    cache::invalidateAll, cache::invalidateAll));
+        }
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Applies the specified change to the cached model of the account with the specified ID
+     *   once the current transaction commits, or immediately if there's no transaction.
+     *   The model is removed from the cache if the transaction is rolled back.
+     *
+     * @param accountId account ID.
+     * @param change change of the cached model.
+     */
+    private void afterCommit(long accountId, Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new CacheSynchronization(
+                change, () -> cache.invalidate(accountId)));
+    }
+
+    /* --------------------------- Nested classes -------------------------- */
+
+    /**
+     * Transaction synchronization applying a change of the cached models once the transaction completes.
+     */
+    private static final class CacheSynchronization implements TransactionSynchronization {
+        /**
+         * Change applied if the transaction is committed.
+         */
+        private final Runnable onCommit;
+
+        /**
+         * Change applied if the transaction is rolled back (or its outcome is unknown).
+         */
+        private final Runnable onRollback;
+
+        /**
+         * Initializes a new {@link CacheSynchronization} instance.
+         *
+         * @param onCommit change applied if the transaction is committed.
+         * @param onRollback change applied if the transaction is rolled back.
+         */
+        private CacheSynchronization(Runnable onCommit, Runnable onRollback) {
+            this.onCommit = onCommit;
+            this.onRollback = onRollback;
+        }
+
+        // getOrder() method override.
+        // The cached models are changed before the cached responses rendered from them are invalidated.
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        // afterCompletion() method override.
+        @Override
+        public void afterCompletion(int status) {
+            if (status == STATUS_COMMITTED) {
+                onCommit.run();
+            } else {
+                onRollback.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package dev.vpendischuk.market.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import dev.vpendischuk.market.cache.model.CacheStatistics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Registry of all in-memory caches of the application, used to monitor and manage them
+ *   in a uniform way.
+ * <p>
+ * Every cache is published to the {@link MeterRegistry} under its name (the <b>cache</b> tag)
+ *   with the standard Caffeine cache meters and the <b>cache.memory.estimate</b> gauge.
+ * <p>
+ * The memory used by a weighted cache is its total weight, as the weight is the content size in bytes.
+ *   For other caches the average entry size is estimated from a sample of up to {@value #MEMORY_SAMPLE_SIZE}
+ *   entries: the size of an entry's JSON representation multiplied by {@value #HEAP_TO_JSON_RATIO}.
+ *   The estimate is the average entry size multiplied by the current number of entries. As the sample
+ *   is serialized, the average entry size is kept and only taken anew once the refresh interval has passed,
+ *   so that metrics scrapes do not serialize cached entries.
+ */
+@Component
+public class CacheRegistry {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link CacheRegistry} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(CacheRegistry.class);
+
+    /**
+     * Number of entries sampled to estimate the memory used by an unweighted cache.
+     */
+    private static final int MEMORY_SAMPLE_SIZE = 32;
+
+    /**
+     * Approximate ratio of an entry's heap footprint to the size of its JSON representation.
+     * <p>
+     * The JSON representation holds the field values only, while on the heap every object
+     *   of an entry (the entry itself, its strings, boxed numbers and collections with their nodes)
+     *   also takes a 12-16 byte header, a 4-8 byte reference from its owner and alignment padding.
+     *   For the small DTOs and read models kept in the caches this overhead is about twice the size
+     *   of the values, hence the ratio of 3. The ratio is a heuristic - the estimate is meant
+     *   to compare caches and spot growth, not to account for the heap exactly.
+     */
+    private static final int HEAP_TO_JSON_RATIO = 3;
+
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * Managed caches mapped by their names.
+     */
+    private final Map<String, ManagedCache> caches = new LinkedHashMap<>();
+
+    /**
+     * An {@link ObjectMapper} instance used to estimate the size of cached entries.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Time after which the average entry size of an unweighted cache is estimated anew, in nanoseconds.
+     */
+    private final long memoryEstimateRefreshNanos;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link CacheRegistry} instance.
+     *
+     * @param catalogCache catalog DTO cache.
+     * @param accountCache account read model cache.
+     * @param responseCache rendered response cache.
+     * @param objectMapper object mapper used to estimate the size of cached entries.
+     * @param meterRegistry meter registry the caches are published to.
+     * @param memoryEstimateRefreshInterval time after which the average entry size
+     *   of an unweighted cache is estimated anew.
+     */
+    public CacheRegistry(CatalogCache catalogCache,
+                         AccountCache accountCache,
+                         ResponseCache responseCache,
+                         ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry,
+                         @Value("${market.cache.memory-estimate.refresh-interval:1m}")
+                         Duration memoryEstimateRefreshInterval) {
+        this.objectMapper = objectMapper;
+        this.memoryEstimateRefreshNanos = memoryEstimateRefreshInterval.toNanos();
+
+        register("market", catalogCache.getMarketCache(), catalogCache.getMarketCache()::invalidateAll);
+        register("products", catalogCache.getProductCache(), catalogCache.getProductCache()::invalidateAll);
+        register("account", accountCache.getCache(), accountCache::invalidateAll);
+        register("responses", responseCache.getCache(), responseCache::invalidateAll);
+
+        for (ManagedCache managedCache : caches.values()) {
+            CaffeineCacheMetrics.monitor(meterRegistry, managedCache.cache, managedCache.name);
+            Gauge.builder("cache.memory.estimate", managedCache, this::estimateMemory)
+                    .tag("cache", managedCache.name)
+                    .description("Estimated heap memory used by the cached entries")
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+        }
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Retrieves the names of all managed caches.
+     *
+     * @return cache names.
+     */
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /**
+     * Retrieves the statistics of all managed caches.
+     *
+     * @return list of cache statistics.
+     */
+    public List<CacheStatistics> getStatistics() {
+        return caches.values().stream().map(this::getStatistics).toList();
+    }
+
+    /**
+     * Retrieves the statistics of the cache with the specified name.
+     *
+     * @param name cache name.
+     * @return cache statistics or null, if no cache with the specified name exists.
+     */
+    public CacheStatistics getStatistics(String name) {
+        ManagedCache managedCache = caches.get(name);
+        return managedCache == null ? null : getStatistics(managedCache);
+    }
+
+    /**
+     * Removes all entries from the cache with the specified name.
+     *
+     * @param name cache name.
+     * @return true if the cache was invalidated, false if no cache with the specified name exists.
+     */
+    public boolean invalidate(String name) {
+        ManagedCache managedCache = caches.get(name);
+
+        if (managedCache == null) {
+            return false;
+        }
+
+        logger.info("Invalidating cache {}", name);
+        managedCache.invalidator.run();
+
+        return true;
+    }
+
+    /**
+     * Sets the maximum size of the cache with the specified name.
+     * <p>
+     * The maximum size of a weighted cache is its maximum total weight in bytes.
+     *   Entries over the new maximum size are evicted.
+     *
+     * @param name cache name.
+     * @param maximumSize new maximum cache size.
+     * @return true if the cache was resized, false if no cache with the specified name exists.
+     */
+    public boolean resize(String name, long maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("Maximum cache size cannot be negative");
+        }
+
+        ManagedCache managedCache = caches.get(name);
+
+        if (managedCache == null) {
+            return false;
+        }
+
+        logger.info("Resizing cache {} to {}", name, maximumSize);
+        managedCache.cache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(maximumSize));
+
+        return true;
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Registers a cache under the specified name.
+     *
+     * @param name cache name.
+     * @param cache the cache.
+     * @param invalidator action that removes all entries from the cache.
+     */
+    private void register(String name, Cache<?, ?> cache, Runnable invalidator) {
+        caches.put(name, new ManagedCache(name, cache, invalidator));
+    }
+
+    /**
+     * Takes a snapshot of the specified cache's statistics.
+     *
+     * @param managedCache the cache.
+     * @return cache statistics.
+     */
+    private CacheStatistics getStatistics(ManagedCache managedCache) {
+        Optional<? extends Policy.Eviction<?, ?>> eviction = managedCache.cache.policy().eviction();
+
+        return new CacheStatistics(
+                managedCache.name,
+                managedCache.cache.estimatedSize(),
+                eviction.map(Policy.Eviction::getMaximum).orElse(Long.MAX_VALUE),
+                eviction.map(Policy.Eviction::isWeighted).orElse(false),
+                managedCache.cache.stats(),
+                estimateMemory(managedCache)
+        );
+    }
+
+    /**
+     * Estimates the heap memory used by the entries of the specified cache.
+     * <p>
+     * The total weight is used for weighted caches (it's the content size in bytes).
+     *   For other caches the average entry size is multiplied by the number of entries.
+     *
+     * @param managedCache the cache.
+     * @return estimated memory in bytes.
+     */
+    private long estimateMemory(ManagedCache managedCache) {
+        Optional<? extends Policy.Eviction<?, ?>> eviction = managedCache.cache.policy().eviction();
+
+        if (eviction.isPresent() && eviction.get().isWeighted()) {
+            return eviction.get().weightedSize().orElse(0);
+        }
+
+        return estimateEntrySize(managedCache) * managedCache.cache.estimatedSize();
+    }
+
+    /**
+     * Retrieves the estimated average heap size of an entry of the specified unweighted cache.
+     * <p>
+     * The estimate is kept for the refresh interval. Once it has passed, up to {@value #MEMORY_SAMPLE_SIZE}
+     *   entries are serialized to JSON and the average size of their JSON representations
+     *   is multiplied by {@value #HEAP_TO_JSON_RATIO}. An empty cache is sampled again on the next call.
+     *
+     * @param managedCache the cache.
+     * @return estimated average entry size in bytes.
+     */
+    private long estimateEntrySize(ManagedCache managedCache) {
+        synchronized (managedCache) {
+            long now = System.nanoTime();
+
+            if (managedCache.entrySampleCount > 0 && now - managedCache.entrySampledAt < memoryEstimateRefreshNanos) {
+                return managedCache.entrySizeEstimate;
+            }
+
+            long sampleSize = 0;
+            int sampleCount = 0;
+
+            for (Object value : managedCache.cache.asMap().values()) {
+                if (sampleCount == MEMORY_SAMPLE_SIZE) {
+                    break;
+                }
+
+                try {
+                    sampleSize += (long) objectMapper.writeValueAsBytes(value).length * HEAP_TO_JSON_RATIO;
+                    sampleCount++;
+                } catch (JsonProcessingException ex) {
+                    logger.debug("Could not estimate size of an entry of cache {}", managedCache.name);
+                }
+            }
+
+            managedCache.entrySizeEstimate = sampleCount == 0 ? 0 : sampleSize / sampleCount;
+            managedCache.entrySampleCount = sampleCount;
+            managedCache.entrySampledAt = now;
+
+            return managedCache.entrySizeEstimate;
+        }
+    }
+
+    /* --------------------------- Nested classes -------------------------- */
+
+    /**
+     * A managed cache together with its name and invalidation action.
+     */
+    private static class ManagedCache {
+        /**
+         * Cache name.
+         */
+        private final String name;
+
+        /**
+         * The underlying Caffeine cache.
+         */
+        private final Cache<?, ?> cache;
+
+        /**
+         * Action that removes all entries from the cache.
+         */
+        private final Runnable invalidator;
+
+        /**
+         * Estimated average heap size of an entry, in bytes (unweighted caches only).
+         */
+        private long entrySizeEstimate;
+
+        /**
+         * Number of entries the average entry size was estimated from.
+         */
+        private int entrySampleCount;
+
+        /**
+         * {@link System#nanoTime()} value the average entry size was estimated at.
+         */
+        private long entrySampledAt;
+
+        /**
+         * Initializes a new {@link ManagedCache} instance.
+         *
+         * @param name cache name.
+         * @param cache the underlying Caffeine cache.
+         * @param invalidator action that removes all entries from the cache.
+         */
+        private ManagedCache(String name, Cache<?, ?> cache, Runnable invalidator) {
+            this.name = name;
+            this.cache = cache;
+            this.invalidator = invalidator;
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package dev.vpendischuk.market.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import dev.vpendischuk.market.datasource.ReplicaRoutingContext;
+import dev.vpendischuk.market.domain.CatalogEntry;
+import dev.vpendischuk.market.domain.ProductAvailability;
+import dev.vpendischuk.market.dto.assembler.CatalogDtoAssembler;
+import dev.vpendischuk.market.dto.assembler.CatalogEntryDtoAssembler;
+import dev.vpendischuk.market.dto.response.MarketDto;
+import dev.vpendischuk.market.dto.response.ProductDto;
+import dev.vpendischuk.market.event.CatalogChangedEvent;
+import dev.vpendischuk.market.service.CatalogService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Stale-while-revalidate cache of the rendered market catalog DTOs.
+ * <p>
+ * A cached DTO is fresh for the configured <b>max-age</b>. After that the first read
+ *   still returns the stale DTO and starts a single background refresh, so read latency
+ *   does not depend on the database latency. If the refresh fails, the stale DTO keeps
+ *   being served until the <b>stale-while-revalidate</b> or <b>stale-if-error</b> window
+ *   (whichever is longer) is over.
+ * <p>
+ * The same policy is advertised to HTTP caches through {@link #getCacheControl()}.
+ *   DTOs are dropped immediately when the services report a catalog data change.
+ * <p>
+ * DTOs are loaded from the denormalized catalog read table (see {@link CatalogService}),
+ *   so a cache miss costs a single index scan instead of a products-books join.
+ *   They are always loaded from the primary database, so that a DTO reloaded after
+ *   an invalidation never holds data from before the change.
+ */
+@Component
+public class CatalogCache {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link CatalogCache} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(CatalogCache.class);
+
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * A {@link CatalogService} instance used to load catalog data.
+     */
+    private final CatalogService catalogService;
+
+    /**
+     * A {@link CatalogDtoAssembler} instance used to assemble {@link MarketDto} DTOs.
+     */
+    private final CatalogDtoAssembler catalogDtoAssembler;
+
+    /**
+     * A {@link CatalogEntryDtoAssembler} instance used to assemble {@link ProductDto} DTOs.
+     */
+    private final CatalogEntryDtoAssembler catalogEntryDtoAssembler;
+
+    /**
+     * Cache of the market DTOs mapped by the listed products' availability.
+     */
+    private final LoadingCache<ProductAvailability, MarketDto> marketCache;
+
+    /**
+     * Cache of the product DTOs mapped by product IDs.
+     */
+    private final LoadingCache<Long, ProductDto> productCache;
+
+    /**
+     * <b>Cache-Control</b> header value of the catalog responses.
+     */
+    private final CacheControl cacheControl;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link CatalogCache} instance.
+     *
+     * @param catalogService catalog service used to load catalog data.
+     * @param catalogDtoAssembler {@link MarketDto} object assembler.
+     * @param catalogEntryDtoAssembler {@link ProductDto} object assembler.
+     * @param maxAge time a cached DTO is considered fresh for.
+     * @param staleWhileRevalidate time a stale DTO may be served for while it's being refreshed.
+     * @param staleIfError time a stale DTO may be served for if it can't be refreshed.
+     * @param maximumSize maximum number of cached product DTOs.
+     */
+    public CatalogCache(CatalogService catalogService,
+                        CatalogDtoAssembler catalogDtoAssembler,
+                        CatalogEntryDtoAssembler catalogEntryDtoAssembler,
+                        @Value("${market.cache.catalog.max-age:30s}") Duration maxAge,
+                        @Value("${market.cache.catalog.stale-while-revalidate:30s}") Duration staleWhileRevalidate,
+                        @Value("${market.cache.catalog.stale-if-error:10m}") Duration staleIfError,
+                        @Value("${market.cache.catalog.maximum-size:10000}") long maximumSize) {
+        this.catalogService = catalogService;
+        this.catalogDtoAssembler = catalogDtoAssembler;
+        this.catalogEntryDtoAssembler = catalogEntryDtoAssembler;
+
+        // Stale DTOs are kept for the longest of the stale windows.
+        Duration expireAfterWrite = maxAge.plus(staleWhileRevalidate.compareTo(staleIfError) > 0
+                ? staleWhileRevalidate
+                : staleIfError);
+
+        this.marketCache = Caffeine.newBuilder()
+                .maximumSize(ProductAvailability.values().length)
+                .refreshAfterWrite(maxAge)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build(this::loadMarket);
+
+        this.productCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .refreshAfterWrite(maxAge)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build(this::loadProduct);
+
+        this.cacheControl = CacheControl.maxAge(maxAge)
+                .staleWhileRevalidate(staleWhileRevalidate)
+                .staleIfError(staleIfError)
+                .cachePublic();
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Retrieves the market DTO listing the products with the specified availability.
+     *
+     * @param availability availability of the listed products.
+     * @return the market DTO.
+     */
+    public MarketDto getMarket(ProductAvailability availability) {
+        return marketCache.get(availability);
+    }
+
+    /**
+     * Retrieves the DTO of the product with the specified ID.
+     *
+     * @param id product ID.
+     * @return the product DTO or null, if no product with the specified ID exists.
+     */
+    public ProductDto getProduct(long id) {
+        return productCache.get(id);
+    }
+
+    /**
+     * Retrieves the <b>Cache-Control</b> header value of the catalog responses.
+     *
+     * @return <b>Cache-Control</b> header value.
+     */
+    public CacheControl getCacheControl() {
+        return cacheControl;
+    }
+
+    /**
+     * Fills the cache with the market DTOs and the DTOs of the products listed on the market
+     *   (up to the maximum cache size), loading them the same way as on a cache miss.
+     */
+    public void preload() {
+        marketCache.getAll(List.of(ProductAvailability.values()));
+
+        List<Long> productIds = marketCache.get(ProductAvailability.ALL).getProducts().stream()
+                .limit(getMaximumSize())
+                .map(ProductDto::getId)
+                .toList();
+
+        logger.debug("Preloading catalog DTOs of {} products", productIds.size());
+        productCache.getAll(productIds);
+    }
+
+    /**
+     * Retrieves the approximate number of cached product DTOs.
+     *
+     * @return number of cached product DTOs.
+     */
+    public long getProductCount() {
+        return productCache.estimatedSize();
+    }
+
+    /**
+     * Retrieves the maximum number of cached product DTOs.
+     *
+     * @return maximum number of cached product DTOs.
+     */
+    public long getMaximumSize() {
+        return productCache.policy().eviction().map(eviction -> eviction.getMaximum()).orElse(Long.MAX_VALUE);
+    }
+
+    /**
+     * Retrieves the underlying market DTO cache to be managed by the {@link CacheRegistry}.
+     *
+     * @return underlying Caffeine cache of the market DTOs.
+     */
+    LoadingCache<ProductAvailability, MarketDto> getMarketCache() {
+        return marketCache;
+    }
+
+    /**
+     * Retrieves the underlying product DTO cache to be managed by the {@link CacheRegistry}.
+     *
+     * @return underlying Caffeine cache of the product DTOs.
+     */
+    LoadingCache<Long, ProductDto> getProductCache() {
+        return productCache;
+    }
+
+    /**
+     * Removes all DTOs from the cache.
+     */
+    public void invalidateAll() {
+        logger.debug("Invalidating all cached catalog DTOs");
+        marketCache.invalidateAll();
+        productCache.invalidateAll();
+    }
+
+    /**
+     * Removes the DTOs affected by a catalog data change as soon as it's reported,
+     *   so that the changing transaction reads its own changes.
+     *
+     * @param event catalog data change event.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        invalidate(event);
+    }
+
+    /**
+     * Removes the DTOs affected by a catalog data change once the changing transaction
+     *   completes, as DTOs may have been reloaded from the old data in the meantime.
+     * <p>
+     * The listener runs after a rollback as well, as DTOs loaded within
+     *   a rolled back transaction must not be served either. It runs before
+     *   the {@link ResponseCache} listener, so that the responses are not re-rendered
+     *   from the dropped DTOs.
+     *
+     * @param event catalog data change event.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void onCatalogChangeCompleted(CatalogChangedEvent event) {
+        invalidate(event);
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Removes the DTOs affected by the specified catalog data change.
+     *
+     * @param event catalog data change event.
+     */
+    private void invalidate(CatalogChangedEvent event) {
+        if (event.getProductId() == null) {
+            invalidateAll();
+            return;
+        }
+
+        logger.debug("Invalidating cached catalog DTOs of Product ID {}", event.getProductId());
+        marketCache.invalidateAll();
+        productCache.invalidate(event.getProductId());
+    }
+
+    /**
+     * Loads catalog entries from the primary database and assembles the market DTO.
+     *
+     * @param availability availability of the listed products.
+     * @return the market DTO.
+     */
+    private MarketDto loadMarket(ProductAvailability availability) {
+        logger.debug("Loading market DTO of {} products", availability);
+        return catalogDtoAssembler.toModel(ReplicaRoutingContext.onPrimary(() -> catalogService.findAll(availability)));
+    }
+
+    /**
+     * Loads the catalog entry from the primary database and assembles the product DTO.
+     *
+     * @param id product ID.
+     * @return the product DTO or null, if no product with the specified ID exists.
+     */
+    private ProductDto loadProduct(Long id) {
+        logger.debug("Loading DTO of Product ID {}", id);
+
+        CatalogEntry entry = ReplicaRoutingContext.onPrimary(() -> catalogService.findById(id));
+        return entry == null ? null : catalogEntryDtoAssembler.toModel(entry);
+    }
+}
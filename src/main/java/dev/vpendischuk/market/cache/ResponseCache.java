@@ -0,0 +1,221 @@
+package dev.vpendischuk.market.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import dev.vpendischuk.market.cache.model.CachedResponse;
+import dev.vpendischuk.market.event.AccountChangedEvent;
+import dev.vpendischuk.market.event.CatalogChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory cache of rendered HTTP responses mapped by request URIs
+ *   (including query strings).
+ * <p>
+ * Responses are grouped by the data they are rendered from, and a whole group
+ *   is invalidated when the services report a change of that data.
+ * <p>
+ * Every group has a generation counter that is incremented on invalidation,
+ *   so responses rendered concurrently with a data change are not cached.
+ * <p>
+ * Catalog responses are rendered from the {@link CatalogCache} DTOs, so they are kept
+ *   for no longer than the catalog <b>max-age</b>, and they are invalidated only after
+ *   the {@link CatalogCache} has dropped the changed DTOs. Otherwise a response could be
+ *   re-rendered from a DTO the {@link CatalogCache} would have already refreshed or dropped.
+ */
+@Component
+public class ResponseCache {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link ResponseCache} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(ResponseCache.class);
+
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * Underlying Caffeine cache weighted by the content variants' size.
+     */
+    private final Cache<String, CachedResponse> cache;
+
+    /**
+     * Generation counters of the response groups.
+     */
+    private final Map<ResponseGroup, AtomicLong> generations = new EnumMap<>(ResponseGroup.class);
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link ResponseCache} instance.
+     *
+     * @param maximumWeight maximum total size of the cached content variants in bytes.
+     * @param expireAfterWrite time after which a cached response is discarded.
+     * @param catalogMaxAge time after which a cached catalog response is discarded, if shorter.
+     */
+    public ResponseCache(@Value("${market.cache.responses.maximum-weight:67108864}") long maximumWeight,
+                         @Value("${market.cache.responses.expire-after-write:10m}") Duration expireAfterWrite,
+                         @Value("${market.cache.catalog.max-age:30s}") Duration catalogMaxAge) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((String uri, CachedResponse response) -> response.getWeight())
+                .expireAfter(new GroupExpiry(expireAfterWrite,
+                        catalogMaxAge.compareTo(expireAfterWrite) < 0 ? catalogMaxAge : expireAfterWrite))
+                .recordStats()
+                .build();
+
+        for (ResponseGroup group : ResponseGroup.values()) {
+            generations.put(group, new AtomicLong());
+        }
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Retrieves the cached response for the specified request URI.
+     *
+     * @param uri request URI (including query string).
+     * @return the cached response or null, if no response is cached for the URI.
+     */
+    public CachedResponse get(String uri) {
+        return cache.getIfPresent(uri);
+    }
+
+    /**
+     * Retrieves the underlying Caffeine cache to be managed by the {@link CacheRegistry}.
+     *
+     * @return underlying Caffeine cache.
+     */
+    Cache<String, CachedResponse> getCache() {
+        return cache;
+    }
+
+    /**
+     * Retrieves the current generation of the specified response group.
+     * <p>
+     * The generation must be read before rendering a response
+     *   and passed to {@link #put(String, long, CachedResponse)}.
+     *
+     * @param group response group.
+     * @return current group generation.
+     */
+    public long getGeneration(ResponseGroup group) {
+        return generations.get(group).get();
+    }
+
+    /**
+     * Caches the response for the specified request URI, unless its group
+     *   was invalidated since the response rendering had started.
+     *
+     * @param uri request URI (including query string).
+     * @param generation response group generation read before rendering the response.
+     * @param response the rendered response.
+     */
+    public void put(String uri, long generation, CachedResponse response) {
+        cache.asMap().compute(uri, (key, cachedResponse) ->
+                generation == getGeneration(response.getGroup()) ? response : cachedResponse);
+    }
+
+    /**
+     * Removes all responses of the specified group from the cache.
+     *
+     * @param group response group.
+     */
+    public void invalidate(ResponseGroup group) {
+        logger.debug("Invalidating cached {} responses", group);
+
+        generations.get(group).incrementAndGet();
+        cache.asMap().values().removeIf(response -> response.getGroup() == group);
+    }
+
+    /**
+     * Removes all responses from the cache.
+     */
+    public void invalidateAll() {
+        for (ResponseGroup group : ResponseGroup.values()) {
+            invalidate(group);
+        }
+    }
+
+    /**
+     * Invalidates responses rendered from catalog data when it changes.
+     * <p>
+     * The listener runs after the {@link CatalogCache} listeners, so that the responses
+     *   rendered after the invalidation are rendered from the reloaded DTOs.
+     *
+     * @param event catalog data change event.
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        invalidate(ResponseGroup.CATALOG);
+    }
+
+    /**
+     * Invalidates responses rendered from account data when it changes.
+     *
+     * @param event account data change event.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onAccountChanged(AccountChangedEvent event) {
+        invalidate(ResponseGroup.ACCOUNT);
+    }
+
+    /* -------------------------- Nested classes --------------------------- */
+
+    /**
+     * Expiry policy discarding cached responses a group-specific time after they were written.
+     */
+    private static final class GroupExpiry implements Expiry<String, CachedResponse> {
+        /**
+         * Time after which a cached account response is discarded, in nanoseconds.
+         */
+        private final long accountNanos;
+
+        /**
+         * Time after which a cached catalog response is discarded, in nanoseconds.
+         */
+        private final long catalogNanos;
+
+        /**
+         * Initializes a new {@link GroupExpiry} instance.
+         *
+         * @param account time after which a cached account response is discarded.
+         * @param catalog time after which a cached catalog response is discarded.
+         */
+        private GroupExpiry(Duration account, Duration catalog) {
+            this.accountNanos = account.toNanos();
+            this.catalogNanos = catalog.toNanos();
+        }
+
+        // expireAfterCreate() method override.
+        @Override
+        public long expireAfterCreate(String uri, CachedResponse response, long currentTime) {
+            return response.getGroup() == ResponseGroup.CATALOG ? catalogNanos : accountNanos;
+        }
+
+        // expireAfterUpdate() method override.
+        @Override
+        public long expireAfterUpdate(String uri, CachedResponse response, long currentTime, long currentDuration) {
+            return expireAfterCreate(uri, response, currentTime);
+        }
+
+        // expireAfterRead() method override.
+        @Override
+        public long expireAfterRead(String uri, CachedResponse response, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
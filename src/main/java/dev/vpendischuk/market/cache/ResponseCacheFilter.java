@@ -0,0 +1,166 @@
+package dev.vpendischuk.market.cache;
+
+import dev.vpendischuk.market.cache.model.CachedResponse;
+import dev.vpendischuk.market.cache.model.ContentEncoding;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * A servlet filter that serves GET requests to cacheable endpoints
+ *   from the {@link ResponseCache}.
+ * <p>
+ * On a cache miss the response is rendered by the controller, encoded with all supported
+ *   content codings and cached. The variant sent to the client is chosen
+ *   by the request's <b>Accept-Encoding</b> header, a request that accepts none of them
+ *   is answered with <b>406 Not Acceptable</b>.
+ */
+public class ResponseCacheFilter extends OncePerRequestFilter {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * Response headers that are not stored in the cache, as they are
+     *   set by the filter for every sent variant.
+     */
+    private static final Set<String> EXCLUDED_HEADERS = Set.of(
+            HttpHeaders.CONTENT_LENGTH.toLowerCase(Locale.ROOT),
+            HttpHeaders.CONTENT_ENCODING.toLowerCase(Locale.ROOT),
+            HttpHeaders.CONTENT_TYPE.toLowerCase(Locale.ROOT),
+            HttpHeaders.TRANSFER_ENCODING.toLowerCase(Locale.ROOT),
+            HttpHeaders.VARY.toLowerCase(Locale.ROOT)
+    );
+
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * A {@link ResponseCache} instance used to store rendered responses.
+     */
+    private final ResponseCache responseCache;
+
+    /**
+     * Response groups of the cacheable endpoints mapped by the endpoints' paths.
+     */
+    private final Map<String, ResponseGroup> cacheablePaths;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link ResponseCacheFilter} instance.
+     *
+     * @param responseCache rendered response cache.
+     * @param cacheablePaths response groups of the cacheable endpoints mapped by the endpoints' paths.
+     */
+    public ResponseCacheFilter(ResponseCache responseCache, Map<String, ResponseGroup> cacheablePaths) {
+        this.responseCache = responseCache;
+        this.cacheablePaths = Map.copyOf(cacheablePaths);
+    }
+
+    /* ------------------------- Protected methods ------------------------- */
+
+    /**
+     * Skips requests other than GET requests to the cacheable endpoints.
+     *
+     * @param request current HTTP request.
+     * @return true if the request must not be filtered, false otherwise.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod())
+                || !cacheablePaths.containsKey(request.getServletPath());
+    }
+
+    /**
+     * Serves the request from the cache or renders, caches and sends the response.
+     *
+     * @param request current HTTP request.
+     * @param response current HTTP response.
+     * @param filterChain filter chain.
+     * @throws ServletException if the request processing fails.
+     * @throws IOException if an I/O error occurs during the request processing.
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String uri = request.getQueryString() == null
+                ? request.getRequestURI()
+                : request.getRequestURI() + "?" + request.getQueryString();
+        ContentEncoding encoding = ContentEncoding.negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+
+        // Identity is excluded and no other coding is acceptable.
+        if (encoding == null) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            response.sendError(HttpStatus.NOT_ACCEPTABLE.value());
+            return;
+        }
+
+        CachedResponse cachedResponse = responseCache.get(uri);
+
+        if (cachedResponse != null) {
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentType(cachedResponse.getContentType());
+            cachedResponse.getHeaders().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+            writeContent(response, cachedResponse, encoding);
+            return;
+        }
+
+        ResponseGroup group = cacheablePaths.get(request.getServletPath());
+        long generation = responseCache.getGeneration(group);
+
+        // Rendering the response into a buffer.
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, responseWrapper);
+
+        // Only successful responses are cached.
+        if (responseWrapper.getStatus() != HttpStatus.OK.value()) {
+            responseWrapper.copyBodyToResponse();
+            return;
+        }
+
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : responseWrapper.getHeaderNames()) {
+            if (!EXCLUDED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                headers.put(name, new ArrayList<>(responseWrapper.getHeaders(name)));
+            }
+        }
+
+        cachedResponse = new CachedResponse(group, responseWrapper.getContentType(), headers,
+                responseWrapper.getContentAsByteArray());
+        responseCache.put(uri, generation, cachedResponse);
+
+        writeContent(response, cachedResponse, encoding);
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Writes the cached response content variant with the specified coding to the response.
+     *
+     * @param response current HTTP response.
+     * @param cachedResponse the cached response.
+     * @param encoding content coding.
+     * @throws IOException if an I/O error occurs during writing.
+     */
+    private void writeContent(HttpServletResponse response,
+                              CachedResponse cachedResponse,
+                              ContentEncoding encoding) throws IOException {
+        byte[] content = cachedResponse.getContent(encoding);
+
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (encoding != ContentEncoding.IDENTITY) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding.getToken());
+        }
+
+        response.setContentLength(content.length);
+        response.getOutputStream().write(content);
+    }
+}
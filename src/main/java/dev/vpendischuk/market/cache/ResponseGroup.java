@@ -0,0 +1,16 @@
+package dev.vpendischuk.market.cache;
+
+/**
+ * Groups of cached responses that are invalidated together.
+ */
+public enum ResponseGroup {
+    /**
+     * Responses rendered from market catalog (product and book) data.
+     */
+    CATALOG,
+
+    /**
+     * Responses rendered from account data.
+     */
+    ACCOUNT
+}
@@ -0,0 +1,108 @@
+package dev.vpendischuk.market.cache.model;
+
+import dev.vpendischuk.market.domain.AccountBook;
+import dev.vpendischuk.market.domain.Book;
+import lombok.Getter;
+
+import java.util.Objects;
+
+/**
+ * Immutable in-memory read model of an account-book entry - a purchased book
+ *   and the amount of its copies owned by the account.
+ * <p>
+ * The model holds the book data itself, so it can be rendered without
+ *   accessing the <b>books</b> table.
+ */
+@Getter
+public class AccountBookReadModel {
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * Purchased book ID.
+     */
+    private final long bookId;
+
+    /**
+     * Purchased book name.
+     */
+    private final String name;
+
+    /**
+     * Purchased book author name.
+     */
+    private final String author;
+
+    /**
+     * The amount of books purchased.
+     */
+    private final int amount;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link AccountBookReadModel} instance.
+     *
+     * @param bookId purchased book ID.
+     * @param name purchased book name.
+     * @param author purchased book author name.
+     * @param amount the amount of books purchased.
+     */
+    public AccountBookReadModel(long bookId, String name, String author, int amount) {
+        this.bookId = bookId;
+        this.name = name;
+        this.author = author;
+        this.amount = amount;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Creates a read model that represents the specified account-book entry.
+     * <p>
+     * Note: the entry's book must be initialized.
+     *
+     * @param accountBook the account-book entry.
+     * @return the entry's read model.
+     */
+    public static AccountBookReadModel of(AccountBook accountBook) {
+        Book book = accountBook.getBook();
+        return new AccountBookReadModel(book.getId(), book.getName(), book.getAuthor(), accountBook.getAmount());
+    }
+
+    /**
+     * Creates a copy of this model with the specified amount of books purchased.
+     *
+     * @param amount new amount of books purchased.
+     * @return the updated model.
+     */
+    public AccountBookReadModel withAmount(int amount) {
+        return new AccountBookReadModel(bookId, name, author, amount);
+    }
+
+    // equals() method override.
+    // Two account-book read models are equal iff their book IDs and amounts are equal.
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AccountBookReadModel that = (AccountBookReadModel) o;
+        return bookId == that.bookId && amount == that.amount;
+    }
+
+    // hashCode() method override.
+    @Override
+    public int hashCode() {
+        return Objects.hash(bookId, amount);
+    }
+
+    // toString() method override.
+    @Override
+    public String toString() {
+        return "AccountBookReadModel{" +
+                "bookId=" + bookId +
+                ", name='" + name + '\'' +
+                ", author='" + author + '\'' +
+                ", amount=" + amount +
+                '}';
+    }
+}
@@ -0,0 +1,147 @@
+package dev.vpendischuk.market.cache.model;
+
+import dev.vpendischuk.market.domain.Account;
+import dev.vpendischuk.market.domain.AccountBook;
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * Immutable in-memory read model of an account - the account balance
+ *   together with the books purchased by the account owner.
+ * <p>
+ * Updates produce new model instances, so a model may be safely
+ *   shared between request threads.
+ */
+public class AccountReadModel {
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * Account ID.
+     */
+    @Getter
+    private final long id;
+
+    /**
+     * Account money balance.
+     */
+    @Getter
+    private final int balance;
+
+    /**
+     * Read models of the purchased books mapped by book IDs.
+     */
+    private final Map<Long, AccountBookReadModel> books;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link AccountReadModel} instance.
+     *
+     * @param id account ID.
+     * @param balance account money balance.
+     * @param books read models of the purchased books.
+     */
+    public AccountReadModel(long id, int balance, Collection<AccountBookReadModel> books) {
+        Map<Long, AccountBookReadModel> bookMap = new LinkedHashMap<>();
+        for (AccountBookReadModel book : books) {
+            bookMap.put(book.getBookId(), book);
+        }
+
+        this.id = id;
+        this.balance = balance;
+        this.books = Collections.unmodifiableMap(bookMap);
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Creates a read model that represents the specified account and its book entries.
+     * <p>
+     * Note: the books of the entries must be initialized.
+     *
+     * @param account the account.
+     * @param accountBooks the account's book entries.
+     * @return the account's read model.
+     */
+    public static AccountReadModel of(Account account, Collection<AccountBook> accountBooks) {
+        List<AccountBookReadModel> books = new ArrayList<>();
+        for (AccountBook accountBook : accountBooks) {
+            books.add(AccountBookReadModel.of(accountBook));
+        }
+
+        return new AccountReadModel(account.getId(), account.getBalance(), books);
+    }
+
+    /**
+     * Retrieves the read models of the purchased books.
+     *
+     * @return unmodifiable collection of purchased books' read models.
+     */
+    public Collection<AccountBookReadModel> getBooks() {
+        return books.values();
+    }
+
+    /**
+     * Creates a copy of this model with the specified balance.
+     *
+     * @param balance new account balance.
+     * @return the updated model.
+     */
+    public AccountReadModel withBalance(int balance) {
+        return new AccountReadModel(id, balance, books.values());
+    }
+
+    /**
+     * Creates a copy of this model with the specified purchased book entry
+     *   added or replacing the entry for the same book.
+     *
+     * @param book purchased book's read model.
+     * @return the updated model.
+     */
+    public AccountReadModel withBook(AccountBookReadModel book) {
+        Map<Long, AccountBookReadModel> bookMap = new LinkedHashMap<>(books);
+        bookMap.put(book.getBookId(), book);
+
+        return new AccountReadModel(id, balance, bookMap.values());
+    }
+
+    /**
+     * Creates a copy of this model with the amount of the specified purchased book replaced.
+     *
+     * @param bookId purchased book ID.
+     * @param amount new amount of books purchased.
+     * @return the updated model or null, if the book is not among the purchased books
+     *   (its data is not at hand, so the model can't be updated).
+     */
+    public AccountReadModel withBookAmount(long bookId, int amount) {
+        AccountBookReadModel book = books.get(bookId);
+        return book == null ? null : withBook(book.withAmount(amount));
+    }
+
+    // equals() method override.
+    // Two account read models are equal iff their IDs, balances and purchased books are equal.
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AccountReadModel that = (AccountReadModel) o;
+        return id == that.id && balance == that.balance && books.equals(that.books);
+    }
+
+    // hashCode() method override.
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, balance, books);
+    }
+
+    // toString() method override.
+    @Override
+    public String toString() {
+        return "AccountReadModel{" +
+                "id=" + id +
+                ", balance=" + balance +
+                ", books=" + books.values() +
+                '}';
+    }
+}
@@ -0,0 +1,115 @@
+package dev.vpendischuk.market.cache.model;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An immutable snapshot of a managed cache's state and statistics.
+ */
+@Getter
+public class CacheStatistics {
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * Cache name.
+     */
+    private final String name;
+
+    /**
+     * Approximate number of cached entries.
+     */
+    private final long size;
+
+    /**
+     * Maximum cache size (number of entries, or total weight in bytes for weighted caches).
+     */
+    private final long maximumSize;
+
+    /**
+     * Whether the cache size is limited by the entries' weight in bytes.
+     */
+    private final boolean weighted;
+
+    /**
+     * Number of cache hits.
+     */
+    private final long hitCount;
+
+    /**
+     * Number of cache misses.
+     */
+    private final long missCount;
+
+    /**
+     * Ratio of cache hits to all cache requests.
+     */
+    private final double hitRatio;
+
+    /**
+     * Ratio of cache misses to all cache requests.
+     */
+    private final double missRatio;
+
+    /**
+     * Number of entries evicted by the size or expiration policy.
+     */
+    private final long evictionCount;
+
+    /**
+     * Average time spent loading a new entry, in milliseconds.
+     */
+    private final double averageLoadMillis;
+
+    /**
+     * Estimated heap memory used by the cached entries, in bytes.
+     */
+    private final long memoryEstimate;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link CacheStatistics} instance.
+     *
+     * @param name cache name.
+     * @param size approximate number of cached entries.
+     * @param maximumSize maximum cache size.
+     * @param weighted whether the cache size is limited by the entries' weight.
+     * @param stats Caffeine cache statistics.
+     * @param memoryEstimate estimated heap memory used by the cached entries.
+     */
+    public CacheStatistics(String name,
+                           long size,
+                           long maximumSize,
+                           boolean weighted,
+                           CacheStats stats,
+                           long memoryEstimate) {
+        this.name = name;
+        this.size = size;
+        this.maximumSize = maximumSize;
+        this.weighted = weighted;
+        this.hitCount = stats.hitCount();
+        this.missCount = stats.missCount();
+        this.hitRatio = stats.hitRate();
+        this.missRatio = stats.missRate();
+        this.evictionCount = stats.evictionCount();
+        this.averageLoadMillis = stats.averageLoadPenalty() / TimeUnit.MILLISECONDS.toNanos(1);
+        this.memoryEstimate = memoryEstimate;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    // toString() method override.
+    @Override
+    public String toString() {
+        return "CacheStatistics{" +
+                "name='" + name + '\'' +
+                ", size=" + size +
+                ", maximumSize=" + maximumSize +
+                ", hitRatio=" + hitRatio +
+                ", evictionCount=" + evictionCount +
+                ", memoryEstimate=" + memoryEstimate +
+                '}';
+    }
+}
@@ -0,0 +1,98 @@
+package dev.vpendischuk.market.cache.model;
+
+import dev.vpendischuk.market.cache.ResponseGroup;
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * Immutable rendered HTTP response stored in all supported content codings.
+ * <p>
+ * Content is encoded once, when the response is cached, and the stored
+ *   variants are then sent as is to every client that accepts them.
+ */
+public class CachedResponse {
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * The group the response belongs to.
+     */
+    @Getter
+    private final ResponseGroup group;
+
+    /**
+     * Response content type.
+     */
+    @Getter
+    private final String contentType;
+
+    /**
+     * Response headers (excluding content length and coding headers).
+     */
+    @Getter
+    private final Map<String, List<String>> headers;
+
+    /**
+     * Encoded response content variants.
+     */
+    private final Map<ContentEncoding, byte[]> variants;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link CachedResponse} instance and encodes
+     *   the specified content with all supported codings.
+     *
+     * @param group the group the response belongs to.
+     * @param contentType response content type.
+     * @param headers response headers (excluding content length and coding headers).
+     * @param content unencoded response content.
+     */
+    public CachedResponse(ResponseGroup group, String contentType, Map<String, List<String>> headers, byte[] content) {
+        Map<ContentEncoding, byte[]> encodedVariants = new EnumMap<>(ContentEncoding.class);
+        for (ContentEncoding encoding : ContentEncoding.values()) {
+            encodedVariants.put(encoding, encoding.encode(content));
+        }
+
+        this.group = group;
+        this.contentType = contentType;
+        this.headers = Collections.unmodifiableMap(new LinkedHashMap<>(headers));
+        this.variants = encodedVariants;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Retrieves the response content encoded with the specified coding.
+     *
+     * @param encoding content coding.
+     * @return encoded content.
+     */
+    public byte[] getContent(ContentEncoding encoding) {
+        return variants.get(encoding);
+    }
+
+    /**
+     * Calculates the approximate memory footprint of the stored content variants.
+     *
+     * @return total size of the content variants in bytes.
+     */
+    public int getWeight() {
+        int weight = 0;
+        for (byte[] variant : variants.values()) {
+            weight += variant.length;
+        }
+
+        return weight;
+    }
+
+    // toString() method override.
+    @Override
+    public String toString() {
+        return "CachedResponse{" +
+                "group=" + group +
+                ", contentType='" + contentType + '\'' +
+                ", weight=" + getWeight() +
+                '}';
+    }
+}
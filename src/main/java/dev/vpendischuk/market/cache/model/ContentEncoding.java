@@ -0,0 +1,194 @@
+package dev.vpendischuk.market.cache.model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * HTTP content codings that cached responses are stored in.
+ * <p>
+ * Constants are declared in the order of server preference, which is used
+ *   to pick a coding when the client accepts several codings equally.
+ */
+public enum ContentEncoding {
+    /**
+     * The gzip coding (RFC 1952).
+     */
+    GZIP("gzip") {
+        @Override
+        protected OutputStream wrap(OutputStream outputStream) throws IOException {
+            return new GZIPOutputStream(outputStream);
+        }
+    },
+
+    /**
+     * The deflate coding (RFC 1950).
+     */
+    DEFLATE("deflate") {
+        @Override
+        protected OutputStream wrap(OutputStream outputStream) {
+            return new DeflaterOutputStream(outputStream);
+        }
+    },
+
+    /**
+     * No coding - content is sent as is.
+     */
+    IDENTITY("identity") {
+        @Override
+        public byte[] encode(byte[] content) {
+            return content;
+        }
+
+        @Override
+        protected OutputStream wrap(OutputStream outputStream) {
+            return outputStream;
+        }
+    };
+
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * Quality value of identity if it's not specified by the <b>Accept-Encoding</b> header value
+     *   (the lowest quality value greater than 0).
+     */
+    private static final double IMPLICIT_IDENTITY_QUALITY = 0.001;
+
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * Coding token used in the <b>Accept-Encoding</b> and <b>Content-Encoding</b> headers.
+     */
+    private final String token;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link ContentEncoding} constant.
+     *
+     * @param token coding token used in HTTP headers.
+     */
+    ContentEncoding(String token) {
+        this.token = token;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Retrieves the coding token used in HTTP headers.
+     *
+     * @return coding token.
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Encodes the specified content with this coding.
+     *
+     * @param content the content to be encoded.
+     * @return encoded content.
+     */
+    public byte[] encode(byte[] content) {
+        ByteArrayOutputStream byteStream = new ByteArrayOutputStream(Math.max(content.length / 4, 64));
+
+        try (OutputStream outputStream = wrap(byteStream)) {
+            outputStream.write(content);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not encode content with " + token, ex);
+        }
+
+        return byteStream.toByteArray();
+    }
+
+    /**
+     * Chooses the coding for a response according to the request's
+     *   <b>Accept-Encoding</b> header value.
+     * <p>
+     * The coding with the highest quality value is chosen, ties are resolved by
+     *   the server preference. Identity is chosen if the header is absent.
+     *   Unless it's listed itself or matched by <code>*</code>, identity is acceptable
+     *   with the lowest quality value, so it's chosen only if no other coding is acceptable.
+     *
+     * @param acceptEncoding <b>Accept-Encoding</b> header value (may be null).
+     * @return the chosen coding, or null if no coding is acceptable
+     *   (identity is excluded by <code>identity;q=0</code> or <code>*;q=0</code>).
+     */
+    public static ContentEncoding negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return IDENTITY;
+        }
+
+        ContentEncoding chosenEncoding = null;
+        double chosenQuality = 0;
+
+        for (ContentEncoding encoding : values()) {
+            double quality = quality(acceptEncoding, encoding.token,
+                    encoding == IDENTITY ? IMPLICIT_IDENTITY_QUALITY : 0);
+
+            if (quality > chosenQuality) {
+                chosenEncoding = encoding;
+                chosenQuality = quality;
+            }
+        }
+
+        return chosenEncoding;
+    }
+
+    /* ------------------------- Protected methods ------------------------- */
+
+    /**
+     * Wraps the specified stream with an encoding stream.
+     *
+     * @param outputStream the stream to be wrapped.
+     * @return encoding output stream.
+     * @throws IOException if the encoding stream could not be initialized.
+     */
+    protected abstract OutputStream wrap(OutputStream outputStream) throws IOException;
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Retrieves the quality value of the specified coding in the <b>Accept-Encoding</b> header value.
+     *
+     * @param acceptEncoding <b>Accept-Encoding</b> header value.
+     * @param token coding token.
+     * @param defaultQuality quality value of the coding if it's neither listed nor matched by <code>*</code>.
+     * @return quality value of the coding or 0, if the coding is not acceptable.
+     */
+    private static double quality(String acceptEncoding, String token, double defaultQuality) {
+        double wildcardQuality = defaultQuality;
+
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1;
+
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+
+                if (parameter.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2));
+                    } catch (NumberFormatException ex) {
+                        quality = 0;
+                    }
+                }
+            }
+
+            if (coding.equals(token)) {
+                return quality;
+            }
+
+            if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+
+        return wildcardQuality;
+    }
+}
@@ -2,33 +2,103 @@ package dev.vpendischuk.market.configuration;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.vpendischuk.market.cache.AccountCache;
 import dev.vpendischuk.market.configuration.model.ConfigurationBookModel;
 import dev.vpendischuk.market.configuration.model.ConfigurationModel;
+import dev.vpendischuk.market.configuration.seeding.BinarySeedingReader;
+import dev.vpendischuk.market.configuration.seeding.ChunkedSeedingWriter;
+import dev.vpendischuk.market.configuration.seeding.CsvSeedingReader;
+import dev.vpendischuk.market.configuration.seeding.JsonSeedingReader;
+import dev.vpendischuk.market.configuration.seeding.ProgressSeedingHandler;
+import dev.vpendischuk.market.configuration.seeding.SeedingCheckpointStore;
+import dev.vpendischuk.market.configuration.seeding.SeedingSource;
+import dev.vpendischuk.market.configuration.seeding.SeedingWriter;
+import dev.vpendischuk.market.configuration.seeding.SeedingWriterFactory;
+import dev.vpendischuk.market.configuration.seeding.ShadowTables;
+import dev.vpendischuk.market.configuration.seeding.SkippingSeedingHandler;
+import dev.vpendischuk.market.configuration.snapshot.MarketSnapshot;
 import dev.vpendischuk.market.domain.Account;
 import dev.vpendischuk.market.domain.Book;
 import dev.vpendischuk.market.domain.Product;
+import dev.vpendischuk.market.event.AccountChangedEvent;
+import dev.vpendischuk.market.event.CatalogChangedEvent;
 import dev.vpendischuk.market.service.AccountBookService;
 import dev.vpendischuk.market.service.AccountService;
 import dev.vpendischuk.market.service.BookService;
 import dev.vpendischuk.market.service.ProductService;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.stereotype.Component;
 
+import javax.sql.DataSource;
 import java.io.*;
+import java.sql.SQLException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.LongToDoubleFunction;
 
 /**
  * A command line runner used on application startup to load seeding data into the database.
  * <p>
- * The runner reads command line arguments set on application startup and loads seeding data from JSON files.
+ * The runner reads command line arguments set on application startup and loads seeding data from JSON files,
+ *   CSV files (see {@link CsvSeedingReader}) or binary <code>.seed</code> files (see {@link BinarySeedingReader}).
+ *   CSV and binary files are always streamed.
  * <p>
  * Database seeding may fail if data in the JSON file is not compliant with the format specified
  *   by the {@link ConfigurationModel} data type and its properties' data types.
+ * <p>
+ * If the <b>market.seeding.streaming</b> property is set, the file is streamed rather than mapped as a whole
+ *   and the products are persisted in chunks of <b>market.seeding.chunk-size</b> products, so files of any size
+ *   can be loaded with bounded memory. If the <b>market.seeding.bulk-load</b> property is set, the streamed
+ *   products are bulk-loaded into the database with PostgreSQL <code>COPY</code> in a single transaction instead.
+ *   The database is cleared before the load, in separate transactions, so a failed load leaves it empty.
+ *   If the <b>market.seeding.parallelism</b> property is greater than 1 (or 0, for the number of processors),
+ *   the streamed chunks are persisted by that many worker threads, each chunk in its own transaction.
+ * <p>
+ * If the <b>market.seeding.delta</b> property is set, the database is not cleared: the streamed products
+ *   are matched to the persisted ones by their books' names and authors, and only the difference is applied.
+ * <p>
+ * The streaming seeding modes are exclusive: the writers of the streamed data are created
+ *   and the conflicting <code>market.seeding.*</code> properties (such as a bulk load with parallelism)
+ *   are rejected by the {@link SeedingWriterFactory}.
+ * <p>
+ * If the <b>market.seeding.resumable</b> property is set, the seeding data files are streamed in chunks
+ *   and every committed chunk records a checkpoint of the file (see {@link SeedingCheckpointStore}).
+ *   If the application is stopped during the seeding, the next seeding of the same file keeps the persisted data
+ *   and resumes after the last committed chunk. The progress of a streamed seeding, its throughput and ETA
+ *   are published as metrics and logged (see {@link ProgressSeedingHandler}).
+ * <p>
+ * If the <b>market.seeding.background</b> property is set, the runner returns immediately and the seeding
+ *   data is bulk-loaded in the background into the {@link ShadowTables}, which replace the live tables
+ *   in a single transaction once they are loaded. In the meantime the application serves the previously
+ *   persisted data read-only (see {@link SeedingState}).
+ * <p>
+ * The seeding and its phases (parsing, clearing the database, inserting or restoring the data) are recorded
+ *   as <code>market.seeding.*</code> steps of the application startup (see {@link ApplicationStartup}).
+ * <p>
+ * A <code>.snapshot</code> file exported by <code>GET /admin/snapshot</code> is restored with bulk loading
+ *   in a single transaction (see {@link MarketSnapshot}), without mapping the seeding data model.
+ * <p>
+ * The runner is executed before any other runner, so that they operate on the seeded data.
  */
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
 public class ConfigurationRunner implements CommandLineRunner {
     /* ---------------------------- Static fields -------------------------- */
 
@@ -63,6 +133,51 @@ public class ConfigurationRunner implements CommandLineRunner {
      */
     private final AccountBookService accountBookService;
 
+    /**
+     * Provider of the data source of the seeding checkpoints.
+     */
+    private final ObjectProvider<DataSource> dataSource;
+
+    /**
+     * Factory of the writers persisting the streamed seeding data.
+     */
+    private final SeedingWriterFactory writerFactory;
+
+    /**
+     * Meter registry the seeding progress is published to.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * State of the background seeding.
+     */
+    private final SeedingState seedingState;
+
+    /**
+     * Publisher of the data change events once the seeded data replaces the previous data.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Account cache invalidated once the seeded data replaces the previous data.
+     */
+    private final AccountCache accountCache;
+
+    /**
+     * Market snapshot restored from the <code>.snapshot</code> files.
+     */
+    private final MarketSnapshot marketSnapshot;
+
+    /**
+     * Application startup recording the seeding phases as startup steps.
+     */
+    private final ApplicationStartup applicationStartup;
+
+    /**
+     * Whether the data seeded in the background has replaced the previous data.
+     */
+    private volatile boolean promoted;
+
     /* ----------------------------- Constructors -------------------------- */
 
     /**
@@ -72,15 +187,39 @@ public class ConfigurationRunner implements CommandLineRunner {
      * @param productService product service used to access the product repository.
      * @param bookService book service used to access the book repository.
      * @param accountBookService account-book entry service used to access the account-book entry repository.
+     * @param dataSource provider of the data source of the seeding checkpoints.
+     * @param writerFactory factory of the writers persisting the streamed seeding data.
+     * @param meterRegistry meter registry the seeding progress is published to.
+     * @param seedingState state of the background seeding.
+     * @param eventPublisher publisher of the data change events once the seeded data replaces the previous data.
+     * @param accountCache account cache invalidated once the seeded data replaces the previous data.
+     * @param marketSnapshot market snapshot restored from the <code>.snapshot</code> files.
+     * @param applicationStartup application startup recording the seeding phases as startup steps.
      */
     public ConfigurationRunner(AccountService accountService,
                                ProductService productService,
                                BookService bookService,
-                               AccountBookService accountBookService) {
+                               AccountBookService accountBookService,
+                               ObjectProvider<DataSource> dataSource,
+                               SeedingWriterFactory writerFactory,
+                               MeterRegistry meterRegistry,
+                               SeedingState seedingState,
+                               ApplicationEventPublisher eventPublisher,
+                               AccountCache accountCache,
+                               MarketSnapshot marketSnapshot,
+                               ApplicationStartup applicationStartup) {
         this.accountService = accountService;
         this.productService = productService;
         this.bookService = bookService;
         this.accountBookService = accountBookService;
+        this.dataSource = dataSource;
+        this.writerFactory = writerFactory;
+        this.meterRegistry = meterRegistry;
+        this.seedingState = seedingState;
+        this.eventPublisher = eventPublisher;
+        this.accountCache = accountCache;
+        this.marketSnapshot = marketSnapshot;
+        this.applicationStartup = applicationStartup;
     }
 
     /* -------------------------- Public methods -------------------------- */
@@ -91,11 +230,19 @@ public class ConfigurationRunner implements CommandLineRunner {
      * <p>
      * If the data format in the specified file is invalid, the seeding process
      *   won't be initiated, and the application will use the data previously
-     *   persisted in the database.
+     *   persisted in the database. In the streaming mode, the data is persisted as it's read,
+     *   so the chunks preceding an invalid record remain persisted (unless the data is bulk-loaded).
+     *   In the delta mode, the database is not cleared and no products are removed if a record is invalid.
      *
      * @param inputStream the JSON file input stream.
      */
     public void loadSeedingData(InputStream inputStream) {
+        if (writerFactory.isStreamed()) {
+            streamSeedingData(handler -> new JsonSeedingReader(new ObjectMapper()).read(inputStream, handler),
+                    "JSON", records -> Double.NaN);
+            return;
+        }
+
         ObjectMapper mapper = new ObjectMapper();
         TypeReference<ConfigurationModel> typeReference = new TypeReference<>() { };
 
@@ -103,26 +250,25 @@ public class ConfigurationRunner implements CommandLineRunner {
 
         try {
             // Mapping data to a ConfigurationModel instance via Jackson.
-            ConfigurationModel configurationModel = mapper.readValue(inputStream, typeReference);
+            StartupStep parseStep = applicationStartup.start("market.seeding.parse").tag("format", "JSON");
+            ConfigurationModel configurationModel;
 
-            // Clearing the database.
-            accountService.truncate();
-            accountBookService.truncate();
-            bookService.truncate();
-            productService.truncate();
+            try {
+                configurationModel = mapper.readValue(inputStream, typeReference);
+            } finally {
+                parseStep.end();
+            }
 
-            // Persisting account data.
-            Account account = new Account();
-            account.setBalance(configurationModel.getAccount().getMoney());
-            accountService.save(account);
+            // Clearing the database.
+            truncate();
 
-            // Persisting product data.
-            for (ConfigurationBookModel bookModel : configurationModel.getBooks()) {
-                Book book = new Book(bookModel.getName(), bookModel.getAuthor());
-                Product product = new Product(book, bookModel.getPrice(), bookModel.getAmount());
+            // Persisting account, book and product data.
+            StartupStep insertStep = applicationStartup.start("market.seeding.insert").tag("format", "JSON");
 
-                bookService.save(book);
-                productService.save(product);
+            try {
+                insert(configurationModel);
+            } finally {
+                insertStep.end();
             }
 
             logger.info("Loaded JSON seeding data");
@@ -134,11 +280,13 @@ public class ConfigurationRunner implements CommandLineRunner {
     /**
      * Method executed on application startup.
      * <p>
-     * Checks command line arguments for JSON file paths and tries
-     *   to load database seeding data from them if the files exist.
+     * Checks command line arguments for JSON, CSV and binary seeding data file paths and market snapshot paths
+     *   and tries to load database seeding data from them if the files exist.
      * <p>
-     * Note: if multiple JSON files are specified, only data from the last (existing) file
+     * Note: if multiple seeding data files are specified, only data from the last (existing) file
      *   specified in the arguments array will be persisted in the database.
+     * <p>
+     * In the background seeding mode, the seeding runs in a separate thread and the method returns immediately.
      *
      * @param args command line arguments.
      */
@@ -154,31 +302,364 @@ public class ConfigurationRunner implements CommandLineRunner {
             logger.info("No seeding data JSON path specified - using persisted data from the database");
         }
 
-        // Checking arguments.
-        for (String arg : args) {
-            if (arg.equals("staticSeed")) {
-                logger.info("Static seeding flag detected, seeding database...");
-
-                try {
-                    ClassPathResource classPathResource = new ClassPathResource("static/data.json");
-                    InputStream inputStream = classPathResource.getInputStream();
-                    loadSeedingData(inputStream);
-                } catch (IOException ex) {
-                    logger.error("Could not read static seeding data");
-                }
-                break;
+        if (writerFactory.isBackground() && Arrays.stream(args).anyMatch(this::isSeedingArgument)) {
+            if (dataSource.getIfAvailable() == null) {
+                throw new IllegalStateException("Background seeding requires a database");
             }
 
-            if (arg.endsWith(".json")) {
-                try {
-                    InputStream fileInputStream = new FileInputStream(arg);
-                    loadSeedingData(fileInputStream);
-                } catch (FileNotFoundException ex) {
-                    logger.error("File {} not found", arg);
+            seedingState.start();
+
+            Thread seedingThread = new Thread(() -> seedInBackground(args), "seeding-background");
+            seedingThread.start();
+
+            logger.info("Seeding in the background - serving the persisted data read-only until it's replaced");
+            return;
+        }
+
+        seed(args);
+
+        logger.info("Startup configuration done");
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Checks if a command line argument specifies seeding data.
+     *
+     * @param arg command line argument.
+     * @return true if the argument is the static seeding flag or a seeding data file path.
+     */
+    private boolean isSeedingArgument(String arg) {
+        return arg.equals("staticSeed") || arg.endsWith(".json") || arg.endsWith(".csv") || arg.endsWith(".seed")
+                || arg.endsWith(".snapshot");
+    }
+
+    /**
+     * Runs the seeding in the background, accepting the write requests again once it's done.
+     *
+     * @param args command line arguments.
+     */
+    private void seedInBackground(String... args) {
+        try {
+            seed(args);
+        } catch (RuntimeException ex) {
+            logger.error("Background seeding failed", ex);
+        } finally {
+            seedingState.finish(promoted);
+        }
+
+        if (promoted) {
+            logger.info("Background seeding done - seeded data promoted, writes accepted");
+        } else {
+            logger.warn("Background seeding done without promoting seeded data - the previous data is kept");
+        }
+    }
+
+    /**
+     * Loads the seeding data specified by the command line arguments.
+     *
+     * @param args command line arguments.
+     */
+    private void seed(String... args) {
+        StartupStep step = applicationStartup.start("market.seeding");
+
+        try {
+            for (String arg : args) {
+                if (arg.equals("staticSeed")) {
+                    logger.info("Static seeding flag detected, seeding database...");
+
+                    try {
+                        ClassPathResource classPathResource = new ClassPathResource("static/data.json");
+                        InputStream inputStream = classPathResource.getInputStream();
+                        loadSeedingData(inputStream);
+                    } catch (IOException ex) {
+                        logger.error("Could not read static seeding data");
+                    }
+                    break;
+                }
+
+                if (arg.endsWith(".json") || arg.endsWith(".csv") || arg.endsWith(".seed")) {
+                    Path path = Path.of(arg);
+
+                    if (Files.isRegularFile(path)) {
+                        loadSeedingFile(path);
+                    } else {
+                        logger.error("File {} not found", arg);
+                    }
+                }
+
+                if (arg.endsWith(".snapshot")) {
+                    Path path = Path.of(arg);
+
+                    if (Files.isRegularFile(path)) {
+                        restoreSnapshot(path);
+                    } else {
+                        logger.error("File {} not found", arg);
+                    }
                 }
             }
+        } finally {
+            step.end();
         }
+    }
 
-        logger.info("Startup configuration done");
+    /**
+     * Replaces the market state with the snapshot from the file with the specified path.
+     * <p>
+     * The snapshot is restored in a single transaction, so the previous data is kept if it's invalid.
+     *
+     * @param path the snapshot file path.
+     */
+    private void restoreSnapshot(Path path) {
+        if (!marketSnapshot.isAvailable()) {
+            logger.error("Could not restore snapshot {} - market snapshots require a database", path);
+            return;
+        }
+
+        logger.info("Restoring market snapshot {}", path);
+
+        StartupStep step = applicationStartup.start("market.seeding.restore");
+
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            marketSnapshot.restore(inputStream);
+
+            // The restored data is not reported by the services.
+            clearCheckpoints();
+            promoteSeededData();
+        } catch (IOException | SQLException ex) {
+            logger.error("Could not restore the market snapshot - the previous data is kept", ex);
+        } finally {
+            step.end();
+        }
+    }
+
+    /**
+     * Loads the seeding data from the JSON, CSV or binary file with the specified path,
+     *   tracking the progress of a streamed seeding by the read part of the file.
+     *
+     * @param path the file path.
+     */
+    private void loadSeedingFile(Path path) {
+        String fileName = path.getFileName().toString();
+
+        if (fileName.endsWith(".json") && !writerFactory.isStreamed()) {
+            try (InputStream inputStream = Files.newInputStream(path)) {
+                loadSeedingData(inputStream);
+            } catch (IOException ex) {
+                logger.error("Could not read file {}", path);
+            }
+
+            return;
+        }
+
+        if (fileName.endsWith(".seed")) {
+            try {
+                long bookCount = new BinarySeedingReader().bookCount(path);
+
+                streamSeedingFile(handler -> new BinarySeedingReader().read(path, handler), "binary",
+                        records -> bookCount == 0 ? 1 : (double) records / bookCount, path);
+            } catch (IOException ex) {
+                logger.error("Could not load data from the seeding data file", ex);
+            }
+
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            InputStream inputStream = Channels.newInputStream(channel);
+            long size = channel.size();
+            LongToDoubleFunction fraction = records -> readFraction(channel, size);
+
+            if (fileName.endsWith(".csv")) {
+                streamSeedingFile(handler -> new CsvSeedingReader().read(inputStream, handler), "CSV", fraction, path);
+            } else {
+                streamSeedingFile(handler -> new JsonSeedingReader(new ObjectMapper()).read(inputStream, handler),
+                        "JSON", fraction, path);
+            }
+        } catch (IOException ex) {
+            logger.error("Could not read file {}", path);
+        }
+    }
+
+    /**
+     * Streams the seeding data from the seeding data file, resuming it from the file checkpoint
+     *   if the resumable seeding is enabled and supported by the seeding mode.
+     *
+     * @param source reader of the seeding data file.
+     * @param format name of the file format.
+     * @param fraction function computing the read fraction of the file from the number of read books.
+     * @param path the file path.
+     * @throws IOException if the file could not be read to compute its hash.
+     */
+    private void streamSeedingFile(SeedingSource source, String format, LongToDoubleFunction fraction, Path path)
+            throws IOException {
+        if (!writerFactory.isResumable()) {
+            streamSeedingData(source, format, fraction);
+            return;
+        }
+
+        DataSource checkpointDataSource = dataSource.getIfAvailable();
+
+        if (checkpointDataSource == null) {
+            logger.warn("Resumable seeding requires a database - seeding {} without checkpoints", path);
+            streamSeedingData(source, format, fraction);
+            return;
+        }
+
+        SeedingCheckpointStore checkpoints = new SeedingCheckpointStore(checkpointDataSource);
+        String fileHash = SeedingCheckpointStore.hash(path);
+        Long committedRecords = checkpoints.findCommittedRecords(fileHash);
+        long resumedCount = committedRecords == null ? 0 : committedRecords;
+
+        if (committedRecords == null) {
+            // Clearing the database and starting the checkpoints of the file.
+            truncate();
+            checkpoints.start(fileHash, path.toString());
+        } else {
+            logger.info("Resuming the seeding of {} after {} committed products", path, committedRecords);
+        }
+
+        ChunkedSeedingWriter writer = writerFactory.createResumableWriter(resumedCount,
+                productCount -> checkpoints.update(fileHash, productCount));
+
+        // The account of a resumed seeding is persisted before its first chunk.
+        SkippingSeedingHandler handler = new SkippingSeedingHandler(writer, resumedCount,
+                committedRecords != null && accountService.getCurrentAccount() != null);
+
+        // The data is parsed as it's inserted.
+        StartupStep step = applicationStartup.start("market.seeding.insert").tag("format", format)
+                .tag("resumed", String.valueOf(committedRecords != null));
+
+        try (ProgressSeedingHandler progress = new ProgressSeedingHandler(handler, meterRegistry, fraction)) {
+            source.read(progress);
+            writer.finish();
+            checkpoints.finish(fileHash);
+
+            logger.info("Loaded {} seeding data", format);
+        } catch (IOException | RuntimeException ex) {
+            logger.error("Could not load data from the seeding data file - seeding stopped with {} products persisted, "
+                    + "it will be resumed from the last checkpoint", writer.abort(), ex);
+        } finally {
+            step.end();
+        }
+    }
+
+    /**
+     * Streams the seeding data from the seeding data file, persisting the products
+     *   as they are read, and fills the database with data.
+     *
+     * @param source reader of the seeding data file.
+     * @param format name of the file format.
+     * @param fraction function computing the read fraction of the file from the number of read books.
+     */
+    private void streamSeedingData(SeedingSource source, String format, LongToDoubleFunction fraction) {
+        // Clearing the database (the delta seeding applies changes to the persisted data,
+        //   the background seeding replaces it once it's loaded).
+        if (writerFactory.isDelta() || writerFactory.isBackground()) {
+            clearCheckpoints();
+        } else {
+            truncate();
+        }
+
+        SeedingWriter writer = writerFactory.createWriter();
+        // The data is parsed as it's inserted.
+        StartupStep step = applicationStartup.start("market.seeding.insert").tag("format", format)
+                .tag("writer", writer.getClass().getSimpleName());
+
+        try (ProgressSeedingHandler progress = new ProgressSeedingHandler(writer, meterRegistry, fraction)) {
+            source.read(progress);
+            writer.finish();
+
+            if (writerFactory.isBackground()) {
+                promoteSeededData();
+            }
+
+            logger.info("Loaded {} seeding data", format);
+        } catch (IOException | RuntimeException ex) {
+            logger.error("Could not load data from the seeding data file - seeding stopped with {} products persisted",
+                    writer.abort(), ex);
+        } finally {
+            step.end();
+        }
+    }
+
+    /**
+     * Drops the cached data of the replaced tables, as the swap of the shadow tables and the restore
+     *   of a snapshot are not reported by the services.
+     */
+    private void promoteSeededData() {
+        accountCache.invalidateAll();
+        eventPublisher.publishEvent(new CatalogChangedEvent(null));
+        eventPublisher.publishEvent(new AccountChangedEvent(null));
+        promoted = true;
+    }
+
+    /**
+     * Computes the read fraction of a seeding data file.
+     *
+     * @param channel file channel.
+     * @param size file size.
+     * @return read fraction of the file, or NaN if it could not be retrieved.
+     */
+    private double readFraction(FileChannel channel, long size) {
+        try {
+            return size == 0 ? 1 : (double) channel.position() / size;
+        } catch (IOException ex) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Removes the seeding checkpoints, as the persisted data is changed by a seeding that can't be resumed.
+     */
+    private void clearCheckpoints() {
+        DataSource checkpointDataSource = dataSource.getIfAvailable();
+
+        if (checkpointDataSource != null) {
+            new SeedingCheckpointStore(checkpointDataSource).clear();
+        }
+    }
+
+    /**
+     * Clears the database and the seeding checkpoints.
+     */
+    private void truncate() {
+        StartupStep step = applicationStartup.start("market.seeding.truncate");
+
+        try {
+            accountService.truncate();
+            accountBookService.truncate();
+            bookService.truncate();
+            productService.truncate();
+            clearCheckpoints();
+        } finally {
+            step.end();
+        }
+    }
+
+    /**
+     * Persists the account, books and products of the mapped seeding data.
+     *
+     * @param configurationModel the seeding data.
+     */
+    private void insert(ConfigurationModel configurationModel) {
+        // Persisting account data.
+        Account account = new Account();
+        account.setBalance(configurationModel.getAccount().getMoney());
+        accountService.save(account);
+
+        // Persisting product data (in batches).
+        List<Book> books = new ArrayList<>();
+        List<Product> products = new ArrayList<>();
+
+        for (ConfigurationBookModel bookModel : configurationModel.getBooks()) {
+            Book book = new Book(bookModel.getName(), bookModel.getAuthor());
+
+            books.add(book);
+            products.add(new Product(book, bookModel.getPrice(), bookModel.getAmount()));
+        }
+
+        bookService.saveAll(books);
+        productService.saveAll(products);
     }
 }
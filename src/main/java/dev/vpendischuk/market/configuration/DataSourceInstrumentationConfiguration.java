@@ -0,0 +1,182 @@
+package dev.vpendischuk.market.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dev.vpendischuk.market.datasource.AdaptivePoolSizer;
+import dev.vpendischuk.market.datasource.ConnectionEndpointInterceptor;
+import dev.vpendischuk.market.datasource.ConnectionLeakDetector;
+import dev.vpendischuk.market.datasource.InstrumentedDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Configuration of the connection pool instrumentation.
+ * <p>
+ * The application data source is wrapped in an {@link InstrumentedDataSource}, which attributes connections
+ *   to the controller methods they are acquired for, and the connections held for longer than
+ *   <b>market.datasource.leak-detection.threshold</b> are reported by the {@link ConnectionLeakDetector}.
+ *   When the <b>market.datasource.pool.adaptive.enabled</b> property is set, the primary connection pool
+ *   is resized by an {@link AdaptivePoolSizer} (<b>market.datasource.pool.adaptive</b> properties).
+ */
+@Configuration
+public class DataSourceInstrumentationConfiguration implements WebMvcConfigurer {
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Creates the detector of the connections held for too long.
+     *
+     * @param threshold time a connection may be held for before it's reported as leaked (zero to disable).
+     * @param meterRegistry meter registry the detected leaks are published to.
+     * @return connection leak detector.
+     */
+    @Bean
+    public ConnectionLeakDetector connectionLeakDetector(
+            @Value("${market.datasource.leak-detection.threshold:30s}") Duration threshold,
+            MeterRegistry meterRegistry) {
+        return new ConnectionLeakDetector(threshold, meterRegistry);
+    }
+
+    /**
+     * Creates the post-processor that wraps the application data source in an {@link InstrumentedDataSource}.
+     *
+     * @param meterRegistry provider of the meter registry the connection timers are published to.
+     * @param leakDetector provider of the connection leak detector.
+     * @return data source post-processor.
+     */
+    @Bean
+    public static BeanPostProcessor instrumentedDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+                                                                        ObjectProvider<ConnectionLeakDetector> leakDetector) {
+        return new DataSourceInstrumentingPostProcessor(meterRegistry, leakDetector);
+    }
+
+    /**
+     * Creates the controller resizing the primary connection pool.
+     *
+     * @param dataSource application data source.
+     * @param meterRegistry meter registry the pool's metrics are published to.
+     * @param minSize lower bound of the maximum pool size.
+     * @param maxSize upper bound of the maximum pool size.
+     * @param step number of connections the pool is resized by at once.
+     * @param targetAcquireTime target mean acquire time.
+     * @return adaptive pool sizer.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "market.datasource.pool.adaptive.enabled", havingValue = "true")
+    public AdaptivePoolSizer adaptivePoolSizer(DataSource dataSource, MeterRegistry meterRegistry,
+                                               @Value("${market.datasource.pool.adaptive.min-size:10}") int minSize,
+                                               @Value("${market.datasource.pool.adaptive.max-size:50}") int maxSize,
+                                               @Value("${market.datasource.pool.adaptive.step:2}") int step,
+                                               @Value("${market.datasource.pool.adaptive.target-acquire-time:5ms}")
+                                               Duration targetAcquireTime) {
+        return new AdaptivePoolSizer(primaryPool(dataSource), meterRegistry, minSize, maxSize, step, targetAcquireTime);
+    }
+
+    /**
+     * Registers the interceptor that attributes the requests' connections to the endpoints.
+     *
+     * @param registry interceptor registry.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConnectionEndpointInterceptor());
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Finds the connection pool of the primary database behind the application data source.
+     *
+     * @param dataSource application data source.
+     * @return primary connection pool.
+     */
+    private static HikariDataSource primaryPool(DataSource dataSource) {
+        DataSource target = dataSource;
+
+        while (true) {
+            if (target instanceof DelegatingDataSource delegatingDataSource) {
+                target = delegatingDataSource.getTargetDataSource();
+            } else if (target instanceof AbstractRoutingDataSource routingDataSource) {
+                target = routingDataSource.getResolvedDefaultDataSource();
+            } else {
+                break;
+            }
+        }
+
+        if (target instanceof HikariDataSource pool) {
+            return pool;
+        }
+
+        throw new IllegalStateException("Adaptive pool sizing requires a HikariCP primary data source");
+    }
+
+    /* --------------------------- Nested classes -------------------------- */
+
+    /**
+     * Post-processor that wraps the application data source (the <b>dataSource</b> bean)
+     *   in an {@link InstrumentedDataSource}.
+     * <p>
+     * A {@link LazyConnectionDataSourceProxy} is kept on top, so that only the connections
+     *   actually acquired from the pool are measured.
+     */
+    private static class DataSourceInstrumentingPostProcessor implements BeanPostProcessor {
+        /**
+         * Provider of the meter registry the connection timers are published to.
+         */
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+
+        /**
+         * Provider of the connection leak detector.
+         */
+        private final ObjectProvider<ConnectionLeakDetector> leakDetector;
+
+        /**
+         * Initializes a new {@link DataSourceInstrumentingPostProcessor} instance.
+         *
+         * @param meterRegistry provider of the meter registry.
+         * @param leakDetector provider of the connection leak detector.
+         */
+        DataSourceInstrumentingPostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+                                             ObjectProvider<ConnectionLeakDetector> leakDetector) {
+            this.meterRegistry = meterRegistry;
+            this.leakDetector = leakDetector;
+        }
+
+        // postProcessAfterInitialization() method override.
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)
+                    || bean instanceof InstrumentedDataSource) {
+                return bean;
+            }
+
+            if (bean instanceof LazyConnectionDataSourceProxy lazyProxy) {
+                lazyProxy.setTargetDataSource(instrument(lazyProxy.getTargetDataSource()));
+                return lazyProxy;
+            }
+
+            return instrument(dataSource);
+        }
+
+        /**
+         * Wraps the specified data source in an {@link InstrumentedDataSource}.
+         *
+         * @param dataSource the data source.
+         * @return instrumented data source.
+         */
+        private InstrumentedDataSource instrument(DataSource dataSource) {
+            return new InstrumentedDataSource(dataSource, meterRegistry.getObject(), leakDetector.getObject());
+        }
+    }
+}
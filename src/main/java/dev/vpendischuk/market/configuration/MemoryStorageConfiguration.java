@@ -0,0 +1,49 @@
+package dev.vpendischuk.market.configuration;
+
+import dev.vpendischuk.market.repository.memory.MemoryStore;
+import dev.vpendischuk.market.repository.memory.MemoryTransactionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+
+/**
+ * Storage configuration used when the application keeps its data in memory
+ *   instead of the database (<b>memory</b> profile).
+ * <p>
+ * The data is persisted to the <b>market.storage.memory.directory</b> directory and recovered
+ *   from it on startup. The repositories are the in-memory implementations
+ *   of the <code>dev.vpendischuk.market.repository.memory</code> package.
+ */
+@Configuration
+@Profile("memory")
+public class MemoryStorageConfiguration {
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Creates the in-memory storage and recovers its state.
+     *
+     * @param directory storage directory.
+     * @param syncJournal whether every journal record is synced to the disk before a write returns.
+     * @return in-memory storage.
+     */
+    @Bean(destroyMethod = "close")
+    public MemoryStore memoryStore(@Value("${market.storage.memory.directory}") String directory,
+                                   @Value("${market.storage.memory.sync-journal:false}") boolean syncJournal) {
+        return new MemoryStore(Path.of(directory), syncJournal);
+    }
+
+    /**
+     * Creates the transaction manager undoing the writes of the rolled back transactions.
+     *
+     * @param memoryStore in-memory storage.
+     * @return transaction manager.
+     */
+    @Bean
+    public PlatformTransactionManager transactionManager(MemoryStore memoryStore) {
+        return new MemoryTransactionManager(memoryStore);
+    }
+}
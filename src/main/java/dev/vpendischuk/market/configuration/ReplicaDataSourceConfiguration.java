@@ -0,0 +1,150 @@
+package dev.vpendischuk.market.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import dev.vpendischuk.market.datasource.ReplicaLagMonitor;
+import dev.vpendischuk.market.datasource.ReplicaRead;
+import dev.vpendischuk.market.datasource.ReplicaRoutingDataSource;
+import dev.vpendischuk.market.datasource.ReplicaRoutingInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data source configuration used when the application reads from replica databases
+ *   (<b>market.datasource.replicas.enabled</b> property).
+ * <p>
+ * Read-only transactions of the endpoints annotated with {@link ReplicaRead} are routed
+ *   to the replicas listed in the <b>market.datasource.replicas.urls</b> property,
+ *   all other transactions are routed to the primary database (<b>spring.datasource</b> properties).
+ *   All connection pools are configured by the <b>spring.datasource.hikari</b> properties.
+ */
+@Configuration
+@ConditionalOnProperty(name = "market.datasource.replicas.enabled", havingValue = "true")
+public class ReplicaDataSourceConfiguration implements WebMvcConfigurer {
+    /* -------------------------------- Fields ----------------------------- */
+
+    /**
+     * Environment used to configure the connection pools and resolve the lag tolerances.
+     */
+    private final Environment environment;
+
+    /* ----------------------------- Constructors -------------------------- */
+
+    /**
+     * Initializes a new {@link ReplicaDataSourceConfiguration} instance.
+     *
+     * @param environment application environment.
+     */
+    public ReplicaDataSourceConfiguration(Environment environment) {
+        this.environment = environment;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Creates the connection pools of the replica databases and the monitor of their replication lag.
+     *
+     * @param properties primary data source properties (the replicas use the same credentials by default).
+     * @param urls JDBC URLs of the replica databases.
+     * @param username replica database username.
+     * @param password replica database password.
+     * @param meterRegistry meter registry the replication lag is published to.
+     * @return replica lag monitor.
+     */
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(DataSourceProperties properties,
+                                               @Value("${market.datasource.replicas.urls}") List<String> urls,
+                                               @Value("${market.datasource.replicas.username:}") String username,
+                                               @Value("${market.datasource.replicas.password:}") String password,
+                                               MeterRegistry meterRegistry) {
+        List<DataSource> replicas = new ArrayList<>(urls.size());
+
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = createPool(properties, "replica-" + i, meterRegistry);
+            replica.setJdbcUrl(urls.get(i));
+            replica.setReadOnly(true);
+
+            if (!username.isEmpty()) {
+                replica.setUsername(username);
+                replica.setPassword(password);
+            }
+
+            replicas.add(replica);
+        }
+
+        return new ReplicaLagMonitor(replicas, meterRegistry);
+    }
+
+    /**
+     * Creates the data source that routes transactions to the primary and replica databases.
+     *
+     * @param properties primary data source properties.
+     * @param replicaLagMonitor replica lag monitor.
+     * @param meterRegistry meter registry the connection pool metrics are published to.
+     * @return routing data source.
+     */
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties properties,
+                                                             ReplicaLagMonitor replicaLagMonitor,
+                                                             MeterRegistry meterRegistry) {
+        return new ReplicaRoutingDataSource(createPool(properties, "primary", meterRegistry), replicaLagMonitor);
+    }
+
+    /**
+     * Creates the application data source, which acquires a connection from the routing data source
+     *   only when the transaction's first statement is executed.
+     *
+     * @param replicaRoutingDataSource routing data source.
+     * @return application data source.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    /**
+     * Registers the interceptor that sets the lag tolerance of the endpoints' requests.
+     *
+     * @param registry interceptor registry.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ReplicaRoutingInterceptor(environment));
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Creates a connection pool configured by the <b>spring.datasource</b> properties,
+     *   publishing its metrics (<b>hikaricp.connections.*</b>, tagged with the pool name).
+     *
+     * @param properties data source properties.
+     * @param name pool name.
+     * @param meterRegistry meter registry the pool metrics are published to.
+     * @return the connection pool.
+     */
+    private HikariDataSource createPool(DataSourceProperties properties, String name, MeterRegistry meterRegistry) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        return pool;
+    }
+}
@@ -0,0 +1,58 @@
+package dev.vpendischuk.market.configuration;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+/**
+ * Health indicator reporting whether the application accepts writes (the <b>seeding</b> indicator).
+ * <p>
+ * The indicator is a part of the readiness group. While the background seeding runs, it reports
+ *   the <b>READ_ONLY</b> status, which is mapped to HTTP code 200: the instance stays ready
+ *   to serve the previous data, but the status shows that the write requests are rejected.
+ */
+@Component
+public class SeedingHealthIndicator implements HealthIndicator {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * Status reported while the write requests are rejected.
+     */
+    public static final Status READ_ONLY = new Status("READ_ONLY", "Seeding in progress, writes are rejected");
+
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * State of the background seeding.
+     */
+    private final SeedingState seedingState;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link SeedingHealthIndicator} instance.
+     *
+     * @param seedingState state of the background seeding.
+     */
+    public SeedingHealthIndicator(SeedingState seedingState) {
+        this.seedingState = seedingState;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    // health() method override.
+    @Override
+    public Health health() {
+        Health.Builder builder = seedingState.isAcceptingWrites() ? Health.up() : Health.status(READ_ONLY);
+
+        builder.withDetail("phase", seedingState.getPhase())
+                .withDetail("writes", seedingState.isAcceptingWrites() ? "accepted" : "rejected");
+
+        if (seedingState.getChangedAt() != null) {
+            builder.withDetail("changedAt", seedingState.getChangedAt().toString());
+        }
+
+        return builder.build();
+    }
+}
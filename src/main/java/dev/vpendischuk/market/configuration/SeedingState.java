@@ -0,0 +1,111 @@
+package dev.vpendischuk.market.configuration;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * State of the seeding run by the {@link ConfigurationRunner} in the background.
+ * <p>
+ * While the seeding runs, the application serves the previously persisted data read-only:
+ *   the API write requests are rejected (see {@link SeedingWriteFilter}) and the <b>seeding</b>
+ *   health indicator (a part of the readiness group) reports the <b>READ_ONLY</b> status.
+ */
+@Component
+public class SeedingState {
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * Current phase of the seeding.
+     */
+    private volatile Phase phase = Phase.IDLE;
+
+    /**
+     * Time of the last phase change, or null if the seeding has never been started.
+     */
+    private volatile Instant changedAt;
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Marks the background seeding as started, so that the write requests are rejected.
+     */
+    public void start() {
+        change(Phase.RUNNING);
+    }
+
+    /**
+     * Marks the background seeding as done, so that the write requests are accepted again.
+     *
+     * @param promoted whether the seeded data has replaced the previous data.
+     */
+    public void finish(boolean promoted) {
+        change(promoted ? Phase.PROMOTED : Phase.FAILED);
+    }
+
+    /**
+     * Checks if the write requests are accepted.
+     *
+     * @return false while the background seeding runs, true otherwise.
+     */
+    public boolean isAcceptingWrites() {
+        return phase != Phase.RUNNING;
+    }
+
+    /**
+     * Retrieves the current phase of the seeding.
+     *
+     * @return the phase.
+     */
+    public Phase getPhase() {
+        return phase;
+    }
+
+    /**
+     * Retrieves the time of the last phase change.
+     *
+     * @return the time, or null if the seeding has never been started.
+     */
+    public Instant getChangedAt() {
+        return changedAt;
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Changes the phase of the seeding.
+     *
+     * @param phase new phase.
+     */
+    private void change(Phase phase) {
+        this.changedAt = Instant.now();
+        this.phase = phase;
+    }
+
+    /* --------------------------- Nested classes -------------------------- */
+
+    /**
+     * Phase of the background seeding.
+     */
+    public enum Phase {
+        /**
+         * No background seeding has been started.
+         */
+        IDLE,
+
+        /**
+         * The seeding runs, the previous data is served read-only.
+         */
+        RUNNING,
+
+        /**
+         * The seeded data has replaced the previous data.
+         */
+        PROMOTED,
+
+        /**
+         * The seeding has failed, the previous data is kept.
+         */
+        FAILED
+    }
+}
@@ -0,0 +1,89 @@
+package dev.vpendischuk.market.configuration;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * A servlet filter that rejects the write requests to the API endpoints (HTTP code 503,
+ *   with a <b>Retry-After</b> header) while the background seeding runs.
+ * <p>
+ * Read requests are served from the previously persisted data in the meantime.
+ */
+public class SeedingWriteFilter extends OncePerRequestFilter {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * Methods of the requests that don't change data.
+     */
+    private static final Set<String> READ_METHODS = Set.of(
+            HttpMethod.GET.name(), HttpMethod.HEAD.name(), HttpMethod.OPTIONS.name());
+
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * State of the background seeding.
+     */
+    private final SeedingState seedingState;
+
+    /**
+     * Seconds the clients are asked to wait before retrying a rejected request.
+     */
+    private final long retryAfterSeconds;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link SeedingWriteFilter} instance.
+     *
+     * @param seedingState state of the background seeding.
+     * @param retryAfterSeconds seconds the clients are asked to wait before retrying a rejected request.
+     */
+    public SeedingWriteFilter(SeedingState seedingState, long retryAfterSeconds) {
+        this.seedingState = seedingState;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /* ------------------------- Protected methods ------------------------- */
+
+    /**
+     * Skips read requests.
+     *
+     * @param request current HTTP request.
+     * @return true if the request must not be filtered, false otherwise.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return READ_METHODS.contains(request.getMethod());
+    }
+
+    /**
+     * Rejects the request while the background seeding runs.
+     *
+     * @param request current HTTP request.
+     * @param response current HTTP response.
+     * @param filterChain filter chain.
+     * @throws ServletException if the request processing fails.
+     * @throws IOException if an I/O error occurs during the request processing.
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (seedingState.isAcceptingWrites()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+    }
+}
@@ -0,0 +1,56 @@
+package dev.vpendischuk.market.configuration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Listener that ends the training run of the application class-data sharing archive
+ *   (the <b>startup</b> Maven profile) once the application is ready.
+ * <p>
+ * Before the application exits, the training run sends the first catalog and account requests to itself,
+ *   so that the classes of the request handling path are loaded and archived together with the classes
+ *   of the startup. The archive is dumped by the JVM on exit (<code>-XX:ArchiveClassesAtExit</code>).
+ * <p>
+ * Enabled by the <b>market.startup.training-run</b> property only.
+ */
+@Component
+@ConditionalOnProperty(name = "market.startup.training-run", havingValue = "true")
+public class StartupTrainingRun implements ApplicationListener<ApplicationReadyEvent> {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link StartupTrainingRun} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(StartupTrainingRun.class);
+
+    /* -------------------------- Public methods -------------------------- */
+
+    // onApplicationEvent() method override.
+    // Sends the training requests and exits the application.
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        String port = event.getApplicationContext().getEnvironment().getProperty("local.server.port");
+
+        if (port != null) {
+            RestTemplate restTemplate = new RestTemplate();
+
+            for (String path : new String[] {"/market", "/account"}) {
+                try {
+                    restTemplate.getForEntity("http://localhost:" + port + path, String.class);
+                } catch (RestClientException ex) {
+                    logger.warn("Training request GET {} failed: {}", path, ex.getMessage());
+                }
+            }
+        }
+
+        logger.info("Training run done - exiting to dump the class-data sharing archive");
+        System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+}
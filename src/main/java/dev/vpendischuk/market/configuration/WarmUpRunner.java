@@ -0,0 +1,247 @@
+package dev.vpendischuk.market.configuration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.vpendischuk.market.cache.AccountCache;
+import dev.vpendischuk.market.cache.CatalogCache;
+import dev.vpendischuk.market.domain.Book;
+import dev.vpendischuk.market.domain.CatalogEntry;
+import dev.vpendischuk.market.domain.Product;
+import dev.vpendischuk.market.domain.ProductAvailability;
+import dev.vpendischuk.market.dto.assembler.CatalogDtoAssembler;
+import dev.vpendischuk.market.dto.response.ProductDto;
+import dev.vpendischuk.market.service.AccountService;
+import dev.vpendischuk.market.service.CatalogService;
+import dev.vpendischuk.market.service.DealValidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A command line runner used on application startup to warm up the application
+ *   after the database has been seeded by the {@link ConfigurationRunner}.
+ * <p>
+ * The runner preloads the catalog and account caches and runs synthetic data through
+ *   the market DTO assembling, serialization and deal validation code, so that
+ *   it's compiled by the JIT before the first client requests.
+ * <p>
+ * Spring Boot reports the application as ready to accept traffic
+ *   (<b>/actuator/health/readiness</b>) only after all runners are done,
+ *   so the instance doesn't receive traffic until the warm-up is over.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class WarmUpRunner implements CommandLineRunner {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link WarmUpRunner} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(WarmUpRunner.class);
+
+    /* -------------------------------- Fields ----------------------------- */
+
+    /**
+     * A {@link CatalogService} instance used to load the sample catalog entries.
+     */
+    private final CatalogService catalogService;
+
+    /**
+     * An {@link AccountService} instance used to load the current account data.
+     */
+    private final AccountService accountService;
+
+    /**
+     * A {@link CatalogCache} instance to be preloaded.
+     */
+    private final CatalogCache catalogCache;
+
+    /**
+     * An {@link AccountCache} instance to be preloaded.
+     */
+    private final AccountCache accountCache;
+
+    /**
+     * A {@link CatalogDtoAssembler} instance to be pre-heated.
+     */
+    private final CatalogDtoAssembler catalogDtoAssembler;
+
+    /**
+     * A {@link DealValidator} instance to be pre-heated.
+     */
+    private final DealValidator dealValidator;
+
+    /**
+     * An {@link ObjectMapper} instance used to pre-heat DTO serialization.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * A {@link MeterRegistry} instance used to report the warm-up duration.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Whether the warm-up is enabled.
+     */
+    private final boolean enabled;
+
+    /**
+     * Number of synthetic iterations run through the pre-heated code.
+     */
+    private final int iterations;
+
+    /**
+     * Maximum number of products used in the synthetic iterations.
+     */
+    private final int sampleSize;
+
+    /* ----------------------------- Constructors -------------------------- */
+
+    /**
+     * Initializes a new {@link WarmUpRunner} instance.
+     *
+     * @param catalogService catalog service used to load the sample catalog entries.
+     * @param accountService account service used to load the current account data.
+     * @param catalogCache catalog cache to be preloaded.
+     * @param accountCache account cache to be preloaded.
+     * @param catalogDtoAssembler market DTO assembler to be pre-heated.
+     * @param dealValidator deal validator to be pre-heated.
+     * @param objectMapper object mapper used to pre-heat DTO serialization.
+     * @param meterRegistry meter registry used to report the warm-up duration.
+     * @param enabled whether the warm-up is enabled.
+     * @param iterations number of synthetic iterations run through the pre-heated code.
+     * @param sampleSize maximum number of products used in the synthetic iterations.
+     */
+    public WarmUpRunner(CatalogService catalogService,
+                        AccountService accountService,
+                        CatalogCache catalogCache,
+                        AccountCache accountCache,
+                        CatalogDtoAssembler catalogDtoAssembler,
+                        DealValidator dealValidator,
+                        ObjectMapper objectMapper,
+                        MeterRegistry meterRegistry,
+                        @Value("${market.warm-up.enabled:true}") boolean enabled,
+                        @Value("${market.warm-up.iterations:10000}") int iterations,
+                        @Value("${market.warm-up.sample-size:50}") int sampleSize) {
+        this.catalogService = catalogService;
+        this.accountService = accountService;
+        this.catalogCache = catalogCache;
+        this.accountCache = accountCache;
+        this.catalogDtoAssembler = catalogDtoAssembler;
+        this.dealValidator = dealValidator;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.iterations = iterations;
+        this.sampleSize = sampleSize;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Method executed on application startup.
+     * <p>
+     * Preloads the caches and pre-heats the request handling code. A failed warm-up
+     *   does not prevent the application from starting, as the caches are
+     *   filled on demand anyway.
+     *
+     * @param args command line arguments.
+     */
+    @Override
+    public void run(String... args) {
+        if (!enabled) {
+            logger.info("Warm-up disabled");
+            return;
+        }
+
+        logger.info("Warm-up initiated...");
+        long startTime = System.nanoTime();
+
+        try {
+            // Preloading the caches.
+            catalogCache.preload();
+            accountService.getCurrentAccountReadModel();
+
+            // Pre-heating the request handling code on a sample of the products.
+            List<CatalogEntry> entries = catalogCache.getMarket(ProductAvailability.ALL).getProducts().stream()
+                    .limit(sampleSize)
+                    .map(ProductDto::getId)
+                    .map(catalogService::findById)
+                    .filter(Objects::nonNull)
+                    .toList();
+            preheat(entries);
+        } catch (RuntimeException ex) {
+            logger.warn("Warm-up failed - caches will be filled on demand", ex);
+        }
+
+        Duration duration = Duration.ofNanos(System.nanoTime() - startTime);
+        meterRegistry.timer("market.warm-up.duration").record(duration);
+
+        logger.info("Warm-up done in {} ms: {} of {} product DTOs cached, {} account models cached",
+                duration.toMillis(), catalogCache.getProductCount(), catalogCache.getMaximumSize(),
+                accountCache.getSize());
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Runs synthetic data through the market DTO assembling, serialization
+     *   and deal validation code.
+     *
+     * @param entries sample of the catalog entries of the products on the market.
+     */
+    private void preheat(List<CatalogEntry> entries) {
+        Product syntheticProduct = new Product(new Book("Warm-up", "Warm-up"), 100, 10);
+        int poorBalance = 0;
+        int richBalance = Integer.MAX_VALUE;
+
+        int rejections = 0;
+
+        for (int i = 0; i < iterations; i++) {
+            // Market DTOs are assembled and serialized less often, as they are costlier.
+            if (i % 10 == 0) {
+                try {
+                    objectMapper.writeValueAsBytes(catalogDtoAssembler.toModel(entries));
+                } catch (JsonProcessingException ex) {
+                    throw new IllegalStateException("Could not serialize market DTO", ex);
+                }
+            }
+
+            // Walking through every deal validation outcome.
+            DealValidator.Rejection rejection;
+            switch (i % 5) {
+                case 0:
+                    rejection = dealValidator.validate(null, richBalance, 1);
+                    break;
+                case 1:
+                    rejection = dealValidator.validate(syntheticProduct, null, 1);
+                    break;
+                case 2:
+                    rejection = dealValidator.validate(syntheticProduct, richBalance, 11);
+                    break;
+                case 3:
+                    rejection = dealValidator.validate(syntheticProduct, poorBalance, 1);
+                    break;
+                default:
+                    rejection = dealValidator.validate(syntheticProduct, richBalance, 1);
+            }
+
+            if (rejection != null) {
+                rejections++;
+            }
+        }
+
+        logger.debug("Pre-heated request handling code with {} iterations ({} deals rejected)",
+                iterations, rejections);
+    }
+}
@@ -0,0 +1,72 @@
+package dev.vpendischuk.market.configuration;
+
+import dev.vpendischuk.market.cache.ResponseCache;
+import dev.vpendischuk.market.cache.ResponseCacheFilter;
+import dev.vpendischuk.market.cache.ResponseGroup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Web layer configuration - registers servlet filters applied to the REST API endpoints
+ *   (not used by the reactive variant of the API).
+ */
+@Configuration
+@Profile("!reactive")
+public class WebConfiguration {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * Response groups of the endpoints served through the {@link ResponseCacheFilter},
+     *   mapped by the endpoints' paths.
+     */
+    private static final Map<String, ResponseGroup> CACHEABLE_PATHS = Map.of(
+            "/market", ResponseGroup.CATALOG,
+            "/account", ResponseGroup.ACCOUNT
+    );
+
+    /**
+     * Paths of the API endpoints whose write requests are rejected during the background seeding.
+     */
+    private static final String[] WRITE_PATHS = {"/market", "/market/*", "/account", "/account/*"};
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Registers the {@link ResponseCacheFilter} for the cacheable endpoints.
+     *
+     * @param responseCache rendered response cache.
+     * @return the filter registration.
+     */
+    @Bean
+    public FilterRegistrationBean<ResponseCacheFilter> responseCacheFilter(ResponseCache responseCache) {
+        FilterRegistrationBean<ResponseCacheFilter> registration =
+                new FilterRegistrationBean<>(new ResponseCacheFilter(responseCache, CACHEABLE_PATHS));
+        registration.addUrlPatterns(CACHEABLE_PATHS.keySet().toArray(String[]::new));
+
+        return registration;
+    }
+
+    /**
+     * Registers the {@link SeedingWriteFilter} for the API endpoints.
+     *
+     * @param seedingState state of the background seeding.
+     * @param retryAfter time the clients are asked to wait before retrying a write rejected during the seeding.
+     * @return the filter registration.
+     */
+    @Bean
+    public FilterRegistrationBean<SeedingWriteFilter> seedingWriteFilter(
+            SeedingState seedingState,
+            @Value("${market.seeding.write-retry-after:30s}") Duration retryAfter) {
+        FilterRegistrationBean<SeedingWriteFilter> registration =
+                new FilterRegistrationBean<>(new SeedingWriteFilter(seedingState, retryAfter.toSeconds()));
+        registration.addUrlPatterns(WRITE_PATHS);
+
+        return registration;
+    }
+}
@@ -1,5 +1,6 @@
 package dev.vpendischuk.market.configuration.model;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -14,6 +15,7 @@ import javax.validation.constraints.Min;
  */
 @Getter
 @NoArgsConstructor
+@AllArgsConstructor
 public class ConfigurationAccountModel {
     /**
      * Account balance.
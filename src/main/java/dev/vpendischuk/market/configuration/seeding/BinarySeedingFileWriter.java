@@ -0,0 +1,156 @@
+package dev.vpendischuk.market.configuration.seeding;
+
+import dev.vpendischuk.market.configuration.model.ConfigurationAccountModel;
+import dev.vpendischuk.market.configuration.model.ConfigurationBookModel;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link SeedingHandler} that writes the records it receives to a binary seeding data file
+ *   (see {@link BinarySeedingFormat}).
+ * <p>
+ * The book records are written as they are received, right after the header. The distinct strings
+ *   are collected in memory and written after the book table when the file is closed,
+ *   together with the final header.
+ */
+public class BinarySeedingFileWriter implements SeedingHandler, Closeable {
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * Channel of the file.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Stream of the records written after the header.
+     */
+    private final DataOutputStream output;
+
+    /**
+     * String table indexes of the distinct strings.
+     */
+    private final Map<String, Integer> stringIndexes = new LinkedHashMap<>();
+
+    /**
+     * Account balance, or null if the account is not received.
+     */
+    private Integer money;
+
+    /**
+     * Whether the account is received.
+     */
+    private boolean hasAccount;
+
+    /**
+     * Number of written books.
+     */
+    private long bookCount;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link BinarySeedingFileWriter} instance, creating the file.
+     *
+     * @param path file path.
+     * @throws IOException if the file could not be created.
+     */
+    public BinarySeedingFileWriter(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.channel.position(BinarySeedingFormat.HEADER_SIZE);
+        this.output = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    // account() method override.
+    @Override
+    public void account(ConfigurationAccountModel account) {
+        money = account.getMoney();
+        hasAccount = true;
+    }
+
+    // book() method override.
+    @Override
+    public void book(ConfigurationBookModel book) {
+        try {
+            output.writeInt(stringIndex(book.getAuthor()));
+            output.writeInt(stringIndex(book.getName()));
+            output.writeInt(number(book.getPrice()));
+            output.writeInt(number(book.getAmount()));
+            bookCount++;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not write the binary seeding data file", ex);
+        }
+    }
+
+    // close() method override.
+    // Writes the string table and the header.
+    @Override
+    public void close() throws IOException {
+        try (FileChannel ignored = channel) {
+            for (String string : stringIndexes.keySet()) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+
+                output.writeInt(bytes.length);
+                output.write(bytes);
+            }
+
+            output.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(BinarySeedingFormat.HEADER_SIZE)
+                    .putInt(BinarySeedingFormat.MAGIC)
+                    .putInt(BinarySeedingFormat.VERSION)
+                    .putInt(hasAccount ? BinarySeedingFormat.ACCOUNT_FLAG : 0)
+                    .putInt(number(money))
+                    .putLong(bookCount)
+                    .putLong(BinarySeedingFormat.HEADER_SIZE)
+                    .putLong(BinarySeedingFormat.HEADER_SIZE + bookCount * BinarySeedingFormat.RECORD_SIZE)
+                    .putInt(stringIndexes.size())
+                    .putInt(0)
+                    .flip();
+
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        }
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Retrieves the string table index of a string, adding the string to the table if it's new.
+     *
+     * @param string the string (may be null).
+     * @return string index.
+     */
+    private int stringIndex(String string) {
+        if (string == null) {
+            return BinarySeedingFormat.NULL_STRING;
+        }
+
+        return stringIndexes.computeIfAbsent(string, key -> stringIndexes.size());
+    }
+
+    /**
+     * Converts a number to its stored value.
+     *
+     * @param value the number (may be null).
+     * @return stored value.
+     */
+    private int number(Integer value) {
+        return value == null ? BinarySeedingFormat.NULL_NUMBER : value;
+    }
+}
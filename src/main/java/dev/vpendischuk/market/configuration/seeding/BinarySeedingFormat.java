@@ -0,0 +1,68 @@
+package dev.vpendischuk.market.configuration.seeding;
+
+/**
+ * Layout of the binary seeding data files (<code>.seed</code>).
+ * <p>
+ * All numbers are big-endian. The file starts with a fixed-width header:
+ * <pre>
+ *  0  int   magic number ("MSED")
+ *  4  int   format version
+ *  8  int   flags (bit 0 - the account is present)
+ * 12  int   account balance
+ * 16  long  number of books
+ * 24  long  offset of the book table
+ * 32  long  offset of the string table
+ * 40  int   number of strings
+ * 44  int   reserved
+ * </pre>
+ * The book table holds fixed-width book records: the string table indexes of the author and the name,
+ *   then the price and the amount. The string table holds the distinct strings as their UTF-8 byte length
+ *   followed by the bytes, so every distinct author or name is stored and decoded once.
+ *   Missing strings are stored as index -1, missing numbers as {@link Integer#MIN_VALUE}.
+ */
+final class BinarySeedingFormat {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * Magic number the files start with ("MSED").
+     */
+    static final int MAGIC = 0x4D534544;
+
+    /**
+     * Version of the format.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * Flag set if the file holds the account.
+     */
+    static final int ACCOUNT_FLAG = 1;
+
+    /**
+     * Size of the header, in bytes.
+     */
+    static final int HEADER_SIZE = 48;
+
+    /**
+     * Size of a book record, in bytes.
+     */
+    static final int RECORD_SIZE = 16;
+
+    /**
+     * String table index of a missing string.
+     */
+    static final int NULL_STRING = -1;
+
+    /**
+     * Value of a missing number.
+     */
+    static final int NULL_NUMBER = Integer.MIN_VALUE;
+
+    /* ----------------------------- Constructors -------------------------- */
+
+    /**
+     * Not instantiated.
+     */
+    private BinarySeedingFormat() {
+    }
+}
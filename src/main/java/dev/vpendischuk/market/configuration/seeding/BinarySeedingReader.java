@@ -0,0 +1,190 @@
+package dev.vpendischuk.market.configuration.seeding;
+
+import dev.vpendischuk.market.configuration.model.ConfigurationAccountModel;
+import dev.vpendischuk.market.configuration.model.ConfigurationBookModel;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reader of binary seeding data files (see {@link BinarySeedingFormat}) through a memory-mapped {@link FileChannel}.
+ * <p>
+ * The strings of the file are decoded once, so the books sharing an author refer to the same string instance
+ *   and no text is parsed per record. The book table is mapped in windows of up to 2 GB and read in place.
+ *   The account is passed to the {@link SeedingHandler} first, then the books in the file order.
+ */
+public class BinarySeedingReader {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * Maximum number of book records mapped at once (a mapping is limited to 2 GB).
+     */
+    private static final long WINDOW_RECORDS = Integer.MAX_VALUE / BinarySeedingFormat.RECORD_SIZE;
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Reads the number of books of the specified binary file from its header.
+     *
+     * @param path file path.
+     * @return number of books.
+     * @throws IOException if the file could not be read or it's not a binary seeding data file.
+     */
+    public long bookCount(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = readHeader(channel, path);
+
+            // Skipping the flags and the account balance.
+            header.position(header.position() + 2 * Integer.BYTES);
+
+            return header.getLong();
+        }
+    }
+
+    /**
+     * Reads the seeding data from the specified binary file.
+     *
+     * @param path file path.
+     * @param handler receiver of the records.
+     * @throws IOException if the file could not be read or its content is not valid seeding data.
+     */
+    public void read(Path path, SeedingHandler handler) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer header = readHeader(channel, path);
+            int flags = header.getInt();
+            int money = header.getInt();
+            long bookCount = header.getLong();
+            long bookTableOffset = header.getLong();
+            long stringTableOffset = header.getLong();
+            int stringCount = header.getInt();
+
+            long bookTableSize = bookCount * BinarySeedingFormat.RECORD_SIZE;
+
+            if (bookCount < 0 || bookTableOffset < BinarySeedingFormat.HEADER_SIZE
+                    || bookTableOffset + bookTableSize > size
+                    || stringTableOffset < BinarySeedingFormat.HEADER_SIZE || stringTableOffset > size
+                    || size - stringTableOffset > Integer.MAX_VALUE || stringCount < 0) {
+                throw new IOException("Binary seeding data file " + path + " is corrupted");
+            }
+
+            long stringTableSize = size - stringTableOffset;
+            String[] strings = readStrings(
+                    channel.map(FileChannel.MapMode.READ_ONLY, stringTableOffset, stringTableSize), stringCount);
+
+            if ((flags & BinarySeedingFormat.ACCOUNT_FLAG) != 0) {
+                handler.account(new ConfigurationAccountModel(number(money)));
+            }
+
+            for (long offset = 0; offset < bookCount; offset += WINDOW_RECORDS) {
+                long windowRecords = Math.min(WINDOW_RECORDS, bookCount - offset);
+                long windowOffset = bookTableOffset + offset * BinarySeedingFormat.RECORD_SIZE;
+                ByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY,
+                        windowOffset, windowRecords * BinarySeedingFormat.RECORD_SIZE);
+
+                while (window.hasRemaining()) {
+                    handler.book(new ConfigurationBookModel(string(strings, window.getInt()),
+                            string(strings, window.getInt()), number(window.getInt()), number(window.getInt())));
+                }
+            }
+        }
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Maps the header of a binary file and checks its magic number and format version.
+     *
+     * @param channel file channel.
+     * @param path file path.
+     * @return the header, positioned after the format version.
+     * @throws IOException if the file could not be read or it's not a binary seeding data file.
+     */
+    private ByteBuffer readHeader(FileChannel channel, Path path) throws IOException {
+        if (channel.size() < BinarySeedingFormat.HEADER_SIZE) {
+            throw new IOException("File " + path + " is not a binary seeding data file");
+        }
+
+        ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, BinarySeedingFormat.HEADER_SIZE);
+
+        if (header.getInt() != BinarySeedingFormat.MAGIC) {
+            throw new IOException("File " + path + " is not a binary seeding data file");
+        }
+
+        int version = header.getInt();
+
+        if (version != BinarySeedingFormat.VERSION) {
+            throw new IOException("Unsupported binary seeding data format version " + version);
+        }
+
+        return header;
+    }
+
+    /**
+     * Decodes the strings of the string table.
+     *
+     * @param table the string table.
+     * @param stringCount number of strings.
+     * @return the strings, in the index order.
+     * @throws IOException if the table is corrupted.
+     */
+    private String[] readStrings(ByteBuffer table, int stringCount) throws IOException {
+        String[] strings = new String[stringCount];
+        byte[] bytes = new byte[256];
+
+        for (int i = 0; i < stringCount; i++) {
+            if (table.remaining() < Integer.BYTES) {
+                throw new IOException("Binary seeding data string table is corrupted");
+            }
+
+            int length = table.getInt();
+
+            if (length < 0 || length > table.remaining()) {
+                throw new IOException("Binary seeding data string table is corrupted");
+            }
+
+            if (length > bytes.length) {
+                bytes = new byte[Math.max(length, bytes.length * 2)];
+            }
+
+            table.get(bytes, 0, length);
+            strings[i] = new String(bytes, 0, length, StandardCharsets.UTF_8);
+        }
+
+        return strings;
+    }
+
+    /**
+     * Retrieves a string by its string table index.
+     *
+     * @param strings the strings.
+     * @param index string index.
+     * @return the string, or null if it's missing.
+     * @throws IOException if the index is out of the table.
+     */
+    private String string(String[] strings, int index) throws IOException {
+        if (index == BinarySeedingFormat.NULL_STRING) {
+            return null;
+        }
+
+        if (index < 0 || index >= strings.length) {
+            throw new IOException("Binary seeding data book refers to a missing string " + index);
+        }
+
+        return strings[index];
+    }
+
+    /**
+     * Converts a stored number.
+     *
+     * @param value stored value.
+     * @return the number, or null if it's missing.
+     */
+    private Integer number(int value) {
+        return value == BinarySeedingFormat.NULL_NUMBER ? null : value;
+    }
+}
@@ -0,0 +1,217 @@
+package dev.vpendischuk.market.configuration.seeding;
+
+import dev.vpendischuk.market.configuration.model.ConfigurationAccountModel;
+import dev.vpendischuk.market.configuration.model.ConfigurationBookModel;
+import dev.vpendischuk.market.domain.Account;
+import dev.vpendischuk.market.domain.Book;
+import dev.vpendischuk.market.domain.Product;
+import dev.vpendischuk.market.service.AccountService;
+import dev.vpendischuk.market.service.BookService;
+import dev.vpendischuk.market.service.ProductService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * {@link SeedingWriter} that persists the seeding data records in fixed-size chunks through the services.
+ * <p>
+ * Every chunk of books and their products is saved in its own transactions and released afterwards,
+ *   so at most one chunk of records is held in memory. The throughput (rows per second) is logged
+ *   when the seeding is finished.
+ * <p>
+ * If the chunks are run in transactions, every chunk is saved in a single transaction, together with
+ *   the checkpoint of the seeding (the number of persisted products) passed to the chunk listener,
+ *   so that an interrupted seeding can be resumed after the last committed chunk.
+ */
+public class ChunkedSeedingWriter implements SeedingWriter {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link ChunkedSeedingWriter} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(ChunkedSeedingWriter.class);
+
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * An {@link AccountService} instance used to persist the account.
+     */
+    private final AccountService accountService;
+
+    /**
+     * A {@link BookService} instance used to persist the books.
+     */
+    private final BookService bookService;
+
+    /**
+     * A {@link ProductService} instance used to persist the products.
+     */
+    private final ProductService productService;
+
+    /**
+     * Operations running every chunk in its transaction.
+     */
+    private final TransactionOperations transactions;
+
+    /**
+     * Number of products persisted at once.
+     */
+    private final int chunkSize;
+
+    /**
+     * Listener of the number of persisted products, called in the transaction of every chunk.
+     */
+    private final LongConsumer chunkListener;
+
+    /**
+     * Books of the current chunk.
+     */
+    private List<Book> books;
+
+    /**
+     * Products of the current chunk.
+     */
+    private List<Product> products;
+
+    /**
+     * Number of persisted products (including the products persisted before the seeding is resumed).
+     */
+    private long productCount;
+
+    /**
+     * Number of products persisted before the seeding is resumed.
+     */
+    private final long resumedCount;
+
+    /**
+     * {@link System#nanoTime()} of the seeding start.
+     */
+    private final long startTime = System.nanoTime();
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link ChunkedSeedingWriter} instance.
+     *
+     * @param accountService account service used to persist the account.
+     * @param bookService book service used to persist the books.
+     * @param productService product service used to persist the products.
+     * @param chunkSize number of products persisted at once.
+     */
+    public ChunkedSeedingWriter(AccountService accountService,
+                                BookService bookService,
+                                ProductService productService,
+                                int chunkSize) {
+        this(accountService, bookService, productService, TransactionOperations.withoutTransaction(),
+                chunkSize, 0, productCount -> { });
+    }
+
+    /**
+     * Initializes a new {@link ChunkedSeedingWriter} instance resuming a seeding.
+     *
+     * @param accountService account service used to persist the account.
+     * @param bookService book service used to persist the books.
+     * @param productService product service used to persist the products.
+     * @param transactions operations running every chunk in its transaction.
+     * @param chunkSize number of products persisted at once.
+     * @param resumedCount number of products persisted before the seeding is resumed.
+     * @param chunkListener listener of the number of persisted products, called in the transaction of every chunk.
+     */
+    public ChunkedSeedingWriter(AccountService accountService,
+                                BookService bookService,
+                                ProductService productService,
+                                TransactionOperations transactions,
+                                int chunkSize,
+                                long resumedCount,
+                                LongConsumer chunkListener) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Seeding chunk size must be positive");
+        }
+
+        this.accountService = accountService;
+        this.bookService = bookService;
+        this.productService = productService;
+        this.transactions = transactions;
+        this.chunkSize = chunkSize;
+        this.chunkListener = chunkListener;
+        this.productCount = resumedCount;
+        this.resumedCount = resumedCount;
+        this.books = new ArrayList<>(chunkSize);
+        this.products = new ArrayList<>(chunkSize);
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    // account() method override.
+    @Override
+    public void account(ConfigurationAccountModel accountModel) {
+        Account account = new Account();
+        account.setBalance(accountModel.getMoney());
+        accountService.save(account);
+    }
+
+    // book() method override.
+    @Override
+    public void book(ConfigurationBookModel bookModel) {
+        Book book = new Book(bookModel.getName(), bookModel.getAuthor());
+
+        books.add(book);
+        products.add(new Product(book, bookModel.getPrice(), bookModel.getAmount()));
+
+        if (products.size() == chunkSize) {
+            flush();
+        }
+    }
+
+    // finish() method override.
+    // Persists the last (incomplete) chunk.
+    @Override
+    public long finish() {
+        flush();
+
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+        logger.info("Seeded {} products in {} s ({} rows/s)", productCount, String.format("%.2f", seconds),
+                String.format("%.0f", (productCount - resumedCount) / seconds));
+
+        return productCount;
+    }
+
+    // abort() method override.
+    // Discards the current chunk, the previous chunks remain persisted.
+    @Override
+    public long abort() {
+        books = new ArrayList<>(chunkSize);
+        products = new ArrayList<>(chunkSize);
+
+        return productCount;
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Persists the current chunk and starts a new one.
+     */
+    private void flush() {
+        if (products.isEmpty()) {
+            return;
+        }
+
+        long persistedCount = productCount + products.size();
+
+        transactions.executeWithoutResult(status -> {
+            bookService.saveAll(books);
+            productService.saveAll(products);
+            chunkListener.accept(persistedCount);
+        });
+
+        productCount = persistedCount;
+
+        // Releasing the persisted records.
+        books = new ArrayList<>(chunkSize);
+        products = new ArrayList<>(chunkSize);
+    }
+}
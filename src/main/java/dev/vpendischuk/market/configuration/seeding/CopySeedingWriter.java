@@ -0,0 +1,370 @@
+package dev.vpendischuk.market.configuration.seeding;
+
+import dev.vpendischuk.market.configuration.model.ConfigurationAccountModel;
+import dev.vpendischuk.market.configuration.model.ConfigurationBookModel;
+import dev.vpendischuk.market.domain.Account;
+import dev.vpendischuk.market.domain.IdSequences;
+import dev.vpendischuk.market.service.AccountService;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.UncategorizedSQLException;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * {@link SeedingWriter} that bulk-loads the books and products with PostgreSQL <code>COPY FROM STDIN</code>.
+ * <p>
+ * The book records are streamed into a temporary staging table as they are received, numbered in the order
+ *   of their arrival. When the seeding is finished, blocks of book and product IDs are reserved from the ID
+ *   sequences and the <b>books</b>, <b>products</b> and <b>catalog_view</b> rows are inserted from the staging table
+ *   set-wise, each product linked to its book through the record number. The whole load is a single transaction,
+ *   so no books or products are persisted if it fails. The account is persisted through the {@link AccountService}.
+ * <p>
+ * The writer does not clear the tables: if they are cleared before the seeding (as by the
+ *   {@link dev.vpendischuk.market.configuration.ConfigurationRunner}), that is done in separate transactions,
+ *   so a failed load leaves them empty.
+ * <p>
+ * The rows may be inserted into tables with a name suffix instead (such as the shadow tables
+ *   of a {@link ShadowSeedingWriter}).
+ */
+public class CopySeedingWriter implements SeedingWriter {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link CopySeedingWriter} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(CopySeedingWriter.class);
+
+    /**
+     * Size of the buffer of the rows sent to the database, in bytes.
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Statement creating the staging table (dropped when the load is committed).
+     */
+    private static final String CREATE_STAGING_SQL = "CREATE TEMPORARY TABLE seeding_staging (" +
+            "line INT8 NOT NULL, name VARCHAR(255) NOT NULL, author VARCHAR(255) NOT NULL, " +
+            "price INT4 NOT NULL, amount INT4 NOT NULL) ON COMMIT DROP";
+
+    /**
+     * Statement streaming the rows into the staging table.
+     */
+    private static final String COPY_SQL = "COPY seeding_staging (line, name, author, price, amount) FROM STDIN";
+
+    /**
+     * Statement inserting the books, with IDs offset by the record number (the parameter is the first ID),
+     *   formatted with the table name suffix.
+     */
+    private static final String INSERT_BOOKS_SQL = "INSERT INTO books%s (id, name, author) " +
+            "SELECT ? + line, name, author FROM seeding_staging";
+
+    /**
+     * Statement inserting the products linked to their books (the parameters are the first product and book IDs),
+     *   formatted with the table name suffix.
+     */
+    private static final String INSERT_PRODUCTS_SQL = "INSERT INTO products%s " +
+            "(id, book_id, price, amount, sold_out_at) " +
+            "SELECT ? + line, ? + line, price, amount, CASE WHEN amount = 0 THEN now() END FROM seeding_staging";
+
+    /**
+     * Statement inserting the catalog entries (the parameters are the first product and book IDs),
+     *   formatted with the table name suffix.
+     */
+    private static final String INSERT_CATALOG_SQL = "INSERT INTO catalog_view%s " +
+            "(product_id, book_id, name, author, price, amount, version) " +
+            "SELECT ? + line, ? + line, name, author, price, amount, 1 FROM seeding_staging";
+
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * Data source the connection of the load is acquired from.
+     */
+    private final DataSource dataSource;
+
+    /**
+     * An {@link AccountService} instance used to persist the account.
+     */
+    private final AccountService accountService;
+
+    /**
+     * Suffix of the names of the tables the rows are inserted into.
+     */
+    private final String tableSuffix;
+
+    /**
+     * Connection of the load (null until the first book is received).
+     */
+    private Connection connection;
+
+    /**
+     * Stream of the COPY into the staging table.
+     */
+    private PGCopyOutputStream copyStream;
+
+    /**
+     * Writer of the rows streamed into the staging table.
+     */
+    private Writer copyWriter;
+
+    /**
+     * Number of streamed book records.
+     */
+    private long lineCount;
+
+    /**
+     * {@link System#nanoTime()} of the seeding start.
+     */
+    private final long startTime = System.nanoTime();
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link CopySeedingWriter} instance.
+     *
+     * @param dataSource data source of a PostgreSQL database.
+     * @param accountService account service used to persist the account.
+     */
+    public CopySeedingWriter(DataSource dataSource, AccountService accountService) {
+        this(dataSource, accountService, "");
+    }
+
+    /**
+     * Initializes a new {@link CopySeedingWriter} instance inserting the rows into the tables
+     *   with the specified name suffix.
+     *
+     * @param dataSource data source of a PostgreSQL database.
+     * @param accountService account service used to persist the account.
+     * @param tableSuffix suffix of the names of the tables the rows are inserted into.
+     */
+    public CopySeedingWriter(DataSource dataSource, AccountService accountService, String tableSuffix) {
+        this.dataSource = dataSource;
+        this.accountService = accountService;
+        this.tableSuffix = tableSuffix;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    // account() method override.
+    @Override
+    public void account(ConfigurationAccountModel accountModel) {
+        Account account = new Account();
+        account.setBalance(accountModel.getMoney());
+        accountService.save(account);
+    }
+
+    // book() method override.
+    // Streams the record into the staging table.
+    @Override
+    public void book(ConfigurationBookModel bookModel) {
+        try {
+            if (copyWriter == null) {
+                begin();
+            }
+
+            copyWriter.write(Long.toString(lineCount));
+            copyWriter.write('\t');
+            writeField(bookModel.getName());
+            copyWriter.write('\t');
+            writeField(bookModel.getAuthor());
+            copyWriter.write('\t');
+            writeField(bookModel.getPrice());
+            copyWriter.write('\t');
+            writeField(bookModel.getAmount());
+            copyWriter.write('\n');
+
+            lineCount++;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not stream seeding data to the database", ex);
+        } catch (SQLException ex) {
+            throw new UncategorizedSQLException("Seeding data bulk load", COPY_SQL, ex);
+        }
+    }
+
+    // finish() method override.
+    // Ends the streaming and inserts the staged records.
+    @Override
+    public long finish() {
+        if (copyWriter == null) {
+            logger.info("No products to bulk-load");
+            return 0;
+        }
+
+        try {
+            copyWriter.close();
+            copyWriter = null;
+
+            long bookBase = reserveIds("books_id_seq", lineCount);
+            long productBase = reserveIds("products_id_seq", lineCount);
+
+            execute(INSERT_BOOKS_SQL.formatted(tableSuffix), bookBase);
+            execute(INSERT_PRODUCTS_SQL.formatted(tableSuffix), productBase, bookBase);
+            execute(INSERT_CATALOG_SQL.formatted(tableSuffix), productBase, bookBase);
+
+            connection.commit();
+        } catch (IOException ex) {
+            abort();
+            throw new UncheckedIOException("Could not stream seeding data to the database", ex);
+        } catch (SQLException ex) {
+            abort();
+            throw new UncategorizedSQLException("Seeding data bulk load", null, ex);
+        }
+
+        close();
+
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+        logger.info("Bulk-loaded {} products in {} s ({} rows/s)",
+                lineCount, String.format("%.2f", seconds), String.format("%.0f", lineCount / seconds));
+
+        return lineCount;
+    }
+
+    // abort() method override.
+    // Rolls the load back, so no products remain persisted.
+    @Override
+    public long abort() {
+        if (connection != null) {
+            try {
+                if (copyStream != null && copyStream.isActive()) {
+                    copyStream.cancelCopy();
+                }
+
+                connection.rollback();
+            } catch (SQLException ex) {
+                logger.debug("Could not roll back the seeding data bulk load", ex);
+            }
+
+            close();
+        }
+
+        return 0;
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Acquires the connection, creates the staging table and starts streaming into it.
+     *
+     * @throws SQLException if the load could not be started.
+     */
+    private void begin() throws SQLException {
+        connection = dataSource.getConnection();
+        connection.setAutoCommit(false);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_STAGING_SQL);
+        }
+
+        copyStream = new PGCopyOutputStream(connection.unwrap(PGConnection.class), COPY_SQL, BUFFER_SIZE);
+        copyWriter = new BufferedWriter(new OutputStreamWriter(copyStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    /**
+     * Reserves a block of IDs from a pooled ID sequence.
+     * <p>
+     * Like Hibernate, the value returned by <code>nextval()</code> is used as the upper bound of a block
+     *   of {@link IdSequences#ALLOCATION_SIZE} IDs. The sequence is then moved past the reserved IDs.
+     * <p>
+     * The sequence is locked first, with an <code>ALTER SEQUENCE</code> that keeps its increment: the lock
+     *   blocks <code>nextval()</code> of the other transactions until the load is committed or rolled back,
+     *   so no block can be allocated between the <code>nextval()</code> and the <code>setval()</code>.
+     *
+     * @param sequence sequence name.
+     * @param count number of reserved IDs.
+     * @return the first reserved ID.
+     * @throws SQLException if the IDs could not be reserved.
+     */
+    private long reserveIds(String sequence, long count) throws SQLException {
+        long firstId;
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER SEQUENCE " + sequence + " INCREMENT BY " + IdSequences.ALLOCATION_SIZE);
+        }
+
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT nextval('" + sequence + "')")) {
+            resultSet.next();
+            firstId = resultSet.getLong(1) - IdSequences.ALLOCATION_SIZE + 1;
+        }
+
+        try (PreparedStatement statement =
+                     connection.prepareStatement("SELECT setval('" + sequence + "', ?, false)")) {
+            statement.setLong(1, firstId + count + IdSequences.ALLOCATION_SIZE - 1);
+            statement.execute();
+        }
+
+        return firstId;
+    }
+
+    /**
+     * Executes the specified statement with the specified ID parameters.
+     *
+     * @param sql the statement.
+     * @param parameters ID parameters.
+     * @throws SQLException if the statement failed.
+     */
+    private void execute(String sql, long... parameters) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setLong(i + 1, parameters[i]);
+            }
+
+            logger.debug("Bulk-loaded {} rows: {}", statement.executeUpdate(), sql);
+        }
+    }
+
+    /**
+     * Writes a field of a row in the COPY text format.
+     *
+     * @param value field value (may be null).
+     * @throws IOException if the field could not be written.
+     */
+    private void writeField(Object value) throws IOException {
+        if (value == null) {
+            copyWriter.write("\\N");
+            return;
+        }
+
+        String text = value.toString();
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            switch (c) {
+                case '\\' -> copyWriter.write("\\\\");
+                case '\t' -> copyWriter.write("\\t");
+                case '\n' -> copyWriter.write("\\n");
+                case '\r' -> copyWriter.write("\\r");
+                default -> copyWriter.write(c);
+            }
+        }
+    }
+
+    /**
+     * Closes the connection of the load.
+     */
+    private void close() {
+        try {
+            connection.close();
+        } catch (SQLException ex) {
+            logger.debug("Could not close the seeding data bulk load connection", ex);
+        }
+
+        connection = null;
+        copyStream = null;
+        copyWriter = null;
+    }
+}
@@ -0,0 +1,103 @@
+package dev.vpendischuk.market.configuration.seeding;
+
+import dev.vpendischuk.market.configuration.model.ConfigurationAccountModel;
+import dev.vpendischuk.market.configuration.model.ConfigurationBookModel;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * {@link SeedingHandler} that writes the records it receives to a CSV seeding data file
+ *   in the format read by the {@link CsvSeedingReader}.
+ */
+public class CsvSeedingFileWriter implements SeedingHandler, Closeable {
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * Writer of the file.
+     */
+    private final Writer writer;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link CsvSeedingFileWriter} instance, creating the file and writing its header.
+     *
+     * @param path file path.
+     * @throws IOException if the file could not be created.
+     */
+    public CsvSeedingFileWriter(Path path) throws IOException {
+        this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        this.writer.write(String.join(",", CsvSeedingReader.COLUMNS));
+        this.writer.write('\n');
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    // account() method override.
+    @Override
+    public void account(ConfigurationAccountModel account) {
+        try {
+            writer.write(CsvSeedingReader.ACCOUNT_LINE_PREFIX);
+            writer.write(account.getMoney() == null ? "" : account.getMoney().toString());
+            writer.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not write the CSV seeding data file", ex);
+        }
+    }
+
+    // book() method override.
+    @Override
+    public void book(ConfigurationBookModel book) {
+        try {
+            writeField(book.getAuthor());
+            writer.write(',');
+            writeField(book.getName());
+            writer.write(',');
+            writeField(book.getPrice() == null ? null : book.getPrice().toString());
+            writer.write(',');
+            writeField(book.getAmount() == null ? null : book.getAmount().toString());
+            writer.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not write the CSV seeding data file", ex);
+        }
+    }
+
+    // close() method override.
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Writes a field, quoting it if it's empty (to tell it from a missing value),
+     *   contains a separator, a quote or a line break, or starts like a comment.
+     *
+     * @param value field value (may be null).
+     * @throws IOException if the field could not be written.
+     */
+    private void writeField(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+
+        boolean quoted = value.isEmpty() || value.startsWith("#") || value.chars().anyMatch(
+                c -> c == ',' || c == '"' || c == '\n' || c == '\r');
+
+        if (!quoted) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
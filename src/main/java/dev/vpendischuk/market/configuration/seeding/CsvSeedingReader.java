@@ -0,0 +1,250 @@
+package dev.vpendischuk.market.configuration.seeding;
+
+import dev.vpendischuk.market.configuration.model.ConfigurationAccountModel;
+import dev.vpendischuk.market.configuration.model.ConfigurationBookModel;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reader of CSV seeding data files (RFC 4180, UTF-8).
+ * <p>
+ * The first record is the header, which must name the <b>author</b>, <b>name</b>, <b>price</b>
+ *   and <b>amount</b> columns (in any order, other columns are ignored). Every following record is a book.
+ *   Empty unquoted fields are read as missing values. Lines starting with <code>#</code> are comments,
+ *   except for the <code>#account.money=&lt;balance&gt;</code> line that holds the account data:
+ * <pre>
+ * #account.money=20000
+ * author,name,price,amount
+ * Steven C. McConnell,Code Complete,1000,7
+ * "Eckel, Bruce",Thinking in Java,1500,15
+ * </pre>
+ * The records are passed to a {@link SeedingHandler} as soon as they are read, in the file order.
+ */
+public class CsvSeedingReader {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * Prefix of the comment line holding the account balance.
+     */
+    static final String ACCOUNT_LINE_PREFIX = "#account.money=";
+
+    /**
+     * Names of the book columns, in the order of their indexes in {@link #readHeader(List)}.
+     */
+    static final List<String> COLUMNS = List.of("author", "name", "price", "amount");
+
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * Reader of the file characters.
+     */
+    private PushbackReader reader;
+
+    /**
+     * Number of the current line.
+     */
+    private long lineNumber;
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Reads the seeding data from the specified CSV stream.
+     *
+     * @param inputStream CSV stream (closed when the data is read).
+     * @param handler receiver of the records.
+     * @throws IOException if the stream could not be read or its content is not valid seeding data.
+     */
+    public void read(InputStream inputStream, SeedingHandler handler) throws IOException {
+        reader = new PushbackReader(new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)));
+        lineNumber = 1;
+
+        try (PushbackReader ignored = reader) {
+            int[] columns = null;
+            int next;
+
+            while ((next = reader.read()) != -1) {
+                if (next == '#') {
+                    readComment(handler);
+                    continue;
+                }
+
+                reader.unread(next);
+                List<String> record = readRecord();
+
+                if (record.size() == 1 && record.get(0) == null) {
+                    // Skipping blank lines.
+                    continue;
+                }
+
+                if (columns == null) {
+                    columns = readHeader(record);
+                } else {
+                    handler.book(new ConfigurationBookModel(field(record, columns[0]), field(record, columns[1]),
+                            number(field(record, columns[2])), number(field(record, columns[3]))));
+                }
+            }
+
+            if (columns == null) {
+                throw new IOException("Seeding data CSV file has no header");
+            }
+        } finally {
+            reader = null;
+        }
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Reads the rest of a comment line, passing the account to the handler if the line holds it.
+     *
+     * @param handler receiver of the records.
+     * @throws IOException if the line could not be read or the account balance is not a number.
+     */
+    private void readComment(SeedingHandler handler) throws IOException {
+        StringBuilder line = new StringBuilder("#");
+        int next;
+
+        while ((next = reader.read()) != -1 && next != '\n') {
+            if (next != '\r') {
+                line.append((char) next);
+            }
+        }
+
+        lineNumber++;
+
+        if (line.indexOf(ACCOUNT_LINE_PREFIX) == 0) {
+            Integer money = number(line.substring(ACCOUNT_LINE_PREFIX.length()));
+            handler.account(new ConfigurationAccountModel(money));
+        }
+    }
+
+    /**
+     * Reads the fields of a record, up to the end of its (last) line.
+     *
+     * @return the fields, null for the empty unquoted ones.
+     * @throws IOException if the record could not be read or has an unterminated quoted field.
+     */
+    private List<String> readRecord() throws IOException {
+        List<String> record = new ArrayList<>(COLUMNS.size());
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean inQuotes = false;
+
+        while (true) {
+            int next = reader.read();
+
+            if (inQuotes) {
+                if (next == -1) {
+                    throw new IOException("Unterminated quoted field at line " + lineNumber + " of the CSV file");
+                }
+
+                if (next != '"') {
+                    lineNumber += next == '\n' ? 1 : 0;
+                    field.append((char) next);
+                    continue;
+                }
+
+                // A doubled quote is an escaped quote, a single one ends the quoted field.
+                int following = reader.read();
+
+                if (following == '"') {
+                    field.append('"');
+                } else {
+                    inQuotes = false;
+
+                    if (following != -1) {
+                        reader.unread(following);
+                    }
+                }
+
+                continue;
+            }
+
+            switch (next) {
+                case '"' -> {
+                    if (field.length() > 0 || quoted) {
+                        throw new IOException("Unexpected quote at line " + lineNumber + " of the CSV file");
+                    }
+
+                    quoted = true;
+                    inQuotes = true;
+                }
+                case ',' -> {
+                    record.add(quoted || field.length() > 0 ? field.toString() : null);
+                    field.setLength(0);
+                    quoted = false;
+                }
+                case '\r' -> { }
+                case '\n', -1 -> {
+                    record.add(quoted || field.length() > 0 ? field.toString() : null);
+                    lineNumber++;
+                    return record;
+                }
+                default -> field.append((char) next);
+            }
+        }
+    }
+
+    /**
+     * Finds the book columns in the header record.
+     *
+     * @param header the header record.
+     * @return indexes of the book columns, in the {@link #COLUMNS} order.
+     * @throws IOException if a book column is missing.
+     */
+    private int[] readHeader(List<String> header) throws IOException {
+        int[] columns = new int[COLUMNS.size()];
+
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = header.indexOf(COLUMNS.get(i));
+
+            if (columns[i] < 0) {
+                throw new IOException("Seeding data CSV header has no " + COLUMNS.get(i) + " column");
+            }
+        }
+
+        return columns;
+    }
+
+    /**
+     * Retrieves a field of a record.
+     *
+     * @param record the record.
+     * @param index field index.
+     * @return the field value.
+     * @throws IOException if the record has no such field.
+     */
+    private String field(List<String> record, int index) throws IOException {
+        if (index >= record.size()) {
+            throw new IOException("Missing fields at line " + (lineNumber - 1) + " of the CSV file");
+        }
+
+        return record.get(index);
+    }
+
+    /**
+     * Parses a number field.
+     *
+     * @param value field value.
+     * @return the number, or null if the value is missing.
+     * @throws IOException if the value is not a number.
+     */
+    private Integer number(String value) throws IOException {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new IOException("Invalid number '" + value + "' at line " + (lineNumber - 1) + " of the CSV file");
+        }
+    }
+}
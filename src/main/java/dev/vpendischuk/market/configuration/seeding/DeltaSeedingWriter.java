@@ -0,0 +1,291 @@
+package dev.vpendischuk.market.configuration.seeding;
+
+import dev.vpendischuk.market.configuration.model.ConfigurationAccountModel;
+import dev.vpendischuk.market.configuration.model.ConfigurationBookModel;
+import dev.vpendischuk.market.domain.Account;
+import dev.vpendischuk.market.domain.Book;
+import dev.vpendischuk.market.domain.Product;
+import dev.vpendischuk.market.service.AccountService;
+import dev.vpendischuk.market.service.BookService;
+import dev.vpendischuk.market.service.ProductService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * {@link SeedingWriter} that applies only the difference between the seeding data and the persisted data.
+ * <p>
+ * The persisted books and products are loaded when the writer is created. The seeding data records are matched
+ *   to them by the book name and author (the {@link Book} equality key): products with a changed price or amount
+ *   are updated, unmatched records are inserted (reusing a persisted book, if there's one), and the products
+ *   missing from the seeding data are removed once it's read. The books are never removed,
+ *   so the purchase history is kept intact.
+ * <p>
+ * The changes are persisted in batches, each in its own transaction. Records repeating a book already seeded
+ *   are skipped.
+ */
+public class DeltaSeedingWriter implements SeedingWriter {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link DeltaSeedingWriter} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(DeltaSeedingWriter.class);
+
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * An {@link AccountService} instance used to persist the account.
+     */
+    private final AccountService accountService;
+
+    /**
+     * A {@link BookService} instance used to load and persist the books.
+     */
+    private final BookService bookService;
+
+    /**
+     * A {@link ProductService} instance used to load, persist and remove the products.
+     */
+    private final ProductService productService;
+
+    /**
+     * Operations running every batch in its own transaction.
+     */
+    private final TransactionOperations transactions;
+
+    /**
+     * Number of changes persisted at once.
+     */
+    private final int batchSize;
+
+    /**
+     * Persisted books, mapped by themselves (that is, by their names and authors).
+     */
+    private final Map<Book, Book> persistedBooks = new HashMap<>();
+
+    /**
+     * Persisted products not matched by the seeding data yet, mapped by their books.
+     */
+    private final Map<Book, Product> unmatchedProducts = new HashMap<>();
+
+    /**
+     * Persisted products removed regardless of the seeding data (the duplicates of other products' books).
+     */
+    private final List<Product> duplicateProducts = new ArrayList<>();
+
+    /**
+     * Books of the seeded records.
+     */
+    private final Set<Book> seededBooks = new HashSet<>();
+
+    /**
+     * Books inserted by the current batch.
+     */
+    private List<Book> books = new ArrayList<>();
+
+    /**
+     * Products inserted or updated by the current batch.
+     */
+    private List<Product> products = new ArrayList<>();
+
+    /**
+     * Number of persisted products before the seeding.
+     */
+    private final long initialCount;
+
+    /**
+     * Number of inserted products.
+     */
+    private long insertedCount;
+
+    /**
+     * Number of updated products.
+     */
+    private long updatedCount;
+
+    /**
+     * Number of unchanged products.
+     */
+    private long unchangedCount;
+
+    /**
+     * Number of removed products.
+     */
+    private long removedCount;
+
+    /**
+     * Number of skipped records.
+     */
+    private long skippedCount;
+
+    /**
+     * {@link System#nanoTime()} of the seeding start.
+     */
+    private final long startTime = System.nanoTime();
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link DeltaSeedingWriter} instance, loading the persisted books and products.
+     *
+     * @param accountService account service used to persist the account.
+     * @param bookService book service used to load and persist the books.
+     * @param productService product service used to load, persist and remove the products.
+     * @param transactions operations running every batch (and the loading) in its own transaction.
+     * @param batchSize number of changes persisted at once.
+     */
+    public DeltaSeedingWriter(AccountService accountService,
+                              BookService bookService,
+                              ProductService productService,
+                              TransactionOperations transactions,
+                              int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Seeding batch size must be positive");
+        }
+
+        this.accountService = accountService;
+        this.bookService = bookService;
+        this.productService = productService;
+        this.transactions = transactions;
+        this.batchSize = batchSize;
+
+        // Loading in a read-write transaction, so that the data is read from the primary database.
+        transactions.executeWithoutResult(status -> {
+            bookService.findAll().forEach(book -> persistedBooks.put(book, book));
+
+            for (Product product : productService.findAll()) {
+                if (unmatchedProducts.putIfAbsent(product.getProductBook(), product) != null) {
+                    duplicateProducts.add(product);
+                }
+            }
+        });
+
+        this.initialCount = unmatchedProducts.size() + duplicateProducts.size();
+
+        logger.info("Loaded {} books and {} products to be matched by the seeding data",
+                persistedBooks.size(), initialCount);
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    // account() method override.
+    // Updates the balance of the current account, if it exists.
+    @Override
+    public void account(ConfigurationAccountModel accountModel) {
+        Account account = accountService.getCurrentAccount();
+
+        if (account == null) {
+            account = new Account();
+        }
+
+        account.setBalance(accountModel.getMoney());
+        accountService.save(account);
+    }
+
+    // book() method override.
+    @Override
+    public void book(ConfigurationBookModel bookModel) {
+        Book book = new Book(bookModel.getName(), bookModel.getAuthor());
+
+        if (!seededBooks.add(book)) {
+            logger.debug("Skipping repeated seeding data record {}", book);
+            skippedCount++;
+            return;
+        }
+
+        Product product = unmatchedProducts.remove(book);
+
+        if (product == null) {
+            Book persistedBook = persistedBooks.get(book);
+
+            if (persistedBook == null) {
+                books.add(book);
+            } else {
+                book = persistedBook;
+            }
+
+            products.add(new Product(book, bookModel.getPrice(), bookModel.getAmount()));
+            insertedCount++;
+        } else if (!Objects.equals(product.getPrice(), bookModel.getPrice())
+                || !Objects.equals(product.getAmount(), bookModel.getAmount())) {
+            product.setPrice(bookModel.getPrice());
+            product.setAmount(bookModel.getAmount());
+            products.add(product);
+            updatedCount++;
+        } else {
+            unchangedCount++;
+        }
+
+        if (products.size() == batchSize) {
+            flush();
+        }
+    }
+
+    // finish() method override.
+    // Persists the last batch and removes the products missing from the seeding data.
+    @Override
+    public long finish() {
+        flush();
+
+        List<Product> removedProducts = new ArrayList<>(duplicateProducts);
+        removedProducts.addAll(unmatchedProducts.values());
+
+        for (int offset = 0; offset < removedProducts.size(); offset += batchSize) {
+            List<Product> batch = removedProducts.subList(offset, Math.min(offset + batchSize, removedProducts.size()));
+
+            transactions.executeWithoutResult(status -> productService.deleteAll(batch));
+            removedCount += batch.size();
+        }
+
+        unmatchedProducts.clear();
+        duplicateProducts.clear();
+
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+        logger.info("Seeded the difference in {} s: {} products inserted, {} updated, {} removed, {} unchanged "
+                        + "({} repeated records skipped)", String.format("%.2f", seconds),
+                insertedCount, updatedCount, removedCount, unchangedCount, skippedCount);
+
+        return insertedCount + updatedCount + unchangedCount;
+    }
+
+    // abort() method override.
+    // Discards the current batch, the previous batches remain persisted and no products are removed.
+    @Override
+    public long abort() {
+        books = new ArrayList<>();
+        products = new ArrayList<>();
+
+        return initialCount + insertedCount - removedCount;
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Persists the current batch of inserted and updated products and starts a new one.
+     */
+    private void flush() {
+        if (products.isEmpty()) {
+            return;
+        }
+
+        List<Book> batchBooks = books;
+        List<Product> batchProducts = products;
+
+        transactions.executeWithoutResult(status -> {
+            bookService.saveAll(batchBooks);
+            productService.saveAll(batchProducts);
+        });
+
+        books = new ArrayList<>();
+        products = new ArrayList<>();
+    }
+}
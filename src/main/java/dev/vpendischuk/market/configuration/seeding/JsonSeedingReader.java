@@ -0,0 +1,95 @@
+package dev.vpendischuk.market.configuration.seeding;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.vpendischuk.market.configuration.model.ConfigurationAccountModel;
+import dev.vpendischuk.market.configuration.model.ConfigurationBookModel;
+import dev.vpendischuk.market.configuration.model.ConfigurationModel;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reader of JSON seeding data files that walks the file token by token with Jackson's streaming parser.
+ * <p>
+ * The file has the format of the {@link ConfigurationModel} data type. Only one book record
+ *   is held in memory at a time, so memory use does not depend on the file size.
+ *   The records are passed to a {@link SeedingHandler} as soon as they are read, in the file order
+ *   (the account may be placed before or after the books). Unknown top-level fields are skipped.
+ */
+public class JsonSeedingReader {
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * Object mapper used to map the individual records.
+     */
+    private final ObjectMapper mapper;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link JsonSeedingReader} instance.
+     *
+     * @param mapper object mapper used to map the individual records.
+     */
+    public JsonSeedingReader(ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Reads the seeding data from the specified JSON stream.
+     *
+     * @param inputStream JSON stream (closed when the data is read).
+     * @param handler receiver of the records.
+     * @throws IOException if the stream could not be read or its content is not valid seeding data.
+     */
+    public void read(InputStream inputStream, SeedingHandler handler) throws IOException {
+        try (JsonParser parser = mapper.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Seeding data must be a JSON object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+
+                if (valueToken == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+
+                switch (fieldName) {
+                    case "account" -> handler.account(mapper.readValue(parser, ConfigurationAccountModel.class));
+                    case "books" -> readBooks(parser, handler);
+                    default -> parser.skipChildren();
+                }
+            }
+
+            if (parser.currentToken() != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, "Unexpected content in the seeding data object");
+            }
+        }
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Reads the elements of the <b>books</b> array.
+     *
+     * @param parser parser positioned at the start of the array.
+     * @param handler receiver of the records.
+     * @throws IOException if the array could not be read.
+     */
+    private void readBooks(JsonParser parser, SeedingHandler handler) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Field books must be a JSON array");
+        }
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            handler.book(mapper.readValue(parser, ConfigurationBookModel.class));
+        }
+    }
+}
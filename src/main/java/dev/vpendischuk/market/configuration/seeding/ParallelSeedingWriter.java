@@ -0,0 +1,318 @@
+package dev.vpendischuk.market.configuration.seeding;
+
+import dev.vpendischuk.market.configuration.model.ConfigurationAccountModel;
+import dev.vpendischuk.market.configuration.model.ConfigurationBookModel;
+import dev.vpendischuk.market.domain.Account;
+import dev.vpendischuk.market.domain.Book;
+import dev.vpendischuk.market.domain.Product;
+import dev.vpendischuk.market.service.AccountService;
+import dev.vpendischuk.market.service.BookService;
+import dev.vpendischuk.market.service.ProductService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link SeedingWriter} that persists the seeding data records in partitions loaded by a pool of worker threads.
+ * <p>
+ * The records are split into partitions of a fixed number of products as they are read. Every partition
+ *   of books and their products is persisted on a worker thread in its own transaction (and so, with its own
+ *   connection). At most two partitions per worker are held in memory: the reading is suspended while
+ *   the workers catch up.
+ * <p>
+ * When the seeding is finished, the numbers of persisted books and products are checked against the number
+ *   of read records. If a partition fails, no further partitions are started, while the committed ones
+ *   remain persisted.
+ */
+public class ParallelSeedingWriter implements SeedingWriter {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link ParallelSeedingWriter} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(ParallelSeedingWriter.class);
+
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * An {@link AccountService} instance used to persist the account.
+     */
+    private final AccountService accountService;
+
+    /**
+     * A {@link BookService} instance used to persist the books.
+     */
+    private final BookService bookService;
+
+    /**
+     * A {@link ProductService} instance used to persist the products.
+     */
+    private final ProductService productService;
+
+    /**
+     * Operations running every partition in its own transaction.
+     */
+    private final TransactionOperations transactions;
+
+    /**
+     * Number of products in a partition.
+     */
+    private final int partitionSize;
+
+    /**
+     * Number of worker threads.
+     */
+    private final int parallelism;
+
+    /**
+     * Worker threads loading the partitions.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Permits of the partitions read ahead of the workers.
+     */
+    private final Semaphore pendingPartitions;
+
+    /**
+     * Books of the current partition.
+     */
+    private List<Book> books;
+
+    /**
+     * Products of the current partition.
+     */
+    private List<Product> products;
+
+    /**
+     * Number of records passed to the workers.
+     */
+    private long submittedCount;
+
+    /**
+     * Number of persisted products.
+     */
+    private final AtomicLong productCount = new AtomicLong();
+
+    /**
+     * Failure of the first failed partition.
+     */
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+    /**
+     * {@link System#nanoTime()} of the seeding start.
+     */
+    private final long startTime = System.nanoTime();
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link ParallelSeedingWriter} instance.
+     *
+     * @param accountService account service used to persist the account.
+     * @param bookService book service used to persist the books.
+     * @param productService product service used to persist the products.
+     * @param transactions operations running every partition in its own transaction.
+     * @param partitionSize number of products in a partition.
+     * @param parallelism number of worker threads.
+     */
+    public ParallelSeedingWriter(AccountService accountService,
+                                 BookService bookService,
+                                 ProductService productService,
+                                 TransactionOperations transactions,
+                                 int partitionSize,
+                                 int parallelism) {
+        if (partitionSize <= 0) {
+            throw new IllegalArgumentException("Seeding partition size must be positive");
+        }
+
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Seeding parallelism must be positive");
+        }
+
+        this.accountService = accountService;
+        this.bookService = bookService;
+        this.productService = productService;
+        this.transactions = transactions;
+        this.partitionSize = partitionSize;
+        this.parallelism = parallelism;
+        this.executor = Executors.newFixedThreadPool(parallelism, new SeedingThreadFactory());
+        this.pendingPartitions = new Semaphore(parallelism * 2);
+        this.books = new ArrayList<>(partitionSize);
+        this.products = new ArrayList<>(partitionSize);
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    // account() method override.
+    @Override
+    public void account(ConfigurationAccountModel accountModel) {
+        Account account = new Account();
+        account.setBalance(accountModel.getMoney());
+        accountService.save(account);
+    }
+
+    // book() method override.
+    @Override
+    public void book(ConfigurationBookModel bookModel) {
+        Book book = new Book(bookModel.getName(), bookModel.getAuthor());
+
+        books.add(book);
+        products.add(new Product(book, bookModel.getPrice(), bookModel.getAmount()));
+
+        if (products.size() == partitionSize) {
+            submit();
+        }
+    }
+
+    // finish() method override.
+    // Waits for the workers and checks the persisted data.
+    @Override
+    public long finish() {
+        submit();
+        awaitWorkers();
+
+        RuntimeException partitionFailure = failure.get();
+
+        if (partitionFailure != null) {
+            throw partitionFailure;
+        }
+
+        long bookCount = bookService.count();
+        long persistedCount = productService.count();
+
+        if (bookCount != submittedCount || persistedCount != submittedCount) {
+            throw new IllegalStateException("Seeding consistency check failed: " + submittedCount
+                    + " records read, but " + bookCount + " books and " + persistedCount + " products persisted");
+        }
+
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+        logger.info("Seeded {} products with {} workers in {} s ({} rows/s)", submittedCount, parallelism,
+                String.format("%.2f", seconds), String.format("%.0f", submittedCount / seconds));
+
+        return submittedCount;
+    }
+
+    // abort() method override.
+    // Stops the workers, the committed partitions remain persisted.
+    @Override
+    public long abort() {
+        books = new ArrayList<>(partitionSize);
+        products = new ArrayList<>(partitionSize);
+
+        executor.shutdownNow();
+        awaitWorkers();
+
+        return productCount.get();
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Passes the current partition to the workers and starts a new one.
+     * <p>
+     * Waits while the workers are behind by two partitions each.
+     */
+    private void submit() {
+        RuntimeException partitionFailure = failure.get();
+
+        if (partitionFailure != null) {
+            throw partitionFailure;
+        }
+
+        if (products.isEmpty()) {
+            return;
+        }
+
+        List<Book> partitionBooks = books;
+        List<Product> partitionProducts = products;
+
+        try {
+            pendingPartitions.acquire();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Seeding interrupted", ex);
+        }
+
+        executor.execute(() -> {
+            try {
+                if (failure.get() == null) {
+                    load(partitionBooks, partitionProducts);
+                }
+            } catch (RuntimeException ex) {
+                failure.compareAndSet(null, ex);
+            } finally {
+                pendingPartitions.release();
+            }
+        });
+
+        submittedCount += partitionProducts.size();
+
+        // Releasing the submitted records.
+        books = new ArrayList<>(partitionSize);
+        products = new ArrayList<>(partitionSize);
+    }
+
+    /**
+     * Persists a partition in a single transaction.
+     *
+     * @param partitionBooks books of the partition.
+     * @param partitionProducts products of the partition.
+     */
+    private void load(List<Book> partitionBooks, List<Product> partitionProducts) {
+        transactions.executeWithoutResult(status -> {
+            bookService.saveAll(partitionBooks);
+            productService.saveAll(partitionProducts);
+        });
+
+        long persistedCount = productCount.addAndGet(partitionProducts.size());
+        logger.debug("Seeded a partition of {} products ({} products so far)",
+                partitionProducts.size(), persistedCount);
+    }
+
+    /**
+     * Shuts the workers down and waits for the partitions in progress.
+     */
+    private void awaitWorkers() {
+        executor.shutdown();
+
+        try {
+            while (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                logger.info("Seeded {} products so far ({} rows/s)", productCount.get(),
+                        String.format("%.0f", productCount.get() / ((System.nanoTime() - startTime) / 1e9)));
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Seeding interrupted", ex);
+        }
+    }
+
+    /* --------------------------- Nested classes -------------------------- */
+
+    /**
+     * Factory of the named worker threads.
+     */
+    private static class SeedingThreadFactory implements ThreadFactory {
+        /**
+         * Number of the next created thread.
+         */
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        // newThread() method override.
+        @Override
+        public Thread newThread(Runnable runnable) {
+            return new Thread(runnable, "seeding-" + threadNumber.getAndIncrement());
+        }
+    }
+}
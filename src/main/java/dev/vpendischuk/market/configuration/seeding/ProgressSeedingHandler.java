@@ -0,0 +1,193 @@
+package dev.vpendischuk.market.configuration.seeding;
+
+import dev.vpendischuk.market.configuration.model.ConfigurationAccountModel;
+import dev.vpendischuk.market.configuration.model.ConfigurationBookModel;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * {@link SeedingHandler} that passes the records to another handler and tracks the seeding progress.
+ * <p>
+ * The number of handled books, the progress (the fraction of the seeding data file read), the throughput
+ *   (rows per second) and the estimated time left are published to the {@link MeterRegistry} as the
+ *   <b>market.seeding.records</b>, <b>market.seeding.progress</b>, <b>market.seeding.throughput</b>
+ *   and <b>market.seeding.eta</b> gauges, and logged periodically. The gauges are removed when the handler is closed.
+ */
+public class ProgressSeedingHandler implements SeedingHandler, Closeable {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link ProgressSeedingHandler} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(ProgressSeedingHandler.class);
+
+    /**
+     * Interval between the progress reports, in nanoseconds.
+     */
+    private static final long REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    /**
+     * Number of records between the checks of the report interval.
+     */
+    private static final int REPORT_CHECK_RECORDS = 1024;
+
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * Handler the records are passed to.
+     */
+    private final SeedingHandler delegate;
+
+    /**
+     * Meter registry the gauges are published to.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Function computing the progress (from 0 to 1, or NaN if it's unknown) from the number of handled books.
+     */
+    private final LongToDoubleFunction fraction;
+
+    /**
+     * Published gauges.
+     */
+    private final List<Meter> meters;
+
+    /**
+     * {@link System#nanoTime()} of the seeding start.
+     */
+    private final long startTime = System.nanoTime();
+
+    /**
+     * {@link System#nanoTime()} of the last progress report.
+     */
+    private long lastReportTime = startTime;
+
+    /**
+     * Number of handled books (read by the gauges from other threads).
+     */
+    private volatile long records;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link ProgressSeedingHandler} instance, publishing its gauges.
+     *
+     * @param delegate handler the records are passed to.
+     * @param meterRegistry meter registry the gauges are published to.
+     * @param fraction function computing the progress (from 0 to 1, or NaN if it's unknown)
+     *   from the number of handled books.
+     */
+    public ProgressSeedingHandler(SeedingHandler delegate, MeterRegistry meterRegistry, LongToDoubleFunction fraction) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.fraction = fraction;
+        this.meters = List.of(
+                Gauge.builder("market.seeding.records", this, handler -> handler.records)
+                        .description("Number of seeding data records handled so far")
+                        .register(meterRegistry),
+                Gauge.builder("market.seeding.progress", this, ProgressSeedingHandler::progress)
+                        .description("Fraction of the seeding data file read so far")
+                        .register(meterRegistry),
+                Gauge.builder("market.seeding.throughput", this, ProgressSeedingHandler::throughput)
+                        .description("Seeding data records handled per second")
+                        .baseUnit("rows/s")
+                        .register(meterRegistry),
+                Gauge.builder("market.seeding.eta", this, ProgressSeedingHandler::eta)
+                        .description("Estimated time left until the seeding is finished")
+                        .baseUnit("seconds")
+                        .register(meterRegistry));
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Retrieves the progress of the seeding.
+     *
+     * @return fraction of the seeding data file read so far (from 0 to 1), or NaN if it's unknown.
+     */
+    public double progress() {
+        return fraction.applyAsDouble(records);
+    }
+
+    /**
+     * Retrieves the throughput of the seeding.
+     *
+     * @return number of records handled per second.
+     */
+    public double throughput() {
+        return records / ((System.nanoTime() - startTime) / 1e9);
+    }
+
+    /**
+     * Retrieves the estimated time left until the seeding is finished, extrapolating the progress so far.
+     *
+     * @return estimated time left in seconds, or NaN if the progress is unknown.
+     */
+    public double eta() {
+        double progress = progress();
+
+        if (Double.isNaN(progress) || progress <= 0) {
+            return Double.NaN;
+        }
+
+        return (System.nanoTime() - startTime) / 1e9 * (1 - Math.min(progress, 1)) / progress;
+    }
+
+    // account() method override.
+    @Override
+    public void account(ConfigurationAccountModel account) {
+        delegate.account(account);
+    }
+
+    // book() method override.
+    @Override
+    public void book(ConfigurationBookModel book) {
+        delegate.book(book);
+        records++;
+
+        if (records % REPORT_CHECK_RECORDS == 0) {
+            report();
+        }
+    }
+
+    // close() method override.
+    // Removes the gauges.
+    @Override
+    public void close() {
+        meters.forEach(meterRegistry::remove);
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Logs the progress if the report interval has passed since the last report.
+     */
+    private void report() {
+        long now = System.nanoTime();
+
+        if (now - lastReportTime < REPORT_INTERVAL_NANOS) {
+            return;
+        }
+
+        double progress = progress();
+
+        if (Double.isNaN(progress)) {
+            logger.info("Seeded {} records so far ({} rows/s)", records, String.format("%.0f", throughput()));
+        } else {
+            logger.info("Seeded {} records so far ({}%, {} rows/s, {} s left)", records,
+                    String.format("%.1f", progress * 100), String.format("%.0f", throughput()),
+                    String.format("%.0f", eta()));
+        }
+
+        lastReportTime = now;
+    }
+}
@@ -0,0 +1,124 @@
+package dev.vpendischuk.market.configuration.seeding;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Store of the resumable seeding checkpoints in the <b>seeding_checkpoints</b> table.
+ * <p>
+ * A checkpoint holds the number of records of a seeding data file (identified by its SHA-256 hash)
+ *   committed so far. It's updated in the transaction of every committed chunk, so it never runs ahead
+ *   or behind the persisted data, and it's removed when the seeding is finished.
+ */
+public class SeedingCheckpointStore {
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * JDBC template running the statements in the current transaction.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link SeedingCheckpointStore} instance.
+     *
+     * @param dataSource data source of the database holding the checkpoints.
+     */
+    public SeedingCheckpointStore(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Computes the hash identifying a seeding data file.
+     *
+     * @param path file path.
+     * @return SHA-256 hash of the file content, in hex.
+     * @throws IOException if the file could not be read.
+     */
+    public static String hash(Path path) throws IOException {
+        MessageDigest digest;
+
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not supported", ex);
+        }
+
+        byte[] buffer = new byte[1 << 16];
+
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            int length;
+
+            while ((length = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, length);
+            }
+        }
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Finds the number of committed records of the seeding data file with the specified hash.
+     *
+     * @param fileHash file hash.
+     * @return number of committed records, or null if there's no checkpoint of the file.
+     */
+    public Long findCommittedRecords(String fileHash) {
+        List<Long> committedRecords = jdbcTemplate.queryForList(
+                "SELECT committed_records FROM seeding_checkpoints WHERE file_hash = ?", Long.class, fileHash);
+
+        return committedRecords.isEmpty() ? null : committedRecords.get(0);
+    }
+
+    /**
+     * Starts the checkpoints of a seeding data file, discarding the checkpoints of other files
+     *   (whose data is replaced).
+     *
+     * @param fileHash file hash.
+     * @param fileName file name.
+     */
+    public void start(String fileHash, String fileName) {
+        clear();
+        jdbcTemplate.update("INSERT INTO seeding_checkpoints (file_hash, file_name, committed_records, updated_at) "
+                + "VALUES (?, ?, 0, now())", fileHash, fileName);
+    }
+
+    /**
+     * Records the number of committed records of a seeding data file in the current transaction.
+     *
+     * @param fileHash file hash.
+     * @param committedRecords number of committed records.
+     */
+    public void update(String fileHash, long committedRecords) {
+        jdbcTemplate.update("UPDATE seeding_checkpoints SET committed_records = ?, updated_at = now() "
+                + "WHERE file_hash = ?", committedRecords, fileHash);
+    }
+
+    /**
+     * Removes all checkpoints, as the seeded data is replaced or changed by a seeding that can't be resumed.
+     */
+    public void clear() {
+        jdbcTemplate.update("DELETE FROM seeding_checkpoints");
+    }
+
+    /**
+     * Removes the checkpoint of a finished seeding data file.
+     *
+     * @param fileHash file hash.
+     */
+    public void finish(String fileHash) {
+        jdbcTemplate.update("DELETE FROM seeding_checkpoints WHERE file_hash = ?", fileHash);
+    }
+}
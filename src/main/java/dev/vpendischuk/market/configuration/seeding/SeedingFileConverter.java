@@ -0,0 +1,144 @@
+package dev.vpendischuk.market.configuration.seeding;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.vpendischuk.market.configuration.model.ConfigurationAccountModel;
+import dev.vpendischuk.market.configuration.model.ConfigurationBookModel;
+import dev.vpendischuk.market.configuration.model.ConfigurationModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Command line tool converting JSON seeding data files (of the {@link ConfigurationModel} format)
+ *   to the CSV (<code>.csv</code>) and binary (<code>.seed</code>) seeding data formats.
+ * <p>
+ * The JSON file is streamed, so files of any size can be converted. Usage:
+ * <pre>
+ * java -cp market-1.0-SNAPSHOT.jar \
+ *     -Dloader.main=dev.vpendischuk.market.configuration.seeding.SeedingFileConverter \
+ *     org.springframework.boot.loader.PropertiesLauncher data.json data.seed
+ * </pre>
+ */
+public class SeedingFileConverter {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link SeedingFileConverter} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(SeedingFileConverter.class);
+
+    /* ----------------------------- Constructors -------------------------- */
+
+    /**
+     * Not instantiated.
+     */
+    private SeedingFileConverter() {
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Converts the JSON seeding data file to the format of the output file's extension.
+     *
+     * @param args paths of the JSON file and the output file.
+     * @throws IOException if a file could not be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: SeedingFileConverter <input.json> <output.csv|output.seed>");
+        }
+
+        convert(Path.of(args[0]), Path.of(args[1]));
+    }
+
+    /**
+     * Converts the JSON seeding data file to the format of the output file's extension.
+     *
+     * @param jsonFile path of the JSON seeding data file.
+     * @param outputFile path of the output file (<code>.csv</code> or <code>.seed</code>).
+     * @throws IOException if a file could not be read or written.
+     */
+    public static void convert(Path jsonFile, Path outputFile) throws IOException {
+        String fileName = outputFile.getFileName().toString();
+        long startTime = System.nanoTime();
+        BookCounter counter;
+
+        if (fileName.endsWith(".csv")) {
+            try (CsvSeedingFileWriter writer = new CsvSeedingFileWriter(outputFile)) {
+                counter = convert(jsonFile, writer);
+            }
+        } else if (fileName.endsWith(".seed")) {
+            try (BinarySeedingFileWriter writer = new BinarySeedingFileWriter(outputFile)) {
+                counter = convert(jsonFile, writer);
+            }
+        } else {
+            throw new IllegalArgumentException("Unsupported seeding data file format: " + fileName);
+        }
+
+        logger.info("Converted {} books from {} to {} in {} s", counter.bookCount, jsonFile, outputFile,
+                String.format("%.2f", (System.nanoTime() - startTime) / 1e9));
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Streams the JSON seeding data file to the specified file writer.
+     *
+     * @param jsonFile path of the JSON seeding data file.
+     * @param writer the file writer.
+     * @return counter of the converted books.
+     * @throws IOException if the JSON file could not be read.
+     */
+    private static BookCounter convert(Path jsonFile, SeedingHandler writer) throws IOException {
+        BookCounter counter = new BookCounter(writer);
+
+        try (InputStream inputStream = Files.newInputStream(jsonFile)) {
+            new JsonSeedingReader(new ObjectMapper()).read(inputStream, counter);
+        }
+
+        return counter;
+    }
+
+    /* --------------------------- Nested classes -------------------------- */
+
+    /**
+     * {@link SeedingHandler} passing the records to another handler and counting the books.
+     */
+    private static class BookCounter implements SeedingHandler {
+        /**
+         * The handler receiving the records.
+         */
+        private final SeedingHandler handler;
+
+        /**
+         * Number of passed books.
+         */
+        private long bookCount;
+
+        /**
+         * Initializes a new {@link BookCounter} instance.
+         *
+         * @param handler the handler receiving the records.
+         */
+        BookCounter(SeedingHandler handler) {
+            this.handler = handler;
+        }
+
+        // account() method override.
+        @Override
+        public void account(ConfigurationAccountModel account) {
+            handler.account(account);
+        }
+
+        // book() method override.
+        @Override
+        public void book(ConfigurationBookModel book) {
+            handler.book(book);
+            bookCount++;
+        }
+    }
+}
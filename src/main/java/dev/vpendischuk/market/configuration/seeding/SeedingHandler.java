@@ -0,0 +1,23 @@
+package dev.vpendischuk.market.configuration.seeding;
+
+import dev.vpendischuk.market.configuration.model.ConfigurationAccountModel;
+import dev.vpendischuk.market.configuration.model.ConfigurationBookModel;
+
+/**
+ * Receiver of the seeding data records, in the order they are read from a seeding data file.
+ */
+public interface SeedingHandler {
+    /**
+     * Handles the account data record.
+     *
+     * @param account account data.
+     */
+    void account(ConfigurationAccountModel account);
+
+    /**
+     * Handles a book data record.
+     *
+     * @param book book (product) data.
+     */
+    void book(ConfigurationBookModel book);
+}
@@ -0,0 +1,17 @@
+package dev.vpendischuk.market.configuration.seeding;
+
+import java.io.IOException;
+
+/**
+ * Source of seeding data records - a seeding data file of one of the supported formats.
+ */
+@FunctionalInterface
+public interface SeedingSource {
+    /**
+     * Reads the seeding data records, passing them to the specified handler in the file order.
+     *
+     * @param handler receiver of the records.
+     * @throws IOException if the file could not be read or its content is not valid seeding data.
+     */
+    void read(SeedingHandler handler) throws IOException;
+}
@@ -0,0 +1,20 @@
+package dev.vpendischuk.market.configuration.seeding;
+
+/**
+ * {@link SeedingHandler} that persists the seeding data records it receives.
+ */
+public interface SeedingWriter extends SeedingHandler {
+    /**
+     * Persists the records that are not persisted yet and logs the seeding throughput.
+     *
+     * @return number of persisted products.
+     */
+    long finish();
+
+    /**
+     * Stops the seeding after a failure, discarding the records that are not persisted yet.
+     *
+     * @return number of products that remain persisted.
+     */
+    long abort();
+}
@@ -0,0 +1,293 @@
+package dev.vpendischuk.market.configuration.seeding;
+
+import dev.vpendischuk.market.service.AccountService;
+import dev.vpendischuk.market.service.BookService;
+import dev.vpendischuk.market.service.ProductService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.function.LongConsumer;
+
+/**
+ * Factory of the writers persisting the streamed seeding data, configured by the
+ *   <code>market.seeding.*</code> properties.
+ * <p>
+ * The streaming seeding modes (bulk load, parallelism, delta, resumable and background seeding) are exclusive,
+ *   as every mode has its own writer: the factory cannot be created with conflicting properties.
+ */
+@Component
+public class SeedingWriterFactory {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link SeedingWriterFactory} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(SeedingWriterFactory.class);
+
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * An {@link AccountService} instance the writers persist the seeded account with.
+     */
+    private final AccountService accountService;
+
+    /**
+     * A {@link BookService} instance the writers persist the seeded books with.
+     */
+    private final BookService bookService;
+
+    /**
+     * A {@link ProductService} instance the writers persist the seeded products with.
+     */
+    private final ProductService productService;
+
+    /**
+     * Provider of the data source the products are bulk-loaded into.
+     */
+    private final ObjectProvider<DataSource> dataSource;
+
+    /**
+     * Provider of the transaction manager of the chunks persisted by the worker threads or the delta seeding.
+     */
+    private final ObjectProvider<PlatformTransactionManager> transactionManager;
+
+    /**
+     * Whether the seeding data files are streamed.
+     */
+    private final boolean streaming;
+
+    /**
+     * Number of products persisted at once by the streaming seeding.
+     */
+    private final int chunkSize;
+
+    /**
+     * Whether the streamed products are bulk-loaded with PostgreSQL <code>COPY</code>.
+     */
+    private final boolean bulkLoad;
+
+    /**
+     * Number of worker threads persisting the streamed products.
+     */
+    private final int parallelism;
+
+    /**
+     * Whether only the difference between the seeding data and the persisted data is applied.
+     */
+    private final boolean delta;
+
+    /**
+     * Whether the seeding can be resumed from the checkpoints of the seeding data files.
+     */
+    private final boolean resumable;
+
+    /**
+     * Whether the seeding runs in the background, into the shadow tables.
+     */
+    private final boolean background;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link SeedingWriterFactory} instance.
+     * <p>
+     * Note: the streaming seeding modes cannot be combined (except for the background seeding,
+     *   which always bulk-loads the data), an {@link IllegalArgumentException} is thrown if they are.
+     *
+     * @param accountService account service the writers persist the seeded account with.
+     * @param bookService book service the writers persist the seeded books with.
+     * @param productService product service the writers persist the seeded products with.
+     * @param dataSource provider of the data source the products are bulk-loaded into.
+     * @param transactionManager provider of the transaction manager of the chunks persisted
+     *   by the worker threads or the delta seeding.
+     * @param streaming whether the seeding data files are streamed.
+     * @param chunkSize number of products persisted at once by the streaming seeding.
+     * @param bulkLoad whether the streamed products are bulk-loaded with PostgreSQL COPY.
+     * @param parallelism number of worker threads persisting the streamed products (0 for the number of processors).
+     * @param delta whether only the difference between the seeding data and the persisted data is applied.
+     * @param resumable whether the seeding can be resumed from the checkpoints of the seeding data files.
+     * @param background whether the seeding runs in the background, into the shadow tables.
+     */
+    public SeedingWriterFactory(AccountService accountService,
+                                BookService bookService,
+                                ProductService productService,
+                                ObjectProvider<DataSource> dataSource,
+                                ObjectProvider<PlatformTransactionManager> transactionManager,
+                                @Value("${market.seeding.streaming:false}") boolean streaming,
+                                @Value("${market.seeding.chunk-size:10000}") int chunkSize,
+                                @Value("${market.seeding.bulk-load:false}") boolean bulkLoad,
+                                @Value("${market.seeding.parallelism:1}") int parallelism,
+                                @Value("${market.seeding.delta:false}") boolean delta,
+                                @Value("${market.seeding.resumable:false}") boolean resumable,
+                                @Value("${market.seeding.background:false}") boolean background) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Seeding chunk size must be positive");
+        }
+
+        if (parallelism < 0) {
+            throw new IllegalArgumentException("Seeding parallelism cannot be negative");
+        }
+
+        int workerCount = parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism;
+
+        // Every streaming seeding mode has its own writer, so the modes cannot be combined.
+        if (bulkLoad && workerCount > 1) {
+            throw new IllegalArgumentException("Seeding data bulk load cannot be combined with seeding parallelism");
+        }
+
+        if (delta && (bulkLoad || workerCount > 1)) {
+            throw new IllegalArgumentException("Delta seeding cannot be combined with bulk load or parallelism");
+        }
+
+        if (background && (delta || workerCount > 1)) {
+            throw new IllegalArgumentException("Background seeding cannot be combined with delta or parallelism");
+        }
+
+        if (resumable && (bulkLoad || workerCount > 1 || delta || background)) {
+            throw new IllegalArgumentException("Resumable seeding requires the single-threaded chunked streaming mode");
+        }
+
+        this.accountService = accountService;
+        this.bookService = bookService;
+        this.productService = productService;
+        this.dataSource = dataSource;
+        this.transactionManager = transactionManager;
+        this.streaming = streaming;
+        this.chunkSize = chunkSize;
+        this.bulkLoad = bulkLoad;
+        this.parallelism = workerCount;
+        this.delta = delta;
+        this.resumable = resumable;
+        this.background = background;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Checks if the seeding data files are streamed.
+     *
+     * @return true if any of the streaming seeding modes is enabled.
+     */
+    public boolean isStreamed() {
+        return streaming || bulkLoad || parallelism > 1 || delta || resumable || background;
+    }
+
+    /**
+     * Checks if only the difference between the seeding data and the persisted data is applied.
+     *
+     * @return true if the delta seeding is enabled.
+     */
+    public boolean isDelta() {
+        return delta;
+    }
+
+    /**
+     * Checks if the seeding can be resumed from the checkpoints of the seeding data files.
+     *
+     * @return true if the resumable seeding is enabled.
+     */
+    public boolean isResumable() {
+        return resumable;
+    }
+
+    /**
+     * Checks if the seeding runs in the background, into the shadow tables.
+     *
+     * @return true if the background seeding is enabled.
+     */
+    public boolean isBackground() {
+        return background;
+    }
+
+    /**
+     * Creates the writer persisting the streamed seeding data.
+     *
+     * @return shadow table writer, if the background seeding is enabled, delta writer, if the delta seeding
+     *   is enabled, bulk-loading writer, if the bulk load is enabled, parallel writer, if multiple worker threads
+     *   are configured, chunked writer otherwise.
+     * @throws IllegalStateException if the writer requires a database and there's none.
+     */
+    public SeedingWriter createWriter() {
+        if (background) {
+            DataSource shadowDataSource = dataSource.getIfAvailable();
+
+            if (shadowDataSource == null) {
+                throw new IllegalStateException("Background seeding requires a database");
+            }
+
+            logger.info("Bulk-loading seeding data into the shadow tables");
+            return new ShadowSeedingWriter(shadowDataSource,
+                    new ShadowTables(shadowDataSource, createSeedingTransactions()));
+        }
+
+        if (delta) {
+            logger.info("Seeding the difference between the seeding data and the persisted data");
+            return new DeltaSeedingWriter(accountService, bookService, productService,
+                    createSeedingTransactions(), chunkSize);
+        }
+
+        if (parallelism > 1) {
+            logger.info("Streaming seeding data in chunks of {} products with {} workers", chunkSize, parallelism);
+            return new ParallelSeedingWriter(accountService, bookService, productService,
+                    createSeedingTransactions(), chunkSize, parallelism);
+        }
+
+        if (!bulkLoad) {
+            logger.info("Streaming seeding data in chunks of {} products", chunkSize);
+            return new ChunkedSeedingWriter(accountService, bookService, productService, chunkSize);
+        }
+
+        DataSource bulkLoadDataSource = dataSource.getIfAvailable();
+
+        if (bulkLoadDataSource == null) {
+            throw new IllegalStateException("Seeding data bulk load requires a database");
+        }
+
+        logger.info("Bulk-loading seeding data");
+        return new CopySeedingWriter(bulkLoadDataSource, accountService);
+    }
+
+    /**
+     * Creates the writer of a resumable seeding, persisting every chunk in its own transaction
+     *   along with the checkpoint of the seeding data file.
+     *
+     * @param resumedCount number of products persisted before the seeding was resumed.
+     * @param chunkListener listener called with the number of persisted products in the transaction of every chunk.
+     * @return chunked writer.
+     */
+    public ChunkedSeedingWriter createResumableWriter(long resumedCount, LongConsumer chunkListener) {
+        logger.info("Streaming seeding data in checkpointed chunks of {} products", chunkSize);
+
+        return new ChunkedSeedingWriter(accountService, bookService, productService,
+                createSeedingTransactions(), chunkSize, resumedCount, chunkListener);
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Creates the operations running every chunk persisted by the worker threads or the delta seeding
+     *   in its own transaction.
+     *
+     * @return transaction template, or operations without a transaction if there's no transaction manager.
+     */
+    private TransactionOperations createSeedingTransactions() {
+        PlatformTransactionManager chunkTransactionManager = transactionManager.getIfAvailable();
+
+        if (chunkTransactionManager == null) {
+            return TransactionOperations.withoutTransaction();
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(chunkTransactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        return transactionTemplate;
+    }
+}
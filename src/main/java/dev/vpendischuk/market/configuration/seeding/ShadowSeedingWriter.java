@@ -0,0 +1,116 @@
+package dev.vpendischuk.market.configuration.seeding;
+
+import dev.vpendischuk.market.configuration.model.ConfigurationAccountModel;
+import dev.vpendischuk.market.configuration.model.ConfigurationBookModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+
+/**
+ * {@link SeedingWriter} that bulk-loads the seeding data into the {@link ShadowTables}
+ *   and swaps them with the live tables when the seeding is finished.
+ * <p>
+ * The books and products are loaded by a {@link CopySeedingWriter}, so the live tables are not changed
+ *   until the swap and can be read in the meantime. The account is kept until the swap, which inserts it.
+ *   If the seeding fails, the shadow tables are dropped and the live tables are left as they are.
+ */
+public class ShadowSeedingWriter implements SeedingWriter {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link ShadowSeedingWriter} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(ShadowSeedingWriter.class);
+
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * Shadow tables the data is loaded into.
+     */
+    private final ShadowTables shadowTables;
+
+    /**
+     * Writer bulk-loading the books and products into the shadow tables.
+     */
+    private final CopySeedingWriter copyWriter;
+
+    /**
+     * Balance of the seeded account, or null if the account is not received.
+     */
+    private Integer money;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link ShadowSeedingWriter} instance, creating the shadow tables.
+     *
+     * @param dataSource data source of a PostgreSQL database.
+     * @param shadowTables shadow tables the data is loaded into.
+     */
+    public ShadowSeedingWriter(DataSource dataSource, ShadowTables shadowTables) {
+        this.shadowTables = shadowTables;
+        // The account is not passed to the COPY writer, so it needs no account service.
+        this.copyWriter = new CopySeedingWriter(dataSource, null, ShadowTables.SUFFIX);
+
+        shadowTables.create();
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    // account() method override.
+    // Keeps the account until the swap.
+    @Override
+    public void account(ConfigurationAccountModel account) {
+        money = account.getMoney();
+    }
+
+    // book() method override.
+    @Override
+    public void book(ConfigurationBookModel book) {
+        copyWriter.book(book);
+    }
+
+    // finish() method override.
+    // Loads the shadow tables, builds their indexes and swaps them with the live tables.
+    @Override
+    public long finish() {
+        long productCount;
+
+        try {
+            productCount = copyWriter.finish();
+            shadowTables.index();
+            shadowTables.swap(money);
+        } catch (RuntimeException ex) {
+            dropShadowTables();
+            throw ex;
+        }
+
+        logger.info("Promoted {} seeded products to the live tables", productCount);
+
+        return productCount;
+    }
+
+    // abort() method override.
+    // Drops the shadow tables, the live tables are left as they are.
+    @Override
+    public long abort() {
+        copyWriter.abort();
+        dropShadowTables();
+
+        return 0;
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Drops the shadow tables, logging a failure (the tables are replaced by the next seeding anyway).
+     */
+    private void dropShadowTables() {
+        try {
+            shadowTables.drop();
+        } catch (RuntimeException ex) {
+            logger.warn("Could not drop the seeding shadow tables", ex);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package dev.vpendischuk.market.configuration.seeding;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Shadow copies of the catalog tables (<b>books</b>, <b>products</b> and <b>catalog_view</b>) a new data set
+ *   is loaded into while the application serves the previous one.
+ * <p>
+ * The shadow tables are created without indexes and constraints, which are built after the load,
+ *   from the definitions of the live tables. The swap replaces the live tables with the shadow tables
+ *   in a single transaction: the tables referencing the books (purchased books, archived products)
+ *   and the accounts are cleared, as they refer to the previous data set, and the new account is inserted.
+ *   The renamed shadow tables, indexes and constraints get the names of the live ones.
+ * <p>
+ * PostgreSQL only.
+ */
+public class ShadowTables {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link ShadowTables} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(ShadowTables.class);
+
+    /**
+     * Suffix of the names of the shadow tables, indexes and constraints.
+     */
+    public static final String SUFFIX = "_shadow";
+
+    /**
+     * Shadowed tables, referenced tables first.
+     */
+    private static final List<String> TABLES = List.of("books", "products", "catalog_view");
+
+    /**
+     * Query of the primary key, unique and foreign key constraints of a table, foreign keys last.
+     */
+    private static final String CONSTRAINTS_SQL = "SELECT conname, pg_get_constraintdef(oid) AS definition " +
+            "FROM pg_constraint WHERE conrelid = ?::regclass AND contype IN ('p', 'u', 'f') " +
+            "ORDER BY contype = 'f', conname";
+
+    /**
+     * Query of the indexes of a table that don't back a constraint.
+     */
+    private static final String INDEXES_SQL = "SELECT i.relname, pg_get_indexdef(i.oid) AS definition " +
+            "FROM pg_index x JOIN pg_class i ON i.oid = x.indexrelid WHERE x.indrelid = ?::regclass " +
+            "AND NOT EXISTS (SELECT 1 FROM pg_constraint c WHERE c.conindid = x.indexrelid " +
+            "AND c.conrelid = x.indrelid AND c.contype IN ('p', 'u', 'x')) ORDER BY i.relname";
+
+    /**
+     * Query of the foreign keys of the other tables referencing the shadowed tables.
+     *   Constraints inherited by the partitions are excluded.
+     */
+    private static final String REFERENCING_CONSTRAINTS_SQL = "SELECT conrelid::regclass::text AS table_name, " +
+            "conname, pg_get_constraintdef(oid) AS definition FROM pg_constraint " +
+            "WHERE contype = 'f' AND conparentid = 0 AND confrelid::regclass::text IN (" + quoted(TABLES) + ") " +
+            "AND conrelid::regclass::text NOT IN (" + quoted(TABLES) + ") ORDER BY table_name, conname";
+
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * JDBC template running the statements.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Operations running the swap in a single transaction.
+     */
+    private final TransactionOperations transactions;
+
+    /**
+     * Names of the constraints built on the shadow tables, mapped by the shadowed table names.
+     */
+    private final Map<String, List<String>> constraints = new LinkedHashMap<>();
+
+    /**
+     * Names of the indexes built on the shadow tables.
+     */
+    private final List<String> indexes = new ArrayList<>();
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link ShadowTables} instance.
+     *
+     * @param dataSource data source of the PostgreSQL database.
+     * @param transactions operations running the swap in a single transaction.
+     */
+    public ShadowTables(DataSource dataSource, TransactionOperations transactions) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactions = transactions;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Creates empty shadow tables without indexes and constraints (except for the NOT NULL and check constraints),
+     *   replacing the shadow tables left by an interrupted seeding.
+     */
+    public void create() {
+        drop();
+
+        for (String table : TABLES) {
+            jdbcTemplate.execute("CREATE TABLE " + table + SUFFIX + " (LIKE " + table
+                    + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING STORAGE)");
+        }
+    }
+
+    /**
+     * Builds the constraints and indexes of the live tables on the loaded shadow tables,
+     *   foreign keys referring to the shadow tables.
+     */
+    public void index() {
+        long startTime = System.nanoTime();
+
+        for (String table : TABLES) {
+            List<String> tableConstraints = new ArrayList<>();
+
+            for (Map<String, Object> constraint : jdbcTemplate.queryForList(CONSTRAINTS_SQL, table)) {
+                String name = (String) constraint.get("conname");
+                String definition = shadowReferences((String) constraint.get("definition"));
+
+                jdbcTemplate.execute("ALTER TABLE " + table + SUFFIX + " ADD CONSTRAINT " + name + SUFFIX
+                        + " " + definition);
+                tableConstraints.add(name);
+            }
+
+            for (Map<String, Object> index : jdbcTemplate.queryForList(INDEXES_SQL, table)) {
+                String name = (String) index.get("relname");
+
+                jdbcTemplate.execute(shadowIndex((String) index.get("definition"), name, table));
+                indexes.add(name);
+            }
+
+            constraints.put(table, tableConstraints);
+        }
+
+        logger.info("Built the shadow table indexes in {} ms", (System.nanoTime() - startTime) / 1_000_000);
+    }
+
+    /**
+     * Replaces the live tables with the shadow tables in a single transaction, clearing the tables
+     *   referencing the replaced books and the accounts.
+     *
+     * @param money balance of the new account, or null if no account is inserted.
+     */
+    public void swap(Integer money) {
+        long startTime = System.nanoTime();
+
+        transactions.executeWithoutResult(status -> {
+            List<Map<String, Object>> references = jdbcTemplate.queryForList(REFERENCING_CONSTRAINTS_SQL);
+            List<String> referencingTables = new ArrayList<>();
+
+            for (Map<String, Object> reference : references) {
+                String table = (String) reference.get("table_name");
+
+                jdbcTemplate.execute("ALTER TABLE " + table + " DROP CONSTRAINT " + reference.get("conname"));
+
+                if (!referencingTables.contains(table)) {
+                    referencingTables.add(table);
+                }
+            }
+
+            // The referencing rows refer to the previous data set.
+            referencingTables.add("accounts");
+            jdbcTemplate.execute("TRUNCATE TABLE " + String.join(", ", referencingTables)
+                    + " RESTART IDENTITY CASCADE");
+
+            jdbcTemplate.execute("DROP TABLE " + String.join(", ", TABLES));
+
+            for (String table : TABLES) {
+                jdbcTemplate.execute("ALTER TABLE " + table + SUFFIX + " RENAME TO " + table);
+
+                for (String constraint : constraints.getOrDefault(table, List.of())) {
+                    jdbcTemplate.execute("ALTER TABLE " + table + " RENAME CONSTRAINT " + constraint + SUFFIX
+                            + " TO " + constraint);
+                }
+            }
+
+            for (String index : indexes) {
+                jdbcTemplate.execute("ALTER INDEX " + index + SUFFIX + " RENAME TO " + index);
+            }
+
+            for (Map<String, Object> reference : references) {
+                jdbcTemplate.execute("ALTER TABLE " + reference.get("table_name") + " ADD CONSTRAINT "
+                        + reference.get("conname") + " " + reference.get("definition"));
+            }
+
+            if (money != null) {
+                jdbcTemplate.update("INSERT INTO accounts (price) VALUES (?)", money);
+            }
+        });
+
+        logger.info("Swapped the shadow tables in {} ms", (System.nanoTime() - startTime) / 1_000_000);
+
+        // Refreshing the planner statistics of the new tables.
+        jdbcTemplate.execute("ANALYZE " + String.join(", ", TABLES));
+    }
+
+    /**
+     * Drops the shadow tables, if they exist.
+     */
+    public void drop() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + String.join(", ", TABLES.stream()
+                .map(table -> table + SUFFIX).toList()));
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Lists the specified names as SQL string literals.
+     *
+     * @param names the names.
+     * @return comma-separated literals.
+     */
+    private static String quoted(List<String> names) {
+        return String.join(", ", names.stream().map(name -> "'" + name + "'").toList());
+    }
+
+    /**
+     * Points the references of a constraint definition to the shadowed tables to the shadow tables.
+     *
+     * @param definition constraint definition.
+     * @return definition referring to the shadow tables.
+     */
+    private String shadowReferences(String definition) {
+        for (String table : TABLES) {
+            definition = definition.replaceAll("REFERENCES ((?:\\S+\\.)?)" + table + "\\(",
+                    "REFERENCES $1" + table + SUFFIX + "(");
+        }
+
+        return definition;
+    }
+
+    /**
+     * Converts an index definition of a live table to the definition of the same index of the shadow table.
+     *
+     * @param definition index definition.
+     * @param name index name.
+     * @param table live table name.
+     * @return shadow index definition.
+     */
+    private String shadowIndex(String definition, String name, String table) {
+        Matcher matcher = Pattern.compile("INDEX " + name + " ON ((?:ONLY )?(?:\\S+\\.)?)" + table + " ")
+                .matcher(definition);
+
+        if (!matcher.find()) {
+            throw new IllegalStateException("Unexpected index definition: " + definition);
+        }
+
+        return matcher.replaceFirst(Matcher.quoteReplacement("INDEX " + name + SUFFIX + " ON ")
+                + "$1" + Matcher.quoteReplacement(table + SUFFIX + " "));
+    }
+}
@@ -0,0 +1,67 @@
+package dev.vpendischuk.market.configuration.seeding;
+
+import dev.vpendischuk.market.configuration.model.ConfigurationAccountModel;
+import dev.vpendischuk.market.configuration.model.ConfigurationBookModel;
+
+/**
+ * {@link SeedingHandler} that passes the records to another handler, skipping the records
+ *   persisted before a seeding is resumed: the leading books and, optionally, the account.
+ */
+public class SkippingSeedingHandler implements SeedingHandler {
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * Handler the records are passed to.
+     */
+    private final SeedingHandler delegate;
+
+    /**
+     * Whether the account is skipped.
+     */
+    private final boolean skipAccount;
+
+    /**
+     * Number of books left to skip.
+     */
+    private long skippedBooks;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link SkippingSeedingHandler} instance.
+     *
+     * @param delegate handler the records are passed to.
+     * @param skippedBooks number of leading books skipped.
+     * @param skipAccount whether the account is skipped.
+     */
+    public SkippingSeedingHandler(SeedingHandler delegate, long skippedBooks, boolean skipAccount) {
+        if (skippedBooks < 0) {
+            throw new IllegalArgumentException("Number of skipped books cannot be negative");
+        }
+
+        this.delegate = delegate;
+        this.skippedBooks = skippedBooks;
+        this.skipAccount = skipAccount;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    // account() method override.
+    @Override
+    public void account(ConfigurationAccountModel account) {
+        if (!skipAccount) {
+            delegate.account(account);
+        }
+    }
+
+    // book() method override.
+    @Override
+    public void book(ConfigurationBookModel book) {
+        if (skippedBooks > 0) {
+            skippedBooks--;
+            return;
+        }
+
+        delegate.book(book);
+    }
+}
@@ -0,0 +1,347 @@
+package dev.vpendischuk.market.configuration.snapshot;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyInputStream;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Binary snapshot of the whole market state: the accounts, books, products, archived products
+ *   and account-book entries.
+ * <p>
+ * A snapshot is exported and restored with PostgreSQL <code>COPY</code> in the binary format, table by table,
+ *   so no entities are mapped and no seeding data is parsed. The export reads all tables in a single
+ *   repeatable-read transaction, so the snapshot is consistent. The restore replaces all data
+ *   in a single transaction, rebuilds the catalog read table and moves the ID sequences past the restored IDs.
+ * <p>
+ * Snapshot layout (GZIP-compressed):
+ * <pre>
+ * int     magic (MSNP)
+ * int     format version
+ * long    creation time (epoch milliseconds)
+ * int     number of tables
+ * tables: UTF table name, UTF column list, chunks of COPY data (int length, bytes), int 0
+ * </pre>
+ * Snapshots require a PostgreSQL database (they are not available in the in-memory storage mode).
+ */
+@Component
+public class MarketSnapshot {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link MarketSnapshot} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(MarketSnapshot.class);
+
+    /**
+     * Magic number of the snapshots ("MSNP").
+     */
+    private static final int MAGIC = 0x4D534E50;
+
+    /**
+     * Version of the snapshot format.
+     */
+    private static final int VERSION = 2;
+
+    /**
+     * Size of the COPY data chunks, in bytes.
+     */
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    /**
+     * Snapshot tables with their columns, referenced tables first.
+     */
+    private static final List<SnapshotTable> TABLES = List.of(
+            new SnapshotTable("accounts", "id, price"),
+            new SnapshotTable("books", "id, name, author"),
+            new SnapshotTable("products", "id, book_id, price, amount, sold_out_at"),
+            new SnapshotTable("products_archive", "id, book_id, price, sold_out_at, archived_at"),
+            new SnapshotTable("account_book", "id, amount, account_id, book_id")
+    );
+
+    /**
+     * Statement clearing the tables replaced by a restore.
+     */
+    private static final String TRUNCATE_SQL =
+            "TRUNCATE TABLE account_book, products_archive, catalog_view, products, books, accounts CASCADE";
+
+    /**
+     * Statement rebuilding the catalog read table from the restored products and books.
+     */
+    private static final String REBUILD_CATALOG_SQL = "INSERT INTO catalog_view " +
+            "(product_id, book_id, name, author, price, amount, version) " +
+            "SELECT p.id, b.id, b.name, b.author, p.price, p.amount, 1 " +
+            "FROM products p JOIN books b ON b.id = p.book_id";
+
+    /**
+     * Statements moving the ID sequences past the restored IDs (pooled sequences by a block of 50 IDs).
+     *   Archived products keep their IDs, so the product IDs are moved past them as well.
+     */
+    private static final List<String> RESET_SEQUENCES_SQL = List.of(
+            "SELECT setval(pg_get_serial_sequence('accounts', 'id'), COALESCE((SELECT MAX(id) FROM accounts), 0) + 1, "
+                    + "false)",
+            "SELECT setval('books_id_seq', COALESCE((SELECT MAX(id) FROM books), 0) + 50, false)",
+            "SELECT setval('products_id_seq', COALESCE(GREATEST((SELECT MAX(id) FROM products), "
+                    + "(SELECT MAX(id) FROM products_archive)), 0) + 50, false)",
+            "SELECT setval('account_book_id_seq', COALESCE((SELECT MAX(id) FROM account_book), 0) + 50, false)"
+    );
+
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * Provider of the data source of the PostgreSQL database.
+     */
+    private final ObjectProvider<DataSource> dataSource;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link MarketSnapshot} instance.
+     *
+     * @param dataSource provider of the data source of the PostgreSQL database.
+     */
+    public MarketSnapshot(ObjectProvider<DataSource> dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Checks if snapshots can be exported and restored.
+     *
+     * @return true if the application uses a database.
+     */
+    public boolean isAvailable() {
+        return dataSource.getIfAvailable() != null;
+    }
+
+    /**
+     * Writes a snapshot of the market state to the specified stream.
+     *
+     * @param outputStream stream the snapshot is written to (not closed).
+     * @throws IOException if the snapshot could not be written.
+     * @throws SQLException if the data could not be read.
+     */
+    public void export(OutputStream outputStream) throws IOException, SQLException {
+        long startTime = System.nanoTime();
+
+        try (Connection connection = getDataSource().getConnection()) {
+            connection.setAutoCommit(false);
+            connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            connection.setReadOnly(true);
+
+            try {
+                GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream, CHUNK_SIZE);
+                DataOutputStream output = new DataOutputStream(gzipStream);
+                byte[] buffer = new byte[CHUNK_SIZE];
+
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                output.writeLong(System.currentTimeMillis());
+                output.writeInt(TABLES.size());
+
+                for (SnapshotTable table : TABLES) {
+                    output.writeUTF(table.name);
+                    output.writeUTF(table.columns);
+
+                    PGCopyInputStream copyStream = new PGCopyInputStream(connection.unwrap(PGConnection.class),
+                            "COPY " + table.name + " (" + table.columns + ") TO STDOUT (FORMAT binary)");
+                    int length;
+
+                    while ((length = copyStream.read(buffer)) != -1) {
+                        // A zero-length chunk would end the table.
+                        if (length == 0) {
+                            continue;
+                        }
+
+                        output.writeInt(length);
+                        output.write(buffer, 0, length);
+                    }
+
+                    output.writeInt(0);
+                    logger.debug("Exported {} rows of {}", copyStream.getHandledRowCount(), table.name);
+                }
+
+                output.flush();
+                gzipStream.finish();
+            } finally {
+                connection.rollback();
+            }
+        }
+
+        logger.info("Exported a market snapshot in {} ms", (System.nanoTime() - startTime) / 1_000_000);
+    }
+
+    /**
+     * Replaces the market state with the snapshot read from the specified stream, in a single transaction.
+     *
+     * @param inputStream stream the snapshot is read from (not closed).
+     * @throws IOException if the snapshot could not be read or it's not a valid snapshot.
+     * @throws SQLException if the data could not be restored.
+     */
+    public void restore(InputStream inputStream) throws IOException, SQLException {
+        long startTime = System.nanoTime();
+        DataInputStream input = new DataInputStream(new GZIPInputStream(inputStream, CHUNK_SIZE));
+
+        if (input.readInt() != MAGIC) {
+            throw new IOException("Not a market snapshot");
+        }
+
+        int version = input.readInt();
+
+        if (version != VERSION) {
+            throw new IOException("Unsupported market snapshot format version " + version);
+        }
+
+        long createdAt = input.readLong();
+
+        if (input.readInt() != TABLES.size()) {
+            throw new IOException("Market snapshot tables don't match the schema");
+        }
+
+        try (Connection connection = getDataSource().getConnection()) {
+            connection.setAutoCommit(false);
+
+            try {
+                execute(connection, TRUNCATE_SQL);
+
+                for (SnapshotTable table : TABLES) {
+                    if (!table.name.equals(input.readUTF()) || !table.columns.equals(input.readUTF())) {
+                        throw new IOException("Market snapshot tables don't match the schema");
+                    }
+
+                    logger.debug("Restored {} rows of {}", copyIn(connection, table, input), table.name);
+                }
+
+                execute(connection, REBUILD_CATALOG_SQL);
+
+                for (String sql : RESET_SEQUENCES_SQL) {
+                    execute(connection, sql);
+                }
+
+                connection.commit();
+            } catch (IOException | SQLException | RuntimeException ex) {
+                connection.rollback();
+                throw ex;
+            }
+        }
+
+        logger.info("Restored a market snapshot taken at {} in {} ms", Instant.ofEpochMilli(createdAt),
+                (System.nanoTime() - startTime) / 1_000_000);
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Retrieves the data source of the snapshots.
+     *
+     * @return the data source.
+     */
+    private DataSource getDataSource() {
+        DataSource snapshotDataSource = dataSource.getIfAvailable();
+
+        if (snapshotDataSource == null) {
+            throw new IllegalStateException("Market snapshots require a database");
+        }
+
+        return snapshotDataSource;
+    }
+
+    /**
+     * Streams the COPY data chunks of a table from the snapshot into the table.
+     *
+     * @param connection connection of the restore.
+     * @param table restored table.
+     * @param input snapshot stream.
+     * @return number of restored rows.
+     * @throws IOException if the snapshot could not be read.
+     * @throws SQLException if the rows could not be restored.
+     */
+    private long copyIn(Connection connection, SnapshotTable table, DataInputStream input)
+            throws IOException, SQLException {
+        PGCopyOutputStream copyStream = new PGCopyOutputStream(connection.unwrap(PGConnection.class),
+                "COPY " + table.name + " (" + table.columns + ") FROM STDIN (FORMAT binary)", CHUNK_SIZE);
+        byte[] buffer = new byte[CHUNK_SIZE];
+
+        try {
+            int length;
+
+            while ((length = input.readInt()) != 0) {
+                if (length < 0) {
+                    throw new IOException("Market snapshot is corrupted");
+                }
+
+                if (length > buffer.length) {
+                    buffer = new byte[length];
+                }
+
+                input.readFully(buffer, 0, length);
+                copyStream.write(buffer, 0, length);
+            }
+
+            return copyStream.endCopy();
+        } finally {
+            if (copyStream.isActive()) {
+                copyStream.cancelCopy();
+            }
+        }
+    }
+
+    /**
+     * Executes the specified statement.
+     *
+     * @param connection connection of the restore.
+     * @param sql the statement.
+     * @throws SQLException if the statement failed.
+     */
+    private void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    /* --------------------------- Nested classes -------------------------- */
+
+    /**
+     * Table of a snapshot.
+     */
+    private static final class SnapshotTable {
+        /**
+         * Table name.
+         */
+        private final String name;
+
+        /**
+         * Comma-separated list of the snapshot columns.
+         */
+        private final String columns;
+
+        /**
+         * Initializes a new {@link SnapshotTable} instance.
+         *
+         * @param name table name.
+         * @param columns comma-separated list of the snapshot columns.
+         */
+        private SnapshotTable(String name, String columns) {
+            this.name = name;
+            this.columns = columns;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package dev.vpendischuk.market.configuration.startup;
+
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flame-style breakdown of the startup steps recorded by the {@link BufferingApplicationStartup} the application is started with
+ *   (bean instantiations, repository initializations, seeding phases, ...).
+ * <p>
+ * The recorded steps are arranged into a tree by their parent steps, every level sorted by duration,
+ *   the longest steps first, and can be rendered as folded stacks for a flame graph.
+ *   The timeline is not drained, so it can be retrieved any number of times.
+ */
+@Component
+public class StartupBreakdown {
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * Application startup recording the steps.
+     */
+    private final ApplicationStartup applicationStartup;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link StartupBreakdown} instance.
+     *
+     * @param applicationStartup application startup recording the steps.
+     */
+    public StartupBreakdown(ApplicationStartup applicationStartup) {
+        this.applicationStartup = applicationStartup;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Checks if the startup steps are recorded.
+     *
+     * @return true if the application is started with a buffering application startup.
+     */
+    public boolean isAvailable() {
+        return applicationStartup instanceof BufferingApplicationStartup;
+    }
+
+    /**
+     * Retrieves the recorded steps that have no recorded parent step, the longest ones first.
+     *
+     * @return the top-level steps with the steps recorded within them.
+     */
+    public List<StartupStepNode> getSteps() {
+        if (!isAvailable()) {
+            return List.of();
+        }
+
+        StartupTimeline timeline = ((BufferingApplicationStartup) applicationStartup).getBufferedTimeline();
+        Instant startTime = timeline.getStartTime();
+        Map<Long, StartupStepNode> nodes = new LinkedHashMap<>();
+        Map<Long, Long> parentIds = new LinkedHashMap<>();
+
+        for (TimelineEvent event : timeline.getEvents()) {
+            StartupStep step = event.getStartupStep();
+            Map<String, String> tags = new LinkedHashMap<>();
+
+            step.getTags().forEach(tag -> tags.put(tag.getKey(), tag.getValue()));
+            nodes.put(step.getId(), new StartupStepNode(step.getName(), tags,
+                    toMillis(Duration.between(startTime, event.getStartTime())), toMillis(event.getDuration())));
+
+            if (step.getParentId() != null) {
+                parentIds.put(step.getId(), step.getParentId());
+            }
+        }
+
+        List<StartupStepNode> roots = new ArrayList<>();
+
+        for (Map.Entry<Long, StartupStepNode> node : nodes.entrySet()) {
+            // Steps whose parents are still running or were not buffered are shown at the top level.
+            StartupStepNode parent = nodes.get(parentIds.get(node.getKey()));
+
+            if (parent == null) {
+                roots.add(node.getValue());
+            } else {
+                parent.addChild(node.getValue());
+            }
+        }
+
+        roots.sort(Comparator.comparingDouble(StartupStepNode::getDurationMillis).reversed());
+        roots.forEach(StartupStepNode::sort);
+
+        return roots;
+    }
+
+    /**
+     * Renders the recorded steps as folded stacks: one line per step with the frames of the step
+     *   and its parents separated by semicolons and the self time of the step in microseconds,
+     *   the longest self times first (the input format of the flame graph tools).
+     *
+     * @return the folded stacks.
+     */
+    public List<String> getFoldedStacks() {
+        List<FoldedStack> stacks = new ArrayList<>();
+
+        for (StartupStepNode root : getSteps()) {
+            fold(root, "", stacks);
+        }
+
+        stacks.sort(Comparator.comparingLong((FoldedStack stack) -> stack.micros).reversed());
+
+        return stacks.stream().map(stack -> stack.frames + " " + stack.micros).toList();
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Adds the folded stacks of a step and the steps recorded within it.
+     *
+     * @param node the step.
+     * @param prefix frames of the parent steps.
+     * @param stacks folded stacks the stacks are added to.
+     */
+    private void fold(StartupStepNode node, String prefix, List<FoldedStack> stacks) {
+        String frames = prefix.isEmpty() ? node.getLabel() : prefix + ";" + node.getLabel();
+
+        stacks.add(new FoldedStack(frames, Math.round(node.getSelfMillis() * 1000)));
+
+        for (StartupStepNode child : node.getChildren()) {
+            fold(child, frames, stacks);
+        }
+    }
+
+    /**
+     * Converts a duration to milliseconds, keeping the fraction of a millisecond.
+     *
+     * @param duration the duration.
+     * @return the duration in milliseconds.
+     */
+    private static double toMillis(Duration duration) {
+        return duration.toNanos() / 1e6;
+    }
+
+    /* --------------------------- Nested classes -------------------------- */
+
+    /**
+     * Folded stack of a step.
+     */
+    private static final class FoldedStack {
+        /**
+         * Frames of the step and its parents, separated by semicolons.
+         */
+        private final String frames;
+
+        /**
+         * Self time of the step, in microseconds.
+         */
+        private final long micros;
+
+        /**
+         * Initializes a new {@link FoldedStack} instance.
+         *
+         * @param frames frames of the step and its parents.
+         * @param micros self time of the step, in microseconds.
+         */
+        private FoldedStack(String frames, long micros) {
+            this.frames = frames;
+            this.micros = micros;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package dev.vpendischuk.market.configuration.startup;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A recorded startup step with the steps recorded within it, the longest ones first.
+ */
+@Getter
+public class StartupStepNode {
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * Step name (e.g. <code>spring.beans.instantiate</code>).
+     */
+    private final String name;
+
+    /**
+     * Step tags (e.g. the name of the instantiated bean).
+     */
+    private final Map<String, String> tags;
+
+    /**
+     * Start time of the step relative to the start of the timeline, in milliseconds.
+     */
+    private final double startMillis;
+
+    /**
+     * Step duration, in milliseconds.
+     */
+    private final double durationMillis;
+
+    /**
+     * Steps recorded within the step, the longest ones first.
+     */
+    private final List<StartupStepNode> children = new ArrayList<>();
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link StartupStepNode} instance.
+     *
+     * @param name step name.
+     * @param tags step tags.
+     * @param startMillis start time of the step relative to the start of the timeline, in milliseconds.
+     * @param durationMillis step duration, in milliseconds.
+     */
+    public StartupStepNode(String name, Map<String, String> tags, double startMillis, double durationMillis) {
+        this.name = name;
+        this.tags = tags;
+        this.startMillis = startMillis;
+        this.durationMillis = durationMillis;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Retrieves the time spent in the step itself, outside of the steps recorded within it.
+     *
+     * @return self time of the step, in milliseconds.
+     */
+    public double getSelfMillis() {
+        double childMillis = children.stream().mapToDouble(StartupStepNode::getDurationMillis).sum();
+
+        return Math.max(0, durationMillis - childMillis);
+    }
+
+    /**
+     * Retrieves the flame graph frame label of the step: its name and its first tag value, if any.
+     *
+     * @return the frame label.
+     */
+    public String getLabel() {
+        String label = tags.isEmpty() ? name : name + "[" + tags.values().iterator().next() + "]";
+
+        // Semicolons separate the frames of a folded stack.
+        return label.replace(';', ',');
+    }
+
+    /* ---------------------- Package-private methods ---------------------- */
+
+    /**
+     * Adds a step recorded within the step.
+     *
+     * @param child the recorded step.
+     */
+    void addChild(StartupStepNode child) {
+        children.add(child);
+    }
+
+    /**
+     * Sorts the steps recorded within the step and within them by duration, the longest ones first.
+     */
+    void sort() {
+        children.sort(Comparator.comparingDouble(StartupStepNode::getDurationMillis).reversed());
+        children.forEach(StartupStepNode::sort);
+    }
+}
@@ -1,6 +1,6 @@
 package dev.vpendischuk.market.controller;
 
-import dev.vpendischuk.market.domain.Account;
+import dev.vpendischuk.market.cache.model.AccountReadModel;
 import dev.vpendischuk.market.dto.request.AccountUpdateRequestDto;
 import dev.vpendischuk.market.dto.request.NewAccountRequestDto;
 import dev.vpendischuk.market.dto.response.AccountDto;
@@ -13,6 +13,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -24,6 +25,7 @@ import javax.validation.Valid;
  */
 @RestController
 @RequestMapping("/account")
+@Profile("!reactive")
 public class AccountController {
     /* ---------------------------- Static fields -------------------------- */
 
@@ -77,7 +79,7 @@ public class AccountController {
     })
     @GetMapping("")
     public ResponseEntity<AccountDto> getAccountInfo() {
-        Account account = accountService.getCurrentAccount();
+        AccountReadModel account = accountService.getCurrentAccountReadModel();
 
         // Account 1 not found in the database -> error code 500.
         if (account == null) {
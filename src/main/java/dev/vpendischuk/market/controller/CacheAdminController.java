@@ -0,0 +1,154 @@
+package dev.vpendischuk.market.controller;
+
+import dev.vpendischuk.market.cache.CacheRegistry;
+import dev.vpendischuk.market.cache.model.CacheStatistics;
+import dev.vpendischuk.market.dto.request.CacheResizeRequestDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+import java.util.List;
+
+/**
+ * REST API controller used to provide administrator access to the application's
+ *   in-memory caches (statistics, invalidation and resizing).
+ * <p>
+ * The controller is only registered if the <b>market.admin.enabled</b> property is set.
+ */
+@RestController
+@RequestMapping("/admin/caches")
+@ConditionalOnProperty(name = "market.admin.enabled", havingValue = "true")
+public class CacheAdminController {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link CacheAdminController} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(CacheAdminController.class);
+
+    /* -------------------------------- Fields ----------------------------- */
+
+    /**
+     * A {@link CacheRegistry} instance used to access the managed caches.
+     */
+    private final CacheRegistry cacheRegistry;
+
+    /* ----------------------------- Constructors -------------------------- */
+
+    /**
+     * Initializes a new {@link CacheAdminController} instance.
+     *
+     * @param cacheRegistry registry of the managed caches.
+     */
+    public CacheAdminController(CacheRegistry cacheRegistry) {
+        this.cacheRegistry = cacheRegistry;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Handles HTTP GET all caches' statistics retrieval request.
+     *
+     * @return statistics of all caches (HTTP code 200).
+     */
+    @Operation(summary = "Get statistics of all caches")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully fetched cache statistics",
+                    content = {
+                    @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = CacheStatistics.class)))
+            })
+    })
+    @GetMapping("")
+    public ResponseEntity<List<CacheStatistics>> all() {
+        return ResponseEntity.ok().body(cacheRegistry.getStatistics());
+    }
+
+    /**
+     * Handles HTTP GET cache statistics by cache name retrieval request.
+     *
+     * @param name cache name.
+     * @return cache statistics (HTTP code 200) or null if cache
+     *   with specified name does not exist (HTTP code 404).
+     */
+    @Operation(summary = "Get statistics of the cache with specified name")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully fetched cache statistics",
+                    content = {
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = CacheStatistics.class))
+            }),
+            @ApiResponse(responseCode = "404", description = "Server could not find cache with specified name",
+                    content = @Content)
+    })
+    @GetMapping("/{name}")
+    public ResponseEntity<CacheStatistics> getCache(@PathVariable String name) {
+        CacheStatistics statistics = cacheRegistry.getStatistics(name);
+
+        if (statistics == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok().body(statistics);
+    }
+
+    /**
+     * Handles HTTP DELETE cache entries by cache name request.
+     *
+     * @param name cache name.
+     * @return empty response (HTTP code 204) or error code 404 if cache
+     *   with specified name does not exist.
+     */
+    @Operation(summary = "Invalidate all entries of the cache with specified name")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Successfully invalidated the cache",
+                    content = @Content),
+            @ApiResponse(responseCode = "404", description = "Server could not find cache with specified name",
+                    content = @Content)
+    })
+    @DeleteMapping("/{name}")
+    public ResponseEntity<?> invalidateCache(@PathVariable String name) {
+        if (!cacheRegistry.invalidate(name)) {
+            logger.info("DELETE request for cache {} invalid - cache not found", name);
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Handles HTTP PATCH cache maximum size by cache name update request.
+     *
+     * @param name cache name.
+     * @param cacheResizeRequestDto DTO containing the new maximum cache size.
+     * @return updated cache statistics (HTTP code 200) or null if cache
+     *   with specified name does not exist (HTTP code 404).
+     */
+    @Operation(summary = "Resize the cache with specified name")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully resized the cache",
+                    content = {
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = CacheStatistics.class))
+            }),
+            @ApiResponse(responseCode = "404", description = "Server could not find cache with specified name",
+                    content = @Content)
+    })
+    @PatchMapping("/{name}")
+    public ResponseEntity<CacheStatistics> resizeCache(@PathVariable String name,
+                                                       @Valid @RequestBody CacheResizeRequestDto cacheResizeRequestDto) {
+        if (!cacheRegistry.resize(name, cacheResizeRequestDto.getMaximumSize())) {
+            logger.info("PATCH request for cache {} invalid - cache not found", name);
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok().body(cacheRegistry.getStatistics(name));
+    }
+}
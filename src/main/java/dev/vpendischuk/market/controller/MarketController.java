@@ -1,18 +1,18 @@
 package dev.vpendischuk.market.controller;
 
-import dev.vpendischuk.market.domain.Account;
+import dev.vpendischuk.market.cache.CatalogCache;
 import dev.vpendischuk.market.domain.Book;
 import dev.vpendischuk.market.domain.Product;
-import dev.vpendischuk.market.dto.assembler.MarketDtoAssembler;
+import dev.vpendischuk.market.domain.ProductAvailability;
 import dev.vpendischuk.market.dto.assembler.ProductDtoAssembler;
 import dev.vpendischuk.market.dto.request.NewProductRequestDto;
 import dev.vpendischuk.market.dto.request.ProductUpdateRequestDto;
 import dev.vpendischuk.market.dto.request.DealRequestDto;
 import dev.vpendischuk.market.dto.response.MarketDto;
 import dev.vpendischuk.market.dto.response.ProductDto;
-import dev.vpendischuk.market.service.AccountBookService;
-import dev.vpendischuk.market.service.AccountService;
 import dev.vpendischuk.market.service.BookService;
+import dev.vpendischuk.market.service.DealService;
+import dev.vpendischuk.market.service.DealValidator;
 import dev.vpendischuk.market.service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -21,18 +21,19 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
-import java.util.List;
 
 /**
  * REST API controller used to provide client access to market data (products data).
  */
 @RestController
 @RequestMapping("/market")
+@Profile("!reactive")
 public class MarketController {
     /* ---------------------------- Static fields -------------------------- */
 
@@ -43,12 +44,6 @@ public class MarketController {
 
     /* -------------------------------- Fields ----------------------------- */
 
-    /**
-     * An {@link AccountBookService} instance used to register book purchases
-     *   made by the user.
-     */
-    private final AccountBookService accountBookService;
-
     /**
      * A {@link ProductService} instance used to access the product repository.
      */
@@ -60,15 +55,15 @@ public class MarketController {
     private final BookService bookService;
 
     /**
-     * A {@link BookService} instance used to access user balance on book purchases.
+     * A {@link CatalogCache} instance used to serve market data
+     *   and product data retrieval requests.
      */
-    private final AccountService accountService;
+    private final CatalogCache catalogCache;
 
     /**
-     * A {@link MarketDtoAssembler} instance used to assemble {@link MarketDto}
-     *   response DTOs.
+     * A {@link DealService} instance used to perform book purchase deals.
      */
-    private final MarketDtoAssembler marketDtoAssembler;
+    private final DealService dealService;
 
     /**
      * A {@link ProductDtoAssembler} instance used to assemble {@link ProductDto}
@@ -81,24 +76,21 @@ public class MarketController {
     /**
      * Initializes a new {@link MarketController} instance.
      *
-     * @param accountBookService account book service used to register purchases.
      * @param productService product service used to access the product repository.
-     * @param accountService account service used to access user balance.
      * @param bookService book service used to access the book repository.
-     * @param marketDtoAssembler {@link MarketDto} object assembler.
+     * @param catalogCache catalog cache used to serve market data retrieval requests.
+     * @param dealService deal service used to perform book purchase deals.
      * @param productDtoAssembler {@link ProductDto} object assembler.
      */
-    public MarketController(AccountBookService accountBookService,
-                            ProductService productService,
-                            AccountService accountService,
+    public MarketController(ProductService productService,
                             BookService bookService,
-                            MarketDtoAssembler marketDtoAssembler,
+                            CatalogCache catalogCache,
+                            DealService dealService,
                             ProductDtoAssembler productDtoAssembler) {
-        this.accountBookService = accountBookService;
         this.productService = productService;
-        this.accountService = accountService;
         this.bookService = bookService;
-        this.marketDtoAssembler = marketDtoAssembler;
+        this.catalogCache = catalogCache;
+        this.dealService = dealService;
         this.productDtoAssembler = productDtoAssembler;
     }
 
@@ -106,7 +98,12 @@ public class MarketController {
 
     /**
      * Handles HTTP GET market data retrieval request.
+     * <p>
+     * Market data is served from the {@link CatalogCache}, and the response
+     *   carries the cache's <b>Cache-Control</b> policy. Only products in stock
+     *   are listed unless another availability is requested.
      *
+     * @param availability availability of the listed products.
      * @return market data (HTTP code 200).
      */
     @Operation(summary = "Get market data (list of products)")
@@ -117,9 +114,10 @@ public class MarketController {
             })
     })
     @GetMapping("")
-    public ResponseEntity<MarketDto> all() {
-        List<Product> products = productService.findAll();
-        return ResponseEntity.ok().body(marketDtoAssembler.toModel(products));
+    public ResponseEntity<MarketDto> all(@RequestParam(defaultValue = "IN_STOCK") ProductAvailability availability) {
+        return ResponseEntity.ok()
+                .cacheControl(catalogCache.getCacheControl())
+                .body(catalogCache.getMarket(availability));
     }
 
     /**
@@ -157,6 +155,9 @@ public class MarketController {
 
     /**
      * Handles HTTP GET product data by ID retrieval request.
+     * <p>
+     * Product data is served from the {@link CatalogCache}, and the response
+     *   carries the cache's <b>Cache-Control</b> policy.
      *
      * @param id product ID.
      * @return found product data (HTTP code 200) or null if product
@@ -173,13 +174,15 @@ public class MarketController {
     })
     @GetMapping("/{id}")
     public ResponseEntity<ProductDto> getProduct(@PathVariable Long id) {
-        Product product = productService.findById(id);
+        ProductDto product = catalogCache.getProduct(id);
 
         if (product == null) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
         }
 
-        return ResponseEntity.ok().body(productDtoAssembler.toModel(product));
+        return ResponseEntity.ok()
+                .cacheControl(catalogCache.getCacheControl())
+                .body(product);
     }
 
     /**
@@ -265,45 +268,28 @@ public class MarketController {
         long productId = dealRequestDto.getId();
         int productAmount = dealRequestDto.getAmount();
 
-        // Fetching account and product data.
-        Product targetProduct = productService.findById(dealRequestDto.getId());
-        Account currentAccount = accountService.getCurrentAccount();
-
-        // Product with specified ID not found -> error 400.
-        if (targetProduct == null) {
-            logger.info("Deal for Product ID {} rejected - product not found", productId);
-            return ResponseEntity.badRequest().body("ERROR: Product ID " + productId +
-                    " invalid - product not found");
-        }
-
-        // Account data could not be found -> error 500.
-        if (currentAccount == null) {
-            logger.info("Deal for Product ID {} rejected - current account unknown", productId);
-            return ResponseEntity.internalServerError().body("ERROR: Couldn't get account information");
-        }
-
-        // Not enough product with specified ID -> error 400.
-        if (targetProduct.getAmount() < productAmount) {
-            logger.info("Deal for Product ID {} rejected - not enough product", productId);
-            return ResponseEntity.badRequest().body("ERROR: Not enough product for Product ID " + productId);
-        }
-
-        int price = targetProduct.getPrice();
-
-        // Not enough money for the deal -> error 400.
-        if (price * productAmount > currentAccount.getBalance()) {
-            logger.info("Deal for Product ID {} rejected - not enough money", productId);
-            return ResponseEntity.badRequest().body("ERROR: Not enough money for Product ID " + productId);
+        DealValidator.Rejection rejection = dealService.performDeal(productId, productAmount);
+
+        if (rejection != null) {
+            logger.info("Deal for Product ID {} rejected - {}", productId, rejection);
+
+            switch (rejection) {
+                // Product with specified ID not found -> error 400.
+                case PRODUCT_NOT_FOUND:
+                    return ResponseEntity.badRequest().body("ERROR: Product ID " + productId +
+                            " invalid - product not found");
+                // Account data could not be found -> error 500.
+                case ACCOUNT_UNKNOWN:
+                    return ResponseEntity.internalServerError().body("ERROR: Couldn't get account information");
+                // Not enough product with specified ID -> error 400.
+                case NOT_ENOUGH_PRODUCT:
+                    return ResponseEntity.badRequest().body("ERROR: Not enough product for Product ID " + productId);
+                // Not enough money for the deal -> error 400.
+                default:
+                    return ResponseEntity.badRequest().body("ERROR: Not enough money for Product ID " + productId);
+            }
         }
 
-        long accountId = currentAccount.getId();
-        long bookId = targetProduct.getProductBook().getId();
-
-        // Registering purchase.
-        accountBookService.addOne(accountId, bookId, productAmount);
-        accountService.decreaseBalance(accountId, price * productAmount);
-        productService.decreaseAmount(productId, productAmount);
-
         return new ResponseEntity<>(HttpStatus.OK);
     }
 }
@@ -0,0 +1,105 @@
+package dev.vpendischuk.market.controller;
+
+import dev.vpendischuk.market.configuration.snapshot.MarketSnapshot;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * REST API controller used to provide administrator access to the binary snapshots
+ *   of the market state (see {@link MarketSnapshot}).
+ * <p>
+ * The controller is only registered if the <b>market.admin.enabled</b> property is set.
+ */
+@RestController
+@RequestMapping("/admin/snapshot")
+@Profile("!reactive")
+@ConditionalOnProperty(name = "market.admin.enabled", havingValue = "true")
+public class SnapshotAdminController {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link SnapshotAdminController} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotAdminController.class);
+
+    /**
+     * Format of the creation time in the snapshot file names.
+     */
+    private static final DateTimeFormatter FILE_NAME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    /* -------------------------------- Fields ----------------------------- */
+
+    /**
+     * A {@link MarketSnapshot} instance used to export the market state.
+     */
+    private final MarketSnapshot marketSnapshot;
+
+    /* ----------------------------- Constructors -------------------------- */
+
+    /**
+     * Initializes a new {@link SnapshotAdminController} instance.
+     *
+     * @param marketSnapshot snapshot exporter of the market state.
+     */
+    public SnapshotAdminController(MarketSnapshot marketSnapshot) {
+        this.marketSnapshot = marketSnapshot;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Handles HTTP GET market snapshot export request.
+     *
+     * @return binary snapshot streamed as an attachment (HTTP code 200) or error code 501
+     *   if the application doesn't use a database.
+     */
+    @Operation(summary = "Export a binary snapshot of the market state")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully exported the snapshot",
+                    content = @Content(mediaType = "application/octet-stream")),
+            @ApiResponse(responseCode = "501", description = "Snapshots are not supported by the storage",
+                    content = @Content)
+    })
+    @GetMapping("")
+    public ResponseEntity<StreamingResponseBody> export() {
+        if (!marketSnapshot.isAvailable()) {
+            logger.info("GET request for market snapshot invalid - snapshots require a database");
+            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
+        }
+
+        String fileName = "market-" + LocalDateTime.now().format(FILE_NAME_FORMATTER) + ".snapshot";
+        StreamingResponseBody body = outputStream -> {
+            try {
+                marketSnapshot.export(outputStream);
+            } catch (SQLException ex) {
+                throw new IOException("Could not export the market snapshot", ex);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,97 @@
+package dev.vpendischuk.market.controller;
+
+import dev.vpendischuk.market.configuration.startup.StartupBreakdown;
+import dev.vpendischuk.market.configuration.startup.StartupStepNode;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST API controller used to provide administrator access to the breakdown
+ *   of the recorded application startup steps (see {@link StartupBreakdown}).
+ * <p>
+ * The controller is only registered if the <b>market.admin.enabled</b> property is set.
+ */
+@RestController
+@RequestMapping("/admin/startup")
+@ConditionalOnProperty(name = "market.admin.enabled", havingValue = "true")
+public class StartupAdminController {
+    /* -------------------------------- Fields ----------------------------- */
+
+    /**
+     * A {@link StartupBreakdown} instance used to access the recorded startup steps.
+     */
+    private final StartupBreakdown startupBreakdown;
+
+    /* ----------------------------- Constructors -------------------------- */
+
+    /**
+     * Initializes a new {@link StartupAdminController} instance.
+     *
+     * @param startupBreakdown breakdown of the recorded startup steps.
+     */
+    public StartupAdminController(StartupBreakdown startupBreakdown) {
+        this.startupBreakdown = startupBreakdown;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Handles HTTP GET startup step tree retrieval request.
+     *
+     * @return top-level startup steps with the steps recorded within them, the longest ones first
+     *   (HTTP code 200), or error code 501 if the startup steps are not recorded.
+     */
+    @Operation(summary = "Get the tree of the recorded startup steps, the longest ones first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully fetched the startup steps",
+                    content = {
+                    @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = StartupStepNode.class)))
+            }),
+            @ApiResponse(responseCode = "501", description = "Startup steps are not recorded",
+                    content = @Content)
+    })
+    @GetMapping("")
+    public ResponseEntity<List<StartupStepNode>> steps() {
+        if (!startupBreakdown.isAvailable()) {
+            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
+        }
+
+        return ResponseEntity.ok().body(startupBreakdown.getSteps());
+    }
+
+    /**
+     * Handles HTTP GET startup folded stacks retrieval request.
+     *
+     * @return folded stacks of the recorded startup steps with their self times in microseconds,
+     *   the longest ones first (HTTP code 200), or error code 501 if the startup steps are not recorded.
+     */
+    @Operation(summary = "Get the recorded startup steps as folded stacks for a flame graph")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully fetched the folded stacks",
+                    content = @Content(mediaType = "text/plain")),
+            @ApiResponse(responseCode = "501", description = "Startup steps are not recorded",
+                    content = @Content)
+    })
+    @GetMapping(value = "/folded", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<String> foldedStacks() {
+        if (!startupBreakdown.isAvailable()) {
+            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
+        }
+
+        return ResponseEntity.ok().body(String.join("\n", startupBreakdown.getFoldedStacks()) + "\n");
+    }
+}
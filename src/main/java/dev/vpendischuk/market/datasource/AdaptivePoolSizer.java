@@ -0,0 +1,170 @@
+package dev.vpendischuk.market.datasource;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Controller that resizes a connection pool within bounds based on the measured connection acquire time.
+ * <p>
+ * The mean acquire time since the previous check is taken from the pool's <b>hikaricp.connections.acquire</b>
+ *   timer. If it reaches the target, the maximum pool size is increased by a step. If it's below a quarter
+ *   of the target while no thread is waiting and at least a step of connections is idle, the maximum pool size
+ *   is decreased by a step (surplus connections are closed as they become idle). The minimum idle count
+ *   is capped by the maximum pool size.
+ */
+public class AdaptivePoolSizer {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link AdaptivePoolSizer} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(AdaptivePoolSizer.class);
+
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * The resized connection pool.
+     */
+    private final HikariDataSource pool;
+
+    /**
+     * Meter registry the pool's metrics are published to.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Lower bound of the maximum pool size.
+     */
+    private final int minSize;
+
+    /**
+     * Upper bound of the maximum pool size.
+     */
+    private final int maxSize;
+
+    /**
+     * Number of connections the pool is resized by at once.
+     */
+    private final int step;
+
+    /**
+     * Target mean acquire time, in nanoseconds.
+     */
+    private final double targetAcquireNanos;
+
+    /**
+     * Number of acquisitions recorded by the acquire timer at the previous check.
+     */
+    private long lastCount;
+
+    /**
+     * Total acquire time recorded by the acquire timer at the previous check, in nanoseconds.
+     */
+    private double lastTotalNanos;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link AdaptivePoolSizer} instance.
+     *
+     * @param pool the resized connection pool.
+     * @param meterRegistry meter registry the pool's metrics are published to.
+     * @param minSize lower bound of the maximum pool size.
+     * @param maxSize upper bound of the maximum pool size.
+     * @param step number of connections the pool is resized by at once.
+     * @param targetAcquireTime target mean acquire time.
+     */
+    public AdaptivePoolSizer(HikariDataSource pool, MeterRegistry meterRegistry,
+                             int minSize, int maxSize, int step, Duration targetAcquireTime) {
+        if (minSize <= 0 || maxSize < minSize) {
+            throw new IllegalArgumentException("Pool size bounds must be positive and ordered");
+        }
+
+        if (step <= 0) {
+            throw new IllegalArgumentException("Pool resize step must be positive");
+        }
+
+        if (targetAcquireTime == null || targetAcquireTime.isNegative() || targetAcquireTime.isZero()) {
+            throw new IllegalArgumentException("Target acquire time must be a positive duration");
+        }
+
+        this.pool = pool;
+        this.meterRegistry = meterRegistry;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.step = step;
+        this.targetAcquireNanos = targetAcquireTime.toNanos();
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Resizes the pool based on the acquire time measured since the previous check.
+     */
+    @Scheduled(initialDelayString = "${market.datasource.pool.adaptive.interval:10000}",
+            fixedDelayString = "${market.datasource.pool.adaptive.interval:10000}")
+    public void adjust() {
+        HikariPoolMXBean poolStatistics = pool.getHikariPoolMXBean();
+        Timer acquireTimer = meterRegistry.find("hikaricp.connections.acquire")
+                .tag("pool", pool.getPoolName())
+                .timer();
+
+        // The pool is not started yet or its metrics are not published.
+        if (poolStatistics == null || acquireTimer == null) {
+            return;
+        }
+
+        long count = acquireTimer.count();
+        double totalNanos = acquireTimer.totalTime(TimeUnit.NANOSECONDS);
+        double meanAcquireNanos = count > lastCount ? (totalNanos - lastTotalNanos) / (count - lastCount) : 0;
+
+        lastCount = count;
+        lastTotalNanos = totalNanos;
+
+        HikariConfigMXBean poolConfig = pool.getHikariConfigMXBean();
+        int currentSize = poolConfig.getMaximumPoolSize();
+        int newSize = resize(currentSize, meanAcquireNanos,
+                poolStatistics.getThreadsAwaitingConnection(), poolStatistics.getIdleConnections());
+
+        if (newSize != currentSize) {
+            poolConfig.setMaximumPoolSize(newSize);
+
+            if (poolConfig.getMinimumIdle() > newSize) {
+                poolConfig.setMinimumIdle(newSize);
+            }
+
+            logger.info("Resized pool {} from {} to {} connections (mean acquire time {} ms)", pool.getPoolName(),
+                    currentSize, newSize, String.format("%.2f", meanAcquireNanos / 1e6));
+        }
+    }
+
+    /**
+     * Computes the new maximum pool size.
+     *
+     * @param currentSize current maximum pool size.
+     * @param meanAcquireNanos mean acquire time since the previous check, in nanoseconds.
+     * @param awaitingCount number of threads waiting for a connection.
+     * @param idleCount number of idle connections.
+     * @return new maximum pool size.
+     */
+    int resize(int currentSize, double meanAcquireNanos, int awaitingCount, int idleCount) {
+        int newSize = currentSize;
+
+        if (meanAcquireNanos >= targetAcquireNanos) {
+            newSize = currentSize + step;
+        } else if (meanAcquireNanos < targetAcquireNanos / 4 && awaitingCount == 0 && idleCount >= step) {
+            newSize = currentSize - step;
+        }
+
+        return Math.max(minSize, Math.min(maxSize, newSize));
+    }
+}
@@ -0,0 +1,58 @@
+package dev.vpendischuk.market.datasource;
+
+/**
+ * Holder of the endpoint the current thread's database connections are acquired for.
+ * <p>
+ * The endpoint is set for the duration of a request by the {@link ConnectionEndpointInterceptor}.
+ *   Connections acquired outside of requests (startup, scheduled jobs) are attributed to {@link #NONE}.
+ */
+public final class ConnectionEndpointContext {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * Endpoint name of the connections acquired outside of requests.
+     */
+    public static final String NONE = "none";
+
+    /**
+     * Endpoint of the current thread.
+     */
+    private static final ThreadLocal<String> endpoint = new ThreadLocal<>();
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    private ConnectionEndpointContext() {
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Retrieves the endpoint of the current thread.
+     *
+     * @return endpoint name (<code>Controller.method</code>) or {@link #NONE}, if no endpoint is set.
+     */
+    public static String getEndpoint() {
+        String currentEndpoint = endpoint.get();
+        return currentEndpoint != null ? currentEndpoint : NONE;
+    }
+
+    /**
+     * Sets the endpoint of the current thread.
+     *
+     * @param name endpoint name.
+     */
+    public static void setEndpoint(String name) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("Endpoint name cannot be empty");
+        }
+
+        endpoint.set(name);
+    }
+
+    /**
+     * Removes the current thread's endpoint.
+     */
+    public static void clear() {
+        endpoint.remove();
+    }
+}
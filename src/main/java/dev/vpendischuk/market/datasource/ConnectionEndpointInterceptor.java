@@ -0,0 +1,35 @@
+package dev.vpendischuk.market.datasource;
+
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Handler interceptor that sets the {@link ConnectionEndpointContext} of requests
+ *   to the controller method handling them.
+ */
+public class ConnectionEndpointInterceptor implements HandlerInterceptor {
+    /* -------------------------- Public methods -------------------------- */
+
+    // preHandle() method override.
+    // Attributes the request's connections to the handler method (Controller.method).
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            ConnectionEndpointContext.setEndpoint(handlerMethod.getBeanType().getSimpleName() + "." +
+                    handlerMethod.getMethod().getName());
+        }
+
+        return true;
+    }
+
+    // afterCompletion() method override.
+    // Clears the endpoint, as request threads are pooled.
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        ConnectionEndpointContext.clear();
+    }
+}
@@ -0,0 +1,198 @@
+package dev.vpendischuk.market.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Detector of database connections held for longer than a threshold.
+ * <p>
+ * Every connection handed out by the {@link InstrumentedDataSource} is registered as a lease
+ *   of the endpoint it was acquired for. Leases are checked periodically, and a lease held for longer
+ *   than the threshold is reported once - logged together with its endpoint and thread and counted
+ *   by the <b>market.datasource.connection.leaks</b> counter (the <b>endpoint</b> tag is the controller method).
+ *   A zero threshold disables the detection.
+ */
+public class ConnectionLeakDetector {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link ConnectionLeakDetector} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionLeakDetector.class);
+
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * Time a connection may be held for before it's reported as leaked, in nanoseconds.
+     */
+    private final long thresholdNanos;
+
+    /**
+     * Meter registry the detected leaks are published to.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Leases of the connections currently held.
+     */
+    private final Set<Lease> leases = ConcurrentHashMap.newKeySet();
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link ConnectionLeakDetector} instance.
+     *
+     * @param threshold time a connection may be held for before it's reported as leaked (zero to disable).
+     * @param meterRegistry meter registry the detected leaks are published to.
+     */
+    public ConnectionLeakDetector(Duration threshold, MeterRegistry meterRegistry) {
+        if (threshold == null || threshold.isNegative()) {
+            throw new IllegalArgumentException("Leak detection threshold must be a non-negative duration");
+        }
+
+        this.thresholdNanos = threshold.toNanos();
+        this.meterRegistry = meterRegistry;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Checks if the leak detection is enabled.
+     *
+     * @return true if the threshold is not zero, false otherwise.
+     */
+    public boolean isEnabled() {
+        return thresholdNanos > 0;
+    }
+
+    /**
+     * Registers a connection acquired by the current thread.
+     *
+     * @param endpoint endpoint the connection is acquired for.
+     * @param acquiredAt {@link System#nanoTime()} of the acquisition.
+     * @return the connection's lease or null, if the detection is disabled.
+     */
+    public Lease acquired(String endpoint, long acquiredAt) {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        Lease lease = new Lease(endpoint, Thread.currentThread().getName(), acquiredAt);
+        leases.add(lease);
+
+        return lease;
+    }
+
+    /**
+     * Removes the lease of a closed connection.
+     *
+     * @param lease the connection's lease (may be null).
+     * @param releasedAt {@link System#nanoTime()} of the release.
+     */
+    public void released(Lease lease, long releasedAt) {
+        if (lease == null || !leases.remove(lease)) {
+            return;
+        }
+
+        if (lease.reported) {
+            logger.info("Connection reported as leaked by {} (thread {}) returned after {} ms",
+                    lease.endpoint, lease.threadName, TimeUnit.NANOSECONDS.toMillis(releasedAt - lease.acquiredAt));
+        }
+    }
+
+    /**
+     * Retrieves the number of connections currently held.
+     *
+     * @return number of leases.
+     */
+    public int getLeaseCount() {
+        return leases.size();
+    }
+
+    /**
+     * Reports the connections held for longer than the threshold.
+     */
+    @Scheduled(fixedDelayString = "${market.datasource.leak-detection.check-interval:5000}")
+    public void detectLeaks() {
+        detectLeaks(System.nanoTime());
+    }
+
+    /**
+     * Reports the connections held for longer than the threshold at the specified time.
+     *
+     * @param now current {@link System#nanoTime()}.
+     * @return number of newly reported leaks.
+     */
+    int detectLeaks(long now) {
+        int reportedCount = 0;
+
+        for (Lease lease : leases) {
+            long heldNanos = now - lease.acquiredAt;
+
+            if (lease.reported || heldNanos < thresholdNanos) {
+                continue;
+            }
+
+            lease.reported = true;
+            reportedCount++;
+
+            logger.warn("Possible connection leak - connection acquired by {} (thread {}) held for {} ms",
+                    lease.endpoint, lease.threadName, TimeUnit.NANOSECONDS.toMillis(heldNanos));
+            Counter.builder("market.datasource.connection.leaks")
+                    .tag("endpoint", lease.endpoint)
+                    .description("Number of connections held for longer than the leak detection threshold")
+                    .register(meterRegistry)
+                    .increment();
+        }
+
+        return reportedCount;
+    }
+
+    /* --------------------------- Nested classes -------------------------- */
+
+    /**
+     * Lease of a held connection.
+     */
+    public static final class Lease {
+        /**
+         * Endpoint the connection was acquired for.
+         */
+        private final String endpoint;
+
+        /**
+         * Name of the thread that acquired the connection.
+         */
+        private final String threadName;
+
+        /**
+         * {@link System#nanoTime()} of the acquisition.
+         */
+        private final long acquiredAt;
+
+        /**
+         * Whether the connection was reported as leaked.
+         */
+        private volatile boolean reported;
+
+        /**
+         * Initializes a new {@link Lease} instance.
+         *
+         * @param endpoint endpoint the connection was acquired for.
+         * @param threadName name of the thread that acquired the connection.
+         * @param acquiredAt {@link System#nanoTime()} of the acquisition.
+         */
+        private Lease(String endpoint, String threadName, long acquiredAt) {
+            this.endpoint = endpoint;
+            this.threadName = threadName;
+            this.acquiredAt = acquiredAt;
+        }
+    }
+}
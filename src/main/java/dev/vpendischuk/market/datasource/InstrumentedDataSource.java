@@ -0,0 +1,225 @@
+package dev.vpendischuk.market.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Data source that measures how long connections are acquired and held for by every endpoint.
+ * <p>
+ * The time spent waiting for a connection and the time a connection is held until it's closed
+ *   are published as the <b>market.datasource.connection.acquire</b> and <b>market.datasource.connection.usage</b>
+ *   timers (the <b>endpoint</b> tag is the controller method, see {@link ConnectionEndpointContext}).
+ *   Held connections are tracked by the {@link ConnectionLeakDetector}.
+ */
+public class InstrumentedDataSource extends DelegatingDataSource implements AutoCloseable {
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * Meter registry the connection timers are published to.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Detector of the connections held for too long.
+     */
+    private final ConnectionLeakDetector leakDetector;
+
+    /**
+     * Connection acquisition timers mapped by the endpoint names.
+     */
+    private final Map<String, Timer> acquireTimers = new ConcurrentHashMap<>();
+
+    /**
+     * Connection usage timers mapped by the endpoint names.
+     */
+    private final Map<String, Timer> usageTimers = new ConcurrentHashMap<>();
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link InstrumentedDataSource} instance.
+     *
+     * @param targetDataSource the instrumented data source.
+     * @param meterRegistry meter registry the connection timers are published to.
+     * @param leakDetector detector of the connections held for too long.
+     */
+    public InstrumentedDataSource(DataSource targetDataSource,
+                                  MeterRegistry meterRegistry,
+                                  ConnectionLeakDetector leakDetector) {
+        super(targetDataSource);
+        this.meterRegistry = meterRegistry;
+        this.leakDetector = leakDetector;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    // getConnection() method override.
+    @Override
+    public Connection getConnection() throws SQLException {
+        String endpoint = ConnectionEndpointContext.getEndpoint();
+        long startTime = System.nanoTime();
+
+        return instrument(super.getConnection(), endpoint, startTime);
+    }
+
+    // getConnection() method override.
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        String endpoint = ConnectionEndpointContext.getEndpoint();
+        long startTime = System.nanoTime();
+
+        return instrument(super.getConnection(username, password), endpoint, startTime);
+    }
+
+    /**
+     * Closes the target data source, if it's closeable (the connection pool is closed
+     *   together with the application data source bean).
+     *
+     * @throws Exception if the target data source could not be closed.
+     */
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Records the acquisition of the specified connection and wraps it
+     *   to record its usage when it's closed.
+     *
+     * @param connection acquired connection.
+     * @param endpoint endpoint the connection was acquired for.
+     * @param startTime {@link System#nanoTime()} of the acquisition start.
+     * @return the wrapped connection.
+     */
+    private Connection instrument(Connection connection, String endpoint, long startTime) {
+        long acquiredAt = System.nanoTime();
+        timer(acquireTimers, "market.datasource.connection.acquire", endpoint,
+                "Time spent waiting for a database connection").record(acquiredAt - startTime, TimeUnit.NANOSECONDS);
+
+        ConnectionLeakDetector.Lease lease = leakDetector.acquired(endpoint, acquiredAt);
+
+        return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+                new Class<?>[] {ConnectionProxy.class},
+                new UsageRecordingHandler(connection, endpoint, acquiredAt, lease));
+    }
+
+    /**
+     * Retrieves the timer of the specified endpoint, registering it if needed.
+     *
+     * @param timers timers mapped by the endpoint names.
+     * @param name timer name.
+     * @param endpoint endpoint name.
+     * @param description timer description.
+     * @return the timer.
+     */
+    private Timer timer(Map<String, Timer> timers, String name, String endpoint, String description) {
+        return timers.computeIfAbsent(endpoint, key -> Timer.builder(name)
+                .tag("endpoint", key)
+                .description(description)
+                .register(meterRegistry));
+    }
+
+    /* --------------------------- Nested classes -------------------------- */
+
+    /**
+     * Invocation handler of the connection proxies, recording the connection usage when it's closed.
+     */
+    private class UsageRecordingHandler implements InvocationHandler {
+        /**
+         * Target connection.
+         */
+        private final Connection target;
+
+        /**
+         * Endpoint the connection was acquired for.
+         */
+        private final String endpoint;
+
+        /**
+         * {@link System#nanoTime()} of the acquisition.
+         */
+        private final long acquiredAt;
+
+        /**
+         * Lease of the connection (null if the leak detection is disabled).
+         */
+        private final ConnectionLeakDetector.Lease lease;
+
+        /**
+         * Whether the connection was closed.
+         */
+        private boolean closed;
+
+        /**
+         * Initializes a new {@link UsageRecordingHandler} instance.
+         *
+         * @param target target connection.
+         * @param endpoint endpoint the connection was acquired for.
+         * @param acquiredAt {@link System#nanoTime()} of the acquisition.
+         * @param lease lease of the connection.
+         */
+        UsageRecordingHandler(Connection target, String endpoint, long acquiredAt, ConnectionLeakDetector.Lease lease) {
+            this.target = target;
+            this.endpoint = endpoint;
+            this.acquiredAt = acquiredAt;
+            this.lease = lease;
+        }
+
+        // invoke() method override.
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getTargetConnection":
+                    return target;
+                case "close":
+                    release();
+                    break;
+                default:
+                    break;
+            }
+
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+        }
+
+        /**
+         * Records the connection usage on the first close.
+         */
+        private void release() {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+
+            long releasedAt = System.nanoTime();
+            timer(usageTimers, "market.datasource.connection.usage", endpoint,
+                    "Time a database connection is held for").record(releasedAt - acquiredAt, TimeUnit.NANOSECONDS);
+            leakDetector.released(lease, releasedAt);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package dev.vpendischuk.market.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Monitor of the replication lag of the replica databases, used to select
+ *   a replica that is recent enough to serve a read-only transaction.
+ * <p>
+ * The lag of every replica is checked periodically and published to the {@link MeterRegistry}
+ *   as the <b>market.datasource.replica.lag</b> gauge (the <b>replica</b> tag is the replica index).
+ *   A replica that cannot be reached or is not in recovery is considered unavailable.
+ */
+public class ReplicaLagMonitor {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link ReplicaLagMonitor} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    /**
+     * Lag of an unavailable replica.
+     */
+    static final long UNAVAILABLE = Long.MAX_VALUE;
+
+    /**
+     * Query that retrieves the replication lag of a replica in milliseconds.
+     * <p>
+     * A replica that has replayed all received WAL has no lag. Otherwise, the lag is the time
+     *   since the last replayed transaction was committed on the primary. The query returns null
+     *   if the database is not a replica.
+     */
+    private static final String LAG_QUERY = "SELECT CASE " +
+            "WHEN NOT pg_is_in_recovery() THEN NULL " +
+            "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE CAST(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 AS BIGINT) END";
+
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * Replica data sources.
+     */
+    private final List<DataSource> replicas;
+
+    /**
+     * Last measured replication lag of every replica, in milliseconds.
+     */
+    private final AtomicLongArray lagMillis;
+
+    /**
+     * Counter used to distribute transactions among the replicas.
+     */
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link ReplicaLagMonitor} instance.
+     * <p>
+     * All replicas are unavailable until their lag is checked for the first time.
+     *
+     * @param replicas replica data sources.
+     * @param meterRegistry meter registry the replication lag is published to.
+     */
+    public ReplicaLagMonitor(List<DataSource> replicas, MeterRegistry meterRegistry) {
+        if (replicas == null || replicas.isEmpty()) {
+            throw new IllegalArgumentException("At least one replica data source is required");
+        }
+
+        this.replicas = List.copyOf(replicas);
+        this.lagMillis = new AtomicLongArray(replicas.size());
+
+        for (int i = 0; i < replicas.size(); i++) {
+            int replica = i;
+
+            lagMillis.set(replica, UNAVAILABLE);
+            Gauge.builder("market.datasource.replica.lag", this,
+                            monitor -> monitor.lagMillis.get(replica) == UNAVAILABLE
+                                    ? Double.NaN : monitor.lagMillis.get(replica))
+                    .tag("replica", String.valueOf(replica))
+                    .description("Replication lag of the replica database")
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Retrieves the monitored replica data sources.
+     *
+     * @return replica data sources, in the order of their indexes.
+     */
+    public List<DataSource> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Retrieves the last measured replication lag of the specified replica.
+     *
+     * @param replica replica index.
+     * @return replication lag in milliseconds or {@link Long#MAX_VALUE}, if the replica is unavailable.
+     */
+    public long getLagMillis(int replica) {
+        return lagMillis.get(replica);
+    }
+
+    /**
+     * Selects a replica with a replication lag not exceeding the specified one.
+     * <p>
+     * Replicas are selected in a round-robin manner, so that the transactions
+     *   are distributed among all sufficiently recent replicas.
+     *
+     * @param maxLagMillis maximum replication lag in milliseconds.
+     * @return replica index or null, if no replica is recent enough.
+     */
+    public Integer selectReplica(long maxLagMillis) {
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+
+        for (int i = 0; i < replicas.size(); i++) {
+            int replica = (start + i) % replicas.size();
+
+            if (lagMillis.get(replica) <= maxLagMillis) {
+                return replica;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Checks the replication lag of all replicas.
+     */
+    @Scheduled(fixedDelayString = "${market.datasource.replicas.lag-check-interval:1000}")
+    public void checkLag() {
+        for (int i = 0; i < replicas.size(); i++) {
+            recordLag(i, measureLag(i));
+        }
+    }
+
+    /**
+     * Records the replication lag of the specified replica.
+     *
+     * @param replica replica index.
+     * @param lag replication lag in milliseconds or {@link #UNAVAILABLE}.
+     */
+    void recordLag(int replica, long lag) {
+        long previousLag = lagMillis.getAndSet(replica, lag);
+
+        if (previousLag == UNAVAILABLE && lag != UNAVAILABLE) {
+            logger.info("Replica {} is available", replica);
+        } else if (previousLag != UNAVAILABLE && lag == UNAVAILABLE) {
+            logger.warn("Replica {} is unavailable - routing its transactions to the primary", replica);
+        }
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Measures the replication lag of the specified replica.
+     *
+     * @param replica replica index.
+     * @return replication lag in milliseconds or {@link #UNAVAILABLE}.
+     */
+    private long measureLag(int replica) {
+        try (Connection connection = replicas.get(replica).getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+            resultSet.next();
+            long lag = resultSet.getLong(1);
+
+            if (resultSet.wasNull()) {
+                logger.debug("Replica {} is not in recovery", replica);
+                return UNAVAILABLE;
+            }
+
+            return Math.max(lag, 0);
+        } catch (SQLException ex) {
+            logger.debug("Failed to check lag of replica {}", replica, ex);
+            return UNAVAILABLE;
+        }
+    }
+}
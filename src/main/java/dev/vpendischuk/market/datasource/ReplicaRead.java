@@ -0,0 +1,26 @@
+package dev.vpendischuk.market.datasource;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks a REST API endpoint whose read-only transactions may be served by a replica database.
+ * <p>
+ * A replica is used only if its replication lag does not exceed the endpoint's lag tolerance,
+ *   otherwise the transaction is routed to the primary database. Transactions of
+ *   endpoints without this annotation are always routed to the primary database.
+ * <p>
+ * Endpoints served from the in-memory caches are not annotated: cache loaders read from
+ *   the primary database anyway (see {@link ReplicaRoutingContext#onPrimary}).
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReplicaRead {
+    /**
+     * Maximum replication lag tolerated by the endpoint (a duration, e.g. <b>5s</b>).
+     *   Property placeholders are resolved.
+     *
+     * @return maximum replication lag.
+     */
+    String maxLag();
+}
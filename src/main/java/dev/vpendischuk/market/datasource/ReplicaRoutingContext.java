@@ -0,0 +1,83 @@
+package dev.vpendischuk.market.datasource;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Holder of the replication lag tolerated by the current thread's read-only transactions.
+ * <p>
+ * The tolerance is set for the duration of a request by the {@link ReplicaRoutingInterceptor}.
+ *   If no tolerance is set, transactions are routed to the primary database.
+ * <p>
+ * Data that is cached must be read with {@link #onPrimary(Supplier)}: a cache filled
+ *   from a lagging replica right after an invalidation would keep serving the data
+ *   from before the change for as long as the entry lives.
+ */
+public final class ReplicaRoutingContext {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * Replication lag tolerated by the current thread.
+     */
+    private static final ThreadLocal<Duration> maxLag = new ThreadLocal<>();
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    private ReplicaRoutingContext() {
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Retrieves the replication lag tolerated by the current thread.
+     *
+     * @return maximum replication lag or null, if replicas must not be used.
+     */
+    public static Duration getMaxLag() {
+        return maxLag.get();
+    }
+
+    /**
+     * Sets the replication lag tolerated by the current thread.
+     *
+     * @param lag maximum replication lag.
+     */
+    public static void setMaxLag(Duration lag) {
+        if (lag == null || lag.isNegative()) {
+            throw new IllegalArgumentException("Maximum replication lag must be a non-negative duration");
+        }
+
+        maxLag.set(lag);
+    }
+
+    /**
+     * Performs the specified action with the current thread's transactions routed
+     *   to the primary database, restoring the thread's lag tolerance afterwards.
+     *
+     * @param action the action.
+     * @param <T> action result type.
+     * @return action result.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Duration lag = maxLag.get();
+
+        if (lag == null) {
+            return action.get();
+        }
+
+        maxLag.remove();
+
+        try {
+            return action.get();
+        } finally {
+            maxLag.set(lag);
+        }
+    }
+
+    /**
+     * Removes the current thread's replication lag tolerance.
+     */
+    public static void clear() {
+        maxLag.remove();
+    }
+}
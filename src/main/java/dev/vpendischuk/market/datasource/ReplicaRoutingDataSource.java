@@ -0,0 +1,133 @@
+package dev.vpendischuk.market.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data source that routes read-only transactions to the replica databases
+ *   and all other transactions to the primary database.
+ * <p>
+ * A read-only transaction is routed to a replica only if the current thread tolerates
+ *   replication lag ({@link ReplicaRoutingContext}) and the {@link ReplicaLagMonitor} reports
+ *   a replica that is recent enough. Otherwise, it's routed to the primary database.
+ * <p>
+ * The routing decision is made when the connection is acquired, so this data source must be
+ *   wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy},
+ *   which acquires the connection after the transaction's read-only flag is set.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link ReplicaRoutingDataSource} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    /**
+     * Lookup key of the primary data source.
+     */
+    static final String PRIMARY = "primary";
+
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * Monitor used to select a replica.
+     */
+    private final ReplicaLagMonitor lagMonitor;
+
+    /**
+     * All target data sources (the primary one first).
+     */
+    private final List<DataSource> dataSources = new ArrayList<>();
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link ReplicaRoutingDataSource} instance.
+     *
+     * @param primary primary data source.
+     * @param lagMonitor monitor of the replica data sources.
+     */
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(PRIMARY, primary);
+        dataSources.add(primary);
+
+        List<DataSource> replicas = lagMonitor.getReplicas();
+
+        for (int i = 0; i < replicas.size(); i++) {
+            targetDataSources.put(replicaKey(i), replicas.get(i));
+            dataSources.add(replicas.get(i));
+        }
+
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Closes all target data sources.
+     *
+     * @throws Exception if a data source could not be closed.
+     */
+    @Override
+    public void close() throws Exception {
+        for (DataSource dataSource : dataSources) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Determines the lookup key of the data source for the current transaction.
+     *
+     * @return the primary or a replica lookup key.
+     */
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+
+        Duration maxLag = ReplicaRoutingContext.getMaxLag();
+
+        if (maxLag == null) {
+            return PRIMARY;
+        }
+
+        Integer replica = lagMonitor.selectReplica(maxLag.toMillis());
+
+        if (replica == null) {
+            logger.debug("No replica within {} of lag - routing to the primary", maxLag);
+            return PRIMARY;
+        }
+
+        return replicaKey(replica);
+    }
+
+    /**
+     * Builds the lookup key of the specified replica.
+     *
+     * @param replica replica index.
+     * @return replica lookup key.
+     */
+    static String replicaKey(int replica) {
+        return "replica-" + replica;
+    }
+}
@@ -0,0 +1,69 @@
+package dev.vpendischuk.market.datasource;
+
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.env.Environment;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Handler interceptor that sets the {@link ReplicaRoutingContext} of requests
+ *   to endpoints annotated with {@link ReplicaRead}.
+ */
+public class ReplicaRoutingInterceptor implements HandlerInterceptor {
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * Environment used to resolve the lag tolerance placeholders.
+     */
+    private final Environment environment;
+
+    /**
+     * Resolved lag tolerances mapped by the endpoints' handler methods.
+     */
+    private final Map<Method, Duration> maxLags = new ConcurrentHashMap<>();
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link ReplicaRoutingInterceptor} instance.
+     *
+     * @param environment environment used to resolve the lag tolerance placeholders.
+     */
+    public ReplicaRoutingInterceptor(Environment environment) {
+        this.environment = environment;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    // preHandle() method override.
+    // Sets the lag tolerance of an endpoint annotated with ReplicaRead.
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            ReplicaRead replicaRead = handlerMethod.getMethodAnnotation(ReplicaRead.class);
+
+            if (replicaRead != null) {
+                ReplicaRoutingContext.setMaxLag(maxLags.computeIfAbsent(handlerMethod.getMethod(),
+                        method -> DurationStyle.detectAndParse(
+                                environment.resolveRequiredPlaceholders(replicaRead.maxLag()))));
+            }
+        }
+
+        return true;
+    }
+
+    // afterCompletion() method override.
+    // Clears the lag tolerance, as request threads are pooled.
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        ReplicaRoutingContext.clear();
+    }
+}
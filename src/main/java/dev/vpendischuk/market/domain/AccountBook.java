@@ -13,9 +13,14 @@ import java.util.Objects;
 /**
  * JPA Entity model of an account book entry - model that represents
  *   many-to-many associations between accounts and books.
+ * <p>
+ * The <b>account_book</b> table is hash-partitioned by the account ID,
+ *   so the account of an entry cannot be changed.
  */
 @Entity
-@Table(name="account_book")
+@Table(name="account_book", uniqueConstraints = {
+        @UniqueConstraint(name = "account_book_account_id_book_id_key", columnNames = {"account_id", "book_id"})
+})
 @Getter
 @NoArgsConstructor
 public class AccountBook implements Serializable {
@@ -28,15 +33,17 @@ public class AccountBook implements Serializable {
      * Account book entry ID.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(name = "id", insertable = false, updatable = false, nullable = false)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_book_id_seq")
+    @SequenceGenerator(name = "account_book_id_seq", sequenceName = "account_book_id_seq",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
+    @Column(name = "id", updatable = false, nullable = false)
     private Long id;
 
     /**
      * The account that purchased the book.
      */
     @ManyToOne(fetch=FetchType.LAZY, optional=false)
-    @JoinColumn(name="account_id")
+    @JoinColumn(name="account_id", updatable=false)
     private Account account;
 
     /**
@@ -30,8 +30,10 @@ public class Book implements Serializable {
     @Id
     @Getter
     @Setter
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(name = "id", insertable = false, updatable = false, nullable = false)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "books_id_seq")
+    @SequenceGenerator(name = "books_id_seq", sequenceName = "books_id_seq",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
+    @Column(name = "id", updatable = false, nullable = false)
     private Long id;
 
     /**
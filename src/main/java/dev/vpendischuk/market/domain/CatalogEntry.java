@@ -0,0 +1,129 @@
+package dev.vpendischuk.market.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import javax.persistence.*;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * JPA Entity model of a catalog entry - denormalized read model of a product
+ *   together with its book data.
+ * <p>
+ * Entries are maintained by the product and book services with SQL statements
+ *   in the same transaction as the product and book changes, so the entity is read-only.
+ */
+@Entity
+@Immutable
+@Table(name="catalog_view")
+@Getter
+@NoArgsConstructor
+public class CatalogEntry implements Serializable {
+    /* ---------------------------- Static fields -------------------------- */
+
+    @Serial
+    private static final long serialVersionUID = 3518424927512284601L;
+
+    /* -------------------------------- Fields ----------------------------- */
+
+    /**
+     * Product ID.
+     */
+    @Id
+    @Column(name = "product_id", updatable = false, nullable = false)
+    private Long productId;
+
+    /**
+     * ID of the book that the product represents.
+     */
+    @Column(name = "book_id", nullable = false)
+    private Long bookId;
+
+    /**
+     * Book name.
+     */
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    /**
+     * Book author.
+     */
+    @Column(name = "author", nullable = false)
+    private String author;
+
+    /**
+     * Product price.
+     */
+    @Column(name = "price", nullable = false)
+    private Integer price;
+
+    /**
+     * Amount of product left.
+     */
+    @Column(name = "amount", nullable = false)
+    private Integer amount;
+
+    /**
+     * Entry version, incremented on every change of the product or its book.
+     */
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    /* ----------------------------- Constructors -------------------------- */
+
+    /**
+     * Initializes a new {@link CatalogEntry} instance.
+     *
+     * @param productId product ID.
+     * @param bookId ID of the book that the product represents.
+     * @param name book name.
+     * @param author book author.
+     * @param price product price.
+     * @param amount amount of product left.
+     * @param version entry version.
+     */
+    public CatalogEntry(Long productId, Long bookId, String name, String author,
+                        Integer price, Integer amount, Long version) {
+        this.productId = productId;
+        this.bookId = bookId;
+        this.name = name;
+        this.author = author;
+        this.price = price;
+        this.amount = amount;
+        this.version = version;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    // equals() method override.
+    // Two catalog entries are equal iff they represent the same version of the same product.
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CatalogEntry that = (CatalogEntry) o;
+        return Objects.equals(productId, that.productId) && Objects.equals(version, that.version);
+    }
+
+    // hashCode() method override.
+    @Override
+    public int hashCode() {
+        return Objects.hash(productId, version);
+    }
+
+    // toString() method override.
+    @Override
+    public String toString() {
+        return "CatalogEntry{" +
+                "productId=" + productId +
+                ", name='" + name + '\'' +
+                ", author='" + author + '\'' +
+                ", price=" + price +
+                ", amount=" + amount +
+                ", version=" + version +
+                '}';
+    }
+}
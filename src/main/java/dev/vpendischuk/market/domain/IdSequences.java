@@ -0,0 +1,23 @@
+package dev.vpendischuk.market.domain;
+
+/**
+ * Parameters of the pooled ID sequences of the entities (<b>books_id_seq</b>, <b>products_id_seq</b>
+ *   and <b>account_book_id_seq</b>).
+ * <p>
+ * The sequences are incremented by the allocation size, and every value returned by <code>nextval()</code>
+ *   is the upper bound of a block of IDs assigned by Hibernate without querying the database
+ *   (see <code>V2__pooled_id_sequences.sql</code>). IDs assigned by plain SQL must be reserved the same way.
+ */
+public final class IdSequences {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * Number of IDs allocated by a single <code>nextval()</code> call (the sequence increment).
+     */
+    public static final int ALLOCATION_SIZE = 50;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    private IdSequences() {
+    }
+}
@@ -1,5 +1,6 @@
 package dev.vpendischuk.market.domain;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -8,13 +9,17 @@ import javax.persistence.*;
 import javax.validation.constraints.NotNull;
 import java.io.Serial;
 import java.io.Serializable;
+import java.time.Instant;
 import java.util.Objects;
 
 /**
  * JPA Entity model of a product - model that represents product data in the system.
  */
 @Entity
-@Table(name="products")
+@Table(name="products", indexes = {
+        @Index(name = "products_book_id_idx", columnList = "book_id"),
+        @Index(name = "products_price_idx", columnList = "price")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -30,8 +35,10 @@ public class Product implements Serializable {
      * Product ID.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(name = "id", insertable = false, updatable = false, nullable = false)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "products_id_seq")
+    @SequenceGenerator(name = "products_id_seq", sequenceName = "products_id_seq",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
+    @Column(name = "id", updatable = false, nullable = false)
     private Long id;
 
     /**
@@ -56,6 +63,13 @@ public class Product implements Serializable {
     @Column(name = "amount", nullable = false)
     private Integer amount;
 
+    /**
+     * Time the product was sold out at, or null if the product is in stock.
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "sold_out_at")
+    private Instant soldOutAt;
+
     /* ----------------------------- Constructors -------------------------- */
 
     /**
@@ -68,11 +82,29 @@ public class Product implements Serializable {
     public Product(Book productBook, Integer price, Integer amount) {
         this.productBook = productBook;
         this.price = price;
-        this.amount = amount;
+        setAmount(amount);
     }
 
     /* -------------------------- Public methods -------------------------- */
 
+    /**
+     * Sets the amount of product left.
+     * <p>
+     * A product that runs out of stock is kept with zero amount and marked
+     *   with the time it was sold out at, so that it can be restocked or archived later.
+     *
+     * @param amount amount of product left.
+     */
+    public void setAmount(Integer amount) {
+        this.amount = amount;
+
+        if (amount == null || amount > 0) {
+            soldOutAt = null;
+        } else if (soldOutAt == null) {
+            soldOutAt = Instant.now();
+        }
+    }
+
     // equals() method override.
     // Two products are equal iff the books they represent are equal.
     @Override
@@ -0,0 +1,52 @@
+package dev.vpendischuk.market.domain;
+
+import java.util.function.Predicate;
+
+/**
+ * Availability filter of the market catalog products.
+ */
+public enum ProductAvailability implements Predicate<Product> {
+    /**
+     * Products that can be purchased (positive amount).
+     */
+    IN_STOCK {
+        @Override
+        public boolean includes(int amount) {
+            return amount > 0;
+        }
+    },
+
+    /**
+     * Sold-out products (zero amount) that are kept on the market to be restocked.
+     */
+    OUT_OF_STOCK {
+        @Override
+        public boolean includes(int amount) {
+            return amount == 0;
+        }
+    },
+
+    /**
+     * All products.
+     */
+    ALL {
+        @Override
+        public boolean includes(int amount) {
+            return true;
+        }
+    };
+
+    /**
+     * Checks if a product with the specified amount matches the filter.
+     *
+     * @param amount product amount.
+     * @return true if the product matches the filter, false otherwise.
+     */
+    public abstract boolean includes(int amount);
+
+    // test() method override.
+    @Override
+    public boolean test(Product product) {
+        return includes(product.getAmount());
+    }
+}
@@ -1,5 +1,6 @@
 package dev.vpendischuk.market.dto.assembler;
 
+import dev.vpendischuk.market.cache.model.AccountBookReadModel;
 import dev.vpendischuk.market.domain.AccountBook;
 import dev.vpendischuk.market.dto.response.AccountBookDto;
 import dev.vpendischuk.market.dto.response.BookDto;
@@ -47,4 +48,22 @@ public class AccountBookDtoAssembler implements RepresentationModelAssembler<Acc
         accountBookDto.setAmount(entity.getAmount());
         return accountBookDto;
     }
+
+    /**
+     * Creates an {@link AccountBookDto} object model that represents the
+     *   specified {@link AccountBookReadModel} read model.
+     *
+     * @param readModel the read model to generate representation for.
+     * @return {@link AccountBookDto} representation.
+     */
+    public AccountBookDto toModel(AccountBookReadModel readModel) {
+        BookDto bookDto = new BookDto();
+        bookDto.setAuthor(readModel.getAuthor());
+        bookDto.setName(readModel.getName());
+
+        AccountBookDto accountBookDto = new AccountBookDto();
+        accountBookDto.setBook(bookDto);
+        accountBookDto.setAmount(readModel.getAmount());
+        return accountBookDto;
+    }
 }
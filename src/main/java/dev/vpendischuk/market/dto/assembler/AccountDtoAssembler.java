@@ -1,5 +1,6 @@
 package dev.vpendischuk.market.dto.assembler;
 
+import dev.vpendischuk.market.cache.model.AccountReadModel;
 import dev.vpendischuk.market.domain.Account;
 import dev.vpendischuk.market.dto.response.AccountBookDto;
 import dev.vpendischuk.market.dto.response.AccountDto;
@@ -52,4 +53,21 @@ public class AccountDtoAssembler implements RepresentationModelAssembler<Account
 
         return accountDto;
     }
+
+    /**
+     * Creates an {@link AccountDto} object model that represents the
+     *   specified {@link AccountReadModel} read model.
+     *
+     * @param readModel the read model to generate representation for.
+     * @return {@link AccountDto} representation.
+     */
+    public AccountDto toModel(AccountReadModel readModel) {
+        AccountDto accountDto = new AccountDto();
+        accountDto.setBalance(readModel.getBalance());
+
+        List<AccountBookDto> books = readModel.getBooks().stream().map(accountBookDtoAssembler::toModel).toList();
+        accountDto.setBooks(books);
+
+        return accountDto;
+    }
 }
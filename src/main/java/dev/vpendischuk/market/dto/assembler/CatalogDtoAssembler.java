@@ -0,0 +1,54 @@
+package dev.vpendischuk.market.dto.assembler;
+
+import dev.vpendischuk.market.domain.CatalogEntry;
+import dev.vpendischuk.market.dto.response.MarketDto;
+import dev.vpendischuk.market.dto.response.ProductDto;
+import org.springframework.hateoas.server.RepresentationModelAssembler;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * A {@link RepresentationModelAssembler} implementation
+ *   that assembles {@link MarketDto} instances
+ *   representing a {@link List<CatalogEntry>} entry.
+ */
+@Component
+public class CatalogDtoAssembler implements RepresentationModelAssembler<List<CatalogEntry>, MarketDto> {
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * A {@link CatalogEntryDtoAssembler} instance used to assemble {@link ProductDto} DTOs.
+     */
+    private final CatalogEntryDtoAssembler catalogEntryDtoAssembler;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link CatalogDtoAssembler} instance.
+     *
+     * @param catalogEntryDtoAssembler {@link CatalogEntryDtoAssembler} object assembler.
+     */
+    public CatalogDtoAssembler(CatalogEntryDtoAssembler catalogEntryDtoAssembler) {
+        this.catalogEntryDtoAssembler = catalogEntryDtoAssembler;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Creates a {@link MarketDto} object model that represents the
+     *   specified {@link List<CatalogEntry>} entity.
+     *
+     * @param entity the entity to generate representation for.
+     * @return {@link MarketDto} representation.
+     */
+    @Override
+    public MarketDto toModel(List<CatalogEntry> entity) {
+        MarketDto marketDto = new MarketDto();
+
+        List<ProductDto> productDtos = entity.stream().map(catalogEntryDtoAssembler::toModel).toList();
+        marketDto.setProducts(productDtos);
+
+        return marketDto;
+    }
+}
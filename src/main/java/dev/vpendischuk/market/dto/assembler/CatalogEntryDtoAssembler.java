@@ -0,0 +1,38 @@
+package dev.vpendischuk.market.dto.assembler;
+
+import dev.vpendischuk.market.domain.CatalogEntry;
+import dev.vpendischuk.market.dto.response.BookDto;
+import dev.vpendischuk.market.dto.response.ProductDto;
+import org.springframework.hateoas.server.RepresentationModelAssembler;
+import org.springframework.stereotype.Component;
+
+/**
+ * A {@link RepresentationModelAssembler} implementation
+ *   that assembles {@link ProductDto} instances
+ *   representing a {@link CatalogEntry} entry.
+ */
+@Component
+public class CatalogEntryDtoAssembler implements RepresentationModelAssembler<CatalogEntry, ProductDto> {
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Creates a {@link ProductDto} object model that represents the
+     *   specified {@link CatalogEntry} entity.
+     *
+     * @param entity the entity to generate representation for.
+     * @return {@link ProductDto} representation.
+     */
+    @Override
+    public ProductDto toModel(CatalogEntry entity) {
+        BookDto bookDto = new BookDto();
+        bookDto.setName(entity.getName());
+        bookDto.setAuthor(entity.getAuthor());
+
+        ProductDto productDto = new ProductDto();
+        productDto.setId(entity.getProductId());
+        productDto.setBook(bookDto);
+        productDto.setPrice(entity.getPrice());
+        productDto.setAmount(entity.getAmount());
+        return productDto;
+    }
+}
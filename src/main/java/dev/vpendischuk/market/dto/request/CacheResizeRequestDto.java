@@ -0,0 +1,25 @@
+package dev.vpendischuk.market.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+/**
+ * A data transfer object (DTO) that represents data for a cache resize request.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheResizeRequestDto {
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * New maximum cache size (number of entries, or total weight in bytes for weighted caches).
+     */
+    @NotNull
+    @Min(value = 0, message = "Maximum cache size must not be negative")
+    private Long maximumSize;
+}
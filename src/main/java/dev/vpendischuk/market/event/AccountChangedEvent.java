@@ -0,0 +1,38 @@
+package dev.vpendischuk.market.event;
+
+import lombok.Getter;
+
+/**
+ * Application event published by the services when account data
+ *   (account balance or purchased books) changes.
+ */
+@Getter
+public class AccountChangedEvent {
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * ID of the changed account or null, if the change may affect any account.
+     */
+    private final Long accountId;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link AccountChangedEvent} instance.
+     *
+     * @param accountId ID of the changed account or null, if the change may affect any account.
+     */
+    public AccountChangedEvent(Long accountId) {
+        this.accountId = accountId;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    // toString() method override.
+    @Override
+    public String toString() {
+        return "AccountChangedEvent{" +
+                "accountId=" + accountId +
+                '}';
+    }
+}
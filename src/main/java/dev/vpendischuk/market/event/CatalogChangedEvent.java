@@ -0,0 +1,38 @@
+package dev.vpendischuk.market.event;
+
+import lombok.Getter;
+
+/**
+ * Application event published by the services when market catalog data
+ *   (product or book data) changes.
+ */
+@Getter
+public class CatalogChangedEvent {
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * ID of the changed product or null, if the change may affect any product.
+     */
+    private final Long productId;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link CatalogChangedEvent} instance.
+     *
+     * @param productId ID of the changed product or null, if the change may affect any product.
+     */
+    public CatalogChangedEvent(Long productId) {
+        this.productId = productId;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    // toString() method override.
+    @Override
+    public String toString() {
+        return "CatalogChangedEvent{" +
+                "productId=" + productId +
+                '}';
+    }
+}
@@ -0,0 +1,102 @@
+package dev.vpendischuk.market.job;
+
+import dev.vpendischuk.market.service.ProductService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Background job that moves the products sold out for longer than the retention period
+ *   to the product archive, keeping the <b>products</b> table small.
+ * <p>
+ * Products are archived in batches, each in its own transaction, so that the job
+ *   does not hold locks on many rows at once. The number of archived products is published
+ *   to the {@link MeterRegistry} as the <b>market.products.archived</b> counter.
+ */
+@Component
+@ConditionalOnProperty(name = "market.products.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class ProductArchiveJob {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link ProductArchiveJob} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(ProductArchiveJob.class);
+
+    /* -------------------------------- Fields ----------------------------- */
+
+    /**
+     * A {@link ProductService} instance used to archive products.
+     */
+    private final ProductService productService;
+
+    /**
+     * Time a product stays on the market after it's sold out.
+     */
+    private final Duration soldOutRetention;
+
+    /**
+     * Maximum number of products archived in a single transaction.
+     */
+    private final int batchSize;
+
+    /**
+     * Counter of the archived products.
+     */
+    private final Counter archivedCounter;
+
+    /* ----------------------------- Constructors -------------------------- */
+
+    /**
+     * Initializes a new {@link ProductArchiveJob} instance.
+     *
+     * @param productService product service used to archive products.
+     * @param soldOutRetention time a product stays on the market after it's sold out.
+     * @param batchSize maximum number of products archived in a single transaction.
+     * @param meterRegistry meter registry the number of archived products is published to.
+     */
+    public ProductArchiveJob(ProductService productService,
+                             @Value("${market.products.archive.sold-out-retention:30d}") Duration soldOutRetention,
+                             @Value("${market.products.archive.batch-size:1000}") int batchSize,
+                             MeterRegistry meterRegistry) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Archive batch size must be positive");
+        }
+
+        this.productService = productService;
+        this.soldOutRetention = soldOutRetention;
+        this.batchSize = batchSize;
+        this.archivedCounter = Counter.builder("market.products.archived")
+                .description("Number of sold-out products moved to the archive")
+                .register(meterRegistry);
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Archives all products sold out for longer than the retention period.
+     */
+    @Scheduled(initialDelayString = "${market.products.archive.interval:3600000}",
+            fixedDelayString = "${market.products.archive.interval:3600000}")
+    public void archiveSoldOut() {
+        Instant soldOutBefore = Instant.now().minus(soldOutRetention);
+        int archivedCount = 0;
+        int batchCount;
+
+        do {
+            batchCount = productService.archiveSoldOut(soldOutBefore, batchSize);
+            archivedCount += batchCount;
+        } while (batchCount == batchSize);
+
+        archivedCounter.increment(archivedCount);
+        logger.debug("Product archive job done - {} products archived", archivedCount);
+    }
+}
@@ -1,15 +1,24 @@
 package dev.vpendischuk.market.repository;
 
 import dev.vpendischuk.market.domain.AccountBook;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Spring Data JPA repository that presents an interface for
  *   the <b>account_book</b> table in the database.
+ * <p>
+ * The table is hash-partitioned by the account ID. Queries filtered by the account ID
+ *   are served by a single partition, other queries scan all partitions. This includes
+ *   the lookups by the entry ID alone ({@code findById}, {@code deleteById}), as the entity
+ *   is identified by its ID only - prefer the account ID filtered queries where possible.
  */
 public interface AccountBookRepository extends JpaRepository<AccountBook, Long> {
     /**
@@ -23,11 +32,55 @@ public interface AccountBookRepository extends JpaRepository<AccountBook, Long>
     Optional<AccountBook> findAccountBookByAccountIdAndBookId(Long accountId, Long bookId);
 
     /**
-     * Truncates the <b>account_book</b> table and restarts its ID generator.
+     * Finds all account book entries of the specified account in the database
+     *   together with the purchased books in a single query.
+     *
+     * @param accountId account ID.
+     * @return list of the account's entries with initialized books.
+     */
+    @EntityGraph(attributePaths = "book")
+    List<AccountBook> findAllByAccountId(Long accountId);
+
+    /**
+     * Adds the specified quantity to the amount of the entry for the specified account and book IDs,
+     *   creating the entry if it does not exist, in a single statement.
+     * <p>
+     * The entry is unique for the account and book IDs, so concurrent calls
+     *   for the same account and book never create duplicate entries.
+     * <p>
+     * The query is deliberately not {@link Modifying}: a modifying query is run with
+     *   {@code executeUpdate()}, which returns the number of affected rows and fails on the row
+     *   returned by <code>RETURNING</code>. As a plain query, the statement is run with
+     *   {@code getSingleResult()}, so the resulting amount is read in the same round trip
+     *   (and an empty result maps to null). {@link Transactional} is required, as plain queries
+     *   otherwise run in the repository's read-only transaction, which rejects the write
+     *   and may be routed to a replica.
+     *
+     * @param accountId account ID.
+     * @param bookId purchased book ID.
+     * @param quantity purchased book quantity.
+     * @return the resulting entry amount or null, if the account or the book does not exist.
+     */
+    @Transactional
+    @Query(
+            value = "INSERT INTO account_book (id, account_id, book_id, amount) " +
+                    "SELECT nextval('account_book_id_seq'), a.id, b.id, :quantity " +
+                    "FROM accounts a, books b WHERE a.id = :accountId AND b.id = :bookId " +
+                    "ON CONFLICT (account_id, book_id) " +
+                    "DO UPDATE SET amount = account_book.amount + EXCLUDED.amount " +
+                    "RETURNING amount",
+            nativeQuery = true
+    )
+    Integer addAmount(@Param("accountId") long accountId,
+                      @Param("bookId") long bookId,
+                      @Param("quantity") int quantity);
+
+    /**
+     * Truncates the <b>account_book</b> table (its ID sequence is not restarted).
      */
     @Modifying
     @Query(
-            value = "TRUNCATE TABLE account_book RESTART IDENTITY CASCADE",
+            value = "TRUNCATE TABLE account_book CASCADE",
             nativeQuery = true
     )
     void truncate();
@@ -4,12 +4,30 @@ import dev.vpendischuk.market.domain.Account;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * Spring Data JPA repository that presents an interface for
  *   the <b>accounts</b> table in the database.
  */
 public interface AccountRepository extends JpaRepository<Account, Long> {
+    /**
+     * Deducts the specified amount of money from the account, if the account balance covers it.
+     * <p>
+     * The balance is checked by the update itself, so concurrent deals cannot overspend it.
+     *   The persistence context is cleared, so that the account is read anew after the update.
+     *
+     * @param id account ID.
+     * @param decrement balance decrement.
+     * @return number of updated accounts - 0 if the account does not exist or its balance is too low.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+            value = "UPDATE accounts SET price = price - :decrement WHERE id = :id AND price >= :decrement",
+            nativeQuery = true
+    )
+    int decreaseBalance(@Param("id") long id, @Param("decrement") int decrement);
+
     /**
      * Truncates the <b>accounts</b> table and restarts its ID generator.
      */
@@ -11,11 +11,11 @@ import org.springframework.data.jpa.repository.Query;
  */
 public interface BookRepository extends JpaRepository<Book, Long> {
     /**
-     * Truncates the <b>books</b> table and restarts its ID generator.
+     * Truncates the <b>books</b> table (its ID sequence is not restarted).
      */
     @Modifying
     @Query(
-            value = "TRUNCATE TABLE books RESTART IDENTITY CASCADE",
+            value = "TRUNCATE TABLE books CASCADE",
             nativeQuery = true
     )
     void truncate();
@@ -0,0 +1,79 @@
+package dev.vpendischuk.market.repository;
+
+import dev.vpendischuk.market.domain.CatalogEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Spring Data JPA repository that presents an interface for
+ *   the <b>catalog_view</b> table in the database.
+ */
+public interface CatalogEntryRepository extends JpaRepository<CatalogEntry, Long> {
+    /**
+     * Retrieves the entries of the products in stock, in product ID order.
+     * <p>
+     * The condition matches the <b>catalog_view_in_stock_idx</b> partial index.
+     *
+     * @return list of entries with a positive amount.
+     */
+    @Query("SELECT e FROM CatalogEntry e WHERE e.amount > 0 ORDER BY e.productId")
+    List<CatalogEntry> findInStock();
+
+    /**
+     * Retrieves the entries of the sold-out products, in product ID order.
+     *
+     * @return list of entries with zero amount.
+     */
+    @Query("SELECT e FROM CatalogEntry e WHERE e.amount = 0 ORDER BY e.productId")
+    List<CatalogEntry> findOutOfStock();
+
+    /**
+     * Retrieves all entries, in product ID order.
+     *
+     * @return list of all entries.
+     */
+    List<CatalogEntry> findAllByOrderByProductId();
+
+    /**
+     * Creates or updates the entries of the specified products from the <b>products</b>
+     *   and <b>books</b> tables, incrementing the versions of the updated entries.
+     * <p>
+     * Pending entity changes are flushed first, so that the entries reflect them.
+     *
+     * @param productIds product IDs.
+     * @return number of created or updated entries.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(
+            value = "INSERT INTO catalog_view (product_id, book_id, name, author, price, amount, version) " +
+                    "SELECT p.id, b.id, b.name, b.author, p.price, p.amount, 1 " +
+                    "FROM products p JOIN books b ON b.id = p.book_id WHERE p.id IN (:productIds) " +
+                    "ON CONFLICT (product_id) DO UPDATE SET " +
+                    "book_id = EXCLUDED.book_id, name = EXCLUDED.name, author = EXCLUDED.author, " +
+                    "price = EXCLUDED.price, amount = EXCLUDED.amount, version = catalog_view.version + 1",
+            nativeQuery = true
+    )
+    int refreshProducts(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * Updates the book data of the entries of the specified books' products,
+     *   incrementing the versions of the updated entries.
+     * <p>
+     * Pending entity changes are flushed first, so that the entries reflect them.
+     *
+     * @param bookIds book IDs.
+     * @return number of updated entries.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(
+            value = "UPDATE catalog_view e SET name = b.name, author = b.author, version = e.version + 1 " +
+                    "FROM books b WHERE b.id IN (:bookIds) AND e.book_id = b.id",
+            nativeQuery = true
+    )
+    int refreshBooks(@Param("bookIds") Collection<Long> bookIds);
+}
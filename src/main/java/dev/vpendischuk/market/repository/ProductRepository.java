@@ -1,9 +1,15 @@
 package dev.vpendischuk.market.repository;
 
 import dev.vpendischuk.market.domain.Product;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Spring Data JPA repository that presents an interface for
@@ -11,11 +17,99 @@ import org.springframework.data.jpa.repository.Query;
  */
 public interface ProductRepository extends JpaRepository<Product, Long> {
     /**
-     * Truncates the <b>products</b> table and restarts its ID generator.
+     * Retrieves all products with their books fetched in the same query,
+     *   so that the products can be rendered outside a persistence context.
+     *
+     * @return list of all products.
+     */
+    @Override
+    @EntityGraph(attributePaths = "productBook")
+    List<Product> findAll();
+
+    /**
+     * Retrieves the product with the specified ID with its book fetched in the same query,
+     *   so that the product can be rendered outside a persistence context.
+     *
+     * @param id product ID.
+     * @return the product, if found.
+     */
+    @Override
+    @EntityGraph(attributePaths = "productBook")
+    Optional<Product> findById(Long id);
+
+    /**
+     * Retrieves the products in stock with their books fetched in the same query.
+     * <p>
+     * The condition matches the <b>products_in_stock_idx</b> partial index.
+     *
+     * @return list of products with a positive amount.
+     */
+    @EntityGraph(attributePaths = "productBook")
+    @Query("SELECT p FROM Product p WHERE p.amount > 0")
+    List<Product> findInStock();
+
+    /**
+     * Retrieves the sold-out products with their books fetched in the same query.
+     *
+     * @return list of products with zero amount.
+     */
+    @EntityGraph(attributePaths = "productBook")
+    @Query("SELECT p FROM Product p WHERE p.amount = 0")
+    List<Product> findOutOfStock();
+
+    /**
+     * Deducts the specified number from the product amount, if the amount covers it,
+     *   marking the product sold out when the amount drops to zero.
+     * <p>
+     * The amount is checked by the update itself, so concurrent deals cannot oversell the product.
+     *   The persistence context is cleared, so that the product is read anew after the update.
+     *
+     * @param id product ID.
+     * @param decrement amount decrement.
+     * @return number of updated products - 0 if the product does not exist or its amount is too low.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+            value = "UPDATE products SET amount = amount - :decrement, " +
+                    "sold_out_at = CASE WHEN amount = :decrement THEN COALESCE(sold_out_at, now()) END " +
+                    "WHERE id = :id AND amount >= :decrement",
+            nativeQuery = true
+    )
+    int decreaseAmount(@Param("id") long id, @Param("decrement") int decrement);
+
+    /**
+     * Moves up to the specified number of products sold out before the specified time
+     *   to the <b>products_archive</b> table, oldest first.
+     * <p>
+     * A product restocked concurrently is not archived, as the amount condition
+     *   is re-checked on the deleted rows.
+     *
+     * @param soldOutBefore time the archived products must have been sold out before.
+     * @param limit maximum number of archived products.
+     * @return number of archived products.
+     */
+    @Modifying
+    @Query(
+            value = "WITH archived AS (" +
+                    "DELETE FROM products WHERE amount = 0 AND id IN (" +
+                    "SELECT id FROM products WHERE amount = 0 AND sold_out_at < :soldOutBefore " +
+                    "ORDER BY sold_out_at LIMIT :limit) " +
+                    "RETURNING id, book_id, price, sold_out_at) " +
+                    "INSERT INTO products_archive (id, book_id, price, sold_out_at, archived_at) " +
+                    "SELECT id, book_id, price, sold_out_at, now() FROM archived",
+            nativeQuery = true
+    )
+    int archiveSoldOut(@Param("soldOutBefore") Instant soldOutBefore, @Param("limit") int limit);
+
+    /**
+     * Truncates the <b>products</b> table.
+     * <p>
+     * The ID sequence is not restarted, as Hibernate may hold a block of
+     *   pre-allocated IDs from it.
      */
     @Modifying
     @Query(
-            value = "TRUNCATE TABLE products RESTART IDENTITY CASCADE",
+            value = "TRUNCATE TABLE products CASCADE",
             nativeQuery = true
     )
     void truncate();
@@ -0,0 +1,172 @@
+package dev.vpendischuk.market.repository.memory;
+
+import dev.vpendischuk.market.domain.Account;
+import dev.vpendischuk.market.domain.AccountBook;
+import dev.vpendischuk.market.domain.Book;
+import dev.vpendischuk.market.repository.AccountBookRepository;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.stereotype.Repository;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * {@link AccountBookRepository} implementation backed by the {@link MemoryStore} (<b>memory</b> profile).
+ * <p>
+ * Entries are indexed by their account IDs, so queries filtered by the account ID
+ *   only read the entries of that account.
+ */
+@Repository
+@Profile("memory")
+public class InMemoryAccountBookRepository extends InMemoryRepository<AccountBook> implements AccountBookRepository {
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * A {@link MemoryStore} instance the account-book entries are kept in.
+     */
+    private final MemoryStore store;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link InMemoryAccountBookRepository} instance.
+     *
+     * @param store in-memory storage.
+     */
+    public InMemoryAccountBookRepository(MemoryStore store) {
+        this.store = store;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Finds an account book entry for the specified account and book IDs.
+     *
+     * @param accountId account ID.
+     * @param bookId purchased book ID.
+     * @return Optional {@link AccountBook} entity - not empty if the entry does exist,
+     *   empty otherwise.
+     */
+    @Override
+    public Optional<AccountBook> findAccountBookByAccountIdAndBookId(Long accountId, Long bookId) {
+        return Optional.ofNullable(store.accountBooksOf(accountId).get(bookId));
+    }
+
+    /**
+     * Finds all account book entries of the specified account, in ID order.
+     *
+     * @param accountId account ID.
+     * @return list of the account's entries.
+     */
+    @Override
+    public List<AccountBook> findAllByAccountId(Long accountId) {
+        return store.accountBooksOf(accountId).values().stream()
+                .sorted(Comparator.comparing(AccountBook::getId))
+                .toList();
+    }
+
+    /**
+     * Adds the specified quantity to the amount of the entry for the specified account and book IDs,
+     *   creating the entry if it does not exist, atomically.
+     *
+     * @param accountId account ID.
+     * @param bookId purchased book ID.
+     * @param quantity purchased book quantity.
+     * @return the resulting entry amount or null, if the account or the book does not exist.
+     */
+    @Override
+    public Integer addAmount(long accountId, long bookId, int quantity) {
+        return store.atomically(() -> {
+            Account account = store.accounts().get(accountId);
+            Book book = store.books().get(bookId);
+
+            if (account == null || book == null) {
+                return null;
+            }
+
+            AccountBook stored = store.accountBooksOf(accountId).get(bookId);
+            AccountBook entry = new AccountBook(account, book,
+                    stored == null ? quantity : stored.getAmount() + quantity);
+
+            // The stored entry is replaced rather than changed in place, so that the change can be undone.
+            new DirectFieldAccessor(entry).setPropertyValue("id",
+                    stored == null ? store.nextId(MemoryStore.Table.ACCOUNT_BOOK) : stored.getId());
+
+            store.putAccountBook(entry);
+            return entry.getAmount();
+        });
+    }
+
+    /**
+     * Removes all account-book entries.
+     */
+    @Override
+    public void truncate() {
+        store.truncate(MemoryStore.Table.ACCOUNT_BOOK);
+    }
+
+    /* ------------------------- Protected methods ------------------------- */
+
+    // entries() method override.
+    @Override
+    protected Map<Long, AccountBook> entries() {
+        return store.accountBooks();
+    }
+
+    // getId() method override.
+    @Override
+    protected Long getId(AccountBook accountBook) {
+        return accountBook.getId();
+    }
+
+    // store() method override.
+    // The storage keeps its own instance of the entry, referring to the stored account and book.
+    @Override
+    protected AccountBook store(AccountBook accountBook) {
+        Account account = accountBook.getAccount() == null ? null : find(store.accounts(), accountBook.getAccount().getId());
+        Book book = accountBook.getBook() == null ? null : find(store.books(), accountBook.getBook().getId());
+
+        if (account == null || book == null) {
+            throw new InvalidDataAccessApiUsageException("Account-book entry refers to an account or a book "
+                    + "that is not stored");
+        }
+
+        return store.atomically(() -> {
+            Long id = accountBook.getId();
+            if (id == null || !store.accountBooks().containsKey(id)) {
+                id = store.nextId(MemoryStore.Table.ACCOUNT_BOOK);
+                new DirectFieldAccessor(accountBook).setPropertyValue("id", id);
+            }
+
+            AccountBook stored = new AccountBook(account, book, accountBook.getAmount());
+            new DirectFieldAccessor(stored).setPropertyValue("id", id);
+            store.putAccountBook(stored);
+
+            return stored;
+        });
+    }
+
+    // evict() method override.
+    @Override
+    protected void evict(Long id) {
+        store.remove(MemoryStore.Table.ACCOUNT_BOOK, id);
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Retrieves the stored entity with the specified ID.
+     *
+     * @param entities stored entities.
+     * @param id entity ID (may be null).
+     * @param <T> entity type.
+     * @return the entity or null, if it's not stored.
+     */
+    private static <T> T find(Map<Long, T> entities, Long id) {
+        return id == null ? null : entities.get(id);
+    }
+}
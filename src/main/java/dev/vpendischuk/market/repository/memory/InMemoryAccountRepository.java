@@ -0,0 +1,147 @@
+package dev.vpendischuk.market.repository.memory;
+
+import dev.vpendischuk.market.domain.Account;
+import dev.vpendischuk.market.repository.AccountRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * {@link AccountRepository} implementation backed by the {@link MemoryStore} (<b>memory</b> profile).
+ * <p>
+ * Retrieved accounts are copies holding the account-book entries stored at the time of the read.
+ *   Saving an account stores its balance only - the entries are saved by the
+ *   {@link InMemoryAccountBookRepository}.
+ */
+@Repository
+@Profile("memory")
+public class InMemoryAccountRepository extends InMemoryRepository<Account> implements AccountRepository {
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * A {@link MemoryStore} instance the accounts are kept in.
+     */
+    private final MemoryStore store;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link InMemoryAccountRepository} instance.
+     *
+     * @param store in-memory storage.
+     */
+    public InMemoryAccountRepository(MemoryStore store) {
+        this.store = store;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Finds the account with the specified ID together with its account-book entries.
+     *
+     * @param id account ID.
+     * @return Optional {@link Account} entity - not empty if the account does exist, empty otherwise.
+     */
+    @Override
+    public Optional<Account> findById(Long id) {
+        return super.findById(id).map(this::withAccountBooks);
+    }
+
+    /**
+     * Deducts the specified amount of money from the account, if the account balance covers it, atomically.
+     *
+     * @param id account ID.
+     * @param decrement balance decrement.
+     * @return number of updated accounts - 0 if the account does not exist or its balance is too low.
+     */
+    @Override
+    public int decreaseBalance(long id, int decrement) {
+        return store.atomically(() -> {
+            Account stored = store.accounts().get(id);
+
+            if (stored == null || stored.getBalance() < decrement) {
+                return 0;
+            }
+
+            Account account = new Account();
+            account.setId(id);
+            account.setBalance(stored.getBalance() - decrement);
+            store.putAccount(account);
+
+            return 1;
+        });
+    }
+
+    /**
+     * Removes all accounts together with their account-book entries and restarts the account IDs.
+     */
+    @Override
+    public void truncate() {
+        store.truncate(MemoryStore.Table.ACCOUNTS);
+    }
+
+    /* ------------------------- Protected methods ------------------------- */
+
+    // entries() method override.
+    @Override
+    protected Map<Long, Account> entries() {
+        return store.accounts();
+    }
+
+    // getId() method override.
+    @Override
+    protected Long getId(Account account) {
+        return account.getId();
+    }
+
+    // findAll() method override.
+    // The accounts are listed together with their account-book entries.
+    @Override
+    protected List<Account> findAll(Predicate<Account> condition) {
+        return super.findAll(condition).stream().map(this::withAccountBooks).toList();
+    }
+
+    // store() method override.
+    // The storage keeps its own instance of the account, so that the saved instance can be changed freely.
+    @Override
+    protected Account store(Account account) {
+        if (account.getId() == null || !store.accounts().containsKey(account.getId())) {
+            account.setId(store.nextId(MemoryStore.Table.ACCOUNTS));
+        }
+
+        Account stored = new Account();
+        stored.setId(account.getId());
+        stored.setBalance(account.getBalance());
+        store.putAccount(stored);
+
+        return account;
+    }
+
+    // evict() method override.
+    @Override
+    protected void evict(Long id) {
+        store.remove(MemoryStore.Table.ACCOUNTS, id);
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Creates a copy of the specified stored account holding its account-book entries.
+     *
+     * @param stored the stored account.
+     * @return the account copy.
+     */
+    private Account withAccountBooks(Account stored) {
+        Account account = new Account();
+
+        account.setId(stored.getId());
+        account.setBalance(stored.getBalance());
+        account.getAccountBooks().addAll(store.accountBooksOf(stored.getId()).values());
+
+        return account;
+    }
+}
@@ -0,0 +1,81 @@
+package dev.vpendischuk.market.repository.memory;
+
+import dev.vpendischuk.market.domain.Book;
+import dev.vpendischuk.market.repository.BookRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+
+/**
+ * {@link BookRepository} implementation backed by the {@link MemoryStore} (<b>memory</b> profile).
+ */
+@Repository
+@Profile("memory")
+public class InMemoryBookRepository extends InMemoryRepository<Book> implements BookRepository {
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * A {@link MemoryStore} instance the books are kept in.
+     */
+    private final MemoryStore store;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link InMemoryBookRepository} instance.
+     *
+     * @param store in-memory storage.
+     */
+    public InMemoryBookRepository(MemoryStore store) {
+        this.store = store;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Removes all books together with their products and account-book entries.
+     */
+    @Override
+    public void truncate() {
+        store.truncate(MemoryStore.Table.BOOKS);
+    }
+
+    /* ------------------------- Protected methods ------------------------- */
+
+    // entries() method override.
+    @Override
+    protected Map<Long, Book> entries() {
+        return store.books();
+    }
+
+    // getId() method override.
+    @Override
+    protected Long getId(Book book) {
+        return book.getId();
+    }
+
+    // store() method override.
+    // A book with a stored ID is updated in place, other books are stored as new entities.
+    @Override
+    protected Book store(Book book) {
+        Book stored = book.getId() == null ? null : store.books().get(book.getId());
+
+        if (stored == null) {
+            book.setId(store.nextId(MemoryStore.Table.BOOKS));
+            stored = book;
+        } else {
+            stored.setName(book.getName());
+            stored.setAuthor(book.getAuthor());
+        }
+
+        store.putBook(stored);
+        return stored;
+    }
+
+    // evict() method override.
+    @Override
+    protected void evict(Long id) {
+        store.remove(MemoryStore.Table.BOOKS, id);
+    }
+}
@@ -0,0 +1,121 @@
+package dev.vpendischuk.market.repository.memory;
+
+import dev.vpendischuk.market.domain.CatalogEntry;
+import dev.vpendischuk.market.repository.CatalogEntryRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link CatalogEntryRepository} implementation backed by the {@link MemoryStore} (<b>memory</b> profile).
+ * <p>
+ * Catalog entries are maintained by the storage and can only be changed by refreshing them.
+ */
+@Repository
+@Profile("memory")
+public class InMemoryCatalogEntryRepository extends InMemoryRepository<CatalogEntry> implements CatalogEntryRepository {
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * A {@link MemoryStore} instance the catalog entries are kept in.
+     */
+    private final MemoryStore store;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link InMemoryCatalogEntryRepository} instance.
+     *
+     * @param store in-memory storage.
+     */
+    public InMemoryCatalogEntryRepository(MemoryStore store) {
+        this.store = store;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Retrieves the entries of the products in stock, in product ID order.
+     *
+     * @return list of entries with a positive amount.
+     */
+    @Override
+    public List<CatalogEntry> findInStock() {
+        return findAll(entry -> entry.getAmount() > 0);
+    }
+
+    /**
+     * Retrieves the entries of the sold-out products, in product ID order.
+     *
+     * @return list of entries with zero amount.
+     */
+    @Override
+    public List<CatalogEntry> findOutOfStock() {
+        return findAll(entry -> entry.getAmount() == 0);
+    }
+
+    /**
+     * Retrieves all entries, in product ID order.
+     *
+     * @return list of all entries.
+     */
+    @Override
+    public List<CatalogEntry> findAllByOrderByProductId() {
+        return findAll();
+    }
+
+    /**
+     * Creates or updates the entries of the specified products,
+     *   incrementing the versions of the updated entries.
+     *
+     * @param productIds product IDs.
+     * @return number of created or updated entries.
+     */
+    @Override
+    public int refreshProducts(Collection<Long> productIds) {
+        return store.refreshCatalog(productIds);
+    }
+
+    /**
+     * Updates the book data of the entries of the specified books' products,
+     *   incrementing the versions of the updated entries.
+     *
+     * @param bookIds book IDs.
+     * @return number of updated entries.
+     */
+    @Override
+    public int refreshBooks(Collection<Long> bookIds) {
+        return store.refreshCatalogBooks(bookIds);
+    }
+
+    /* ------------------------- Protected methods ------------------------- */
+
+    // entries() method override.
+    @Override
+    protected Map<Long, CatalogEntry> entries() {
+        return store.catalog();
+    }
+
+    // getId() method override.
+    @Override
+    protected Long getId(CatalogEntry entry) {
+        return entry.getProductId();
+    }
+
+    // store() method override.
+    // Catalog entries can't be saved directly.
+    @Override
+    protected CatalogEntry store(CatalogEntry entry) {
+        throw new UnsupportedOperationException("Catalog entries are maintained by the in-memory storage");
+    }
+
+    // evict() method override.
+    // Catalog entries can't be deleted directly.
+    @Override
+    protected void evict(Long id) {
+        throw new UnsupportedOperationException("Catalog entries are maintained by the in-memory storage");
+    }
+}
@@ -0,0 +1,196 @@
+package dev.vpendischuk.market.repository.memory;
+
+import dev.vpendischuk.market.domain.Book;
+import dev.vpendischuk.market.domain.Product;
+import dev.vpendischuk.market.repository.ProductRepository;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ProductRepository} implementation backed by the {@link MemoryStore} (<b>memory</b> profile).
+ * <p>
+ * Archived products are removed from the storage - the in-memory storage keeps no archive.
+ */
+@Repository
+@Profile("memory")
+public class InMemoryProductRepository extends InMemoryRepository<Product> implements ProductRepository {
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * A {@link MemoryStore} instance the products are kept in.
+     */
+    private final MemoryStore store;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link InMemoryProductRepository} instance.
+     *
+     * @param store in-memory storage.
+     */
+    public InMemoryProductRepository(MemoryStore store) {
+        this.store = store;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Retrieves the products in stock, in ID order.
+     *
+     * @return list of products with a positive amount.
+     */
+    @Override
+    public List<Product> findInStock() {
+        return findAll(product -> product.getAmount() > 0);
+    }
+
+    /**
+     * Retrieves the sold-out products, in ID order.
+     *
+     * @return list of products with zero amount.
+     */
+    @Override
+    public List<Product> findOutOfStock() {
+        return findAll(product -> product.getAmount() == 0);
+    }
+
+    /**
+     * Deducts the specified number from the product amount, if the amount covers it, atomically.
+     *
+     * @param id product ID.
+     * @param decrement amount decrement.
+     * @return number of updated products - 0 if the product does not exist or its amount is too low.
+     */
+    @Override
+    public int decreaseAmount(long id, int decrement) {
+        return store.atomically(() -> {
+            Product stored = store.products().get(id);
+
+            if (stored == null || stored.getAmount() < decrement) {
+                return 0;
+            }
+
+            Product product = copyOf(stored, stored.getProductBook());
+            product.setAmount(stored.getAmount() - decrement);
+            store.putProduct(product);
+
+            return 1;
+        });
+    }
+
+    /**
+     * Removes up to the specified number of products sold out before the specified time, oldest first.
+     *
+     * @param soldOutBefore time the archived products must have been sold out before.
+     * @param limit maximum number of archived products.
+     * @return number of archived products.
+     */
+    @Override
+    public int archiveSoldOut(Instant soldOutBefore, int limit) {
+        return store.atomically(() -> {
+            List<Product> archived = store.products().values().stream()
+                    .filter(product -> product.getAmount() == 0 && product.getSoldOutAt() != null
+                            && product.getSoldOutAt().isBefore(soldOutBefore))
+                    .sorted(Comparator.comparing(Product::getSoldOutAt))
+                    .limit(limit)
+                    .toList();
+
+            archived.forEach(product -> store.remove(MemoryStore.Table.PRODUCTS, product.getId()));
+
+            return archived.size();
+        });
+    }
+
+    /**
+     * Removes all products.
+     */
+    @Override
+    public void truncate() {
+        store.truncate(MemoryStore.Table.PRODUCTS);
+    }
+
+    /* ------------------------- Protected methods ------------------------- */
+
+    // entries() method override.
+    @Override
+    protected Map<Long, Product> entries() {
+        return store.products();
+    }
+
+    // getId() method override.
+    @Override
+    protected Long getId(Product product) {
+        return product.getId();
+    }
+
+    // store() method override.
+    // A product with a stored ID replaces the stored instance with a copy (so that the change can be undone
+    // on rollback), unless it's the stored instance itself. Other products are stored as new entities.
+    // The product's book is replaced with the stored instance of the book.
+    @Override
+    protected Product store(Product product) {
+        Book book = resolveBook(product.getProductBook());
+        Product stored = product.getId() == null ? null : store.products().get(product.getId());
+
+        if (stored == null) {
+            product.setId(store.nextId(MemoryStore.Table.PRODUCTS));
+            stored = product;
+            stored.setProductBook(book);
+        } else if (stored != product) {
+            stored = copyOf(product, book);
+        } else {
+            stored.setProductBook(book);
+        }
+
+        store.putProduct(stored);
+
+        return stored;
+    }
+
+    // evict() method override.
+    @Override
+    protected void evict(Long id) {
+        store.remove(MemoryStore.Table.PRODUCTS, id);
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Retrieves the stored instance of the specified book.
+     *
+     * @param book the book.
+     * @return the stored book.
+     */
+    private Book resolveBook(Book book) {
+        Book stored = book == null || book.getId() == null ? null : store.books().get(book.getId());
+
+        if (stored == null) {
+            throw new InvalidDataAccessApiUsageException("Product refers to a book that is not stored: " + book);
+        }
+
+        return stored;
+    }
+
+    /**
+     * Creates a copy of the specified product representing the specified book.
+     *
+     * @param product the product.
+     * @param book stored book the copy represents.
+     * @return the product copy.
+     */
+    private Product copyOf(Product product, Book book) {
+        Product copy = new Product(book, product.getPrice(), product.getAmount());
+
+        copy.setId(product.getId());
+        new DirectFieldAccessor(copy).setPropertyValue("soldOutAt", product.getSoldOutAt());
+
+        return copy;
+    }
+}
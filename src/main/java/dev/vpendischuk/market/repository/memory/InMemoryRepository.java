@@ -0,0 +1,428 @@
+package dev.vpendischuk.market.repository.memory;
+
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.query.FluentQuery;
+
+import javax.persistence.EntityNotFoundException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Base class of the repositories backed by the {@link MemoryStore},
+ *   implementing the {@link JpaRepository} contract on top of a map of entities.
+ * <p>
+ * Entities are listed in ID order. Sorting and query by example are not supported.
+ *
+ * @param <T> entity type.
+ */
+public abstract class InMemoryRepository<T> implements JpaRepository<T, Long> {
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Saves the specified entity.
+     *
+     * @param entity the entity to be saved.
+     * @param <S> entity type.
+     * @return the stored entity.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S extends T> S save(S entity) {
+        if (entity == null) {
+            throw new IllegalArgumentException("Entity must not be null");
+        }
+
+        return (S) store(entity);
+    }
+
+    /**
+     * Saves all specified entities.
+     *
+     * @param entities the entities to be saved.
+     * @param <S> entity type.
+     * @return the stored entities.
+     */
+    @Override
+    public <S extends T> List<S> saveAll(Iterable<S> entities) {
+        List<S> savedEntities = new ArrayList<>();
+
+        for (S entity : entities) {
+            savedEntities.add(save(entity));
+        }
+
+        return savedEntities;
+    }
+
+    /**
+     * Finds the entity with the specified ID.
+     *
+     * @param id entity ID.
+     * @return Optional entity - not empty if the entity does exist, empty otherwise.
+     */
+    @Override
+    public Optional<T> findById(Long id) {
+        return Optional.ofNullable(entries().get(requireId(id)));
+    }
+
+    /**
+     * Checks if the entity with the specified ID exists.
+     *
+     * @param id entity ID.
+     * @return true if the entity exists, false otherwise.
+     */
+    @Override
+    public boolean existsById(Long id) {
+        return entries().containsKey(requireId(id));
+    }
+
+    /**
+     * Retrieves all entities.
+     *
+     * @return list of all entities, in ID order.
+     */
+    @Override
+    public List<T> findAll() {
+        return findAll(entity -> true);
+    }
+
+    /**
+     * Retrieves the entities with the specified IDs.
+     *
+     * @param ids entity IDs.
+     * @return list of the found entities, in ID order.
+     */
+    @Override
+    public List<T> findAllById(Iterable<Long> ids) {
+        Set<Long> idSet = new HashSet<>();
+        ids.forEach(idSet::add);
+
+        return findAll(entity -> idSet.contains(getId(entity)));
+    }
+
+    /**
+     * Retrieves the number of entities.
+     *
+     * @return number of entities.
+     */
+    @Override
+    public long count() {
+        return entries().size();
+    }
+
+    /**
+     * Deletes the entity with the specified ID.
+     *
+     * @param id entity ID.
+     */
+    @Override
+    public void deleteById(Long id) {
+        if (!existsById(id)) {
+            throw new EmptyResultDataAccessException("No entity with id " + id + " exists", 1);
+        }
+
+        evict(id);
+    }
+
+    /**
+     * Deletes the specified entity, if it's stored.
+     *
+     * @param entity the entity.
+     */
+    @Override
+    public void delete(T entity) {
+        Long id = getId(entity);
+
+        if (id != null && entries().containsKey(id)) {
+            evict(id);
+        }
+    }
+
+    /**
+     * Deletes the entities with the specified IDs.
+     *
+     * @param ids entity IDs.
+     */
+    @Override
+    public void deleteAllById(Iterable<? extends Long> ids) {
+        ids.forEach(this::deleteById);
+    }
+
+    /**
+     * Deletes the specified entities.
+     *
+     * @param entities the entities.
+     */
+    @Override
+    public void deleteAll(Iterable<? extends T> entities) {
+        entities.forEach(this::delete);
+    }
+
+    /**
+     * Deletes all entities.
+     */
+    @Override
+    public void deleteAll() {
+        findAll().forEach(this::delete);
+    }
+
+    /**
+     * Retrieves all entities in the specified order (only the ID order is supported).
+     *
+     * @param sort entity order.
+     * @return list of all entities.
+     */
+    @Override
+    public List<T> findAll(Sort sort) {
+        requireUnsorted(sort);
+        return findAll();
+    }
+
+    /**
+     * Retrieves a page of the entities, in ID order.
+     *
+     * @param pageable page request.
+     * @return the page of entities.
+     */
+    @Override
+    public Page<T> findAll(Pageable pageable) {
+        requireUnsorted(pageable.getSort());
+
+        List<T> entities = findAll();
+
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(entities);
+        }
+
+        int fromIndex = (int) Math.min(pageable.getOffset(), entities.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), entities.size());
+
+        return new PageImpl<>(entities.subList(fromIndex, toIndex), pageable, entities.size());
+    }
+
+    /**
+     * Does nothing, as the entities are stored as soon as they are saved.
+     */
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Saves the specified entity.
+     *
+     * @param entity the entity to be saved.
+     * @param <S> entity type.
+     * @return the stored entity.
+     */
+    @Override
+    public <S extends T> S saveAndFlush(S entity) {
+        return save(entity);
+    }
+
+    /**
+     * Saves all specified entities.
+     *
+     * @param entities the entities to be saved.
+     * @param <S> entity type.
+     * @return the stored entities.
+     */
+    @Override
+    public <S extends T> List<S> saveAllAndFlush(Iterable<S> entities) {
+        return saveAll(entities);
+    }
+
+    /**
+     * Deletes the specified entities.
+     *
+     * @param entities the entities.
+     */
+    @Override
+    public void deleteAllInBatch(Iterable<T> entities) {
+        deleteAll(entities);
+    }
+
+    /**
+     * Deletes the entities with the specified IDs.
+     *
+     * @param ids entity IDs.
+     */
+    @Override
+    public void deleteAllByIdInBatch(Iterable<Long> ids) {
+        ids.forEach(id -> findById(id).ifPresent(this::delete));
+    }
+
+    /**
+     * Deletes all entities.
+     */
+    @Override
+    public void deleteAllInBatch() {
+        deleteAll();
+    }
+
+    /**
+     * Retrieves the entity with the specified ID.
+     *
+     * @param id entity ID.
+     * @return the entity.
+     * @deprecated use {@link #getReferenceById(Long)} instead.
+     */
+    @Override
+    @Deprecated
+    public T getOne(Long id) {
+        return getReferenceById(id);
+    }
+
+    /**
+     * Retrieves the entity with the specified ID.
+     *
+     * @param id entity ID.
+     * @return the entity.
+     * @deprecated use {@link #getReferenceById(Long)} instead.
+     */
+    @Override
+    @Deprecated
+    public T getById(Long id) {
+        return getReferenceById(id);
+    }
+
+    /**
+     * Retrieves the entity with the specified ID.
+     *
+     * @param id entity ID.
+     * @return the entity.
+     */
+    @Override
+    public T getReferenceById(Long id) {
+        return findById(id).orElseThrow(() -> new EntityNotFoundException("No entity with id " + id + " exists"));
+    }
+
+    // Query by example is not supported.
+    @Override
+    public <S extends T> Optional<S> findOne(Example<S> example) {
+        throw unsupportedExample();
+    }
+
+    // Query by example is not supported.
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example) {
+        throw unsupportedExample();
+    }
+
+    // Query by example is not supported.
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example, Sort sort) {
+        throw unsupportedExample();
+    }
+
+    // Query by example is not supported.
+    @Override
+    public <S extends T> Page<S> findAll(Example<S> example, Pageable pageable) {
+        throw unsupportedExample();
+    }
+
+    // Query by example is not supported.
+    @Override
+    public <S extends T> long count(Example<S> example) {
+        throw unsupportedExample();
+    }
+
+    // Query by example is not supported.
+    @Override
+    public <S extends T> boolean exists(Example<S> example) {
+        throw unsupportedExample();
+    }
+
+    // Query by example is not supported.
+    @Override
+    public <S extends T, R> R findBy(Example<S> example, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        throw unsupportedExample();
+    }
+
+    /* ------------------------- Protected methods ------------------------- */
+
+    /**
+     * Retrieves the stored entities mapped by their IDs.
+     *
+     * @return stored entities.
+     */
+    protected abstract Map<Long, T> entries();
+
+    /**
+     * Retrieves the ID of the specified entity.
+     *
+     * @param entity the entity.
+     * @return entity ID or null, if no ID is assigned.
+     */
+    protected abstract Long getId(T entity);
+
+    /**
+     * Stores the specified entity, assigning its ID if needed. If another instance of the entity
+     *   is stored, the state of the specified entity is copied to it.
+     *
+     * @param entity the entity.
+     * @return the stored entity instance.
+     */
+    protected abstract T store(T entity);
+
+    /**
+     * Removes the entity with the specified ID.
+     *
+     * @param id entity ID.
+     */
+    protected abstract void evict(Long id);
+
+    /**
+     * Retrieves the entities matching the specified condition.
+     *
+     * @param condition the condition.
+     * @return list of the matching entities, in ID order.
+     */
+    protected List<T> findAll(Predicate<T> condition) {
+        return entries().values().stream()
+                .filter(condition)
+                .sorted(Comparator.comparing(this::getId))
+                .collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Checks that the specified ID is not null.
+     *
+     * @param id entity ID.
+     * @return the ID.
+     */
+    private Long requireId(Long id) {
+        if (id == null) {
+            throw new IllegalArgumentException("The given id must not be null");
+        }
+
+        return id;
+    }
+
+    /**
+     * Checks that the specified order is the default (ID) order.
+     *
+     * @param sort entity order.
+     */
+    private void requireUnsorted(Sort sort) {
+        if (sort.isSorted()) {
+            throw new UnsupportedOperationException("Sorting is not supported by the in-memory storage");
+        }
+    }
+
+    /**
+     * Creates the exception thrown by the query by example methods.
+     *
+     * @return the exception.
+     */
+    private UnsupportedOperationException unsupportedExample() {
+        return new UnsupportedOperationException("Query by example is not supported by the in-memory storage");
+    }
+}
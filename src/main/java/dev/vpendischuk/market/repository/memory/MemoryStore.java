@@ -0,0 +1,1142 @@
+package dev.vpendischuk.market.repository.memory;
+
+import dev.vpendischuk.market.domain.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * In-memory storage of the market data, used instead of the database
+ *   by the in-memory repositories (<b>memory</b> profile).
+ * <p>
+ * All entities are kept in concurrent maps keyed by their IDs. Reads are not synchronized,
+ *   writes are serialized and appended to a journal in the storage directory before they return.
+ *   The whole state is periodically written to a snapshot, after which the journal is truncated.
+ *   On startup the state is recovered from the last snapshot and the journal, and compacted
+ *   into a new snapshot.
+ * <p>
+ * Catalog entries are not persisted - they are rebuilt from the products and books on recovery.
+ * <p>
+ * Writes made while an {@link UndoLog} is bound to the current thread (see {@link MemoryTransactionManager})
+ *   are recorded in it, so that they can be undone when the transaction rolls back. A write is undone
+ *   by storing the previous instance of the entity again, so changes made in place to a stored instance
+ *   and truncations can't be undone.
+ */
+public class MemoryStore implements AutoCloseable {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link MemoryStore} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(MemoryStore.class);
+
+    /**
+     * Snapshot file header.
+     */
+    private static final int SNAPSHOT_MAGIC = 0x4D4B5431;
+
+    /**
+     * Snapshot file name.
+     */
+    private static final String SNAPSHOT_FILE = "snapshot.bin";
+
+    /**
+     * Journal file name.
+     */
+    private static final String JOURNAL_FILE = "journal.bin";
+
+    /**
+     * Journal record type of a created or updated entity.
+     */
+    private static final byte PUT = 1;
+
+    /**
+     * Journal record type of a deleted entity.
+     */
+    private static final byte DELETE = 2;
+
+    /**
+     * Journal record type of a truncated table.
+     */
+    private static final byte TRUNCATE = 3;
+
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * Books mapped by their IDs.
+     */
+    private final ConcurrentMap<Long, Book> books = new ConcurrentHashMap<>();
+
+    /**
+     * Products mapped by their IDs.
+     */
+    private final ConcurrentMap<Long, Product> products = new ConcurrentHashMap<>();
+
+    /**
+     * Accounts mapped by their IDs.
+     */
+    private final ConcurrentMap<Long, Account> accounts = new ConcurrentHashMap<>();
+
+    /**
+     * Account-book entries mapped by their IDs.
+     */
+    private final ConcurrentMap<Long, AccountBook> accountBooks = new ConcurrentHashMap<>();
+
+    /**
+     * Account-book entries mapped by their account IDs and book IDs.
+     */
+    private final ConcurrentMap<Long, ConcurrentMap<Long, AccountBook>> accountBooksByAccount = new ConcurrentHashMap<>();
+
+    /**
+     * Catalog entries mapped by their product IDs.
+     */
+    private final ConcurrentMap<Long, CatalogEntry> catalog = new ConcurrentHashMap<>();
+
+    /**
+     * Last assigned IDs of every table.
+     */
+    private final Map<Table, AtomicLong> sequences = new EnumMap<>(Table.class);
+
+    /**
+     * Lock serializing the writes (held by write transactions until they complete).
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Undo logs of the transactions bound to the current threads.
+     */
+    private final ThreadLocal<UndoLog> undoLog = new ThreadLocal<>();
+
+    /**
+     * Storage directory.
+     */
+    private final Path directory;
+
+    /**
+     * Whether every journal record is synced to the disk before a write returns.
+     */
+    private final boolean syncJournal;
+
+    /**
+     * Journal file stream, used to sync the journal.
+     */
+    private FileOutputStream journalFile;
+
+    /**
+     * Journal record stream.
+     */
+    private DataOutputStream journal;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link MemoryStore} instance and recovers its state
+     *   from the specified storage directory.
+     *
+     * @param directory storage directory (created if it does not exist).
+     * @param syncJournal whether every journal record is synced to the disk before a write returns.
+     */
+    public MemoryStore(Path directory, boolean syncJournal) {
+        this.directory = directory;
+        this.syncJournal = syncJournal;
+
+        for (Table table : Table.values()) {
+            sequences.put(table, new AtomicLong());
+        }
+
+        recover();
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Retrieves the books mapped by their IDs.
+     *
+     * @return unmodifiable view of the books.
+     */
+    public Map<Long, Book> books() {
+        return Collections.unmodifiableMap(books);
+    }
+
+    /**
+     * Retrieves the products mapped by their IDs.
+     *
+     * @return unmodifiable view of the products.
+     */
+    public Map<Long, Product> products() {
+        return Collections.unmodifiableMap(products);
+    }
+
+    /**
+     * Retrieves the accounts mapped by their IDs.
+     *
+     * @return unmodifiable view of the accounts.
+     */
+    public Map<Long, Account> accounts() {
+        return Collections.unmodifiableMap(accounts);
+    }
+
+    /**
+     * Retrieves the account-book entries mapped by their IDs.
+     *
+     * @return unmodifiable view of the account-book entries.
+     */
+    public Map<Long, AccountBook> accountBooks() {
+        return Collections.unmodifiableMap(accountBooks);
+    }
+
+    /**
+     * Retrieves the account-book entries of the specified account mapped by their book IDs.
+     *
+     * @param accountId account ID.
+     * @return unmodifiable view of the account's entries.
+     */
+    public Map<Long, AccountBook> accountBooksOf(long accountId) {
+        Map<Long, AccountBook> entries = accountBooksByAccount.get(accountId);
+        return entries == null ? Collections.emptyMap() : Collections.unmodifiableMap(entries);
+    }
+
+    /**
+     * Retrieves the catalog entries mapped by their product IDs.
+     *
+     * @return unmodifiable view of the catalog entries.
+     */
+    public Map<Long, CatalogEntry> catalog() {
+        return Collections.unmodifiableMap(catalog);
+    }
+
+    /**
+     * Assigns a new ID in the specified table.
+     *
+     * @param table the table.
+     * @return the new ID.
+     */
+    public long nextId(Table table) {
+        return sequences.get(table).incrementAndGet();
+    }
+
+    /**
+     * Runs the specified action with all other writes blocked, so that it can read
+     *   and write the data atomically.
+     *
+     * @param action the action.
+     * @param <R> action result type.
+     * @return action result.
+     */
+    public <R> R atomically(Supplier<R> action) {
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stores the current state of the specified book.
+     *
+     * @param book the book with an assigned ID.
+     */
+    public void putBook(Book book) {
+        lock.lock();
+        try {
+            recordPut(Table.BOOKS, book.getId(), books.get(book.getId()), book, this::putBook);
+
+            applyBook(book);
+            journal(PUT, Table.BOOKS, out -> writeBook(out, book));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stores the current state of the specified product.
+     *
+     * @param product the product with an assigned ID and a stored book.
+     */
+    public void putProduct(Product product) {
+        lock.lock();
+        try {
+            requireStored(books, product.getProductBook().getId(), "book");
+            recordPut(Table.PRODUCTS, product.getId(), products.get(product.getId()), product, this::putProduct);
+
+            applyProduct(product);
+            journal(PUT, Table.PRODUCTS, out -> writeProduct(out, product));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stores the current state of the specified account.
+     *
+     * @param account the account with an assigned ID.
+     */
+    public void putAccount(Account account) {
+        lock.lock();
+        try {
+            recordPut(Table.ACCOUNTS, account.getId(), accounts.get(account.getId()), account, this::putAccount);
+
+            applyAccount(account);
+            journal(PUT, Table.ACCOUNTS, out -> writeAccount(out, account));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stores the current state of the specified account-book entry.
+     *
+     * @param accountBook the entry with an assigned ID, a stored account and a stored book.
+     */
+    public void putAccountBook(AccountBook accountBook) {
+        lock.lock();
+        try {
+            requireStored(accounts, accountBook.getAccount().getId(), "account");
+            requireStored(books, accountBook.getBook().getId(), "book");
+
+            AccountBook duplicate = accountBooksOf(accountBook.getAccount().getId()).get(accountBook.getBook().getId());
+            if (duplicate != null && !duplicate.getId().equals(accountBook.getId())) {
+                throw new DataIntegrityViolationException("Account-book entry for Account ID "
+                        + accountBook.getAccount().getId() + " and Book ID " + accountBook.getBook().getId()
+                        + " already exists");
+            }
+
+            recordPut(Table.ACCOUNT_BOOK, accountBook.getId(), accountBooks.get(accountBook.getId()), accountBook,
+                    this::putAccountBook);
+
+            applyAccountBook(accountBook);
+            journal(PUT, Table.ACCOUNT_BOOK, out -> writeAccountBook(out, accountBook));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the entity with the specified ID from the specified table.
+     * <p>
+     * Account-book entries of a removed account are removed as well. A book cannot be removed
+     *   while products or account-book entries refer to it.
+     *
+     * @param table the table.
+     * @param id entity ID.
+     */
+    public void remove(Table table, long id) {
+        lock.lock();
+        try {
+            if (table == Table.BOOKS && (products.values().stream().anyMatch(product -> isOf(product, id))
+                    || accountBooks.values().stream().anyMatch(entry -> entry.getBook().getId() == id))) {
+                throw new DataIntegrityViolationException("Book ID " + id + " is still referenced");
+            }
+
+            if (table == Table.ACCOUNTS) {
+                for (AccountBook entry : List.copyOf(accountBooksOf(id).values())) {
+                    remove(Table.ACCOUNT_BOOK, entry.getId());
+                }
+            }
+
+            recordRemove(table, id);
+
+            applyRemove(table, id);
+            journal(DELETE, table, out -> out.writeLong(id));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all entities from the specified table and from the tables referring to it.
+     * <p>
+     * The account ID sequence is restarted when the accounts are truncated.
+     *
+     * @param table the table.
+     */
+    public void truncate(Table table) {
+        lock.lock();
+        try {
+            UndoLog log = undoLog.get();
+            if (log != null) {
+                log.complete = false;
+            }
+
+            applyTruncate(table);
+            journal(TRUNCATE, table, out -> { });
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Brings the catalog entries of the specified products up to date,
+     *   incrementing the versions of the updated entries.
+     *
+     * @param productIds product IDs.
+     * @return number of created or updated entries.
+     */
+    public int refreshCatalog(Collection<Long> productIds) {
+        lock.lock();
+        try {
+            int refreshedCount = 0;
+
+            for (Long productId : productIds) {
+                Product product = products.get(productId);
+
+                if (product != null) {
+                    refreshCatalogEntry(product);
+                    refreshedCount++;
+                }
+            }
+
+            return refreshedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Brings the book data of the catalog entries of the specified books' products up to date,
+     *   incrementing the versions of the updated entries.
+     *
+     * @param bookIds book IDs.
+     * @return number of updated entries.
+     */
+    public int refreshCatalogBooks(Collection<Long> bookIds) {
+        lock.lock();
+        try {
+            Set<Long> bookIdSet = new HashSet<>(bookIds);
+            int refreshedCount = 0;
+
+            for (CatalogEntry entry : List.copyOf(catalog.values())) {
+                Product product = products.get(entry.getProductId());
+
+                if (product != null && bookIdSet.contains(entry.getBookId())) {
+                    refreshCatalogEntry(product);
+                    refreshedCount++;
+                }
+            }
+
+            return refreshedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Binds the specified undo log to the current thread, so that the writes made by the thread
+     *   are recorded in it.
+     *
+     * @param log the undo log or null, to stop recording the writes.
+     */
+    void bindUndoLog(UndoLog log) {
+        if (log == null) {
+            undoLog.remove();
+        } else {
+            undoLog.set(log);
+        }
+    }
+
+    /**
+     * Undoes the writes recorded in the specified undo log, the latest first.
+     * <p>
+     * The undoing writes are journaled like any other writes, but not recorded.
+     *
+     * @param log the undo log.
+     * @return true if all recorded writes were undone, false if some of them can't be undone.
+     */
+    boolean undo(UndoLog log) {
+        lock.lock();
+        UndoLog boundLog = undoLog.get();
+        undoLog.remove();
+
+        try {
+            boolean undone = log.complete;
+
+            while (!log.actions.isEmpty()) {
+                try {
+                    log.actions.pop().run();
+                } catch (RuntimeException ex) {
+                    logger.warn("Could not undo an in-memory storage write", ex);
+                    undone = false;
+                }
+            }
+
+            return undone;
+        } finally {
+            bindUndoLog(boundLog);
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Blocks all other writes until {@link #unlockWrites()} is called by the current thread.
+     */
+    void lockWrites() {
+        lock.lock();
+    }
+
+    /**
+     * Releases the lock taken by {@link #lockWrites()}.
+     */
+    void unlockWrites() {
+        lock.unlock();
+    }
+
+    /**
+     * Writes the whole state to a new snapshot and truncates the journal.
+     * <p>
+     * The snapshot is written to a temporary file that replaces the previous snapshot
+     *   only when it's complete. If the journal can't be truncated after that, replaying it
+     *   over the new snapshot yields the same state.
+     * <p>
+     * Snapshots are written every <b>market.storage.memory.snapshot-interval</b> ms.
+     */
+    @Scheduled(initialDelayString = "${market.storage.memory.snapshot-interval:60000}",
+            fixedDelayString = "${market.storage.memory.snapshot-interval:60000}")
+    public void snapshot() {
+        lock.lock();
+        try {
+            writeSnapshot();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes a final snapshot and closes the journal.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            writeSnapshot();
+            closeJournal();
+        } catch (IOException ex) {
+            logger.warn("Could not close in-memory storage journal", ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Writes the whole state to a new snapshot and truncates the journal.
+     */
+    private void writeSnapshot() {
+        long startTime = System.nanoTime();
+        Path snapshotPath = directory.resolve(SNAPSHOT_FILE);
+        Path temporaryPath = directory.resolve(SNAPSHOT_FILE + ".tmp");
+
+        try {
+            try (FileOutputStream file = new FileOutputStream(temporaryPath.toFile());
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+
+                for (Book book : sortedById(books)) {
+                    writeRecord(out, PUT, Table.BOOKS, record -> writeBook(record, book));
+                }
+                for (Product product : sortedById(products)) {
+                    writeRecord(out, PUT, Table.PRODUCTS, record -> writeProduct(record, product));
+                }
+                for (Account account : sortedById(accounts)) {
+                    writeRecord(out, PUT, Table.ACCOUNTS, record -> writeAccount(record, account));
+                }
+                for (AccountBook accountBook : sortedById(accountBooks)) {
+                    writeRecord(out, PUT, Table.ACCOUNT_BOOK, record -> writeAccountBook(record, accountBook));
+                }
+
+                out.flush();
+                file.getFD().sync();
+            }
+
+            Files.move(temporaryPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            closeJournal();
+            openJournal(false);
+        } catch (IOException ex) {
+            throw new DataAccessResourceFailureException("Could not write in-memory storage snapshot", ex);
+        }
+
+        logger.info("Written in-memory storage snapshot ({} books, {} products, {} accounts, {} account-book entries) "
+                        + "in {} ms", books.size(), products.size(), accounts.size(), accountBooks.size(),
+                (System.nanoTime() - startTime) / 1_000_000);
+    }
+
+    /**
+     * Recovers the state from the snapshot and the journal in the storage directory,
+     *   rebuilds the catalog and compacts the state into a new snapshot.
+     * <p>
+     * An incomplete record at the end of the journal (left by a crash) is discarded.
+     */
+    private void recover() {
+        long startTime = System.nanoTime();
+
+        try {
+            Files.createDirectories(directory);
+
+            Path snapshotPath = directory.resolve(SNAPSHOT_FILE);
+            if (Files.exists(snapshotPath)) {
+                try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+                    if (in.readInt() != SNAPSHOT_MAGIC) {
+                        throw new DataAccessResourceFailureException("Invalid in-memory storage snapshot " + snapshotPath);
+                    }
+
+                    replay(in);
+                }
+            }
+
+            Path journalPath = directory.resolve(JOURNAL_FILE);
+            long journalRecords = 0;
+            if (Files.exists(journalPath)) {
+                try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(journalPath)))) {
+                    journalRecords = replay(in);
+                }
+            }
+
+            for (Product product : products.values()) {
+                refreshCatalogEntry(product);
+            }
+
+            openJournal(true);
+
+            logger.info("Recovered in-memory storage from {} ({} journal records) in {} ms",
+                    directory, journalRecords, (System.nanoTime() - startTime) / 1_000_000);
+        } catch (IOException ex) {
+            throw new DataAccessResourceFailureException("Could not recover in-memory storage from " + directory, ex);
+        }
+
+        snapshot();
+    }
+
+    /**
+     * Applies the records of the specified stream to the state.
+     *
+     * @param in record stream.
+     * @return number of applied records.
+     * @throws IOException if the stream can't be read.
+     */
+    private long replay(DataInputStream in) throws IOException {
+        long recordCount = 0;
+
+        while (true) {
+            int type = in.read();
+            if (type == -1) {
+                return recordCount;
+            }
+
+            try {
+                Table table = Table.values()[in.readByte()];
+
+                switch (type) {
+                    case PUT -> replayPut(in, table);
+                    case DELETE -> applyRemove(table, in.readLong());
+                    case TRUNCATE -> applyTruncate(table);
+                    default -> throw new DataAccessResourceFailureException("Invalid in-memory storage record type " + type);
+                }
+            } catch (EOFException ex) {
+                logger.warn("Discarding incomplete in-memory storage record after {} records", recordCount);
+                return recordCount;
+            }
+
+            recordCount++;
+        }
+    }
+
+    /**
+     * Applies a created or updated entity record to the state.
+     *
+     * @param in record stream positioned at the entity data.
+     * @param table entity table.
+     * @throws IOException if the stream can't be read.
+     */
+    private void replayPut(DataInputStream in, Table table) throws IOException {
+        long id = in.readLong();
+
+        switch (table) {
+            case BOOKS -> {
+                String name = in.readUTF();
+                String author = in.readUTF();
+                Book book = books.computeIfAbsent(id, key -> new Book());
+
+                book.setId(id);
+                book.setName(name);
+                book.setAuthor(author);
+                applyBook(book);
+            }
+            case PRODUCTS -> {
+                Book book = books.get(in.readLong());
+                int price = in.readInt();
+                int amount = in.readInt();
+                long soldOutAt = in.readLong();
+                Product product = products.computeIfAbsent(id, key -> new Product());
+
+                product.setId(id);
+                product.setProductBook(book);
+                product.setPrice(price);
+                product.setAmount(amount);
+                new DirectFieldAccessor(product).setPropertyValue("soldOutAt",
+                        soldOutAt == Long.MIN_VALUE ? null : Instant.ofEpochMilli(soldOutAt));
+                applyProduct(product);
+            }
+            case ACCOUNTS -> {
+                int balance = in.readInt();
+                Account account = accounts.computeIfAbsent(id, key -> new Account());
+
+                account.setId(id);
+                account.setBalance(balance);
+                applyAccount(account);
+            }
+            case ACCOUNT_BOOK -> {
+                Account account = accounts.get(in.readLong());
+                Book book = books.get(in.readLong());
+                int amount = in.readInt();
+                AccountBook accountBook = accountBooks.get(id);
+
+                if (accountBook == null) {
+                    accountBook = new AccountBook(account, book, amount);
+                    new DirectFieldAccessor(accountBook).setPropertyValue("id", id);
+                } else {
+                    accountBook.setAmount(amount);
+                }
+
+                applyAccountBook(accountBook);
+            }
+        }
+    }
+
+    /**
+     * Stores the specified book in the state.
+     *
+     * @param book the book.
+     */
+    private void applyBook(Book book) {
+        books.put(book.getId(), book);
+        advanceSequence(Table.BOOKS, book.getId());
+    }
+
+    /**
+     * Stores the specified product in the state.
+     *
+     * @param product the product.
+     */
+    private void applyProduct(Product product) {
+        products.put(product.getId(), product);
+        advanceSequence(Table.PRODUCTS, product.getId());
+    }
+
+    /**
+     * Stores the specified account in the state.
+     *
+     * @param account the account.
+     */
+    private void applyAccount(Account account) {
+        accounts.put(account.getId(), account);
+        advanceSequence(Table.ACCOUNTS, account.getId());
+    }
+
+    /**
+     * Stores the specified account-book entry in the state.
+     *
+     * @param accountBook the account-book entry.
+     */
+    private void applyAccountBook(AccountBook accountBook) {
+        accountBooks.put(accountBook.getId(), accountBook);
+        accountBooksByAccount.computeIfAbsent(accountBook.getAccount().getId(), key -> new ConcurrentHashMap<>())
+                .put(accountBook.getBook().getId(), accountBook);
+        advanceSequence(Table.ACCOUNT_BOOK, accountBook.getId());
+    }
+
+    /**
+     * Removes the entity with the specified ID from the state.
+     *
+     * @param table entity table.
+     * @param id entity ID.
+     */
+    private void applyRemove(Table table, long id) {
+        switch (table) {
+            case BOOKS -> books.remove(id);
+            case PRODUCTS -> {
+                products.remove(id);
+                catalog.remove(id);
+            }
+            case ACCOUNTS -> {
+                accounts.remove(id);
+                accountBooksByAccount.remove(id);
+            }
+            case ACCOUNT_BOOK -> {
+                AccountBook accountBook = accountBooks.remove(id);
+
+                if (accountBook != null) {
+                    Map<Long, AccountBook> entries = accountBooksByAccount.get(accountBook.getAccount().getId());
+                    if (entries != null) {
+                        entries.remove(accountBook.getBook().getId());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all entities of the specified table and of the tables referring to it from the state.
+     *
+     * @param table the table.
+     */
+    private void applyTruncate(Table table) {
+        switch (table) {
+            case BOOKS -> {
+                books.clear();
+                applyTruncate(Table.PRODUCTS);
+                applyTruncate(Table.ACCOUNT_BOOK);
+            }
+            case PRODUCTS -> {
+                products.clear();
+                catalog.clear();
+            }
+            case ACCOUNTS -> {
+                accounts.clear();
+                sequences.get(Table.ACCOUNTS).set(0);
+                applyTruncate(Table.ACCOUNT_BOOK);
+            }
+            case ACCOUNT_BOOK -> {
+                accountBooks.clear();
+                accountBooksByAccount.clear();
+            }
+        }
+    }
+
+    /**
+     * Creates or updates the catalog entry of the specified product.
+     *
+     * @param product the product.
+     */
+    private void refreshCatalogEntry(Product product) {
+        CatalogEntry previous = catalog.get(product.getId());
+        Book book = product.getProductBook();
+
+        record(() -> restoreCatalogEntry(product.getId(), previous));
+
+        catalog.put(product.getId(), new CatalogEntry(product.getId(), book.getId(), book.getName(), book.getAuthor(),
+                product.getPrice(), product.getAmount(), previous == null ? 1L : previous.getVersion() + 1));
+    }
+
+    /**
+     * Puts the specified previous catalog entry of the product back, or removes the product's entry
+     *   if it had none.
+     *
+     * @param productId product ID.
+     * @param previous previous catalog entry or null, if the product had none.
+     */
+    private void restoreCatalogEntry(long productId, CatalogEntry previous) {
+        if (previous == null) {
+            catalog.remove(productId);
+        } else {
+            catalog.put(productId, previous);
+        }
+    }
+
+    /**
+     * Records the undo of a write to the undo log bound to the current thread, if any.
+     *
+     * @param action action undoing the write.
+     */
+    private void record(Runnable action) {
+        UndoLog log = undoLog.get();
+        if (log != null) {
+            log.actions.push(action);
+        }
+    }
+
+    /**
+     * Records the undo of storing the specified entity.
+     * <p>
+     * The write can't be undone if the stored instance of the entity was changed in place.
+     *
+     * @param table entity table.
+     * @param id entity ID.
+     * @param previous previously stored instance of the entity or null, if it's a new entity.
+     * @param entity stored instance of the entity.
+     * @param put method storing an instance of the entity.
+     * @param <T> entity type.
+     */
+    private <T> void recordPut(Table table, long id, T previous, T entity, Consumer<T> put) {
+        UndoLog log = undoLog.get();
+        if (log == null) {
+            return;
+        }
+
+        if (previous == null) {
+            record(() -> remove(table, id));
+        } else if (previous != entity) {
+            record(() -> put.accept(previous));
+        } else {
+            log.complete = false;
+        }
+    }
+
+    /**
+     * Records the undo of removing the entity with the specified ID.
+     *
+     * @param table entity table.
+     * @param id entity ID.
+     */
+    private void recordRemove(Table table, long id) {
+        switch (table) {
+            case BOOKS -> {
+                Book previous = books.get(id);
+                if (previous != null) {
+                    record(() -> putBook(previous));
+                }
+            }
+            case PRODUCTS -> {
+                Product previous = products.get(id);
+                CatalogEntry previousEntry = catalog.get(id);
+                if (previous != null) {
+                    record(() -> restoreCatalogEntry(id, previousEntry));
+                    record(() -> putProduct(previous));
+                }
+            }
+            case ACCOUNTS -> {
+                Account previous = accounts.get(id);
+                if (previous != null) {
+                    record(() -> putAccount(previous));
+                }
+            }
+            case ACCOUNT_BOOK -> {
+                AccountBook previous = accountBooks.get(id);
+                if (previous != null) {
+                    record(() -> putAccountBook(previous));
+                }
+            }
+        }
+    }
+
+    /**
+     * Makes sure the sequence of the specified table does not assign the specified ID.
+     *
+     * @param table the table.
+     * @param id assigned ID.
+     */
+    private void advanceSequence(Table table, long id) {
+        sequences.get(table).accumulateAndGet(id, Math::max);
+    }
+
+    /**
+     * Checks that the entity with the specified ID is stored.
+     *
+     * @param entities stored entities.
+     * @param id entity ID.
+     * @param name entity name used in the error message.
+     */
+    private void requireStored(Map<Long, ?> entities, Long id, String name) {
+        if (id == null || !entities.containsKey(id)) {
+            throw new DataIntegrityViolationException("Referenced " + name + " ID " + id + " is not stored");
+        }
+    }
+
+    /**
+     * Checks if the specified product represents the book with the specified ID.
+     *
+     * @param product the product.
+     * @param bookId book ID.
+     * @return true if the product represents the book, false otherwise.
+     */
+    private boolean isOf(Product product, long bookId) {
+        return product.getProductBook() != null && product.getProductBook().getId() == bookId;
+    }
+
+    /**
+     * Appends a record to the journal.
+     *
+     * @param type record type.
+     * @param table record table.
+     * @param writer writer of the record data.
+     */
+    private void journal(byte type, Table table, RecordWriter writer) {
+        try {
+            writeRecord(journal, type, table, writer);
+            journal.flush();
+
+            if (syncJournal) {
+                journalFile.getFD().sync();
+            }
+        } catch (IOException ex) {
+            throw new DataAccessResourceFailureException("Could not write to in-memory storage journal", ex);
+        }
+    }
+
+    /**
+     * Writes a record to the specified stream.
+     *
+     * @param out record stream.
+     * @param type record type.
+     * @param table record table.
+     * @param writer writer of the record data.
+     * @throws IOException if the record can't be written.
+     */
+    private void writeRecord(DataOutputStream out, byte type, Table table, RecordWriter writer) throws IOException {
+        out.writeByte(type);
+        out.writeByte(table.ordinal());
+        writer.write(out);
+    }
+
+    /**
+     * Writes the data of the specified book.
+     *
+     * @param out record stream.
+     * @param book the book.
+     * @throws IOException if the data can't be written.
+     */
+    private void writeBook(DataOutputStream out, Book book) throws IOException {
+        out.writeLong(book.getId());
+        out.writeUTF(book.getName());
+        out.writeUTF(book.getAuthor());
+    }
+
+    /**
+     * Writes the data of the specified product.
+     *
+     * @param out record stream.
+     * @param product the product.
+     * @throws IOException if the data can't be written.
+     */
+    private void writeProduct(DataOutputStream out, Product product) throws IOException {
+        out.writeLong(product.getId());
+        out.writeLong(product.getProductBook().getId());
+        out.writeInt(product.getPrice());
+        out.writeInt(product.getAmount());
+        out.writeLong(product.getSoldOutAt() == null ? Long.MIN_VALUE : product.getSoldOutAt().toEpochMilli());
+    }
+
+    /**
+     * Writes the data of the specified account.
+     *
+     * @param out record stream.
+     * @param account the account.
+     * @throws IOException if the data can't be written.
+     */
+    private void writeAccount(DataOutputStream out, Account account) throws IOException {
+        out.writeLong(account.getId());
+        out.writeInt(account.getBalance());
+    }
+
+    /**
+     * Writes the data of the specified account-book entry.
+     *
+     * @param out record stream.
+     * @param accountBook the account-book entry.
+     * @throws IOException if the data can't be written.
+     */
+    private void writeAccountBook(DataOutputStream out, AccountBook accountBook) throws IOException {
+        out.writeLong(accountBook.getId());
+        out.writeLong(accountBook.getAccount().getId());
+        out.writeLong(accountBook.getBook().getId());
+        out.writeInt(accountBook.getAmount());
+    }
+
+    /**
+     * Opens the journal file for writing.
+     *
+     * @param append whether the records are appended to the existing journal.
+     * @throws IOException if the journal can't be opened.
+     */
+    private void openJournal(boolean append) throws IOException {
+        journalFile = new FileOutputStream(directory.resolve(JOURNAL_FILE).toFile(), append);
+        journal = new DataOutputStream(new BufferedOutputStream(journalFile));
+    }
+
+    /**
+     * Closes the journal file, if it's open.
+     *
+     * @throws IOException if the journal can't be closed.
+     */
+    private void closeJournal() throws IOException {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+            journalFile = null;
+        }
+    }
+
+    /**
+     * Retrieves the specified entities in ID order, so that snapshots are deterministic.
+     *
+     * @param entities entities mapped by their IDs.
+     * @param <T> entity type.
+     * @return list of the entities.
+     */
+    private static <T> List<T> sortedById(Map<Long, T> entities) {
+        return new TreeMap<>(entities).values().stream().toList();
+    }
+
+    /* --------------------------- Nested classes -------------------------- */
+
+    /**
+     * Tables of the in-memory storage. The ordinals are written to the journal and snapshots.
+     */
+    public enum Table {
+        /**
+         * Books.
+         */
+        BOOKS,
+
+        /**
+         * Products.
+         */
+        PRODUCTS,
+
+        /**
+         * Accounts.
+         */
+        ACCOUNTS,
+
+        /**
+         * Account-book entries.
+         */
+        ACCOUNT_BOOK
+    }
+
+    /**
+     * Log of the writes made in a transaction, used to undo them when the transaction rolls back.
+     */
+    static final class UndoLog {
+        /**
+         * Actions undoing the recorded writes, the latest first.
+         */
+        private final Deque<Runnable> actions = new ArrayDeque<>();
+
+        /**
+         * Whether all recorded writes can be undone.
+         */
+        private boolean complete = true;
+    }
+
+    /**
+     * Writer of a record's data.
+     */
+    @FunctionalInterface
+    private interface RecordWriter {
+        /**
+         * Writes the record data.
+         *
+         * @param out record stream.
+         * @throws IOException if the data can't be written.
+         */
+        void write(DataOutputStream out) throws IOException;
+    }
+}
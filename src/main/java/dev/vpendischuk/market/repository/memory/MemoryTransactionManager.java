@@ -0,0 +1,188 @@
+package dev.vpendischuk.market.repository.memory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.SmartTransactionObject;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Transaction manager used with the in-memory storage (<b>memory</b> profile).
+ * <p>
+ * Every write is applied to the {@link MemoryStore} immediately and recorded in the transaction's
+ *   {@link MemoryStore.UndoLog}, which is replayed backwards when the transaction rolls back.
+ *   Read-write transactions block the writes of all other threads until they complete,
+ *   so that a rollback never undoes a write made by another transaction. Uncommitted writes
+ *   are visible to the readers, though.
+ */
+public class MemoryTransactionManager extends AbstractPlatformTransactionManager {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link MemoryTransactionManager} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(MemoryTransactionManager.class);
+
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * A {@link MemoryStore} instance the transactions write to.
+     */
+    private final MemoryStore store;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link MemoryTransactionManager} instance.
+     *
+     * @param store in-memory storage the transactions write to.
+     */
+    public MemoryTransactionManager(MemoryStore store) {
+        this.store = store;
+    }
+
+    /* ------------------------- Protected methods ------------------------- */
+
+    // doGetTransaction() method override.
+    @Override
+    protected Object doGetTransaction() {
+        return new MemoryTransaction((TransactionState) TransactionSynchronizationManager.getResource(this));
+    }
+
+    // isExistingTransaction() method override.
+    @Override
+    protected boolean isExistingTransaction(Object transaction) {
+        return ((MemoryTransaction) transaction).state != null;
+    }
+
+    // doBegin() method override.
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        TransactionState state = new TransactionState(!definition.isReadOnly());
+
+        if (state.locking) {
+            store.lockWrites();
+        }
+
+        ((MemoryTransaction) transaction).state = state;
+        TransactionSynchronizationManager.bindResource(this, state);
+        store.bindUndoLog(state.undoLog);
+    }
+
+    // doSuspend() method override.
+    @Override
+    protected Object doSuspend(Object transaction) {
+        ((MemoryTransaction) transaction).state = null;
+        store.bindUndoLog(null);
+
+        return TransactionSynchronizationManager.unbindResource(this);
+    }
+
+    // doResume() method override.
+    @Override
+    protected void doResume(Object transaction, Object suspendedResources) {
+        TransactionState state = (TransactionState) suspendedResources;
+
+        TransactionSynchronizationManager.bindResource(this, state);
+        store.bindUndoLog(state.undoLog);
+    }
+
+    // doCommit() method override.
+    // The changes are already applied.
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+    }
+
+    // doRollback() method override.
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+        if (!store.undo(((MemoryTransaction) status.getTransaction()).state.undoLog)) {
+            logger.warn("Rolled back an in-memory storage transaction - changes made in place "
+                    + "or by truncations are not undone");
+        }
+    }
+
+    // doSetRollbackOnly() method override.
+    // The transaction is rolled back by its outermost method.
+    @Override
+    protected void doSetRollbackOnly(DefaultTransactionStatus status) {
+        ((MemoryTransaction) status.getTransaction()).state.rollbackOnly = true;
+    }
+
+    // doCleanupAfterCompletion() method override.
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        TransactionState state = ((MemoryTransaction) transaction).state;
+
+        store.bindUndoLog(null);
+        TransactionSynchronizationManager.unbindResourceIfPossible(this);
+
+        if (state != null && state.locking) {
+            store.unlockWrites();
+        }
+    }
+
+    /* --------------------------- Nested classes -------------------------- */
+
+    /**
+     * Transaction object of the in-memory storage.
+     */
+    private static class MemoryTransaction implements SmartTransactionObject {
+        /**
+         * State of the transaction the object takes part in, null if no transaction is active.
+         */
+        private TransactionState state;
+
+        /**
+         * Initializes a new {@link MemoryTransaction} instance.
+         *
+         * @param state state of the active transaction or null, if no transaction is active.
+         */
+        private MemoryTransaction(TransactionState state) {
+            this.state = state;
+        }
+
+        // isRollbackOnly() method override.
+        @Override
+        public boolean isRollbackOnly() {
+            return state != null && state.rollbackOnly;
+        }
+
+        // flush() method override.
+        // The changes are already applied.
+        @Override
+        public void flush() {
+        }
+    }
+
+    /**
+     * State of an in-memory storage transaction, shared by all methods taking part in it.
+     */
+    private static class TransactionState {
+        /**
+         * Log of the writes made in the transaction.
+         */
+        private final MemoryStore.UndoLog undoLog = new MemoryStore.UndoLog();
+
+        /**
+         * Whether the transaction blocks the writes of other threads.
+         */
+        private final boolean locking;
+
+        /**
+         * Whether the transaction has been marked as rollback-only by a participating method.
+         */
+        private boolean rollbackOnly;
+
+        /**
+         * Initializes a new {@link TransactionState} instance.
+         *
+         * @param locking whether the transaction blocks the writes of other threads.
+         */
+        private TransactionState(boolean locking) {
+            this.locking = locking;
+        }
+    }
+}
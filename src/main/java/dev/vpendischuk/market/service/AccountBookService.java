@@ -1,8 +1,6 @@
 package dev.vpendischuk.market.service;
 
-import dev.vpendischuk.market.domain.Account;
 import dev.vpendischuk.market.domain.AccountBook;
-import dev.vpendischuk.market.domain.Book;
 import dev.vpendischuk.market.repository.AccountBookRepository;
 
 /**
@@ -10,15 +8,6 @@ import dev.vpendischuk.market.repository.AccountBookRepository;
  *   service that provides access to the {@link AccountBookRepository}.
  */
 public interface AccountBookService {
-    /**
-     * Retrieves an account-book entry for the given account and book.
-     *
-     * @param account the account.
-     * @param book the purchased book.
-     * @return the retrieved entry or null, if no entry exists for the given parameters.
-     */
-    AccountBook getByAccountAndBookOrCreate(Account account, Book book);
-
     /**
      * Saves a non-null account-book entry in the database.
      *
@@ -34,11 +23,12 @@ public interface AccountBookService {
      * @param accountId account of the purchaser.
      * @param bookId the purchased book ID.
      * @param quantity purchased book quantity.
+     * @throws IllegalArgumentException if the account or the book does not exist.
      */
     void addOne(long accountId, long bookId, int quantity);
 
     /**
-     * Deletes all account-book entries and resets their ID generation.
+     * Deletes all account-book entries.
      */
     void truncate();
 }
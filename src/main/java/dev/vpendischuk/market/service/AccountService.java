@@ -1,5 +1,6 @@
 package dev.vpendischuk.market.service;
 
+import dev.vpendischuk.market.cache.model.AccountReadModel;
 import dev.vpendischuk.market.domain.Account;
 import dev.vpendischuk.market.repository.AccountRepository;
 
@@ -29,6 +30,18 @@ public interface AccountService {
      */
     Account getCurrentAccount();
 
+    /**
+     * Retrieves the current user's account read model.
+     * <p>
+     * The model is loaded from the database and then served from memory,
+     *   as all account data changes made through the services are applied to it in place.
+     *   The model is meant for displaying account data only - as it may lag behind changes
+     *   made by other application instances, it must not be used to validate deals.
+     *
+     * @return the current user's account read model or null, if the account doesn't exist.
+     */
+    AccountReadModel getCurrentAccountReadModel();
+
     /**
      * Saves a non-null account in the database.
      *
@@ -38,12 +51,15 @@ public interface AccountService {
     Account save(Account account);
 
     /**
-     * Deducts the specified amount of money from the account.
+     * Deducts the specified amount of money from the account, if the account balance covers it.
+     * <p>
+     * The balance is checked against the account data in the database as a part of the update.
      *
      * @param id account ID.
      * @param decrement balance decrement.
+     * @return true if the balance was decreased, false if the account does not exist or its balance is too low.
      */
-    void decreaseBalance(long id, int decrement);
+    boolean decreaseBalance(long id, int decrement);
 
     /**
      * Deletes all account entries and resets their ID generation.
@@ -3,11 +3,20 @@ package dev.vpendischuk.market.service;
 import dev.vpendischuk.market.domain.Book;
 import dev.vpendischuk.market.repository.BookRepository;
 
+import java.util.List;
+
 /**
  * Interface that describes an account book service -
  *   service that provides access to the {@link BookRepository}.
  */
 public interface BookService {
+    /**
+     * Retrieves all persisted book entries in the database.
+     *
+     * @return list of all persisted book entries.
+     */
+    List<Book> findAll();
+
     /**
      * Finds the book with the specified ID in the database.
      *
@@ -26,7 +35,22 @@ public interface BookService {
     Book save(Book book);
 
     /**
-     * Deletes all book entries and resets their ID generation.
+     * Saves a non-null list of book entries in the database in batches.
+     *
+     * @param books the book entries to be persisted.
+     * @return the persisted book entries.
+     */
+    List<Book> saveAll(List<Book> books);
+
+    /**
+     * Retrieves the number of persisted book entries in the database.
+     *
+     * @return number of book entries.
+     */
+    long count();
+
+    /**
+     * Deletes all book entries.
      */
     void truncate();
 }
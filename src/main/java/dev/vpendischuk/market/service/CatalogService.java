@@ -0,0 +1,46 @@
+package dev.vpendischuk.market.service;
+
+import dev.vpendischuk.market.domain.CatalogEntry;
+import dev.vpendischuk.market.domain.ProductAvailability;
+import dev.vpendischuk.market.repository.CatalogEntryRepository;
+
+import java.util.List;
+
+/**
+ * Interface that describes a catalog service -
+ *   service that provides access to the {@link CatalogEntryRepository}.
+ */
+public interface CatalogService {
+    /**
+     * Retrieves the catalog entries of the products with the specified availability.
+     *
+     * @param availability product availability.
+     * @return list of the catalog entries, in product ID order.
+     */
+    List<CatalogEntry> findAll(ProductAvailability availability);
+
+    /**
+     * Finds the catalog entry of the product with the specified ID.
+     *
+     * @param productId product ID.
+     * @return the found catalog entry or null, if no product
+     *   with the specified ID exists.
+     */
+    CatalogEntry findById(long productId);
+
+    /**
+     * Brings the catalog entries of the specified products up to date
+     *   in the current transaction.
+     *
+     * @param productIds IDs of the created or changed products.
+     */
+    void refreshProducts(List<Long> productIds);
+
+    /**
+     * Brings the catalog entries of the specified books' products up to date
+     *   in the current transaction.
+     *
+     * @param bookIds IDs of the changed books.
+     */
+    void refreshBooks(List<Long> bookIds);
+}
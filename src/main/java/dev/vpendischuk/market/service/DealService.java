@@ -0,0 +1,18 @@
+package dev.vpendischuk.market.service;
+
+/**
+ * Interface that describes a deal service - service that performs book purchase deals
+ *   for the current account.
+ */
+public interface DealService {
+    /**
+     * Performs a book purchase deal for the current account, if the {@link DealValidator} accepts it
+     *   and the account balance covers it.
+     *
+     * @param productId purchased product ID.
+     * @param amount purchased product quantity.
+     * @return the rejection reason or null, if the deal was performed.
+     * @throws IllegalArgumentException if the product was bought out concurrently.
+     */
+    DealValidator.Rejection performDeal(long productId, int amount);
+}
@@ -0,0 +1,71 @@
+package dev.vpendischuk.market.service;
+
+import dev.vpendischuk.market.domain.Product;
+import org.springframework.stereotype.Component;
+
+/**
+ * Validator of book purchase deals.
+ * <p>
+ * The validator has no side effects, so it's also used to pre-heat
+ *   the deal code path on application startup. Its balance check only rejects
+ *   deals early - the balance is checked again by the update that pays for the deal,
+ *   as concurrent deals may spend it in the meantime.
+ */
+@Component
+public class DealValidator {
+    /**
+     * Reasons a deal may be rejected for.
+     */
+    public enum Rejection {
+        /**
+         * Product with the requested ID does not exist.
+         */
+        PRODUCT_NOT_FOUND,
+
+        /**
+         * Current account data could not be found.
+         */
+        ACCOUNT_UNKNOWN,
+
+        /**
+         * Product amount is lower than the requested quantity.
+         */
+        NOT_ENOUGH_PRODUCT,
+
+        /**
+         * Account balance is lower than the deal price.
+         */
+        NOT_ENOUGH_MONEY
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Checks if the deal for the specified product and quantity may be performed
+     *   by the account with the specified balance.
+     *
+     * @param product the purchased product (may be null).
+     * @param balance the purchaser's account balance (null if the account does not exist).
+     * @param amount purchased product quantity.
+     * @return the rejection reason or null, if the deal may be performed.
+     */
+    public Rejection validate(Product product, Integer balance, int amount) {
+        if (product == null) {
+            return Rejection.PRODUCT_NOT_FOUND;
+        }
+
+        if (balance == null) {
+            return Rejection.ACCOUNT_UNKNOWN;
+        }
+
+        if (product.getAmount() < amount) {
+            return Rejection.NOT_ENOUGH_PRODUCT;
+        }
+
+        if (product.getPrice() * amount > balance) {
+            return Rejection.NOT_ENOUGH_MONEY;
+        }
+
+        return null;
+    }
+}
@@ -1,8 +1,10 @@
 package dev.vpendischuk.market.service;
 
 import dev.vpendischuk.market.domain.Product;
+import dev.vpendischuk.market.domain.ProductAvailability;
 import dev.vpendischuk.market.repository.ProductRepository;
 
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -17,6 +19,14 @@ public interface ProductService {
      */
     List<Product> findAll();
 
+    /**
+     * Retrieves the persisted product entries with the specified availability.
+     *
+     * @param availability product availability.
+     * @return list of the product entries with the specified availability.
+     */
+    List<Product> findAll(ProductAvailability availability);
+
     /**
      * Finds the product with the specified ID in the database.
      *
@@ -27,12 +37,25 @@ public interface ProductService {
     Product findById(long id);
 
     /**
-     * Deducts the specified number from the product count.
+     * Deducts the specified number from the product count, if the product amount covers it.
+     * <p>
+     * A product that runs out of stock is kept with zero amount.
      *
      * @param id product ID.
-     * @param decrement balance decrement.
+     * @param decrement amount decrement.
+     * @return true if the amount was decreased, false if the product does not exist or its amount is too low.
+     */
+    boolean decreaseAmount(long id, int decrement);
+
+    /**
+     * Moves up to the specified number of products sold out before the specified time
+     *   to the product archive.
+     *
+     * @param soldOutBefore time the archived products must have been sold out before.
+     * @param limit maximum number of archived products.
+     * @return number of archived products.
      */
-    void decreaseAmount(long id, int decrement);
+    int archiveSoldOut(Instant soldOutBefore, int limit);
 
     /**
      * Saves a non-null product entry in the database.
@@ -43,7 +66,31 @@ public interface ProductService {
     Product save(Product product);
 
     /**
-     * Deletes all product entries and resets their ID generation.
+     * Saves a non-null list of product entries in the database in batches.
+     *
+     * @param products the product entries to be persisted.
+     * @return the persisted product entries.
+     */
+    List<Product> saveAll(List<Product> products);
+
+    /**
+     * Deletes the specified product entries (together with their catalog entries) in a single batch.
+     * <p>
+     * The books of the products are kept, as purchases may refer to them.
+     *
+     * @param products the product entries to be deleted.
+     */
+    void deleteAll(List<Product> products);
+
+    /**
+     * Retrieves the number of persisted product entries in the database.
+     *
+     * @return number of product entries.
+     */
+    long count();
+
+    /**
+     * Deletes all product entries.
      */
     void truncate();
 }
@@ -1,15 +1,17 @@
 package dev.vpendischuk.market.service.impl;
 
-import dev.vpendischuk.market.domain.Account;
+import dev.vpendischuk.market.cache.AccountCache;
+import dev.vpendischuk.market.cache.model.AccountBookReadModel;
 import dev.vpendischuk.market.domain.AccountBook;
-import dev.vpendischuk.market.domain.Book;
+import dev.vpendischuk.market.event.AccountChangedEvent;
 import dev.vpendischuk.market.repository.AccountBookRepository;
 import dev.vpendischuk.market.service.AccountBookService;
 import dev.vpendischuk.market.service.AccountService;
-import dev.vpendischuk.market.service.BookService;
+import org.hibernate.Hibernate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,9 +42,15 @@ public class AccountBookServiceImpl implements AccountBookService {
     private final AccountService accountService;
 
     /**
-     * A {@link BookService} instance used to retrieve book data.
+     * An {@link AccountCache} instance used to keep cached account read models
+     *   in sync with purchased book changes.
      */
-    private final BookService bookService;
+    private final AccountCache accountCache;
+
+    /**
+     * An {@link ApplicationEventPublisher} instance used to report account data changes.
+     */
+    private final ApplicationEventPublisher eventPublisher;
 
     /* --------------------------- Constructors ---------------------------- */
 
@@ -51,33 +59,22 @@ public class AccountBookServiceImpl implements AccountBookService {
      *
      * @param accountBookRepository a JPA interface for the account_book table access.
      * @param accountService account service used to retrieve account data.
-     * @param bookService book service used to retrieve book data.
+     * @param accountCache account read model cache.
+     * @param eventPublisher publisher used to report account data changes.
      */
     @Autowired
     public AccountBookServiceImpl(AccountBookRepository accountBookRepository,
                                   AccountService accountService,
-                                  BookService bookService) {
+                                  AccountCache accountCache,
+                                  ApplicationEventPublisher eventPublisher) {
         this.accountBookRepository = accountBookRepository;
         this.accountService = accountService;
-        this.bookService = bookService;
+        this.accountCache = accountCache;
+        this.eventPublisher = eventPublisher;
     }
 
     /* -------------------------- Public methods -------------------------- */
 
-    /**
-     * Retrieves an account-book entry for the given account and book.
-     *
-     * @param account the account.
-     * @param book the purchased book.
-     * @return the retrieved entry or null, if no entry exists for the given parameters.
-     */
-    @Override
-    public AccountBook getByAccountAndBookOrCreate(Account account, Book book) {
-        return accountBookRepository.findAccountBookByAccountIdAndBookId(account.getId(), book.getId()).orElseGet(
-                () -> createAccountBookEntry(account, book)
-        );
-    }
-
     /**
      * Saves a non-null account-book entry in the database.
      *
@@ -92,12 +89,28 @@ public class AccountBookServiceImpl implements AccountBookService {
 
         logger.debug("Saving account-book entry " + accountBook);
 
-        return accountBookRepository.save(accountBook);
+        AccountBook savedEntry = accountBookRepository.save(accountBook);
+        long accountId = savedEntry.getAccount().getId();
+
+        // Updating the cached account model in place if the book data is at hand,
+        //   otherwise the model is reloaded on the next read.
+        if (Hibernate.isInitialized(savedEntry.getBook())) {
+            accountCache.updateBook(accountId, AccountBookReadModel.of(savedEntry));
+        } else {
+            accountCache.invalidate(accountId);
+        }
+
+        eventPublisher.publishEvent(new AccountChangedEvent(accountId));
+
+        return savedEntry;
     }
 
     /**
      * Adds an entry (or updates an existing entry) for the specified
      *   account ID and book ID to register a book purchase deal.
+     * <p>
+     * The entry is upserted with a single statement, and the account and book IDs
+     *   are only looked up if the statement affects no entry.
      *
      * @param accountId account of the purchaser.
      * @param bookId the purchased book ID.
@@ -105,53 +118,36 @@ public class AccountBookServiceImpl implements AccountBookService {
      */
     @Override
     public void addOne(long accountId, long bookId, int quantity) {
-        Account account = accountService.findById(accountId);
-        Book book = bookService.findById(bookId);
+        logger.debug("Updating account-book entry for Account ID " + accountId + ", Book ID " + bookId +
+                " by quantity " + quantity);
 
-        // Checking IDs for validity.
+        // Updating an existing account-book entry or creating a new one.
+        Integer amount = accountBookRepository.addAmount(accountId, bookId, quantity);
 
-        if (account == null) {
-            logger.error("Can't add Book ID " + bookId + " to Account ID " + accountId + " - invalid Account ID");
-            throw new IllegalArgumentException("Invalid Account ID " + accountId);
-        }
+        // No entry affected -> the account or the book does not exist.
+        if (amount == null) {
+            if (accountService.findById(accountId) == null) {
+                logger.error("Can't add Book ID " + bookId + " to Account ID " + accountId + " - invalid Account ID");
+                throw new IllegalArgumentException("Invalid Account ID " + accountId);
+            }
 
-        if (book == null) {
             logger.error("Can't add Book ID " + bookId + " to Account ID " + accountId + " - invalid Book ID");
             throw new IllegalArgumentException("Invalid Book ID " + bookId);
         }
 
-        // Updating an existing account-book entry or creating a new one.
-        AccountBook accountBookEntry = getByAccountAndBookOrCreate(account, book);
-        accountBookEntry.setAmount(accountBookEntry.getAmount() + quantity);
-
-        logger.debug("Updating account-book entry for Account ID " + accountId + ", Book ID " + bookId +
-                " by quantity " + quantity);
-        save(accountBookEntry);
+        accountCache.updateBookAmount(accountId, bookId, amount);
+        eventPublisher.publishEvent(new AccountChangedEvent(accountId));
     }
 
     /**
-     * Deletes all account-book entries and resets their ID generation.
+     * Deletes all account-book entries.
      */
     @Override
     @Transactional
     public void truncate() {
         logger.info("Clearing account book data");
         accountBookRepository.truncate();
-    }
-
-    /* -------------------------- Private methods -------------------------- */
-
-    /**
-     * Creates a new entry for the given account and book.
-     *
-     * @param account the account.
-     * @param book the purchased book.
-     * @return the persisted entry.
-     */
-    private AccountBook createAccountBookEntry(Account account, Book book) {
-        logger.debug("Creating account-book entry for Account ID " + account.getId() + ", Book ID " + book.getId());
-
-        AccountBook entry = new AccountBook(account, book, 0);
-        return accountBookRepository.save(entry);
+        accountCache.invalidateAll();
+        eventPublisher.publishEvent(new AccountChangedEvent(null));
     }
 }
@@ -1,11 +1,17 @@
 package dev.vpendischuk.market.service.impl;
 
+import dev.vpendischuk.market.cache.AccountCache;
+import dev.vpendischuk.market.cache.model.AccountReadModel;
+import dev.vpendischuk.market.datasource.ReplicaRoutingContext;
 import dev.vpendischuk.market.domain.Account;
+import dev.vpendischuk.market.event.AccountChangedEvent;
+import dev.vpendischuk.market.repository.AccountBookRepository;
 import dev.vpendischuk.market.repository.AccountRepository;
 import dev.vpendischuk.market.service.AccountService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,16 +41,42 @@ public class AccountServiceImpl implements AccountService {
      */
     private final AccountRepository accountRepository;
 
+    /**
+     * An {@link AccountBookRepository} instance used to load the purchased books
+     *   of an account from its <b>account_book</b> partition.
+     */
+    private final AccountBookRepository accountBookRepository;
+
+    /**
+     * An {@link AccountCache} instance used to cache account read models
+     *   and keep them in sync with account data changes.
+     */
+    private final AccountCache accountCache;
+
+    /**
+     * An {@link ApplicationEventPublisher} instance used to report account data changes.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
     /* --------------------------- Constructors ---------------------------- */
 
     /**
      * Initializes a new {@link AccountServiceImpl} instance.
      *
      * @param accountRepository a JPA interface for the accounts table access.
+     * @param accountBookRepository a JPA interface for the account_book table access.
+     * @param accountCache account read model cache.
+     * @param eventPublisher publisher used to report account data changes.
      */
     @Autowired
-    public AccountServiceImpl(AccountRepository accountRepository) {
+    public AccountServiceImpl(AccountRepository accountRepository,
+                              AccountBookRepository accountBookRepository,
+                              AccountCache accountCache,
+                              ApplicationEventPublisher eventPublisher) {
         this.accountRepository = accountRepository;
+        this.accountBookRepository = accountBookRepository;
+        this.accountCache = accountCache;
+        this.eventPublisher = eventPublisher;
     }
 
     /* -------------------------- Public methods -------------------------- */
@@ -72,25 +104,55 @@ public class AccountServiceImpl implements AccountService {
      * @return the current user's account or null, if it doesn't exist.
      */
     @Override
+    @Transactional(readOnly = true)
     public Account getCurrentAccount() {
         return accountRepository.findById(ACCOUNT_ID).orElse(null);
     }
 
     /**
-     * Deducts the specified amount of money from the account.
+     * Retrieves the current user's account read model.
+     * <p>
+     * The model is loaded from the database and then served from memory,
+     *   as all account data changes made through the services are applied to it in place.
+     *   The model is meant for displaying account data only - as it may lag behind changes
+     *   made by other application instances, it must not be used to validate deals.
+     *
+     * @return the current user's account read model or null, if the account doesn't exist.
+     */
+    @Override
+    public AccountReadModel getCurrentAccountReadModel() {
+        return accountCache.get(ACCOUNT_ID, this::loadReadModel);
+    }
+
+    /**
+     * Deducts the specified amount of money from the account, if the account balance covers it.
+     * <p>
+     * The balance is checked against the account data in the database as a part of the update,
+     *   and the cached read model is updated with the resulting balance once the transaction commits.
      *
      * @param id account ID.
      * @param decrement balance decrement.
+     * @return true if the balance was decreased, false if the account does not exist or its balance is too low.
      */
     @Override
-    public void decreaseBalance(long id, int decrement) {
+    @Transactional
+    public boolean decreaseBalance(long id, int decrement) {
         logger.debug("Reducing balance for Account ID {} by {}", id, decrement);
+
+        if (accountRepository.decreaseBalance(id, decrement) == 0) {
+            logger.debug("Failed to reduce balance for Account ID {} - account not found or balance too low", id);
+            return false;
+        }
+
         Account target = findById(id);
 
         if (target != null) {
-            target.setBalance(target.getBalance() - decrement);
-            accountRepository.save(target);
+            accountCache.updateBalance(id, target.getBalance());
         }
+
+        eventPublisher.publishEvent(new AccountChangedEvent(id));
+
+        return true;
     }
 
     /**
@@ -106,6 +168,8 @@ public class AccountServiceImpl implements AccountService {
         }
 
         Account savedAccount = accountRepository.save(account);
+        accountCache.updateBalance(savedAccount.getId(), savedAccount.getBalance());
+        eventPublisher.publishEvent(new AccountChangedEvent(savedAccount.getId()));
         logger.debug("Saved account ID " + savedAccount.getId());
 
         return savedAccount;
@@ -119,5 +183,27 @@ public class AccountServiceImpl implements AccountService {
     public void truncate() {
         logger.info("Clearing account data");
         accountRepository.truncate();
+        accountCache.invalidateAll();
+        eventPublisher.publishEvent(new AccountChangedEvent(null));
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Loads the read model of the account with the specified ID from the primary database,
+     *   as the model is cached.
+     * <p>
+     * The purchased books are looked up by the account ID, the <b>account_book</b> partition key,
+     *   so only the account's partition is scanned.
+     *
+     * @param id account ID.
+     * @return the account read model or null, if no account with the specified ID exists.
+     */
+    private AccountReadModel loadReadModel(Long id) {
+        logger.debug("Loading read model for Account ID {}", id);
+
+        return ReplicaRoutingContext.onPrimary(() -> accountRepository.findById(id)
+                .map(account -> AccountReadModel.of(account, accountBookRepository.findAllByAccountId(id)))
+                .orElse(null));
     }
 }
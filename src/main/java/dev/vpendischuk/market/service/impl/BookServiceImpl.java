@@ -1,15 +1,21 @@
 package dev.vpendischuk.market.service.impl;
 
 import dev.vpendischuk.market.domain.Book;
+import dev.vpendischuk.market.event.CatalogChangedEvent;
 import dev.vpendischuk.market.repository.BookRepository;
 import dev.vpendischuk.market.service.BookService;
+import dev.vpendischuk.market.service.CatalogService;
 import dev.vpendischuk.market.service.ProductService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * The default implementation of a book service -
  *   service that provides access to the {@link BookRepository}.
@@ -35,6 +41,16 @@ public class BookServiceImpl implements BookService {
      */
     private final ProductService productService;
 
+    /**
+     * A {@link CatalogService} instance used to keep the catalog entries up to date.
+     */
+    private final CatalogService catalogService;
+
+    /**
+     * An {@link ApplicationEventPublisher} instance used to report catalog data changes.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
     /* --------------------------- Constructors ---------------------------- */
 
     /**
@@ -42,15 +58,33 @@ public class BookServiceImpl implements BookService {
      *
      * @param bookRepository a JPA interface for the books table access.
      * @param productService product service used to clear product data.
+     * @param catalogService catalog service used to keep the catalog entries up to date.
+     * @param eventPublisher publisher used to report catalog data changes.
      */
     @Autowired
-    public BookServiceImpl(BookRepository bookRepository, ProductService productService) {
+    public BookServiceImpl(BookRepository bookRepository,
+                           ProductService productService,
+                           CatalogService catalogService,
+                           ApplicationEventPublisher eventPublisher) {
         this.bookRepository = bookRepository;
         this.productService = productService;
+        this.catalogService = catalogService;
+        this.eventPublisher = eventPublisher;
     }
 
     /* -------------------------- Public methods -------------------------- */
 
+    /**
+     * Retrieves all persisted book entries in the database.
+     *
+     * @return list of all persisted book entries.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Book> findAll() {
+        return bookRepository.findAll();
+    }
+
     /**
      * Finds the book with the specified ID in the database.
      *
@@ -70,17 +104,57 @@ public class BookServiceImpl implements BookService {
      * @return the persisted book entry.
      */
     @Override
+    @Transactional
     public Book save(Book book) {
         if (book == null) {
             throw new IllegalArgumentException("Argument book cannot be null");
         }
 
         logger.debug("Saving book " + book);
-        return bookRepository.save(book);
+        Book savedBook = bookRepository.save(book);
+        catalogService.refreshBooks(Collections.singletonList(savedBook.getId()));
+        eventPublisher.publishEvent(new CatalogChangedEvent(null));
+
+        return savedBook;
+    }
+
+    /**
+     * Saves a non-null list of book entries in the database in batches.
+     *
+     * @param books the book entries to be persisted.
+     * @return the persisted book entries.
+     */
+    @Override
+    @Transactional
+    public List<Book> saveAll(List<Book> books) {
+        if (books == null) {
+            throw new IllegalArgumentException("Argument books cannot be null");
+        }
+
+        logger.debug("Saving {} books", books.size());
+        List<Book> savedBooks = bookRepository.saveAll(books);
+        catalogService.refreshBooks(savedBooks.stream().map(Book::getId).toList());
+        eventPublisher.publishEvent(new CatalogChangedEvent(null));
+
+        return savedBooks;
+    }
+
+    /**
+     * Retrieves the number of persisted book entries in the database.
+     * <p>
+     * The entries are counted in a read-write transaction, so that the count
+     *   is read from the primary database and reflects the latest writes.
+     *
+     * @return number of book entries.
+     */
+    @Override
+    @Transactional
+    public long count() {
+        return bookRepository.count();
     }
 
     /**
-     * Deletes all book entries and resets their ID generation.
+     * Deletes all book entries.
      */
     @Override
     @Transactional
@@ -90,5 +164,6 @@ public class BookServiceImpl implements BookService {
         logger.info("Clearing book (& product) data");
         productService.truncate();
         bookRepository.truncate();
+        eventPublisher.publishEvent(new CatalogChangedEvent(null));
     }
 }
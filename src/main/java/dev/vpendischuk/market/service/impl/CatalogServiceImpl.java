@@ -0,0 +1,129 @@
+package dev.vpendischuk.market.service.impl;
+
+import dev.vpendischuk.market.domain.CatalogEntry;
+import dev.vpendischuk.market.domain.ProductAvailability;
+import dev.vpendischuk.market.repository.CatalogEntryRepository;
+import dev.vpendischuk.market.service.CatalogService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The default implementation of a catalog service -
+ *   service that provides access to the {@link CatalogEntryRepository}.
+ * <p>
+ * Catalog entries are refreshed only within the transaction that changes
+ *   the products or books, so that the catalog never diverges from them.
+ */
+@Service
+public class CatalogServiceImpl implements CatalogService {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link CatalogServiceImpl} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(CatalogServiceImpl.class);
+
+    /**
+     * Maximum number of IDs bound to a single refresh statement.
+     */
+    private static final int REFRESH_BATCH_SIZE = 1000;
+
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * A {@link CatalogEntryRepository} instance used to access the catalog_view table in the database.
+     */
+    private final CatalogEntryRepository catalogEntryRepository;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link CatalogServiceImpl} instance.
+     *
+     * @param catalogEntryRepository a JPA interface for the catalog_view table access.
+     */
+    @Autowired
+    public CatalogServiceImpl(CatalogEntryRepository catalogEntryRepository) {
+        this.catalogEntryRepository = catalogEntryRepository;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Retrieves the catalog entries of the products with the specified availability.
+     *
+     * @param availability product availability.
+     * @return list of the catalog entries, in product ID order.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<CatalogEntry> findAll(ProductAvailability availability) {
+        if (availability == null) {
+            throw new IllegalArgumentException("Argument availability cannot be null");
+        }
+
+        return switch (availability) {
+            case IN_STOCK -> catalogEntryRepository.findInStock();
+            case OUT_OF_STOCK -> catalogEntryRepository.findOutOfStock();
+            case ALL -> catalogEntryRepository.findAllByOrderByProductId();
+        };
+    }
+
+    /**
+     * Finds the catalog entry of the product with the specified ID.
+     *
+     * @param productId product ID.
+     * @return the found catalog entry or null, if no product
+     *   with the specified ID exists.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CatalogEntry findById(long productId) {
+        return catalogEntryRepository.findById(productId).orElse(null);
+    }
+
+    /**
+     * Brings the catalog entries of the specified products up to date
+     *   in the current transaction.
+     *
+     * @param productIds IDs of the created or changed products.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void refreshProducts(List<Long> productIds) {
+        List<Long> ids = productIds.stream().filter(Objects::nonNull).toList();
+
+        for (int offset = 0; offset < ids.size(); offset += REFRESH_BATCH_SIZE) {
+            List<Long> batch = ids.subList(offset, Math.min(offset + REFRESH_BATCH_SIZE, ids.size()));
+            int refreshedCount = catalogEntryRepository.refreshProducts(batch);
+
+            logger.debug("Refreshed {} catalog entries of {} products", refreshedCount, batch.size());
+        }
+    }
+
+    /**
+     * Brings the catalog entries of the specified books' products up to date
+     *   in the current transaction.
+     *
+     * @param bookIds IDs of the changed books.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void refreshBooks(List<Long> bookIds) {
+        List<Long> ids = bookIds.stream().filter(Objects::nonNull).toList();
+
+        for (int offset = 0; offset < ids.size(); offset += REFRESH_BATCH_SIZE) {
+            List<Long> batch = ids.subList(offset, Math.min(offset + REFRESH_BATCH_SIZE, ids.size()));
+            int refreshedCount = catalogEntryRepository.refreshBooks(batch);
+
+            logger.debug("Refreshed {} catalog entries of {} books", refreshedCount, batch.size());
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package dev.vpendischuk.market.service.impl;
+
+import dev.vpendischuk.market.domain.Account;
+import dev.vpendischuk.market.domain.Product;
+import dev.vpendischuk.market.service.AccountBookService;
+import dev.vpendischuk.market.service.AccountService;
+import dev.vpendischuk.market.service.DealService;
+import dev.vpendischuk.market.service.DealValidator;
+import dev.vpendischuk.market.service.ProductService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * The default implementation of a deal service - service that performs book purchase deals
+ *   for the current account.
+ * <p>
+ * Deals are validated against the account and product data in the database rather than
+ *   the cached read models, and all writes of a deal are made in a single transaction.
+ */
+@Service
+public class DealServiceImpl implements DealService {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link DealServiceImpl} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(DealServiceImpl.class);
+
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * An {@link AccountBookService} instance used to register book purchases.
+     */
+    private final AccountBookService accountBookService;
+
+    /**
+     * A {@link ProductService} instance used to access the product repository.
+     */
+    private final ProductService productService;
+
+    /**
+     * An {@link AccountService} instance used to access the account balance.
+     */
+    private final AccountService accountService;
+
+    /**
+     * A {@link DealValidator} instance used to validate book purchase deals.
+     */
+    private final DealValidator dealValidator;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link DealServiceImpl} instance.
+     *
+     * @param accountBookService account book service used to register purchases.
+     * @param productService product service used to access the product repository.
+     * @param accountService account service used to access the account balance.
+     * @param dealValidator validator of book purchase deals.
+     */
+    @Autowired
+    public DealServiceImpl(AccountBookService accountBookService,
+                           ProductService productService,
+                           AccountService accountService,
+                           DealValidator dealValidator) {
+        this.accountBookService = accountBookService;
+        this.productService = productService;
+        this.accountService = accountService;
+        this.dealValidator = dealValidator;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Performs a book purchase deal for the current account, if the {@link DealValidator} accepts it
+     *   and the account balance covers it.
+     * <p>
+     * The balance and the product amount are decreased by updates that check the balance
+     *   and the amount themselves, so concurrent deals can neither overspend the balance nor oversell
+     *   the product. The balance is decreased first, so a deal that concurrent deals have left without
+     *   money for is rejected without any writes. If the product has been bought out concurrently,
+     *   the deal is rejected and its transaction is rolled back.
+     *
+     * @param productId purchased product ID.
+     * @param amount purchased product quantity.
+     * @return the rejection reason or null, if the deal was performed.
+     */
+    @Override
+    @Transactional
+    public DealValidator.Rejection performDeal(long productId, int amount) {
+        // Fetching account and product data.
+        Product targetProduct = productService.findById(productId);
+        Account currentAccount = accountService.getCurrentAccount();
+        Integer balance = currentAccount == null ? null : currentAccount.getBalance();
+
+        DealValidator.Rejection rejection = dealValidator.validate(targetProduct, balance, amount);
+
+        if (rejection != null) {
+            return rejection;
+        }
+
+        long accountId = currentAccount.getId();
+        long bookId = targetProduct.getProductBook().getId();
+
+        // Paying for the deal - the balance may have been spent since it was read.
+        if (!accountService.decreaseBalance(accountId, targetProduct.getPrice() * amount)) {
+            return DealValidator.Rejection.NOT_ENOUGH_MONEY;
+        }
+
+        // Taking the products - they may have been bought out since they were read.
+        if (!productService.decreaseAmount(productId, amount)) {
+            logger.info("Deal for Product ID {} rejected - product bought out concurrently", productId);
+            rollBack();
+            return DealValidator.Rejection.NOT_ENOUGH_PRODUCT;
+        }
+
+        // Registering purchase.
+        logger.debug("Registering purchase of Product ID {} (quantity {}) by Account ID {}",
+                productId, amount, accountId);
+        accountBookService.addOne(accountId, bookId, amount);
+
+        return null;
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Marks the deal's transaction for rollback, so that the balance decrease is undone.
+     */
+    private void rollBack() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        }
+    }
+}
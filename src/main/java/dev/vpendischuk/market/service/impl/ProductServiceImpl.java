@@ -1,14 +1,20 @@
 package dev.vpendischuk.market.service.impl;
 
 import dev.vpendischuk.market.domain.Product;
+import dev.vpendischuk.market.domain.ProductAvailability;
+import dev.vpendischuk.market.event.CatalogChangedEvent;
 import dev.vpendischuk.market.repository.ProductRepository;
+import dev.vpendischuk.market.service.CatalogService;
 import dev.vpendischuk.market.service.ProductService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -31,30 +37,69 @@ public class ProductServiceImpl implements ProductService {
      */
     private final ProductRepository productRepository;
 
+    /**
+     * A {@link CatalogService} instance used to keep the catalog entries up to date.
+     */
+    private final CatalogService catalogService;
+
+    /**
+     * An {@link ApplicationEventPublisher} instance used to report catalog data changes.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
     /* --------------------------- Constructors ---------------------------- */
 
     /**
      * Initializes a new {@link ProductServiceImpl} instance.
      *
      * @param productRepository a JPA interface for the products table access.
+     * @param catalogService catalog service used to keep the catalog entries up to date.
+     * @param eventPublisher publisher used to report catalog data changes.
      */
     @Autowired
-    public ProductServiceImpl(ProductRepository productRepository) {
+    public ProductServiceImpl(ProductRepository productRepository,
+                              CatalogService catalogService,
+                              ApplicationEventPublisher eventPublisher) {
         this.productRepository = productRepository;
+        this.catalogService = catalogService;
+        this.eventPublisher = eventPublisher;
     }
 
     /* -------------------------- Public methods -------------------------- */
 
     /**
      * Retrieves all persisted product entries in the database.
+     * <p>
+     * The entries are read in a read-only transaction, which may be served by a replica database.
      *
      * @return list of all persisted product entries.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<Product> findAll() {
         return productRepository.findAll();
     }
 
+    /**
+     * Retrieves the persisted product entries with the specified availability.
+     *
+     * @param availability product availability.
+     * @return list of the product entries with the specified availability.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Product> findAll(ProductAvailability availability) {
+        if (availability == null) {
+            throw new IllegalArgumentException("Argument availability cannot be null");
+        }
+
+        return switch (availability) {
+            case IN_STOCK -> productRepository.findInStock();
+            case OUT_OF_STOCK -> productRepository.findOutOfStock();
+            case ALL -> productRepository.findAll();
+        };
+    }
+
     /**
      * Finds the product with the specified ID in the database.
      *
@@ -63,36 +108,59 @@ public class ProductServiceImpl implements ProductService {
      *   with the specified ID exists.
      */
     @Override
+    @Transactional(readOnly = true)
     public Product findById(long id) {
         return productRepository.findById(id).orElse(null);
     }
 
     /**
-     * Deducts the specified number from the product count.
+     * Deducts the specified number from the product count, if the product amount covers it.
+     * <p>
+     * The amount is checked against the product data in the database as a part of the update,
+     *   so concurrent deals cannot oversell the product. A product that runs out of stock
+     *   is kept with zero amount, so that it can be restocked.
      *
      * @param id product ID.
-     * @param decrement balance decrement.
+     * @param decrement amount decrement.
+     * @return true if the amount was decreased, false if the product does not exist or its amount is too low.
+     */
+    @Override
+    @Transactional
+    public boolean decreaseAmount(long id, int decrement) {
+        if (productRepository.decreaseAmount(id, decrement) == 0) {
+            logger.debug("Failed to decrease amount of Product ID {} - product not found or amount too low", id);
+            return false;
+        }
+
+        catalogService.refreshProducts(Collections.singletonList(id));
+        eventPublisher.publishEvent(new CatalogChangedEvent(id));
+
+        return true;
+    }
+
+    /**
+     * Moves up to the specified number of products sold out before the specified time
+     *   to the product archive.
+     *
+     * @param soldOutBefore time the archived products must have been sold out before.
+     * @param limit maximum number of archived products.
+     * @return number of archived products.
      */
     @Override
-    public void decreaseAmount(long id, int decrement) {
-        Product target = findById(id);
-
-        if (target != null) {
-            // Decrement is greater than amount -> IllegalArgumentException.
-            if (target.getAmount() - decrement < 0) {
-                logger.error("Failed to decrease amount of Product ID {} - " +
-                        "decrement is greater than product amount", id);
-                throw new IllegalArgumentException("Decrement is greater than product amount");
-            }
-
-            if (target.getAmount() - decrement == 0) {
-                // Delete product if it's depleted.
-                productRepository.delete(target);
-            } else {
-                target.setAmount(target.getAmount() - decrement);
-                productRepository.save(target);
-            }
+    @Transactional
+    public int archiveSoldOut(Instant soldOutBefore, int limit) {
+        if (soldOutBefore == null) {
+            throw new IllegalArgumentException("Argument soldOutBefore cannot be null");
         }
+
+        int archivedCount = productRepository.archiveSoldOut(soldOutBefore, limit);
+
+        if (archivedCount > 0) {
+            logger.info("Archived {} products sold out before {}", archivedCount, soldOutBefore);
+            eventPublisher.publishEvent(new CatalogChangedEvent(null));
+        }
+
+        return archivedCount;
     }
 
     /**
@@ -102,22 +170,86 @@ public class ProductServiceImpl implements ProductService {
      * @return the persisted product entry.
      */
     @Override
+    @Transactional
     public Product save(Product product) {
         if (product == null) {
             throw new IllegalArgumentException("Argument product cannot be null");
         }
 
         logger.debug("Saving product " + product);
-        return productRepository.save(product);
+        Product savedProduct = productRepository.save(product);
+        catalogService.refreshProducts(Collections.singletonList(savedProduct.getId()));
+        eventPublisher.publishEvent(new CatalogChangedEvent(savedProduct.getId()));
+
+        return savedProduct;
+    }
+
+    /**
+     * Saves a non-null list of product entries in the database in batches.
+     *
+     * @param products the product entries to be persisted.
+     * @return the persisted product entries.
+     */
+    @Override
+    @Transactional
+    public List<Product> saveAll(List<Product> products) {
+        if (products == null) {
+            throw new IllegalArgumentException("Argument products cannot be null");
+        }
+
+        logger.debug("Saving {} products", products.size());
+        List<Product> savedProducts = productRepository.saveAll(products);
+        catalogService.refreshProducts(savedProducts.stream().map(Product::getId).toList());
+        eventPublisher.publishEvent(new CatalogChangedEvent(null));
+
+        return savedProducts;
+    }
+
+    /**
+     * Deletes the specified product entries (together with their catalog entries) in a single batch.
+     * <p>
+     * The books of the products are kept, as purchases may refer to them.
+     *
+     * @param products the product entries to be deleted.
+     */
+    @Override
+    @Transactional
+    public void deleteAll(List<Product> products) {
+        if (products == null) {
+            throw new IllegalArgumentException("Argument products cannot be null");
+        }
+
+        if (products.isEmpty()) {
+            return;
+        }
+
+        logger.debug("Deleting {} products", products.size());
+        productRepository.deleteAllByIdInBatch(products.stream().map(Product::getId).toList());
+        eventPublisher.publishEvent(new CatalogChangedEvent(null));
+    }
+
+    /**
+     * Retrieves the number of persisted product entries in the database.
+     * <p>
+     * The entries are counted in a read-write transaction, so that the count
+     *   is read from the primary database and reflects the latest writes.
+     *
+     * @return number of product entries.
+     */
+    @Override
+    @Transactional
+    public long count() {
+        return productRepository.count();
     }
 
     /**
-     * Deletes all product entries and resets their ID generation.
+     * Deletes all product entries.
      */
     @Override
     @Transactional
     public void truncate() {
         logger.info("Clearing product data");
         productRepository.truncate();
+        eventPublisher.publishEvent(new CatalogChangedEvent(null));
     }
 }
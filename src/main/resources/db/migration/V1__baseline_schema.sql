@@ -0,0 +1,36 @@
+-- Baseline schema, as created by Hibernate (ddl-auto=update) for the initial entity models.
+--
+-- Databases created before the migrations took over the schema are baselined at this version
+--   (spring.flyway.baseline-on-migrate), so this script only runs against empty databases.
+
+CREATE TABLE accounts (
+    id    BIGSERIAL NOT NULL,
+    price INT4      NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE books (
+    id     BIGSERIAL    NOT NULL,
+    author VARCHAR(255) NOT NULL,
+    name   VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE products (
+    id      BIGSERIAL NOT NULL,
+    amount  INT4      NOT NULL,
+    price   INT4      NOT NULL,
+    book_id INT8      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT products_book_id_fkey FOREIGN KEY (book_id) REFERENCES books (id)
+);
+
+CREATE TABLE account_book (
+    id         BIGSERIAL NOT NULL,
+    amount     INT4      NOT NULL,
+    account_id INT8      NOT NULL,
+    book_id    INT8      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT account_book_account_id_fkey FOREIGN KEY (account_id) REFERENCES accounts (id),
+    CONSTRAINT account_book_book_id_fkey FOREIGN KEY (book_id) REFERENCES books (id)
+);
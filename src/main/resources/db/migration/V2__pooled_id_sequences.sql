@@ -0,0 +1,25 @@
+-- Moves the books, products and account_book ID generation from identity (serial) columns
+--   to pooled sequences with an increment equal to the Hibernate allocation size (50),
+--   so that Hibernate can batch inserts into these tables.
+--
+-- Hibernate uses the value returned by nextval() as the upper bound of a block of 50 IDs,
+--   so every sequence is moved 50 past the current maximum ID.
+-- Sequences are detached from the columns, so that TRUNCATE ... RESTART IDENTITY on a referencing
+--   table does not restart them under an already allocated block.
+
+CREATE SEQUENCE IF NOT EXISTS books_id_seq;
+ALTER SEQUENCE books_id_seq INCREMENT BY 50 OWNED BY NONE;
+SELECT setval('books_id_seq', COALESCE((SELECT MAX(id) FROM books), 0) + 50, false);
+
+CREATE SEQUENCE IF NOT EXISTS products_id_seq;
+ALTER SEQUENCE products_id_seq INCREMENT BY 50 OWNED BY NONE;
+SELECT setval('products_id_seq', COALESCE((SELECT MAX(id) FROM products), 0) + 50, false);
+
+CREATE SEQUENCE IF NOT EXISTS account_book_id_seq;
+ALTER SEQUENCE account_book_id_seq INCREMENT BY 50 OWNED BY NONE;
+SELECT setval('account_book_id_seq', COALESCE((SELECT MAX(id) FROM account_book), 0) + 50, false);
+
+-- IDs are assigned by Hibernate, but rows inserted by plain SQL still get them from the sequences.
+ALTER TABLE books ALTER COLUMN id SET DEFAULT nextval('books_id_seq');
+ALTER TABLE products ALTER COLUMN id SET DEFAULT nextval('products_id_seq');
+ALTER TABLE account_book ALTER COLUMN id SET DEFAULT nextval('account_book_id_seq');
@@ -0,0 +1,23 @@
+-- Makes account-book entries unique for an account and a book, so that purchases
+--   can be registered with a single INSERT ... ON CONFLICT DO UPDATE statement.
+
+-- Merging duplicate entries created by concurrent purchases into the oldest entry.
+UPDATE account_book entry
+SET amount = merged.amount
+FROM (
+    SELECT MIN(id) AS id, SUM(amount) AS amount
+    FROM account_book
+    GROUP BY account_id, book_id
+    HAVING COUNT(*) > 1
+) merged
+WHERE entry.id = merged.id;
+
+DELETE FROM account_book entry
+USING account_book oldest
+WHERE entry.account_id = oldest.account_id
+  AND entry.book_id = oldest.book_id
+  AND entry.id > oldest.id;
+
+-- Databases created by ddl-auto=update may already have the constraint.
+ALTER TABLE account_book DROP CONSTRAINT IF EXISTS account_book_account_id_book_id_key;
+ALTER TABLE account_book ADD CONSTRAINT account_book_account_id_book_id_key UNIQUE (account_id, book_id);
@@ -0,0 +1,11 @@
+-- Secondary indexes for the hot access paths.
+--
+-- account_book(account_id, book_id) is served by the index of the account_book_account_id_book_id_key
+--   unique constraint (V3), which already covers account-book lookups and the purchase upsert,
+--   so no duplicate index is created for it.
+
+-- Product-by-book lookups and joins.
+CREATE INDEX IF NOT EXISTS products_book_id_idx ON products (book_id);
+
+-- Product search and sort by price.
+CREATE INDEX IF NOT EXISTS products_price_idx ON products (price);
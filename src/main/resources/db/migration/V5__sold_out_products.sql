@@ -0,0 +1,22 @@
+-- Sold-out products are kept with zero amount instead of being deleted,
+--   and are moved to the products_archive table after a retention period.
+
+ALTER TABLE products ADD COLUMN IF NOT EXISTS sold_out_at TIMESTAMP;
+
+UPDATE products SET sold_out_at = now() WHERE amount = 0 AND sold_out_at IS NULL;
+
+-- The catalog lists products in stock, which stay a small part of the table.
+CREATE INDEX IF NOT EXISTS products_in_stock_idx ON products (id) WHERE amount > 0;
+
+-- The archive job selects the products sold out the longest time ago.
+CREATE INDEX IF NOT EXISTS products_sold_out_at_idx ON products (sold_out_at) WHERE amount = 0;
+
+CREATE TABLE IF NOT EXISTS products_archive (
+    id          INT8      NOT NULL,
+    book_id     INT8      NOT NULL,
+    price       INT4      NOT NULL,
+    sold_out_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT products_archive_book_id_fkey FOREIGN KEY (book_id) REFERENCES books (id)
+);
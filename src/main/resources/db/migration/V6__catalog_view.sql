@@ -0,0 +1,32 @@
+-- Denormalized catalog read table, maintained by the product and book write paths
+--   in the same transaction as the changes of the products and books tables.
+--
+-- Rows are removed together with their products (archiving, truncation) through the foreign keys.
+
+CREATE TABLE IF NOT EXISTS catalog_view (
+    product_id INT8         NOT NULL,
+    book_id    INT8         NOT NULL,
+    name       VARCHAR(255) NOT NULL,
+    author     VARCHAR(255) NOT NULL,
+    price      INT4         NOT NULL,
+    amount     INT4         NOT NULL,
+    version    INT8         NOT NULL,
+    PRIMARY KEY (product_id),
+    CONSTRAINT catalog_view_product_id_fkey FOREIGN KEY (product_id) REFERENCES products (id) ON DELETE CASCADE,
+    CONSTRAINT catalog_view_book_id_fkey FOREIGN KEY (book_id) REFERENCES books (id) ON DELETE CASCADE
+);
+
+-- Catalog listings (products in stock, in product ID order).
+CREATE INDEX IF NOT EXISTS catalog_view_in_stock_idx ON catalog_view (product_id) WHERE amount > 0;
+
+-- Book changes propagated to the catalog rows.
+CREATE INDEX IF NOT EXISTS catalog_view_book_id_idx ON catalog_view (book_id);
+
+-- Catalog search and sort by price.
+CREATE INDEX IF NOT EXISTS catalog_view_price_idx ON catalog_view (price);
+
+INSERT INTO catalog_view (product_id, book_id, name, author, price, amount, version)
+SELECT p.id, b.id, b.name, b.author, p.price, p.amount, 1
+FROM products p
+JOIN books b ON b.id = p.book_id
+ON CONFLICT (product_id) DO NOTHING;
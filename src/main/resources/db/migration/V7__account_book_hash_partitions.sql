@@ -0,0 +1,46 @@
+-- Hash-partitions account_book by account_id, so that account-book lookups, purchase upserts
+--   and library loads (which all filter by the account ID) touch a single partition
+--   and its indexes stay small as the table grows.
+--
+-- PostgreSQL requires the primary key and unique constraints of a partitioned table to include
+--   the partition key. The primary key is (id, account_id), so that lookups and updates by the
+--   entry ID still use an index (in every partition), and the (account_id, book_id) unique
+--   constraint used by the purchase upsert is kept as is.
+--
+-- The existing entries are copied to the new table in a single transaction, as account_book
+--   must not change during the migration anyway. The ID sequence is detached (V2), so it
+--   survives the old table.
+
+ALTER TABLE account_book RENAME TO account_book_unpartitioned;
+ALTER INDEX account_book_pkey RENAME TO account_book_unpartitioned_pkey;
+ALTER TABLE account_book_unpartitioned
+    RENAME CONSTRAINT account_book_account_id_book_id_key TO account_book_unpartitioned_account_id_book_id_key;
+
+CREATE TABLE account_book (
+    id         INT8 NOT NULL DEFAULT nextval('account_book_id_seq'),
+    amount     INT4 NOT NULL,
+    account_id INT8 NOT NULL,
+    book_id    INT8 NOT NULL,
+    PRIMARY KEY (id, account_id),
+    CONSTRAINT account_book_account_id_book_id_key UNIQUE (account_id, book_id),
+    CONSTRAINT account_book_account_id_fkey FOREIGN KEY (account_id) REFERENCES accounts (id),
+    CONSTRAINT account_book_book_id_fkey FOREIGN KEY (book_id) REFERENCES books (id)
+) PARTITION BY HASH (account_id);
+
+-- 16 partitions: account_book_p0 ... account_book_p15.
+DO $$
+BEGIN
+    FOR remainder IN 0..15 LOOP
+        EXECUTE format('CREATE TABLE account_book_p%s PARTITION OF account_book '
+                       'FOR VALUES WITH (MODULUS 16, REMAINDER %s)', remainder, remainder);
+    END LOOP;
+END
+$$;
+
+INSERT INTO account_book (id, amount, account_id, book_id)
+SELECT id, amount, account_id, book_id
+FROM account_book_unpartitioned;
+
+DROP TABLE account_book_unpartitioned;
+
+ANALYZE account_book;
@@ -0,0 +1,10 @@
+-- Checkpoints of the resumable seeding: the number of records of a seeding data file
+--   committed so far, updated in the transaction of every committed chunk.
+
+CREATE TABLE IF NOT EXISTS seeding_checkpoints (
+    file_hash         VARCHAR(64)   NOT NULL,
+    file_name         VARCHAR(1024) NOT NULL,
+    committed_records INT8          NOT NULL,
+    updated_at        TIMESTAMP     NOT NULL,
+    PRIMARY KEY (file_hash)
+);
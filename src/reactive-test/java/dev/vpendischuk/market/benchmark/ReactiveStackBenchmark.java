@@ -0,0 +1,23 @@
+package dev.vpendischuk.market.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+/**
+ * Benchmark of the reactive market API (WebFlux and R2DBC) at a high number of concurrent connections.
+ * <p>
+ * The benchmark is run by the <b>benchmark</b> and <b>reactive</b> Maven profiles only
+ *   (<code>mvn test -P benchmark,reactive</code>) and clears the product data when it's done.
+ *   See {@link MarketStackBenchmark} for its parameters.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+@Tag("benchmark")
+@DisplayName("Reactive stack benchmark")
+public class ReactiveStackBenchmark extends MarketStackBenchmark {
+}
@@ -0,0 +1,285 @@
+package dev.vpendischuk.market.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+
+import dev.vpendischuk.market.cache.model.AccountReadModel;
+import dev.vpendischuk.market.domain.Book;
+import dev.vpendischuk.market.domain.Product;
+import dev.vpendischuk.market.repository.reactive.*;
+import dev.vpendischuk.market.service.impl.ReactiveMarketServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.ReactiveTransaction;
+import org.springframework.transaction.reactive.TransactionCallback;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Class that contains unit tests for the {@link ReactiveMarketServiceImpl} service class.
+ * <p>
+ * Tests in this class check if a {@link ReactiveMarketServiceImpl} functions properly in isolation
+ *   from its dependencies' functionality.
+ */
+@DisplayName("ReactiveMarketServiceImpl unit tests")
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ReactiveMarketServiceImplUnitTests {
+    /* ---------------------------- Configuration -------------------------- */
+
+    /**
+     * {@link ReactiveMarketServiceImpl} instance - the test subject.
+     */
+    @InjectMocks
+    ReactiveMarketServiceImpl marketService;
+
+    /**
+     * Mock {@link ReactiveBookRepository} instance.
+     */
+    @Mock
+    ReactiveBookRepository bookRepository;
+
+    /**
+     * Mock {@link ReactiveProductRepository} instance.
+     */
+    @Mock
+    ReactiveProductRepository productRepository;
+
+    /**
+     * Mock {@link ReactiveAccountRepository} instance.
+     */
+    @Mock
+    ReactiveAccountRepository accountRepository;
+
+    /**
+     * Mock {@link ReactiveAccountBookRepository} instance.
+     */
+    @Mock
+    ReactiveAccountBookRepository accountBookRepository;
+
+    /**
+     * Mock {@link ReactiveCatalogEntryRepository} instance.
+     */
+    @Mock
+    ReactiveCatalogEntryRepository catalogEntryRepository;
+
+    /**
+     * {@link DealValidator} instance used by the test subject.
+     */
+    @Spy
+    DealValidator dealValidator;
+
+    /**
+     * Mock {@link TransactionalOperator} instance.
+     */
+    @Mock
+    TransactionalOperator transactionalOperator;
+
+    /**
+     * Mock {@link ReactiveTransaction} instance passed to the transactional callbacks.
+     */
+    @Mock
+    ReactiveTransaction transaction;
+
+    /**
+     * Makes the mock transactional operator return the wrapped publishers unchanged
+     *   and run the transactional callbacks in the mock transaction.
+     */
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUpTransactionalOperator() {
+        Mockito.when(transactionalOperator.transactional(any(Mono.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        Mockito.when(transactionalOperator.execute(any(TransactionCallback.class)))
+                .thenAnswer(invocation -> Flux.from(
+                        invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(transaction)));
+    }
+
+    /* -------------------------------- Tests ------------------------------ */
+
+    /**
+     * Tests if {@link ReactiveMarketServiceImpl} registers a valid deal - the purchase is added,
+     *   the balance and the product amount are decreased and the catalog entry is refreshed.
+     */
+    @Test
+    @DisplayName("Performs a valid deal")
+    public void testPerformsValidDeal() {
+        // Creating data.
+        Product product = createProduct(100, 5);
+        AccountReadModel account = new AccountReadModel(1L, 1000, Collections.emptyList());
+
+        // Mocking repository functionality.
+        Mockito.when(productRepository.findById(2L)).thenReturn(Mono.just(product));
+        Mockito.when(accountRepository.findReadModelById(1L)).thenReturn(Mono.just(account));
+        Mockito.when(accountBookRepository.addAmount(1L, 3L, 2)).thenReturn(Mono.just(1));
+        Mockito.when(accountRepository.decreaseBalance(1L, 200)).thenReturn(Mono.just(1));
+        Mockito.when(productRepository.decreaseAmount(2L, 2)).thenReturn(Mono.just(1));
+        Mockito.when(catalogEntryRepository.refreshProducts(List.of(2L))).thenReturn(Mono.just(1));
+
+        StepVerifier.create(marketService.performDeal(2L, 2)).verifyComplete();
+
+        // Check if all writes of the deal were made.
+        Mockito.verify(accountBookRepository).addAmount(1L, 3L, 2);
+        Mockito.verify(accountRepository).decreaseBalance(1L, 200);
+        Mockito.verify(productRepository).decreaseAmount(2L, 2);
+        Mockito.verify(catalogEntryRepository).refreshProducts(List.of(2L));
+    }
+
+    /**
+     * Tests if {@link ReactiveMarketServiceImpl} rejects a deal for a nonexistent product
+     *   without making any writes.
+     */
+    @Test
+    @DisplayName("Rejects a deal for a nonexistent product")
+    public void testRejectsDealIfProductDoesNotExist() {
+        // Mocking repository functionality.
+        Mockito.when(productRepository.findById(2L)).thenReturn(Mono.empty());
+        Mockito.when(accountRepository.findReadModelById(1L))
+                .thenReturn(Mono.just(new AccountReadModel(1L, 1000, Collections.emptyList())));
+
+        StepVerifier.create(marketService.performDeal(2L, 2))
+                .expectNext(DealValidator.Rejection.PRODUCT_NOT_FOUND)
+                .verifyComplete();
+
+        // Check if no writes were made.
+        Mockito.verify(accountBookRepository, Mockito.never()).addAmount(anyLong(), anyLong(), anyInt());
+        Mockito.verify(accountRepository, Mockito.never()).decreaseBalance(anyLong(), anyInt());
+    }
+
+    /**
+     * Tests if {@link ReactiveMarketServiceImpl} rejects a deal if the account balance is too low.
+     */
+    @Test
+    @DisplayName("Rejects a deal if there is not enough money")
+    public void testRejectsDealIfNotEnoughMoney() {
+        // Creating data.
+        Product product = createProduct(600, 5);
+
+        // Mocking repository functionality.
+        Mockito.when(productRepository.findById(2L)).thenReturn(Mono.just(product));
+        Mockito.when(accountRepository.findReadModelById(1L))
+                .thenReturn(Mono.just(new AccountReadModel(1L, 1000, Collections.emptyList())));
+
+        StepVerifier.create(marketService.performDeal(2L, 2))
+                .expectNext(DealValidator.Rejection.NOT_ENOUGH_MONEY)
+                .verifyComplete();
+
+        Mockito.verify(productRepository, Mockito.never()).decreaseAmount(anyLong(), anyInt());
+    }
+
+    /**
+     * Tests if {@link ReactiveMarketServiceImpl} rejects a deal without registering the purchase
+     *   if the balance was spent by a concurrent deal after the validation.
+     */
+    @Test
+    @DisplayName("Rejects a deal if the balance was spent concurrently")
+    public void testRejectsDealIfBalanceSpentConcurrently() {
+        // Creating data.
+        Product product = createProduct(100, 5);
+
+        // Mocking repository functionality - the conditional balance update affects no rows.
+        Mockito.when(productRepository.findById(2L)).thenReturn(Mono.just(product));
+        Mockito.when(accountRepository.findReadModelById(1L))
+                .thenReturn(Mono.just(new AccountReadModel(1L, 1000, Collections.emptyList())));
+        Mockito.when(accountRepository.decreaseBalance(1L, 200)).thenReturn(Mono.just(0));
+
+        StepVerifier.create(marketService.performDeal(2L, 2))
+                .expectNext(DealValidator.Rejection.NOT_ENOUGH_MONEY)
+                .verifyComplete();
+
+        // Check if the purchase was not registered.
+        Mockito.verify(accountBookRepository, Mockito.never()).addAmount(anyLong(), anyLong(), anyInt());
+        Mockito.verify(productRepository, Mockito.never()).decreaseAmount(anyLong(), anyInt());
+    }
+
+    /**
+     * Tests if {@link ReactiveMarketServiceImpl} rejects the deal and rolls its transaction back
+     *   if the product was bought out after the validation, without registering the purchase.
+     */
+    @Test
+    @DisplayName("Rejects a deal if the product was bought out concurrently")
+    public void testRejectsDealIfProductBoughtOutConcurrently() {
+        // Creating data.
+        Product product = createProduct(100, 5);
+
+        // Mocking repository functionality - the conditional amount update affects no rows.
+        Mockito.when(productRepository.findById(2L)).thenReturn(Mono.just(product));
+        Mockito.when(accountRepository.findReadModelById(1L))
+                .thenReturn(Mono.just(new AccountReadModel(1L, 1000, Collections.emptyList())));
+        Mockito.when(accountBookRepository.addAmount(1L, 3L, 2)).thenReturn(Mono.just(1));
+        Mockito.when(accountRepository.decreaseBalance(1L, 200)).thenReturn(Mono.just(1));
+        Mockito.when(productRepository.decreaseAmount(2L, 2)).thenReturn(Mono.just(0));
+
+        StepVerifier.create(marketService.performDeal(2L, 2))
+                .expectNext(DealValidator.Rejection.NOT_ENOUGH_PRODUCT)
+                .verifyComplete();
+
+        // Check if the balance decrease is rolled back and the purchase was not registered.
+        Mockito.verify(transaction).setRollbackOnly();
+        Mockito.verify(accountBookRepository, Mockito.never()).addAmount(anyLong(), anyLong(), anyInt());
+        Mockito.verify(catalogEntryRepository, Mockito.never()).refreshProducts(anyCollection());
+    }
+
+    /**
+     * Tests if {@link ReactiveMarketServiceImpl} saves the book before the product
+     *   and refreshes the product's catalog entry.
+     */
+    @Test
+    @DisplayName("Saves a product together with its book")
+    public void testSavesProductWithBook() {
+        // Creating data.
+        Product product = createProduct(100, 5);
+
+        // Mocking repository functionality.
+        Mockito.when(bookRepository.save(product.getProductBook()))
+                .thenReturn(Mono.just(product.getProductBook()));
+        Mockito.when(productRepository.save(product)).thenReturn(Mono.just(product));
+        Mockito.when(catalogEntryRepository.refreshProducts(List.of(2L))).thenReturn(Mono.just(1));
+
+        StepVerifier.create(marketService.save(product))
+                .expectNext(product)
+                .verifyComplete();
+
+        // Check if the book was saved before the product.
+        InOrder order = Mockito.inOrder(bookRepository, productRepository, catalogEntryRepository);
+        order.verify(bookRepository).save(product.getProductBook());
+        order.verify(productRepository).save(product);
+        order.verify(catalogEntryRepository).refreshProducts(List.of(2L));
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Creates a product with ID 2 of the book with ID 3.
+     *
+     * @param price product price.
+     * @param amount product amount.
+     * @return the product.
+     */
+    private Product createProduct(int price, int amount) {
+        Book book = new Book("Book", "Author");
+        book.setId(3L);
+
+        Product product = new Product(book, price, amount);
+        product.setId(2L);
+
+        return product;
+    }
+}
@@ -0,0 +1,88 @@
+package dev.vpendischuk.market.configuration;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * Configuration of the non-blocking variant of the market API (<b>reactive</b> profile),
+ *   served by WebFlux on Netty and backed by R2DBC. It is compiled by the <b>reactive</b>
+ *   Maven profile only, together with WebFlux and the R2DBC dependencies.
+ * <p>
+ * The R2DBC connection pool connects to the <b>market.r2dbc.url</b> database with the
+ *   <b>spring.datasource</b> credentials. Its transaction manager is not registered as a bean,
+ *   so that the <code>@Transactional</code> methods of the blocking services keep using the JPA one.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveConfiguration {
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Creates the R2DBC connection pool.
+     *
+     * @param url R2DBC database URL.
+     * @param username database user name.
+     * @param password database user password.
+     * @param maxSize maximum number of pooled connections.
+     * @return the connection pool.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool connectionFactory(@Value("${market.r2dbc.url}") String url,
+                                            @Value("${spring.datasource.username}") String username,
+                                            @Value("${spring.datasource.password}") String password,
+                                            @Value("${market.r2dbc.pool.max-size:20}") int maxSize) {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build());
+
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .initialSize(Math.min(maxSize, 10))
+                .maxSize(maxSize)
+                .build());
+    }
+
+    /**
+     * Creates the client executing the SQL statements of the reactive repositories.
+     *
+     * @param connectionFactory R2DBC connection pool.
+     * @return database client.
+     */
+    @Bean
+    public DatabaseClient databaseClient(ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+
+    /**
+     * Creates the operator demarcating the transactions of the reactive services.
+     *
+     * @param connectionFactory R2DBC connection pool.
+     * @return transactional operator.
+     */
+    @Bean
+    public TransactionalOperator transactionalOperator(ConnectionFactory connectionFactory) {
+        return TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+    }
+
+    /**
+     * Creates the Netty web server factory (Tomcat is on the classpath as well, and would be
+     *   preferred by the auto-configuration otherwise).
+     *
+     * @return web server factory.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
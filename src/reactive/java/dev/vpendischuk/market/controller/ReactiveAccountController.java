@@ -0,0 +1,73 @@
+package dev.vpendischuk.market.controller;
+
+import dev.vpendischuk.market.dto.assembler.AccountDtoAssembler;
+import dev.vpendischuk.market.dto.response.AccountDto;
+import dev.vpendischuk.market.service.ReactiveMarketService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking version of the {@link AccountController} served by WebFlux (<b>reactive</b> profile).
+ */
+@RestController
+@RequestMapping("/account")
+@Profile("reactive")
+public class ReactiveAccountController {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link ReactiveAccountController} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveAccountController.class);
+
+    /* -------------------------------- Fields ----------------------------- */
+
+    /**
+     * A {@link ReactiveMarketService} instance used to get current account data.
+     */
+    private final ReactiveMarketService marketService;
+
+    /**
+     * An {@link AccountDtoAssembler} instance used to assemble {@link AccountDto}
+     *   response DTOs.
+     */
+    private final AccountDtoAssembler accountDtoAssembler;
+
+    /* ----------------------------- Constructors -------------------------- */
+
+    /**
+     * Initializes a new {@link ReactiveAccountController} instance.
+     *
+     * @param marketService reactive market service.
+     * @param accountDtoAssembler {@link AccountDto} object assembler.
+     */
+    public ReactiveAccountController(ReactiveMarketService marketService, AccountDtoAssembler accountDtoAssembler) {
+        this.marketService = marketService;
+        this.accountDtoAssembler = accountDtoAssembler;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Handles HTTP GET current account data retrieval request.
+     *
+     * @return current account data (HTTP code 200) or null if current account data
+     *   could not be found in the database (HTTP code 500).
+     */
+    @GetMapping("")
+    public Mono<ResponseEntity<AccountDto>> getAccountInfo() {
+        return marketService.getCurrentAccount()
+                .map(account -> ResponseEntity.ok().body(accountDtoAssembler.toModel(account)))
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    // Account 1 not found in the database -> error code 500.
+                    logger.debug("Could not get current account information");
+                    return ResponseEntity.internalServerError().body(null);
+                }));
+    }
+}
@@ -0,0 +1,242 @@
+package dev.vpendischuk.market.controller;
+
+import dev.vpendischuk.market.cache.CatalogCache;
+import dev.vpendischuk.market.domain.Book;
+import dev.vpendischuk.market.domain.Product;
+import dev.vpendischuk.market.domain.ProductAvailability;
+import dev.vpendischuk.market.dto.assembler.CatalogDtoAssembler;
+import dev.vpendischuk.market.dto.assembler.CatalogEntryDtoAssembler;
+import dev.vpendischuk.market.dto.assembler.ProductDtoAssembler;
+import dev.vpendischuk.market.dto.request.DealRequestDto;
+import dev.vpendischuk.market.dto.request.NewProductRequestDto;
+import dev.vpendischuk.market.dto.request.ProductUpdateRequestDto;
+import dev.vpendischuk.market.dto.response.MarketDto;
+import dev.vpendischuk.market.dto.response.ProductDto;
+import dev.vpendischuk.market.service.DealValidator;
+import dev.vpendischuk.market.service.ReactiveMarketService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import javax.validation.Valid;
+
+/**
+ * Non-blocking version of the {@link MarketController} served by WebFlux (<b>reactive</b> profile).
+ * <p>
+ * Market and product data are read from the catalog read table on every request
+ *   (the responses carry the same <b>Cache-Control</b> policy as on the blocking stack).
+ *   Deals are validated by the same {@link DealValidator} and rejected with the same responses.
+ */
+@RestController
+@RequestMapping("/market")
+@Profile("reactive")
+public class ReactiveMarketController {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link ReactiveMarketController} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveMarketController.class);
+
+    /* -------------------------------- Fields ----------------------------- */
+
+    /**
+     * A {@link ReactiveMarketService} instance used to access the market data.
+     */
+    private final ReactiveMarketService marketService;
+
+    /**
+     * A {@link CatalogCache} instance providing the catalog <b>Cache-Control</b> policy.
+     */
+    private final CatalogCache catalogCache;
+
+    /**
+     * A {@link CatalogDtoAssembler} instance used to assemble {@link MarketDto} response DTOs.
+     */
+    private final CatalogDtoAssembler catalogDtoAssembler;
+
+    /**
+     * A {@link CatalogEntryDtoAssembler} instance used to assemble {@link ProductDto}
+     *   response DTOs of catalog entries.
+     */
+    private final CatalogEntryDtoAssembler catalogEntryDtoAssembler;
+
+    /**
+     * A {@link ProductDtoAssembler} instance used to assemble {@link ProductDto}
+     *   response DTOs of products.
+     */
+    private final ProductDtoAssembler productDtoAssembler;
+
+    /* ----------------------------- Constructors -------------------------- */
+
+    /**
+     * Initializes a new {@link ReactiveMarketController} instance.
+     *
+     * @param marketService reactive market service.
+     * @param catalogCache catalog cache providing the Cache-Control policy.
+     * @param catalogDtoAssembler {@link MarketDto} object assembler.
+     * @param catalogEntryDtoAssembler {@link ProductDto} object assembler for catalog entries.
+     * @param productDtoAssembler {@link ProductDto} object assembler for products.
+     */
+    public ReactiveMarketController(ReactiveMarketService marketService,
+                                    CatalogCache catalogCache,
+                                    CatalogDtoAssembler catalogDtoAssembler,
+                                    CatalogEntryDtoAssembler catalogEntryDtoAssembler,
+                                    ProductDtoAssembler productDtoAssembler) {
+        this.marketService = marketService;
+        this.catalogCache = catalogCache;
+        this.catalogDtoAssembler = catalogDtoAssembler;
+        this.catalogEntryDtoAssembler = catalogEntryDtoAssembler;
+        this.productDtoAssembler = productDtoAssembler;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Handles HTTP GET market data retrieval request.
+     *
+     * @param availability availability of the listed products.
+     * @return market data (HTTP code 200).
+     */
+    @GetMapping("")
+    public Mono<ResponseEntity<MarketDto>> all(@RequestParam(defaultValue = "IN_STOCK") ProductAvailability availability) {
+        return marketService.findCatalog(availability)
+                .collectList()
+                .map(entries -> ResponseEntity.ok()
+                        .cacheControl(catalogCache.getCacheControl())
+                        .body(catalogDtoAssembler.toModel(entries)));
+    }
+
+    /**
+     * Handles HTTP POST product creation and persistence request.
+     *
+     * @param newProductRequestDto DTO containing new product data.
+     * @return created product data (HTTP code 201).
+     */
+    @PostMapping("")
+    public Mono<ResponseEntity<ProductDto>> newProduct(@Valid @RequestBody NewProductRequestDto newProductRequestDto) {
+        // Initializing book data.
+        Book newBook = new Book();
+        newBook.setName(newProductRequestDto.getName());
+        newBook.setAuthor(newProductRequestDto.getAuthor());
+
+        // Initializing product data.
+        Product newProduct = new Product();
+        newProduct.setProductBook(newBook);
+        newProduct.setAmount(newProductRequestDto.getAmount());
+        newProduct.setPrice(newProductRequestDto.getPrice());
+
+        return marketService.save(newProduct)
+                .map(savedProduct -> ResponseEntity.status(HttpStatus.CREATED)
+                        .body(productDtoAssembler.toModel(savedProduct)));
+    }
+
+    /**
+     * Handles HTTP GET product data by ID retrieval request.
+     *
+     * @param id product ID.
+     * @return found product data (HTTP code 200) or null if product
+     *   with specified ID could not be found in the database (HTTP code 404).
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ProductDto>> getProduct(@PathVariable Long id) {
+        return marketService.findCatalogEntry(id)
+                .map(entry -> ResponseEntity.ok()
+                        .cacheControl(catalogCache.getCacheControl())
+                        .body(catalogEntryDtoAssembler.toModel(entry)))
+                .defaultIfEmpty(ResponseEntity.status(HttpStatus.NOT_FOUND).body(null));
+    }
+
+    /**
+     * Handles HTTP PATCH update product data by ID request.
+     *
+     * @param id product ID.
+     * @param productUpdateRequestDto DTO containing new product data parameters.
+     * @return updated product data (HTTP code 200) or null if product
+     *   with specified ID could not be found in the database (HTTP code 404).
+     */
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<ProductDto>> updateProduct(@PathVariable Long id,
+                                                          @Valid @RequestBody ProductUpdateRequestDto productUpdateRequestDto) {
+        return marketService.findProductById(id)
+                .flatMap(targetProduct -> {
+                    // Updating product fields.
+                    if (productUpdateRequestDto.getAmount() != null) {
+                        targetProduct.setAmount(productUpdateRequestDto.getAmount());
+                    }
+
+                    if (productUpdateRequestDto.getPrice() != null) {
+                        targetProduct.setPrice(productUpdateRequestDto.getPrice());
+                    }
+
+                    // Updating the book if required.
+                    Book newData = productUpdateRequestDto.getBook();
+                    if (newData != null) {
+                        if (newData.getName() != null) {
+                            targetProduct.getProductBook().setName(newData.getName());
+                        }
+
+                        if (newData.getAuthor() != null) {
+                            targetProduct.getProductBook().setAuthor(newData.getAuthor());
+                        }
+                    }
+
+                    return marketService.save(targetProduct);
+                })
+                .map(savedProduct -> ResponseEntity.ok().body(productDtoAssembler.toModel(savedProduct)))
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    // Product not found -> error 404.
+                    logger.info("PATCH request for Product ID {} invalid - product not found", id);
+                    return ResponseEntity.notFound().build();
+                }));
+    }
+
+    /**
+     * Handles HTTP POST perform book purchase deal request.
+     *
+     * @param dealRequestDto DTO containing deal parameters (product ID, quantity of books).
+     * @return empty response (HTTP code 200) if the deal is successful or error message -
+     *   if deal could not be performed due to invalid request (code 400) or
+     *   if account data could not be found in the database (code 500).
+     */
+    @PostMapping("/deal")
+    public Mono<ResponseEntity<String>> performDeal(@Valid @RequestBody DealRequestDto dealRequestDto) {
+        long productId = dealRequestDto.getId();
+
+        return marketService.performDeal(productId, dealRequestDto.getAmount())
+                .map(rejection -> {
+                    logger.info("Deal for Product ID {} rejected - {}", productId, rejection);
+                    return rejectionResponse(productId, rejection);
+                })
+                .defaultIfEmpty(ResponseEntity.ok().build());
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Creates the response to a rejected deal.
+     *
+     * @param productId purchased product ID.
+     * @param rejection rejection reason.
+     * @return error response.
+     */
+    private ResponseEntity<String> rejectionResponse(long productId, DealValidator.Rejection rejection) {
+        return switch (rejection) {
+            // Product with specified ID not found -> error 400.
+            case PRODUCT_NOT_FOUND -> ResponseEntity.badRequest().body("ERROR: Product ID " + productId +
+                    " invalid - product not found");
+            // Account data could not be found -> error 500.
+            case ACCOUNT_UNKNOWN -> ResponseEntity.internalServerError().body("ERROR: Couldn't get account information");
+            // Not enough product with specified ID -> error 400.
+            case NOT_ENOUGH_PRODUCT -> ResponseEntity.badRequest().body("ERROR: Not enough product for Product ID " +
+                    productId);
+            // Not enough money for the deal -> error 400.
+            case NOT_ENOUGH_MONEY -> ResponseEntity.badRequest().body("ERROR: Not enough money for Product ID " +
+                    productId);
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package dev.vpendischuk.market.repository.reactive;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC repository that presents a non-blocking interface for
+ *   the <b>account_book</b> table in the database (<b>reactive</b> profile).
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveAccountBookRepository {
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * A {@link DatabaseClient} instance used to run the statements.
+     */
+    private final DatabaseClient databaseClient;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link ReactiveAccountBookRepository} instance.
+     *
+     * @param databaseClient R2DBC database client.
+     */
+    public ReactiveAccountBookRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Adds the specified quantity to the amount of the entry for the specified account and book IDs,
+     *   creating the entry if it does not exist, in a single statement.
+     *
+     * @param accountId account ID.
+     * @param bookId purchased book ID.
+     * @param quantity purchased book quantity.
+     * @return the resulting entry amount or an empty {@link Mono}, if the account or the book does not exist.
+     */
+    public Mono<Integer> addAmount(long accountId, long bookId, int quantity) {
+        return databaseClient.sql("INSERT INTO account_book (id, account_id, book_id, amount) " +
+                        "SELECT nextval('account_book_id_seq'), a.id, b.id, :quantity " +
+                        "FROM accounts a, books b WHERE a.id = :accountId AND b.id = :bookId " +
+                        "ON CONFLICT (account_id, book_id) " +
+                        "DO UPDATE SET amount = account_book.amount + EXCLUDED.amount " +
+                        "RETURNING amount")
+                .bind("accountId", accountId)
+                .bind("bookId", bookId)
+                .bind("quantity", quantity)
+                .map(row -> row.get("amount", Integer.class))
+                .one();
+    }
+}
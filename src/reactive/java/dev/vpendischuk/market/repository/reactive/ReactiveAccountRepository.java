@@ -0,0 +1,122 @@
+package dev.vpendischuk.market.repository.reactive;
+
+import dev.vpendischuk.market.cache.model.AccountBookReadModel;
+import dev.vpendischuk.market.cache.model.AccountReadModel;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * R2DBC repository that presents a non-blocking interface for
+ *   the <b>accounts</b> table in the database (<b>reactive</b> profile).
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveAccountRepository {
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * A {@link DatabaseClient} instance used to run the statements.
+     */
+    private final DatabaseClient databaseClient;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link ReactiveAccountRepository} instance.
+     *
+     * @param databaseClient R2DBC database client.
+     */
+    public ReactiveAccountRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Finds the account with the specified ID together with its purchased books in a single query.
+     * <p>
+     * The <b>account_book</b> join is filtered by the account ID, so it's served by a single partition.
+     *
+     * @param id account ID.
+     * @return read model of the account or an empty {@link Mono}, if the account does not exist.
+     */
+    public Mono<AccountReadModel> findReadModelById(long id) {
+        return databaseClient.sql("SELECT a.price AS balance, b.id AS book_id, b.name, b.author, ab.amount " +
+                        "FROM accounts a " +
+                        "LEFT JOIN account_book ab ON ab.account_id = a.id " +
+                        "LEFT JOIN books b ON b.id = ab.book_id " +
+                        "WHERE a.id = :id ORDER BY ab.id")
+                .bind("id", id)
+                .map(row -> new AccountRow(
+                        row.get("balance", Integer.class),
+                        row.get("book_id", Long.class) == null ? null : new AccountBookReadModel(
+                                row.get("book_id", Long.class),
+                                row.get("name", String.class),
+                                row.get("author", String.class),
+                                row.get("amount", Integer.class))))
+                .all()
+                .collectList()
+                .filter(rows -> !rows.isEmpty())
+                .map(rows -> {
+                    List<AccountBookReadModel> books = new ArrayList<>(rows.size());
+                    for (AccountRow accountRow : rows) {
+                        if (accountRow.book != null) {
+                            books.add(accountRow.book);
+                        }
+                    }
+
+                    return new AccountReadModel(id, rows.get(0).balance, books);
+                });
+    }
+
+    /**
+     * Deducts the specified amount of money from the account, if the account balance covers it.
+     * <p>
+     * The balance is checked by the update itself, so concurrent deals cannot overspend it.
+     *
+     * @param id account ID.
+     * @param decrement balance decrement.
+     * @return number of updated accounts - 0 if the account does not exist or its balance is too low.
+     */
+    public Mono<Integer> decreaseBalance(long id, int decrement) {
+        return databaseClient.sql("UPDATE accounts SET price = price - :decrement " +
+                        "WHERE id = :id AND price >= :decrement")
+                .bind("id", id)
+                .bind("decrement", decrement)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /* --------------------------- Nested classes -------------------------- */
+
+    /**
+     * A row of the account-book join.
+     */
+    private static class AccountRow {
+        /**
+         * Account balance.
+         */
+        private final int balance;
+
+        /**
+         * Purchased book or null, if the account has no purchased books.
+         */
+        private final AccountBookReadModel book;
+
+        /**
+         * Initializes a new {@link AccountRow} instance.
+         *
+         * @param balance account balance.
+         * @param book purchased book or null, if the account has no purchased books.
+         */
+        private AccountRow(int balance, AccountBookReadModel book) {
+            this.balance = balance;
+            this.book = book;
+        }
+    }
+}
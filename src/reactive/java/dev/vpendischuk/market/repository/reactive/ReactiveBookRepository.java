@@ -0,0 +1,95 @@
+package dev.vpendischuk.market.repository.reactive;
+
+import dev.vpendischuk.market.domain.Book;
+import io.r2dbc.spi.Row;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC repository that presents a non-blocking interface for
+ *   the <b>books</b> table in the database (<b>reactive</b> profile).
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveBookRepository {
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * A {@link DatabaseClient} instance used to run the statements.
+     */
+    private final DatabaseClient databaseClient;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link ReactiveBookRepository} instance.
+     *
+     * @param databaseClient R2DBC database client.
+     */
+    public ReactiveBookRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Finds the book with the specified ID.
+     *
+     * @param id book ID.
+     * @return the book or an empty {@link Mono}, if the book does not exist.
+     */
+    public Mono<Book> findById(long id) {
+        return databaseClient.sql("SELECT id, name, author FROM books WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveBookRepository::toBook)
+                .one();
+    }
+
+    /**
+     * Inserts the specified book (if it has no ID) or updates it.
+     * <p>
+     * New IDs are taken from the <b>books_id_seq</b> sequence shared with JPA.
+     *
+     * @param book the book.
+     * @return the saved book with its ID set.
+     */
+    public Mono<Book> save(Book book) {
+        if (book.getId() != null) {
+            return databaseClient.sql("UPDATE books SET name = :name, author = :author WHERE id = :id")
+                    .bind("id", book.getId())
+                    .bind("name", book.getName())
+                    .bind("author", book.getAuthor())
+                    .fetch()
+                    .rowsUpdated()
+                    .thenReturn(book);
+        }
+
+        return databaseClient.sql("INSERT INTO books (id, name, author) " +
+                        "VALUES (nextval('books_id_seq'), :name, :author) RETURNING id")
+                .bind("name", book.getName())
+                .bind("author", book.getAuthor())
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .map(id -> {
+                    book.setId(id);
+                    return book;
+                });
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Maps a <b>books</b> row to a {@link Book} entity.
+     *
+     * @param row the row.
+     * @return the book.
+     */
+    private static Book toBook(Row row) {
+        Book book = new Book(row.get("name", String.class), row.get("author", String.class));
+        book.setId(row.get("id", Long.class));
+
+        return book;
+    }
+}
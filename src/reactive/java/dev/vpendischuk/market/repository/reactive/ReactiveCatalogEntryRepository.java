@@ -0,0 +1,140 @@
+package dev.vpendischuk.market.repository.reactive;
+
+import dev.vpendischuk.market.domain.CatalogEntry;
+import io.r2dbc.spi.Row;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * R2DBC repository that presents a non-blocking interface for
+ *   the <b>catalog_view</b> table in the database (<b>reactive</b> profile).
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveCatalogEntryRepository {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * Selected <b>catalog_view</b> columns.
+     */
+    private static final String COLUMNS = "SELECT product_id, book_id, name, author, price, amount, version " +
+            "FROM catalog_view ";
+
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * A {@link DatabaseClient} instance used to run the statements.
+     */
+    private final DatabaseClient databaseClient;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link ReactiveCatalogEntryRepository} instance.
+     *
+     * @param databaseClient R2DBC database client.
+     */
+    public ReactiveCatalogEntryRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Retrieves the entries of the products in stock, in product ID order.
+     * <p>
+     * The condition matches the <b>catalog_view_in_stock_idx</b> partial index.
+     *
+     * @return entries with a positive amount.
+     */
+    public Flux<CatalogEntry> findInStock() {
+        return findAll("WHERE amount > 0 ");
+    }
+
+    /**
+     * Retrieves the entries of the sold-out products, in product ID order.
+     *
+     * @return entries with zero amount.
+     */
+    public Flux<CatalogEntry> findOutOfStock() {
+        return findAll("WHERE amount = 0 ");
+    }
+
+    /**
+     * Retrieves all entries, in product ID order.
+     *
+     * @return all entries.
+     */
+    public Flux<CatalogEntry> findAll() {
+        return findAll("");
+    }
+
+    /**
+     * Finds the entry of the product with the specified ID.
+     *
+     * @param productId product ID.
+     * @return the entry or an empty {@link Mono}, if the product does not exist.
+     */
+    public Mono<CatalogEntry> findById(long productId) {
+        return databaseClient.sql(COLUMNS + "WHERE product_id = :productId")
+                .bind("productId", productId)
+                .map(ReactiveCatalogEntryRepository::toEntry)
+                .one();
+    }
+
+    /**
+     * Creates or updates the entries of the specified products from the <b>products</b>
+     *   and <b>books</b> tables, incrementing the versions of the updated entries.
+     *
+     * @param productIds product IDs.
+     * @return number of created or updated entries.
+     */
+    public Mono<Integer> refreshProducts(Collection<Long> productIds) {
+        return databaseClient.sql("INSERT INTO catalog_view (product_id, book_id, name, author, price, amount, version) " +
+                        "SELECT p.id, b.id, b.name, b.author, p.price, p.amount, 1 " +
+                        "FROM products p JOIN books b ON b.id = p.book_id WHERE p.id IN (:productIds) " +
+                        "ON CONFLICT (product_id) DO UPDATE SET " +
+                        "book_id = EXCLUDED.book_id, name = EXCLUDED.name, author = EXCLUDED.author, " +
+                        "price = EXCLUDED.price, amount = EXCLUDED.amount, version = catalog_view.version + 1")
+                .bind("productIds", productIds)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Retrieves the entries matching the specified condition, in product ID order.
+     *
+     * @param condition SQL <b>WHERE</b> clause (may be empty).
+     * @return matching entries.
+     */
+    private Flux<CatalogEntry> findAll(String condition) {
+        return databaseClient.sql(COLUMNS + condition + "ORDER BY product_id")
+                .map(ReactiveCatalogEntryRepository::toEntry)
+                .all();
+    }
+
+    /**
+     * Maps a <b>catalog_view</b> row to a {@link CatalogEntry} entity.
+     *
+     * @param row the row.
+     * @return the entry.
+     */
+    private static CatalogEntry toEntry(Row row) {
+        return new CatalogEntry(
+                row.get("product_id", Long.class),
+                row.get("book_id", Long.class),
+                row.get("name", String.class),
+                row.get("author", String.class),
+                row.get("price", Integer.class),
+                row.get("amount", Integer.class),
+                row.get("version", Long.class)
+        );
+    }
+}
@@ -0,0 +1,132 @@
+package dev.vpendischuk.market.repository.reactive;
+
+import dev.vpendischuk.market.domain.Book;
+import dev.vpendischuk.market.domain.Product;
+import io.r2dbc.spi.Row;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * R2DBC repository that presents a non-blocking interface for
+ *   the <b>products</b> table in the database (<b>reactive</b> profile).
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveProductRepository {
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * A {@link DatabaseClient} instance used to run the statements.
+     */
+    private final DatabaseClient databaseClient;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link ReactiveProductRepository} instance.
+     *
+     * @param databaseClient R2DBC database client.
+     */
+    public ReactiveProductRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Finds the product with the specified ID together with its book in a single query.
+     *
+     * @param id product ID.
+     * @return the product or an empty {@link Mono}, if the product does not exist.
+     */
+    public Mono<Product> findById(long id) {
+        return databaseClient.sql("SELECT p.id, p.price, p.amount, p.sold_out_at, " +
+                        "b.id AS book_id, b.name, b.author " +
+                        "FROM products p JOIN books b ON b.id = p.book_id WHERE p.id = :id")
+                .bind("id", id)
+                .map(ReactiveProductRepository::toProduct)
+                .one();
+    }
+
+    /**
+     * Inserts the specified product (if it has no ID) or updates it.
+     * <p>
+     * New IDs are taken from the <b>products_id_seq</b> sequence shared with JPA.
+     *   The product's book must be saved first.
+     *
+     * @param product the product.
+     * @return the saved product with its ID set.
+     */
+    public Mono<Product> save(Product product) {
+        DatabaseClient.GenericExecuteSpec statement;
+
+        if (product.getId() != null) {
+            statement = databaseClient.sql("UPDATE products SET book_id = :bookId, price = :price, " +
+                            "amount = :amount, sold_out_at = :soldOutAt WHERE id = :id RETURNING id")
+                    .bind("id", product.getId());
+        } else {
+            statement = databaseClient.sql("INSERT INTO products (id, book_id, price, amount, sold_out_at) " +
+                    "VALUES (nextval('products_id_seq'), :bookId, :price, :amount, :soldOutAt) RETURNING id");
+        }
+
+        statement = statement.bind("bookId", product.getProductBook().getId())
+                .bind("price", product.getPrice())
+                .bind("amount", product.getAmount());
+        statement = product.getSoldOutAt() == null
+                ? statement.bindNull("soldOutAt", LocalDateTime.class)
+                : statement.bind("soldOutAt", LocalDateTime.ofInstant(product.getSoldOutAt(), ZoneId.systemDefault()));
+
+        return statement.map(row -> row.get("id", Long.class))
+                .one()
+                .map(id -> {
+                    product.setId(id);
+                    return product;
+                });
+    }
+
+    /**
+     * Decreases the amount of the specified product if it's not lower than the decrement,
+     *   marking the product sold out when the amount drops to zero.
+     *
+     * @param id product ID.
+     * @param decrement amount decrement.
+     * @return number of updated products - 0 if the product does not exist or its amount is too low.
+     */
+    public Mono<Integer> decreaseAmount(long id, int decrement) {
+        return databaseClient.sql("UPDATE products SET amount = amount - :decrement, " +
+                        "sold_out_at = CASE WHEN amount = :decrement THEN COALESCE(sold_out_at, now()) END " +
+                        "WHERE id = :id AND amount >= :decrement")
+                .bind("id", id)
+                .bind("decrement", decrement)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Maps a row of the product-book join to a {@link Product} entity.
+     *
+     * @param row the row.
+     * @return the product with its book.
+     */
+    private static Product toProduct(Row row) {
+        Book book = new Book(row.get("name", String.class), row.get("author", String.class));
+        book.setId(row.get("book_id", Long.class));
+
+        Product product = new Product(book, row.get("price", Integer.class), row.get("amount", Integer.class));
+        product.setId(row.get("id", Long.class));
+
+        LocalDateTime soldOutAt = row.get("sold_out_at", LocalDateTime.class);
+        new DirectFieldAccessor(product).setPropertyValue("soldOutAt",
+                soldOutAt == null ? null : soldOutAt.atZone(ZoneId.systemDefault()).toInstant());
+
+        return product;
+    }
+}
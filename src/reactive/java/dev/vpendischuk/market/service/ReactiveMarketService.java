@@ -0,0 +1,63 @@
+package dev.vpendischuk.market.service;
+
+import dev.vpendischuk.market.cache.model.AccountReadModel;
+import dev.vpendischuk.market.domain.CatalogEntry;
+import dev.vpendischuk.market.domain.Product;
+import dev.vpendischuk.market.domain.ProductAvailability;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Interface that describes a reactive market service - non-blocking service
+ *   that provides access to the R2DBC repositories (<b>reactive</b> profile).
+ */
+public interface ReactiveMarketService {
+    /**
+     * Retrieves the catalog entries of the products with the specified availability.
+     *
+     * @param availability product availability.
+     * @return the catalog entries, in product ID order.
+     */
+    Flux<CatalogEntry> findCatalog(ProductAvailability availability);
+
+    /**
+     * Finds the catalog entry of the product with the specified ID.
+     *
+     * @param productId product ID.
+     * @return the catalog entry or an empty {@link Mono}, if the product does not exist.
+     */
+    Mono<CatalogEntry> findCatalogEntry(long productId);
+
+    /**
+     * Finds the product with the specified ID together with its book.
+     *
+     * @param id product ID.
+     * @return the product or an empty {@link Mono}, if the product does not exist.
+     */
+    Mono<Product> findProductById(long id);
+
+    /**
+     * Saves the specified product and its book and brings the product's catalog entry up to date
+     *   in a single transaction.
+     *
+     * @param product the product to be persisted.
+     * @return the persisted product.
+     */
+    Mono<Product> save(Product product);
+
+    /**
+     * Retrieves the current account together with its purchased books.
+     *
+     * @return read model of the current account or an empty {@link Mono}, if the account does not exist.
+     */
+    Mono<AccountReadModel> getCurrentAccount();
+
+    /**
+     * Performs a book purchase deal for the current account, if the {@link DealValidator} accepts it.
+     *
+     * @param productId purchased product ID.
+     * @param amount purchased product quantity.
+     * @return the rejection reason or an empty {@link Mono}, if the deal was performed.
+     */
+    Mono<DealValidator.Rejection> performDeal(long productId, int amount);
+}
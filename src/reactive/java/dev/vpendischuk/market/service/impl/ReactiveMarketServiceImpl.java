@@ -0,0 +1,271 @@
+package dev.vpendischuk.market.service.impl;
+
+import dev.vpendischuk.market.cache.model.AccountReadModel;
+import dev.vpendischuk.market.domain.CatalogEntry;
+import dev.vpendischuk.market.domain.Product;
+import dev.vpendischuk.market.domain.ProductAvailability;
+import dev.vpendischuk.market.repository.reactive.*;
+import dev.vpendischuk.market.service.DealValidator;
+import dev.vpendischuk.market.service.ReactiveMarketService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * The default implementation of a reactive market service - non-blocking service
+ *   that provides access to the R2DBC repositories (<b>reactive</b> profile).
+ * <p>
+ * Deals are validated by the same {@link DealValidator} as on the blocking stack,
+ *   and all writes of a deal are made in a single transaction.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveMarketServiceImpl implements ReactiveMarketService {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link ReactiveMarketServiceImpl} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveMarketServiceImpl.class);
+
+    /**
+     * ID of the current account.
+     */
+    private static final long ACCOUNT_ID = 1L;
+
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * A {@link ReactiveBookRepository} instance used to access the books table in the database.
+     */
+    private final ReactiveBookRepository bookRepository;
+
+    /**
+     * A {@link ReactiveProductRepository} instance used to access the products table in the database.
+     */
+    private final ReactiveProductRepository productRepository;
+
+    /**
+     * A {@link ReactiveAccountRepository} instance used to access the accounts table in the database.
+     */
+    private final ReactiveAccountRepository accountRepository;
+
+    /**
+     * A {@link ReactiveAccountBookRepository} instance used to access the account_book table in the database.
+     */
+    private final ReactiveAccountBookRepository accountBookRepository;
+
+    /**
+     * A {@link ReactiveCatalogEntryRepository} instance used to access the catalog_view table in the database.
+     */
+    private final ReactiveCatalogEntryRepository catalogEntryRepository;
+
+    /**
+     * A {@link DealValidator} instance used to validate book purchase deals.
+     */
+    private final DealValidator dealValidator;
+
+    /**
+     * A {@link TransactionalOperator} instance used to demarcate the write transactions.
+     */
+    private final TransactionalOperator transactionalOperator;
+
+    /* --------------------------- Constructors ---------------------------- */
+
+    /**
+     * Initializes a new {@link ReactiveMarketServiceImpl} instance.
+     *
+     * @param bookRepository an R2DBC repository for the books table access.
+     * @param productRepository an R2DBC repository for the products table access.
+     * @param accountRepository an R2DBC repository for the accounts table access.
+     * @param accountBookRepository an R2DBC repository for the account_book table access.
+     * @param catalogEntryRepository an R2DBC repository for the catalog_view table access.
+     * @param dealValidator validator of book purchase deals.
+     * @param transactionalOperator operator demarcating the write transactions.
+     */
+    @Autowired
+    public ReactiveMarketServiceImpl(ReactiveBookRepository bookRepository,
+                                     ReactiveProductRepository productRepository,
+                                     ReactiveAccountRepository accountRepository,
+                                     ReactiveAccountBookRepository accountBookRepository,
+                                     ReactiveCatalogEntryRepository catalogEntryRepository,
+                                     DealValidator dealValidator,
+                                     TransactionalOperator transactionalOperator) {
+        this.bookRepository = bookRepository;
+        this.productRepository = productRepository;
+        this.accountRepository = accountRepository;
+        this.accountBookRepository = accountBookRepository;
+        this.catalogEntryRepository = catalogEntryRepository;
+        this.dealValidator = dealValidator;
+        this.transactionalOperator = transactionalOperator;
+    }
+
+    /* -------------------------- Public methods -------------------------- */
+
+    /**
+     * Retrieves the catalog entries of the products with the specified availability.
+     *
+     * @param availability product availability.
+     * @return the catalog entries, in product ID order.
+     */
+    @Override
+    public Flux<CatalogEntry> findCatalog(ProductAvailability availability) {
+        if (availability == null) {
+            return Flux.error(new IllegalArgumentException("Argument availability cannot be null"));
+        }
+
+        return switch (availability) {
+            case IN_STOCK -> catalogEntryRepository.findInStock();
+            case OUT_OF_STOCK -> catalogEntryRepository.findOutOfStock();
+            case ALL -> catalogEntryRepository.findAll();
+        };
+    }
+
+    /**
+     * Finds the catalog entry of the product with the specified ID.
+     *
+     * @param productId product ID.
+     * @return the catalog entry or an empty {@link Mono}, if the product does not exist.
+     */
+    @Override
+    public Mono<CatalogEntry> findCatalogEntry(long productId) {
+        return catalogEntryRepository.findById(productId);
+    }
+
+    /**
+     * Finds the product with the specified ID together with its book.
+     *
+     * @param id product ID.
+     * @return the product or an empty {@link Mono}, if the product does not exist.
+     */
+    @Override
+    public Mono<Product> findProductById(long id) {
+        return productRepository.findById(id);
+    }
+
+    /**
+     * Saves the specified product and its book and brings the product's catalog entry up to date
+     *   in a single transaction.
+     *
+     * @param product the product to be persisted.
+     * @return the persisted product.
+     */
+    @Override
+    public Mono<Product> save(Product product) {
+        if (product == null || product.getProductBook() == null) {
+            return Mono.error(new IllegalArgumentException("Argument product and its book cannot be null"));
+        }
+
+        return bookRepository.save(product.getProductBook())
+                .flatMap(book -> {
+                    product.setProductBook(book);
+                    return productRepository.save(product);
+                })
+                .flatMap(savedProduct -> catalogEntryRepository
+                        .refreshProducts(Collections.singletonList(savedProduct.getId()))
+                        .thenReturn(savedProduct))
+                .doOnNext(savedProduct -> logger.debug("Saved product ID {}", savedProduct.getId()))
+                .as(transactionalOperator::transactional);
+    }
+
+    /**
+     * Retrieves the current account together with its purchased books.
+     *
+     * @return read model of the current account or an empty {@link Mono}, if the account does not exist.
+     */
+    @Override
+    public Mono<AccountReadModel> getCurrentAccount() {
+        return accountRepository.findReadModelById(ACCOUNT_ID);
+    }
+
+    /**
+     * Performs a book purchase deal for the current account, if the {@link DealValidator} accepts it.
+     * <p>
+     * The product and the account are fetched concurrently. The balance is decreased,
+     *   the product amount is decreased, the purchase is registered and the catalog entry is refreshed
+     *   in a single transaction. The balance and the amount are checked again by their updates, so a deal
+     *   that concurrent deals have left without money for is rejected without any writes.
+     *   If the product was bought out concurrently after the validation, the deal is rejected
+     *   and the transaction is rolled back.
+     *
+     * @param productId purchased product ID.
+     * @param amount purchased product quantity.
+     * @return the rejection reason or an empty {@link Mono}, if the deal was performed.
+     */
+    @Override
+    public Mono<DealValidator.Rejection> performDeal(long productId, int amount) {
+        Mono<Optional<Product>> product = productRepository.findById(productId)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+        Mono<Optional<AccountReadModel>> account = accountRepository.findReadModelById(ACCOUNT_ID)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+
+        return Mono.zip(product, account).flatMap(deal -> {
+            Product targetProduct = deal.getT1().orElse(null);
+            AccountReadModel currentAccount = deal.getT2().orElse(null);
+            Integer balance = currentAccount == null ? null : currentAccount.getBalance();
+
+            DealValidator.Rejection rejection = dealValidator.validate(targetProduct, balance, amount);
+
+            if (rejection != null) {
+                return Mono.just(rejection);
+            }
+
+            return register(currentAccount.getId(), targetProduct, amount);
+        });
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Registers the purchase of the specified quantity of the product by the account in a single transaction.
+     *
+     * @param accountId purchaser's account ID.
+     * @param product the purchased product.
+     * @param amount purchased product quantity.
+     * @return {@link DealValidator.Rejection#NOT_ENOUGH_MONEY} if the balance is too low for the deal,
+     *   {@link DealValidator.Rejection#NOT_ENOUGH_PRODUCT} if the product amount is too low for the deal,
+     *   an empty {@link Mono} otherwise.
+     */
+    private Mono<DealValidator.Rejection> register(long accountId, Product product, int amount) {
+        long productId = product.getId();
+        long bookId = product.getProductBook().getId();
+
+        logger.debug("Registering purchase of Product ID {} (quantity {}) by Account ID {}",
+                productId, amount, accountId);
+
+        return transactionalOperator.execute(status -> accountRepository
+                .decreaseBalance(accountId, product.getPrice() * amount)
+                .flatMap(updatedAccounts -> {
+                    if (updatedAccounts == 0) {
+                        logger.info("Deal for Product ID {} rejected - balance spent concurrently", productId);
+                        return Mono.just(DealValidator.Rejection.NOT_ENOUGH_MONEY);
+                    }
+
+                    return productRepository.decreaseAmount(productId, amount).flatMap(updatedProducts -> {
+                        if (updatedProducts == 0) {
+                            // The balance decrease is undone.
+                            logger.info("Deal for Product ID {} rejected - product bought out concurrently", productId);
+                            status.setRollbackOnly();
+                            return Mono.just(DealValidator.Rejection.NOT_ENOUGH_PRODUCT);
+                        }
+
+                        return accountBookRepository.addAmount(accountId, bookId, amount)
+                                .switchIfEmpty(Mono.error(() ->
+                                        new IllegalArgumentException("Invalid Book ID " + bookId)))
+                                .then(catalogEntryRepository.refreshProducts(Collections.singletonList(productId)))
+                                .then(Mono.<DealValidator.Rejection>empty());
+                    });
+                }))
+                .next();
+    }
+}
@@ -0,0 +1,194 @@
+package dev.vpendischuk.market.benchmark;
+
+import dev.vpendischuk.market.domain.AccountBook;
+import dev.vpendischuk.market.repository.AccountBookRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.LongConsumer;
+
+/**
+ * Benchmark of the account-book entry lookups and account library loads
+ *   on the hash-partitioned <b>account_book</b> table.
+ * <p>
+ * The benchmark is run by the <b>benchmark</b> Maven profile only
+ *   (<code>mvn test -P benchmark</code>) and clears the account-book data when it's done.
+ *   The number of generated entries (100M by default, {@link #BOOK_COUNT} per account)
+ *   is set by the <b>benchmark.account-book.rows</b> system property, the number of measured
+ *   operations - by the <b>benchmark.account-book.reads</b> system property.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@Tag("benchmark")
+@DisplayName("Account-book partition benchmark")
+public class AccountBookPartitionBenchmark {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link AccountBookPartitionBenchmark} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(AccountBookPartitionBenchmark.class);
+
+    /**
+     * Number of generated books - every generated account owns all of them.
+     */
+    private static final int BOOK_COUNT = 1000;
+
+    /**
+     * Number of accounts whose entries are generated in a single statement.
+     */
+    private static final int ACCOUNT_CHUNK_SIZE = 1000;
+
+    /* ---------------------------- Configuration -------------------------- */
+
+    /**
+     * Injected {@link AccountBookRepository} instance - the benchmark subject.
+     */
+    @Autowired
+    AccountBookRepository accountBookRepository;
+
+    /**
+     * Injected {@link JdbcTemplate} instance used to generate the data.
+     */
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    /**
+     * ID of the first generated account.
+     */
+    private long firstAccountId;
+
+    /**
+     * ID of the last generated account.
+     */
+    private long lastAccountId;
+
+    /**
+     * ID of the first generated book.
+     */
+    private long firstBookId;
+
+    /**
+     * ID of the last generated book.
+     */
+    private long lastBookId;
+
+    /**
+     * Clears the generated data.
+     */
+    @AfterEach
+    public void clearData() {
+        accountBookRepository.truncate();
+        jdbcTemplate.update("DELETE FROM accounts WHERE id BETWEEN ? AND ?", firstAccountId, lastAccountId);
+        jdbcTemplate.update("DELETE FROM books WHERE id BETWEEN ? AND ?", firstBookId, lastBookId);
+    }
+
+    /* ------------------------------ Benchmarks --------------------------- */
+
+    /**
+     * Measures the throughput of the entry lookups by account ID and book ID
+     *   and of the account library loads.
+     */
+    @Test
+    @DisplayName("Looks up entries and loads libraries")
+    public void benchmarkPartitionedReads() {
+        long rowCount = Long.getLong("benchmark.account-book.rows", 100_000_000L);
+        int readCount = Integer.getInteger("benchmark.account-book.reads", 10_000);
+
+        generateEntries(rowCount / BOOK_COUNT);
+
+        List<Long> bookIds = jdbcTemplate.queryForList(
+                "SELECT id FROM books WHERE id BETWEEN ? AND ?", Long.class, firstBookId, lastBookId);
+
+        Random random = new Random(42);
+        long accountCount = lastAccountId - firstAccountId + 1;
+
+        measure("entry lookups", readCount, i -> {
+            long accountId = firstAccountId + random.nextLong(accountCount);
+            Long bookId = bookIds.get(random.nextInt(bookIds.size()));
+
+            Assertions.assertTrue(accountBookRepository.findAccountBookByAccountIdAndBookId(accountId, bookId).isPresent());
+        });
+
+        measure("library loads", readCount / 10, i -> {
+            long accountId = firstAccountId + random.nextLong(accountCount);
+            List<AccountBook> entries = accountBookRepository.findAllByAccountId(accountId);
+
+            Assertions.assertEquals(BOOK_COUNT, entries.size());
+        });
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Generates {@link #BOOK_COUNT} books and the specified number of accounts owning all of them.
+     *
+     * @param accountCount number of accounts.
+     */
+    private void generateEntries(long accountCount) {
+        long startTime = System.nanoTime();
+
+        List<Long> bookIdRange = jdbcTemplate.queryForList(
+                "WITH generated AS (INSERT INTO books (id, name, author) " +
+                "SELECT nextval('books_id_seq'), 'Book ' || i, 'Author ' || i FROM generate_series(1, ?) i " +
+                "RETURNING id) SELECT MIN(id) FROM generated UNION ALL SELECT MAX(id) FROM generated",
+                Long.class, BOOK_COUNT);
+
+        firstBookId = bookIdRange.get(0);
+        lastBookId = bookIdRange.get(1);
+
+        List<Long> accountIdRange = jdbcTemplate.queryForList(
+                "WITH generated AS (INSERT INTO accounts (price) SELECT 0 FROM generate_series(1, ?) RETURNING id) " +
+                "SELECT MIN(id) FROM generated UNION ALL SELECT MAX(id) FROM generated", Long.class, accountCount);
+
+        firstAccountId = accountIdRange.get(0);
+        lastAccountId = accountIdRange.get(1);
+
+        for (long chunkStart = firstAccountId; chunkStart <= lastAccountId; chunkStart += ACCOUNT_CHUNK_SIZE) {
+            jdbcTemplate.update(
+                    "INSERT INTO account_book (account_id, book_id, amount) " +
+                    "SELECT a.id, b.id, 1 FROM accounts a CROSS JOIN books b " +
+                    "WHERE a.id BETWEEN ? AND ? AND b.id BETWEEN ? AND ?",
+                    chunkStart, Math.min(chunkStart + ACCOUNT_CHUNK_SIZE - 1, lastAccountId),
+                    firstBookId, lastBookId);
+        }
+
+        jdbcTemplate.execute("ANALYZE account_book");
+
+        logger.info("Generated {} account-book entries in {} s",
+                accountCount * BOOK_COUNT, String.format("%.2f", (System.nanoTime() - startTime) / 1e9));
+    }
+
+    /**
+     * Runs the specified operation a number of times and logs its throughput.
+     *
+     * @param name operation name.
+     * @param operationCount number of runs.
+     * @param operation the operation, accepting the run number.
+     */
+    private void measure(String name, int operationCount, LongConsumer operation) {
+        long startTime = System.nanoTime();
+
+        for (int i = 0; i < operationCount; i++) {
+            operation.accept(i);
+        }
+
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+
+        logger.info("Ran {} {} in {} s ({} ops/s, {} ms per op)", operationCount, name,
+                String.format("%.2f", seconds), String.format("%.0f", operationCount / seconds),
+                String.format("%.3f", seconds * 1000 / operationCount));
+    }
+}
@@ -0,0 +1,171 @@
+package dev.vpendischuk.market.benchmark;
+
+import dev.vpendischuk.market.domain.Book;
+import dev.vpendischuk.market.domain.Product;
+import dev.vpendischuk.market.domain.ProductAvailability;
+import dev.vpendischuk.market.dto.assembler.CatalogDtoAssembler;
+import dev.vpendischuk.market.dto.assembler.MarketDtoAssembler;
+import dev.vpendischuk.market.dto.response.MarketDto;
+import dev.vpendischuk.market.service.BookService;
+import dev.vpendischuk.market.service.CatalogService;
+import dev.vpendischuk.market.service.ProductService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Benchmark of the market catalog read throughput: the products-books join
+ *   against the denormalized <b>catalog_view</b> table.
+ * <p>
+ * The benchmark is run by the <b>benchmark</b> Maven profile only
+ *   (<code>mvn test -P benchmark</code>) and clears the product data when it's done.
+ *   The catalog size and the number of reads are set by the <b>benchmark.catalog.products</b>
+ *   and <b>benchmark.catalog.reads</b> system properties.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@Tag("benchmark")
+@DisplayName("Catalog read benchmark")
+public class CatalogReadBenchmark {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link CatalogReadBenchmark} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(CatalogReadBenchmark.class);
+
+    /**
+     * Number of products inserted in a single transaction.
+     */
+    private static final int CHUNK_SIZE = 10_000;
+
+    /* ---------------------------- Configuration -------------------------- */
+
+    /**
+     * Injected {@link BookService} instance used to insert books.
+     */
+    @Autowired
+    BookService bookService;
+
+    /**
+     * Injected {@link ProductService} instance used to insert and join-read products.
+     */
+    @Autowired
+    ProductService productService;
+
+    /**
+     * Injected {@link CatalogService} instance used to read catalog entries.
+     */
+    @Autowired
+    CatalogService catalogService;
+
+    /**
+     * Injected {@link MarketDtoAssembler} instance used to assemble the join read results.
+     */
+    @Autowired
+    MarketDtoAssembler marketDtoAssembler;
+
+    /**
+     * Injected {@link CatalogDtoAssembler} instance used to assemble the catalog entries.
+     */
+    @Autowired
+    CatalogDtoAssembler catalogDtoAssembler;
+
+    /**
+     * Clears the inserted data.
+     */
+    @AfterEach
+    public void clearData() {
+        bookService.truncate();
+    }
+
+    /* ------------------------------ Benchmarks --------------------------- */
+
+    /**
+     * Measures the throughput of assembling the market DTO of the products in stock
+     *   from the joined products and books and from the catalog entries.
+     */
+    @Test
+    @DisplayName("Reads the catalog through the join and the catalog table")
+    public void benchmarkCatalogReads() {
+        int productCount = Integer.getInteger("benchmark.catalog.products", 10_000);
+        int readCount = Integer.getInteger("benchmark.catalog.reads", 200);
+
+        insertProducts(productCount);
+
+        MarketDto joinedMarket = measure("join", readCount,
+                () -> marketDtoAssembler.toModel(productService.findAll(ProductAvailability.IN_STOCK)));
+        MarketDto catalogMarket = measure("catalog_view", readCount,
+                () -> catalogDtoAssembler.toModel(catalogService.findAll(ProductAvailability.IN_STOCK)));
+
+        Assertions.assertEquals(joinedMarket.getProducts().size(), catalogMarket.getProducts().size());
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Inserts the specified number of products (together with their books)
+     *   in chunks of {@link #CHUNK_SIZE} products, every tenth of them sold out.
+     *
+     * @param productCount number of products.
+     */
+    private void insertProducts(int productCount) {
+        for (int offset = 0; offset < productCount; offset += CHUNK_SIZE) {
+            int chunkSize = Math.min(CHUNK_SIZE, productCount - offset);
+            List<Book> books = new ArrayList<>(chunkSize);
+            List<Product> products = new ArrayList<>(chunkSize);
+
+            for (int i = offset; i < offset + chunkSize; i++) {
+                Book book = new Book("Book " + i, "Author " + i % 1000);
+
+                books.add(book);
+                products.add(new Product(book, 100 + i % 5000, i % 10 == 0 ? 0 : 1 + i % 100));
+            }
+
+            bookService.saveAll(books);
+            productService.saveAll(products);
+        }
+    }
+
+    /**
+     * Runs the specified read a number of times (after a tenth of them as a warm-up)
+     *   and logs its throughput.
+     *
+     * @param name read path name.
+     * @param readCount number of measured reads.
+     * @param read the read.
+     * @return the result of the last read.
+     */
+    private MarketDto measure(String name, int readCount, Supplier<MarketDto> read) {
+        MarketDto result = null;
+
+        for (int i = 0; i < readCount / 10; i++) {
+            result = read.get();
+        }
+
+        long startTime = System.nanoTime();
+
+        for (int i = 0; i < readCount; i++) {
+            result = read.get();
+        }
+
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+
+        logger.info("Read {} catalog {} times in {} s ({} reads/s)",
+                name, readCount, String.format("%.2f", seconds), String.format("%.1f", readCount / seconds));
+
+        return result;
+    }
+}
@@ -0,0 +1,177 @@
+package dev.vpendischuk.market.benchmark;
+
+import dev.vpendischuk.market.domain.Book;
+import dev.vpendischuk.market.domain.Product;
+import dev.vpendischuk.market.service.BookService;
+import dev.vpendischuk.market.service.ProductService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Base class of the benchmarks of the market API throughput at a high number
+ *   of concurrent HTTP connections, run against a server started on a random port.
+ * <p>
+ * The number of concurrent connections and of requests are set by the <b>benchmark.http.connections</b>
+ *   and <b>benchmark.http.requests</b> system properties, the catalog size -
+ *   by the <b>benchmark.http.products</b> system property.
+ */
+public abstract class MarketStackBenchmark {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link MarketStackBenchmark} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(MarketStackBenchmark.class);
+
+    /**
+     * Number of products inserted in a single transaction.
+     */
+    private static final int CHUNK_SIZE = 10_000;
+
+    /* ---------------------------- Configuration -------------------------- */
+
+    /**
+     * Port of the server under test.
+     */
+    @LocalServerPort
+    int port;
+
+    /**
+     * Injected {@link BookService} instance used to insert books.
+     */
+    @Autowired
+    BookService bookService;
+
+    /**
+     * Injected {@link ProductService} instance used to insert products.
+     */
+    @Autowired
+    ProductService productService;
+
+    /**
+     * Clears the inserted data.
+     */
+    @AfterEach
+    public void clearData() {
+        bookService.truncate();
+    }
+
+    /* ------------------------------ Benchmarks --------------------------- */
+
+    /**
+     * Measures the throughput of product and account reads (one account read per ten product reads)
+     *   made over the configured number of concurrent connections.
+     */
+    @Test
+    @DisplayName("Reads products and account data over concurrent connections")
+    public void benchmarkConcurrentReads() {
+        int connections = Integer.getInteger("benchmark.http.connections", 1000);
+        int requestCount = Integer.getInteger("benchmark.http.requests", 100_000);
+        List<Long> productIds = insertProducts(Integer.getInteger("benchmark.http.products", 1000));
+
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("benchmark")
+                .maxConnections(connections)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        WebClient client = WebClient.builder()
+                .baseUrl("http://localhost:" + port)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)
+                        .responseTimeout(Duration.ofSeconds(30))))
+                .build();
+
+        try {
+            // Warming up the server with a tenth of the requests.
+            run(client, productIds, requestCount / 10, connections);
+
+            long startTime = System.nanoTime();
+            int failedCount = run(client, productIds, requestCount, connections);
+            double seconds = (System.nanoTime() - startTime) / 1e9;
+
+            logger.info("{}: {} requests over {} connections in {} s ({} requests/s, {} failed)",
+                    getClass().getSimpleName(), requestCount, connections,
+                    String.format("%.2f", seconds), String.format("%.0f", requestCount / seconds), failedCount);
+
+            Assertions.assertEquals(0, failedCount);
+        } finally {
+            connectionProvider.dispose();
+        }
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Sends the specified number of requests with at most the specified number of them in flight.
+     *
+     * @param client HTTP client.
+     * @param productIds IDs of the requested products.
+     * @param requestCount number of requests.
+     * @param concurrency maximum number of requests in flight.
+     * @return number of failed requests.
+     */
+    private int run(WebClient client, List<Long> productIds, int requestCount, int concurrency) {
+        AtomicInteger failedCount = new AtomicInteger();
+
+        Flux.range(0, requestCount)
+                .flatMap(i -> {
+                    String uri = i % 10 == 0 ? "/account" : "/market/" + productIds.get(i % productIds.size());
+
+                    return client.get().uri(uri)
+                            .retrieve()
+                            .toBodilessEntity()
+                            .then()
+                            .onErrorResume(e -> {
+                                failedCount.incrementAndGet();
+                                return Mono.empty();
+                            });
+                }, concurrency)
+                .blockLast();
+
+        return failedCount.get();
+    }
+
+    /**
+     * Inserts the specified number of products (together with their books)
+     *   in chunks of {@link #CHUNK_SIZE} products.
+     *
+     * @param productCount number of products.
+     * @return IDs of the inserted products.
+     */
+    private List<Long> insertProducts(int productCount) {
+        List<Long> productIds = new ArrayList<>(productCount);
+
+        for (int offset = 0; offset < productCount; offset += CHUNK_SIZE) {
+            int chunkSize = Math.min(CHUNK_SIZE, productCount - offset);
+            List<Book> books = new ArrayList<>(chunkSize);
+            List<Product> products = new ArrayList<>(chunkSize);
+
+            for (int i = offset; i < offset + chunkSize; i++) {
+                Book book = new Book("Book " + i, "Author " + i % 1000);
+
+                books.add(book);
+                products.add(new Product(book, 100 + i % 5000, 1 + i % 100));
+            }
+
+            bookService.saveAll(books);
+            productService.saveAll(products).forEach(product -> productIds.add(product.getId()));
+        }
+
+        return productIds;
+    }
+}
@@ -0,0 +1,111 @@
+package dev.vpendischuk.market.benchmark;
+
+import dev.vpendischuk.market.domain.Book;
+import dev.vpendischuk.market.domain.Product;
+import dev.vpendischuk.market.repository.ProductRepository;
+import dev.vpendischuk.market.service.BookService;
+import dev.vpendischuk.market.service.ProductService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark of the product insert throughput with batched inserts.
+ * <p>
+ * The benchmark is run by the <b>benchmark</b> Maven profile only
+ *   (<code>mvn test -P benchmark</code>) and clears the product data when it's done.
+ *   The number of inserted products is set by the <b>benchmark.products</b> system property.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@Tag("benchmark")
+@DisplayName("Product insert benchmark")
+public class ProductInsertBenchmark {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link ProductInsertBenchmark} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(ProductInsertBenchmark.class);
+
+    /**
+     * Number of products inserted in a single transaction.
+     */
+    private static final int CHUNK_SIZE = 10_000;
+
+    /* ---------------------------- Configuration -------------------------- */
+
+    /**
+     * Injected {@link BookService} instance used to insert books.
+     */
+    @Autowired
+    BookService bookService;
+
+    /**
+     * Injected {@link ProductService} instance used to insert products.
+     */
+    @Autowired
+    ProductService productService;
+
+    /**
+     * Injected {@link ProductRepository} instance used to count the inserted products.
+     */
+    @Autowired
+    ProductRepository productRepository;
+
+    /**
+     * Clears the inserted data.
+     */
+    @AfterEach
+    public void clearData() {
+        bookService.truncate();
+    }
+
+    /* ------------------------------ Benchmarks --------------------------- */
+
+    /**
+     * Measures the throughput of inserting products (together with their books)
+     *   in chunks of {@link #CHUNK_SIZE} products.
+     */
+    @Test
+    @DisplayName("Inserts products in batches")
+    public void benchmarkProductInserts() {
+        int productCount = Integer.getInteger("benchmark.products", 1_000_000);
+
+        long startTime = System.nanoTime();
+
+        for (int offset = 0; offset < productCount; offset += CHUNK_SIZE) {
+            int chunkSize = Math.min(CHUNK_SIZE, productCount - offset);
+            List<Book> books = new ArrayList<>(chunkSize);
+            List<Product> products = new ArrayList<>(chunkSize);
+
+            for (int i = offset; i < offset + chunkSize; i++) {
+                Book book = new Book("Book " + i, "Author " + i % 1000);
+
+                books.add(book);
+                products.add(new Product(book, 100 + i % 5000, 1 + i % 100));
+            }
+
+            bookService.saveAll(books);
+            productService.saveAll(products);
+        }
+
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+
+        logger.info("Inserted {} products in {} s ({} products/s)",
+                productCount, String.format("%.2f", seconds), String.format("%.0f", productCount / seconds));
+
+        Assertions.assertEquals(productCount, productRepository.count());
+    }
+}
@@ -0,0 +1,184 @@
+package dev.vpendischuk.market.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.vpendischuk.market.configuration.seeding.ChunkedSeedingWriter;
+import dev.vpendischuk.market.configuration.seeding.CopySeedingWriter;
+import dev.vpendischuk.market.configuration.seeding.JsonSeedingReader;
+import dev.vpendischuk.market.configuration.seeding.ParallelSeedingWriter;
+import dev.vpendischuk.market.configuration.seeding.SeedingWriter;
+import dev.vpendischuk.market.repository.ProductRepository;
+import dev.vpendischuk.market.service.AccountService;
+import dev.vpendischuk.market.service.BookService;
+import dev.vpendischuk.market.service.ProductService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+/**
+ * Benchmark of the seeding throughput: chunked inserts through the services (on one and on all processors)
+ *   against the PostgreSQL <code>COPY</code> bulk load.
+ * <p>
+ * The benchmark is run by the <b>benchmark</b> Maven profile only
+ *   (<code>mvn test -P benchmark</code>) and clears the product data when it's done.
+ *   The number of seeded products is set by the <b>benchmark.seeding.products</b> system property.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@Tag("benchmark")
+@DisplayName("Seeding benchmark")
+public class SeedingBenchmark {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link SeedingBenchmark} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(SeedingBenchmark.class);
+
+    /* ---------------------------- Configuration -------------------------- */
+
+    /**
+     * Injected {@link AccountService} instance used by the writers.
+     */
+    @Autowired
+    AccountService accountService;
+
+    /**
+     * Injected {@link BookService} instance used to insert books.
+     */
+    @Autowired
+    BookService bookService;
+
+    /**
+     * Injected {@link ProductService} instance used to insert products.
+     */
+    @Autowired
+    ProductService productService;
+
+    /**
+     * Injected {@link ProductRepository} instance used to count the seeded products.
+     */
+    @Autowired
+    ProductRepository productRepository;
+
+    /**
+     * Injected {@link DataSource} instance the products are bulk-loaded into.
+     */
+    @Autowired
+    DataSource dataSource;
+
+    /**
+     * Injected {@link PlatformTransactionManager} instance running the transactions of the parallel seeding.
+     */
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    /**
+     * Clears the inserted data.
+     */
+    @AfterEach
+    public void clearData() {
+        bookService.truncate();
+    }
+
+    /* ------------------------------ Benchmarks --------------------------- */
+
+    /**
+     * Measures the throughput of seeding the same JSON data through the chunked writer,
+     *   the parallel writer and the <code>COPY</code> bulk load.
+     *
+     * @throws IOException never (generated data).
+     */
+    @Test
+    @DisplayName("Seeds products through the services and with COPY")
+    public void benchmarkSeeding() throws IOException {
+        int productCount = Integer.getInteger("benchmark.seeding.products", 200_000);
+        byte[] seedingData = generateSeedingData(productCount);
+
+        double chunkedRate = measure("chunked", productCount, seedingData,
+                () -> new ChunkedSeedingWriter(accountService, bookService, productService, 10_000));
+        bookService.truncate();
+
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        double parallelRate = measure("parallel", productCount, seedingData,
+                () -> new ParallelSeedingWriter(accountService, bookService, productService,
+                        transactionTemplate, 10_000, parallelism));
+        bookService.truncate();
+        double copyRate = measure("COPY", productCount, seedingData,
+                () -> new CopySeedingWriter(dataSource, accountService));
+
+        logger.info("Parallel seeding speedup with {} workers: {}x",
+                parallelism, String.format("%.1f", parallelRate / chunkedRate));
+        logger.info("COPY bulk load speedup: {}x", String.format("%.1f", copyRate / chunkedRate));
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Generates JSON seeding data with the specified number of books.
+     *
+     * @param productCount number of books.
+     * @return the JSON data.
+     */
+    private byte[] generateSeedingData(int productCount) {
+        StringBuilder json = new StringBuilder("{\"books\": [");
+
+        for (int i = 0; i < productCount; i++) {
+            json.append(i == 0 ? "" : ",")
+                    .append("{\"author\": \"Author ").append(i % 1000)
+                    .append("\", \"name\": \"Book ").append(i)
+                    .append("\", \"price\": ").append(100 + i % 5000)
+                    .append(", \"amount\": ").append(1 + i % 100).append('}');
+        }
+
+        return json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Seeds the specified data with a writer and logs its throughput.
+     *
+     * @param name writer name.
+     * @param productCount number of seeded products.
+     * @param seedingData JSON seeding data.
+     * @param writerFactory factory of the writer.
+     * @return seeding throughput in rows per second.
+     * @throws IOException never (generated data).
+     */
+    private double measure(String name, int productCount, byte[] seedingData,
+                           Supplier<SeedingWriter> writerFactory) throws IOException {
+        long startTime = System.nanoTime();
+
+        SeedingWriter writer = writerFactory.get();
+        new JsonSeedingReader(new ObjectMapper()).read(new ByteArrayInputStream(seedingData), writer);
+        writer.finish();
+
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+        double rate = productCount / seconds;
+
+        logger.info("Seeded {} products ({}) in {} s ({} rows/s)",
+                productCount, name, String.format("%.2f", seconds), String.format("%.0f", rate));
+
+        Assertions.assertEquals(productCount, productRepository.count());
+
+        return rate;
+    }
+}
@@ -0,0 +1,21 @@
+package dev.vpendischuk.market.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+/**
+ * Benchmark of the blocking market API (Tomcat and JDBC) at a high number of concurrent connections.
+ * <p>
+ * The benchmark is run by the <b>benchmark</b> Maven profile only
+ *   (<code>mvn test -P benchmark</code>) and clears the product data when it's done.
+ *   See {@link MarketStackBenchmark} for its parameters.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Tag("benchmark")
+@DisplayName("Servlet stack benchmark")
+public class ServletStackBenchmark extends MarketStackBenchmark {
+}
@@ -0,0 +1,239 @@
+package dev.vpendischuk.market.benchmark;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark of the application startup: the time from the JVM launch to the first successful
+ *   <code>GET /market</code> response, for the packaged jar and the configurations built
+ *   by the <b>startup</b> Maven profile (thin jar, class-data sharing archive, production profile).
+ * <p>
+ * The benchmark starts the packaged application in separate JVMs against the configured database,
+ *   so the jars have to be built first (<code>mvn -P startup package -DskipTests</code>; add
+ *   <code>-Dstartup.training.profiles=prod</code> to train the archive against the database as well). It is run
+ *   by the <b>benchmark</b> Maven profile only (<code>mvn test -P benchmark</code>). The number of starts
+ *   of every configuration is set by the <b>benchmark.startup.runs</b> system property.
+ */
+@Tag("benchmark")
+@DisplayName("Startup benchmark")
+public class StartupBenchmark {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * {@link StartupBenchmark} class-level logger.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(StartupBenchmark.class);
+
+    /**
+     * Directory of the packaged jar.
+     */
+    private static final Path TARGET_DIRECTORY = Path.of("target");
+
+    /**
+     * Directory of the thin jar and the class-data sharing archive built by the startup profile.
+     */
+    private static final Path STARTUP_DIRECTORY = TARGET_DIRECTORY.resolve("startup");
+
+    /**
+     * Name of the class-data sharing archive built by the startup profile.
+     */
+    private static final String ARCHIVE = "market.jsa";
+
+    /**
+     * Maximum time a started application may take to serve the first request.
+     */
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+
+    /* ------------------------------ Benchmarks --------------------------- */
+
+    /**
+     * Measures the time to the first request of every configuration and logs the median
+     *   and the best time of each.
+     *
+     * @throws Exception if an application could not be started or stopped.
+     */
+    @Test
+    @DisplayName("Measures the time to the first request")
+    public void benchmarkTimeToFirstRequest() throws Exception {
+        int runs = Integer.getInteger("benchmark.startup.runs", 3);
+        Path fatJar = findJar(TARGET_DIRECTORY, "-startup.jar");
+        Path thinJar = findJar(STARTUP_DIRECTORY, null);
+
+        Assumptions.assumeTrue(fatJar != null || thinJar != null,
+                "No packaged application - run mvn -P startup package -DskipTests first");
+
+        Map<String, StartupConfiguration> configurations = new LinkedHashMap<>();
+
+        if (fatJar != null) {
+            configurations.put("fat jar", new StartupConfiguration(TARGET_DIRECTORY,
+                    "-jar", fatJar.getFileName().toString()));
+        }
+
+        if (thinJar != null) {
+            // The thin jar is started the way the training run started it, so the archive matches the class path.
+            String jarName = thinJar.getFileName().toString();
+
+            configurations.put("thin jar", new StartupConfiguration(STARTUP_DIRECTORY, "-jar", jarName));
+
+            if (Files.isRegularFile(STARTUP_DIRECTORY.resolve(ARCHIVE))) {
+                configurations.put("thin jar, AppCDS", new StartupConfiguration(STARTUP_DIRECTORY,
+                        "-XX:SharedArchiveFile=" + ARCHIVE, "-jar", jarName));
+                configurations.put("thin jar, AppCDS, prod profile", new StartupConfiguration(STARTUP_DIRECTORY,
+                        "-XX:SharedArchiveFile=" + ARCHIVE, "-jar", jarName, "--spring.profiles.active=prod"));
+            } else {
+                logger.warn("No class-data sharing archive in {} - skipping the AppCDS configurations",
+                        STARTUP_DIRECTORY);
+            }
+        }
+
+        for (Map.Entry<String, StartupConfiguration> configuration : configurations.entrySet()) {
+            List<Long> times = new ArrayList<>(runs);
+
+            for (int i = 0; i < runs; i++) {
+                times.add(measure(configuration.getValue()));
+            }
+
+            Collections.sort(times);
+            logger.info("{}: time to first request {} ms median, {} ms best ({} runs)",
+                    configuration.getKey(), times.get(times.size() / 2), times.get(0), runs);
+        }
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Finds the application jar in the specified directory.
+     *
+     * @param directory searched directory.
+     * @param excludedSuffix suffix of the excluded jars, or null.
+     * @return jar path, or null if there's none.
+     * @throws IOException if the directory could not be listed.
+     */
+    private Path findJar(Path directory, String excludedSuffix) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return null;
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".jar"))
+                    .filter(file -> excludedSuffix == null || !file.getFileName().toString().endsWith(excludedSuffix))
+                    .findFirst()
+                    .orElse(null);
+        }
+    }
+
+    /**
+     * Starts the application in the specified configuration and measures the time
+     *   until it serves the first catalog request.
+     *
+     * @param configuration startup configuration.
+     * @return time to the first request, in milliseconds.
+     * @throws Exception if the application could not be started or stopped.
+     */
+    private long measure(StartupConfiguration configuration) throws Exception {
+        int port = findFreePort();
+        List<String> command = new ArrayList<>();
+
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(configuration.arguments);
+        command.addAll(Arrays.asList("--server.port=" + port, "--market.warm-up.enabled=false"));
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/market")).build();
+
+        long startTime = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(configuration.directory.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+
+        try {
+            while (System.nanoTime() - startTime < TIMEOUT.toNanos()) {
+                Assertions.assertTrue(process.isAlive(), "Application exited on startup: " + command);
+
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return (System.nanoTime() - startTime) / 1_000_000;
+                    }
+                } catch (ConnectException ex) {
+                    // Not listening yet.
+                }
+
+                Thread.sleep(5);
+            }
+
+            return Assertions.fail("Application did not serve a request in " + TIMEOUT + ": " + command);
+        } finally {
+            process.destroy();
+
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    /**
+     * Finds a free local port.
+     *
+     * @return the port.
+     * @throws IOException if no port could be bound.
+     */
+    private int findFreePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /* --------------------------- Nested classes -------------------------- */
+
+    /**
+     * Configuration the application is started in.
+     */
+    private static final class StartupConfiguration {
+        /**
+         * Working directory of the application.
+         */
+        private final Path directory;
+
+        /**
+         * JVM and application arguments.
+         */
+        private final List<String> arguments;
+
+        /**
+         * Initializes a new {@link StartupConfiguration} instance.
+         *
+         * @param directory working directory of the application.
+         * @param arguments JVM and application arguments.
+         */
+        private StartupConfiguration(Path directory, String... arguments) {
+            this.directory = directory;
+            this.arguments = List.of(arguments);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package dev.vpendischuk.market.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.vpendischuk.market.cache.model.AccountReadModel;
+import dev.vpendischuk.market.cache.model.CacheStatistics;
+import dev.vpendischuk.market.dto.assembler.CatalogDtoAssembler;
+import dev.vpendischuk.market.dto.assembler.CatalogEntryDtoAssembler;
+import dev.vpendischuk.market.service.CatalogService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Class that contains unit tests for the {@link CacheRegistry} class.
+ */
+@DisplayName("CacheRegistry unit tests")
+public class CacheRegistryUnitTests {
+    /* ---------------------------- Configuration -------------------------- */
+
+    /**
+     * {@link AccountCache} instance managed by the test subject.
+     */
+    private AccountCache accountCache;
+
+    /**
+     * {@link ObjectMapper} instance used by the test subject to estimate the size of cached entries.
+     */
+    private ObjectMapper objectMapper;
+
+    /**
+     * {@link MeterRegistry} instance the caches are published to.
+     */
+    private MeterRegistry meterRegistry;
+
+    /**
+     * {@link CacheRegistry} instance - the test subject.
+     */
+    private CacheRegistry cacheRegistry;
+
+    /**
+     * Initializes the test subject with real caches backed by mock services.
+     */
+    @BeforeEach
+    public void setUp() {
+        CatalogCache catalogCache = new CatalogCache(Mockito.mock(CatalogService.class),
+                Mockito.mock(CatalogDtoAssembler.class), Mockito.mock(CatalogEntryDtoAssembler.class),
+                Duration.ofSeconds(30), Duration.ofSeconds(30), Duration.ofMinutes(10), 100);
+
+        accountCache = new AccountCache(10, Duration.ofMinutes(1));
+        objectMapper = Mockito.spy(new ObjectMapper());
+        meterRegistry = new SimpleMeterRegistry();
+        cacheRegistry = new CacheRegistry(catalogCache, accountCache,
+                new ResponseCache(1024, Duration.ofMinutes(10), Duration.ofSeconds(30)),
+                objectMapper, meterRegistry, Duration.ofMinutes(1));
+    }
+
+    /* -------------------------------- Tests ------------------------------ */
+
+    /**
+     * Tests if {@link CacheRegistry} reports the statistics of the managed caches.
+     */
+    @Test
+    @DisplayName("Reports cache statistics")
+    public void testReportsStatistics() {
+        // Filling the account cache: one miss, one hit.
+        AccountReadModel account = new AccountReadModel(1L, 10000, List.of());
+        accountCache.get(1L, id -> account);
+        accountCache.get(1L, id -> account);
+
+        CacheStatistics statistics = cacheRegistry.getStatistics("account");
+
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(List.of("market", "products", "account", "responses"),
+                        List.copyOf(cacheRegistry.getNames())),
+                () -> Assertions.assertEquals(1, statistics.getSize()),
+                () -> Assertions.assertEquals(10, statistics.getMaximumSize()),
+                () -> Assertions.assertEquals(0.5, statistics.getHitRatio()),
+                () -> Assertions.assertTrue(statistics.getMemoryEstimate() > 0),
+                () -> Assertions.assertTrue(cacheRegistry.getStatistics("responses").isWeighted()),
+                () -> Assertions.assertNull(cacheRegistry.getStatistics("books")),
+                () -> Assertions.assertNotNull(meterRegistry.find("cache.gets").tag("cache", "account").meter()),
+                () -> Assertions.assertNotNull(meterRegistry.find("cache.memory.estimate").tag("cache", "account").gauge())
+        );
+    }
+
+    /**
+     * Tests if {@link CacheRegistry} invalidates and resizes the managed caches.
+     */
+    @Test
+    @DisplayName("Invalidates and resizes caches")
+    public void testInvalidatesAndResizes() {
+        accountCache.get(1L, id -> new AccountReadModel(1L, 10000, List.of()));
+
+        Assertions.assertAll(
+                () -> Assertions.assertTrue(cacheRegistry.invalidate("account")),
+                () -> Assertions.assertEquals(0, accountCache.getSize()),
+                () -> Assertions.assertTrue(cacheRegistry.resize("account", 5)),
+                () -> Assertions.assertEquals(5, cacheRegistry.getStatistics("account").getMaximumSize()),
+                () -> Assertions.assertFalse(cacheRegistry.invalidate("books")),
+                () -> Assertions.assertFalse(cacheRegistry.resize("books", 5)),
+                () -> Assertions.assertThrows(IllegalArgumentException.class,
+                        () -> cacheRegistry.resize("account", -1))
+        );
+    }
+
+    /**
+     * Tests if {@link CacheRegistry} keeps the sampled entry size between metrics scrapes
+     *   and extrapolates it to the current number of entries.
+     */
+    @Test
+    @DisplayName("Samples entry sizes once per refresh interval")
+    public void testSamplesEntrySizesOncePerRefreshInterval() throws Exception {
+        accountCache.get(1L, id -> new AccountReadModel(1L, 10000, List.of()));
+
+        Gauge gauge = meterRegistry.find("cache.memory.estimate").tag("cache", "account").gauge();
+        double firstEstimate = gauge.value();
+        double secondEstimate = gauge.value();
+
+        accountCache.get(2L, id -> new AccountReadModel(2L, 10000, List.of()));
+        double thirdEstimate = gauge.value();
+
+        Assertions.assertAll(
+                () -> Assertions.assertTrue(firstEstimate > 0),
+                () -> Assertions.assertEquals(firstEstimate, secondEstimate),
+                () -> Assertions.assertEquals(2 * firstEstimate, thirdEstimate)
+        );
+        Mockito.verify(objectMapper, Mockito.times(1)).writeValueAsBytes(Mockito.any());
+    }
+}
@@ -0,0 +1,74 @@
+package dev.vpendischuk.market.cache;
+
+import dev.vpendischuk.market.cache.model.ContentEncoding;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Class that contains unit tests for the {@link ContentEncoding} content codings.
+ */
+@DisplayName("ContentEncoding unit tests")
+public class ContentEncodingUnitTests {
+    /* -------------------------------- Tests ------------------------------ */
+
+    /**
+     * Tests if {@link ContentEncoding} chooses the coding
+     *   according to the <b>Accept-Encoding</b> header value.
+     */
+    @Test
+    @DisplayName("Negotiates content coding")
+    public void testNegotiatesEncoding() {
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(ContentEncoding.IDENTITY, ContentEncoding.negotiate(null)),
+                () -> Assertions.assertEquals(ContentEncoding.IDENTITY, ContentEncoding.negotiate("br")),
+                () -> Assertions.assertEquals(ContentEncoding.GZIP, ContentEncoding.negotiate("gzip, deflate, br")),
+                () -> Assertions.assertEquals(ContentEncoding.DEFLATE, ContentEncoding.negotiate("gzip;q=0.5, deflate")),
+                () -> Assertions.assertEquals(ContentEncoding.IDENTITY, ContentEncoding.negotiate("gzip;q=0")),
+                () -> Assertions.assertEquals(ContentEncoding.GZIP, ContentEncoding.negotiate("*"))
+        );
+    }
+
+    /**
+     * Tests if {@link ContentEncoding} parses the quality value of identity
+     *   and finds no acceptable coding if identity is excluded.
+     */
+    @Test
+    @DisplayName("Negotiates identity by its quality value")
+    public void testNegotiatesIdentity() {
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(ContentEncoding.IDENTITY,
+                        ContentEncoding.negotiate("gzip;q=0.5, identity")),
+                () -> Assertions.assertEquals(ContentEncoding.GZIP, ContentEncoding.negotiate("gzip, identity;q=0.5")),
+                () -> Assertions.assertEquals(ContentEncoding.IDENTITY, ContentEncoding.negotiate("*;q=0, identity")),
+                () -> Assertions.assertEquals(ContentEncoding.GZIP, ContentEncoding.negotiate("gzip, identity;q=0")),
+                () -> Assertions.assertNull(ContentEncoding.negotiate("identity;q=0")),
+                () -> Assertions.assertNull(ContentEncoding.negotiate("*;q=0")),
+                () -> Assertions.assertNull(ContentEncoding.negotiate("br, identity;q=0"))
+        );
+    }
+
+    /**
+     * Tests if {@link ContentEncoding#GZIP} produces content
+     *   that decodes to the original content.
+     */
+    @Test
+    @DisplayName("Encodes content with gzip")
+    public void testGzipEncodedContentDecodes() throws IOException {
+        byte[] content = "{\"products\":[]}".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+        byte[] encodedContent = ContentEncoding.GZIP.encode(content);
+
+        try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(encodedContent))) {
+            Assertions.assertArrayEquals(content, inputStream.readAllBytes());
+        }
+
+        Assertions.assertTrue(encodedContent.length < content.length);
+    }
+}
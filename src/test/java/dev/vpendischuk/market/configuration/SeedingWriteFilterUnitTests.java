@@ -0,0 +1,105 @@
+package dev.vpendischuk.market.configuration;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.ServletException;
+import java.io.IOException;
+
+/**
+ * Class that contains unit tests for the {@link SeedingWriteFilter} class.
+ */
+@DisplayName("SeedingWriteFilter unit tests")
+public class SeedingWriteFilterUnitTests {
+    /* ---------------------------- Configuration -------------------------- */
+
+    /**
+     * State of the background seeding.
+     */
+    private SeedingState seedingState;
+
+    /**
+     * {@link SeedingWriteFilter} instance - the test subject.
+     */
+    private SeedingWriteFilter filter;
+
+    /**
+     * Initializes the test subject, asking the clients to retry after 30 seconds.
+     */
+    @BeforeEach
+    public void setUp() {
+        seedingState = new SeedingState();
+        filter = new SeedingWriteFilter(seedingState, 30);
+    }
+
+    /* -------------------------------- Tests ------------------------------ */
+
+    /**
+     * Tests if {@link SeedingWriteFilter} rejects the write requests while the background seeding runs.
+     *
+     * @throws ServletException never (mock request).
+     * @throws IOException never (mock request).
+     */
+    @Test
+    @DisplayName("Rejects writes during the background seeding")
+    public void testRejectsWritesDuringSeeding() throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        seedingState.start();
+        filter.doFilter(new MockHttpServletRequest("POST", "/market"), response, filterChain);
+
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getStatus()),
+                () -> Assertions.assertEquals("30", response.getHeader(HttpHeaders.RETRY_AFTER)),
+                () -> Assertions.assertNull(filterChain.getRequest()),
+                () -> Assertions.assertFalse(seedingState.isAcceptingWrites())
+        );
+    }
+
+    /**
+     * Tests if {@link SeedingWriteFilter} passes the read requests while the background seeding runs.
+     *
+     * @throws ServletException never (mock request).
+     * @throws IOException never (mock request).
+     */
+    @Test
+    @DisplayName("Passes reads during the background seeding")
+    public void testPassesReadsDuringSeeding() throws ServletException, IOException {
+        MockFilterChain filterChain = new MockFilterChain();
+
+        seedingState.start();
+        filter.doFilter(new MockHttpServletRequest("GET", "/market"), new MockHttpServletResponse(), filterChain);
+
+        Assertions.assertNotNull(filterChain.getRequest());
+    }
+
+    /**
+     * Tests if {@link SeedingWriteFilter} passes the write requests once the background seeding is done,
+     *   whether the seeded data is promoted or not.
+     *
+     * @throws ServletException never (mock request).
+     * @throws IOException never (mock request).
+     */
+    @Test
+    @DisplayName("Passes writes once the background seeding is done")
+    public void testPassesWritesAfterSeeding() throws ServletException, IOException {
+        MockFilterChain filterChain = new MockFilterChain();
+
+        seedingState.start();
+        seedingState.finish(false);
+        filter.doFilter(new MockHttpServletRequest("PATCH", "/market/1"), new MockHttpServletResponse(), filterChain);
+
+        Assertions.assertAll(
+                () -> Assertions.assertNotNull(filterChain.getRequest()),
+                () -> Assertions.assertEquals(SeedingState.Phase.FAILED, seedingState.getPhase())
+        );
+    }
+}
@@ -0,0 +1,142 @@
+package dev.vpendischuk.market.configuration.seeding;
+
+import dev.vpendischuk.market.configuration.model.ConfigurationAccountModel;
+import dev.vpendischuk.market.configuration.model.ConfigurationBookModel;
+import dev.vpendischuk.market.domain.Product;
+import dev.vpendischuk.market.service.AccountService;
+import dev.vpendischuk.market.service.BookService;
+import dev.vpendischuk.market.service.ProductService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class that contains unit tests for the {@link ChunkedSeedingWriter} class
+ *   and the handlers of a resumed seeding.
+ * <p>
+ * Tests in this class check if a {@link ChunkedSeedingWriter} functions properly in isolation
+ *   from its dependencies' functionality.
+ */
+@DisplayName("ChunkedSeedingWriter unit tests")
+@ExtendWith(MockitoExtension.class)
+public class ChunkedSeedingWriterUnitTests {
+    /* ---------------------------- Configuration -------------------------- */
+
+    /**
+     * Mock {@link AccountService} instance.
+     */
+    @Mock
+    AccountService accountService;
+
+    /**
+     * Mock {@link BookService} instance.
+     */
+    @Mock
+    BookService bookService;
+
+    /**
+     * Mock {@link ProductService} instance.
+     */
+    @Mock
+    ProductService productService;
+
+    /**
+     * Checkpoints passed to the chunk listener.
+     */
+    private List<Long> checkpoints;
+
+    /**
+     * Initializes the checkpoint list.
+     */
+    @BeforeEach
+    public void setUp() {
+        checkpoints = new ArrayList<>();
+    }
+
+    /* -------------------------------- Tests ------------------------------ */
+
+    /**
+     * Tests if {@link ChunkedSeedingWriter} persists the records in chunks
+     *   and records a checkpoint for every chunk.
+     */
+    @Test
+    @DisplayName("Records a checkpoint for every chunk")
+    public void testRecordsCheckpoints() {
+        ChunkedSeedingWriter writer = new ChunkedSeedingWriter(accountService, bookService, productService,
+                TransactionOperations.withoutTransaction(), 2, 0, checkpoints::add);
+
+        for (int i = 0; i < 5; i++) {
+            writer.book(book(i));
+        }
+
+        long productCount = writer.finish();
+
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(5, productCount),
+                () -> Assertions.assertEquals(List.of(2L, 4L, 5L), checkpoints)
+        );
+        Mockito.verify(productService, Mockito.times(3)).saveAll(ArgumentMatchers.anyList());
+    }
+
+    /**
+     * Tests if a resumed seeding skips the committed records and the persisted account,
+     *   continues the checkpoints and publishes its progress.
+     */
+    @Test
+    @DisplayName("Resumes a seeding after the committed records")
+    @SuppressWarnings("unchecked")
+    public void testResumesSeeding() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ChunkedSeedingWriter writer = new ChunkedSeedingWriter(accountService, bookService, productService,
+                TransactionOperations.withoutTransaction(), 2, 3, checkpoints::add);
+        ArgumentCaptor<List<Product>> products = ArgumentCaptor.forClass(List.class);
+
+        try (ProgressSeedingHandler progress = new ProgressSeedingHandler(
+                new SkippingSeedingHandler(writer, 3, true), meterRegistry, records -> records / 5.0)) {
+            progress.account(new ConfigurationAccountModel(20000));
+
+            for (int i = 0; i < 5; i++) {
+                progress.book(book(i));
+            }
+
+            Assertions.assertEquals(1.0, meterRegistry.get("market.seeding.progress").gauge().value());
+        }
+
+        long productCount = writer.finish();
+
+        Mockito.verify(productService).saveAll(products.capture());
+        Mockito.verifyNoInteractions(accountService);
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(5, productCount),
+                () -> Assertions.assertEquals(List.of(5L), checkpoints),
+                () -> Assertions.assertEquals(List.of("Book 3", "Book 4"), products.getValue().stream()
+                        .map(product -> product.getProductBook().getName()).toList()),
+                () -> Assertions.assertTrue(meterRegistry.find("market.seeding.progress").meters().isEmpty())
+        );
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Creates a book record with the specified number.
+     *
+     * @param number record number.
+     * @return the book record.
+     */
+    private ConfigurationBookModel book(int number) {
+        return new ConfigurationBookModel("Author " + number, "Book " + number, 1000, 7);
+    }
+}
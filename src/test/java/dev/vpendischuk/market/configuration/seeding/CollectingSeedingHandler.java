@@ -0,0 +1,45 @@
+package dev.vpendischuk.market.configuration.seeding;
+
+import dev.vpendischuk.market.configuration.model.ConfigurationAccountModel;
+import dev.vpendischuk.market.configuration.model.ConfigurationBookModel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link SeedingHandler} collecting the read records, used by the seeding data reader tests.
+ */
+class CollectingSeedingHandler implements SeedingHandler {
+    /* ------------------------------ Fields ------------------------------- */
+
+    /**
+     * Read records (<b>account</b> or book names), in the read order.
+     */
+    final List<String> records = new ArrayList<>();
+
+    /**
+     * Read books.
+     */
+    final List<ConfigurationBookModel> books = new ArrayList<>();
+
+    /**
+     * Read account.
+     */
+    ConfigurationAccountModel account;
+
+    /* -------------------------- Public methods -------------------------- */
+
+    // account() method override.
+    @Override
+    public void account(ConfigurationAccountModel account) {
+        this.account = account;
+        records.add("account");
+    }
+
+    // book() method override.
+    @Override
+    public void book(ConfigurationBookModel book) {
+        books.add(book);
+        records.add(book.getName());
+    }
+}
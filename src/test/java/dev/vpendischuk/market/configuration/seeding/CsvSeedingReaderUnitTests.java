@@ -0,0 +1,113 @@
+package dev.vpendischuk.market.configuration.seeding;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Class that contains unit tests for the {@link CsvSeedingReader} class.
+ */
+@DisplayName("CsvSeedingReader unit tests")
+public class CsvSeedingReaderUnitTests {
+    /* ---------------------------- Configuration -------------------------- */
+
+    /**
+     * {@link CsvSeedingReader} instance - the test subject.
+     */
+    private CsvSeedingReader reader;
+
+    /**
+     * Handler collecting the read records.
+     */
+    private CollectingSeedingHandler handler;
+
+    /**
+     * Initializes the test subject and the handler.
+     */
+    @BeforeEach
+    public void setUp() {
+        reader = new CsvSeedingReader();
+        handler = new CollectingSeedingHandler();
+    }
+
+    /* -------------------------------- Tests ------------------------------ */
+
+    /**
+     * Tests if {@link CsvSeedingReader} passes the account and the books to the handler in the file order,
+     *   mapping the columns by the header.
+     *
+     * @throws IOException never (valid data).
+     */
+    @Test
+    @DisplayName("Reads the account and the books")
+    public void testReadsRecords() throws IOException {
+        reader.read(stream("#account.money=20000\r\n" +
+                "price,name,author,amount\r\n" +
+                "1000,Book 1,Author 1,7\r\n" +
+                "# a comment\n" +
+                "1500,\"Book 2, \"\"revised\"\"\",\"Author\n2\",15\n"), handler);
+
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(List.of("account", "Book 1", "Book 2, \"revised\""), handler.records),
+                () -> Assertions.assertEquals(20000, handler.account.getMoney()),
+                () -> Assertions.assertEquals("Author 1", handler.books.get(0).getAuthor()),
+                () -> Assertions.assertEquals(1000, handler.books.get(0).getPrice()),
+                () -> Assertions.assertEquals("Author\n2", handler.books.get(1).getAuthor()),
+                () -> Assertions.assertEquals(15, handler.books.get(1).getAmount())
+        );
+    }
+
+    /**
+     * Tests if {@link CsvSeedingReader} reads empty unquoted fields as missing values.
+     *
+     * @throws IOException never (valid data).
+     */
+    @Test
+    @DisplayName("Reads empty unquoted fields as missing values")
+    public void testReadsMissingValues() throws IOException {
+        reader.read(stream("author,name,price,amount\n,\"\",,3"), handler);
+
+        Assertions.assertAll(
+                () -> Assertions.assertNull(handler.books.get(0).getAuthor()),
+                () -> Assertions.assertEquals("", handler.books.get(0).getName()),
+                () -> Assertions.assertNull(handler.books.get(0).getPrice()),
+                () -> Assertions.assertEquals(3, handler.books.get(0).getAmount())
+        );
+    }
+
+    /**
+     * Tests if {@link CsvSeedingReader} rejects a file without the book columns
+     *   and records with invalid numbers.
+     */
+    @Test
+    @DisplayName("Rejects invalid data")
+    public void testRejectsInvalidData() {
+        Assertions.assertAll(
+                () -> Assertions.assertThrows(IOException.class,
+                        () -> reader.read(stream("author,name,price\nAuthor,Book,100"), handler)),
+                () -> Assertions.assertThrows(IOException.class,
+                        () -> reader.read(stream("author,name,price,amount\nAuthor,Book,cheap,1"), handler)),
+                () -> Assertions.assertThrows(IOException.class,
+                        () -> reader.read(stream("author,name,price,amount\n\"Author,Book,100,1"), handler))
+        );
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Creates a stream of the specified CSV text.
+     *
+     * @param csv CSV text.
+     * @return the stream.
+     */
+    private InputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,182 @@
+package dev.vpendischuk.market.configuration.seeding;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.vpendischuk.market.configuration.model.ConfigurationBookModel;
+import dev.vpendischuk.market.domain.Book;
+import dev.vpendischuk.market.domain.Product;
+import dev.vpendischuk.market.service.AccountService;
+import dev.vpendischuk.market.service.BookService;
+import dev.vpendischuk.market.service.ProductService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Class that contains unit tests for the {@link DeltaSeedingWriter} class.
+ * <p>
+ * Tests in this class check if a {@link DeltaSeedingWriter} functions properly in isolation
+ *   from its dependencies' functionality.
+ */
+@DisplayName("DeltaSeedingWriter unit tests")
+@ExtendWith(MockitoExtension.class)
+public class DeltaSeedingWriterUnitTests {
+    /* ---------------------------- Configuration -------------------------- */
+
+    /**
+     * Mock {@link AccountService} instance.
+     */
+    @Mock
+    AccountService accountService;
+
+    /**
+     * Mock {@link BookService} instance.
+     */
+    @Mock
+    BookService bookService;
+
+    /**
+     * Mock {@link ProductService} instance.
+     */
+    @Mock
+    ProductService productService;
+
+    /**
+     * Persisted product that is kept unchanged by the seeding data.
+     */
+    private Product unchangedProduct;
+
+    /**
+     * Persisted product that is updated by the seeding data.
+     */
+    private Product updatedProduct;
+
+    /**
+     * Persisted product that is missing from the seeding data.
+     */
+    private Product removedProduct;
+
+    /**
+     * Persisted book that has no product.
+     */
+    private Book unlistedBook;
+
+    /**
+     * Initializes the persisted books and products.
+     */
+    @BeforeEach
+    public void setUp() {
+        unchangedProduct = product(1L, "Book 1", 1000, 7);
+        updatedProduct = product(2L, "Book 2", 1500, 15);
+        removedProduct = product(3L, "Book 3", 500, 1);
+
+        unlistedBook = new Book("Book 4", "Author");
+        unlistedBook.setId(4L);
+
+        Mockito.when(bookService.findAll()).thenReturn(List.of(unchangedProduct.getProductBook(),
+                updatedProduct.getProductBook(), removedProduct.getProductBook(), unlistedBook));
+        Mockito.when(productService.findAll()).thenReturn(List.of(unchangedProduct, updatedProduct, removedProduct));
+    }
+
+    /* -------------------------------- Tests ------------------------------ */
+
+    /**
+     * Tests if {@link DeltaSeedingWriter} inserts, updates and removes only the changed products.
+     *
+     * @throws IOException never (valid data).
+     */
+    @Test
+    @DisplayName("Applies only the difference to the persisted products")
+    @SuppressWarnings("unchecked")
+    public void testAppliesDifference() throws IOException {
+        DeltaSeedingWriter writer = new DeltaSeedingWriter(accountService, bookService, productService,
+                TransactionOperations.withoutTransaction(), 100);
+
+        writer.book(book("Book 1", 1000, 7));
+        writer.book(book("Book 2", 2000, 15));
+        writer.book(book("Book 4", 300, 3));
+        writer.book(book("Book 5", 800, 2));
+        writer.book(book("Book 5", 900, 2));
+
+        long productCount = writer.finish();
+
+        ArgumentCaptor<List<Book>> books = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Product>> products = ArgumentCaptor.forClass(List.class);
+
+        Mockito.verify(bookService, Mockito.times(1)).saveAll(books.capture());
+        Mockito.verify(productService, Mockito.times(1)).saveAll(products.capture());
+
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(4, productCount),
+                () -> Assertions.assertEquals(List.of(new Book("Book 5", "Author")), books.getValue()),
+                () -> Assertions.assertEquals(3, products.getValue().size()),
+                () -> Assertions.assertSame(updatedProduct, products.getValue().get(0)),
+                () -> Assertions.assertEquals(2000, updatedProduct.getPrice()),
+                () -> Assertions.assertSame(unlistedBook, products.getValue().get(1).getProductBook()),
+                () -> Assertions.assertEquals(800, products.getValue().get(2).getPrice())
+        );
+        Mockito.verify(productService, Mockito.times(1)).deleteAll(List.of(removedProduct));
+    }
+
+    /**
+     * Tests if {@link DeltaSeedingWriter} removes no products if the seeding is aborted.
+     *
+     * @throws IOException never (valid data).
+     */
+    @Test
+    @DisplayName("Removes no products if the seeding is aborted")
+    public void testAbortKeepsProducts() throws IOException {
+        DeltaSeedingWriter writer = new DeltaSeedingWriter(accountService, bookService, productService,
+                TransactionOperations.withoutTransaction(), 100);
+
+        writer.book(book("Book 1", 1000, 7));
+
+        Assertions.assertEquals(3, writer.abort());
+        Mockito.verify(productService, Mockito.never()).deleteAll(Mockito.anyList());
+        Mockito.verify(productService, Mockito.never()).saveAll(Mockito.anyList());
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Creates a persisted product of a book by the same author.
+     *
+     * @param id product and book ID.
+     * @param name book name.
+     * @param price product price.
+     * @param amount product amount.
+     * @return the product.
+     */
+    private Product product(long id, String name, int price, int amount) {
+        Book book = new Book(name, "Author");
+        book.setId(id);
+
+        Product product = new Product(book, price, amount);
+        product.setId(id);
+
+        return product;
+    }
+
+    /**
+     * Creates a book record by the same author.
+     *
+     * @param name book name.
+     * @param price product price.
+     * @param amount product amount.
+     * @return the book record.
+     * @throws IOException never (valid data).
+     */
+    private ConfigurationBookModel book(String name, int price, int amount) throws IOException {
+        return new ObjectMapper().readValue("{\"author\": \"Author\", \"name\": \"" + name
+                + "\", \"price\": " + price + ", \"amount\": " + amount + "}", ConfigurationBookModel.class);
+    }
+}
@@ -0,0 +1,118 @@
+package dev.vpendischuk.market.configuration.seeding;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Class that contains unit tests for the {@link JsonSeedingReader} class.
+ */
+@DisplayName("JsonSeedingReader unit tests")
+public class JsonSeedingReaderUnitTests {
+    /* ---------------------------- Configuration -------------------------- */
+
+    /**
+     * {@link JsonSeedingReader} instance - the test subject.
+     */
+    private JsonSeedingReader reader;
+
+    /**
+     * Handler collecting the read records.
+     */
+    private CollectingSeedingHandler handler;
+
+    /**
+     * Initializes the test subject and the handler.
+     */
+    @BeforeEach
+    public void setUp() {
+        reader = new JsonSeedingReader(new ObjectMapper());
+        handler = new CollectingSeedingHandler();
+    }
+
+    /* -------------------------------- Tests ------------------------------ */
+
+    /**
+     * Tests if {@link JsonSeedingReader} passes the account and the books to the handler in the file order.
+     *
+     * @throws IOException never (valid data).
+     */
+    @Test
+    @DisplayName("Reads the account and the books")
+    public void testReadsRecords() throws IOException {
+        reader.read(stream("{\"account\": {\"money\": 20000}, \"books\": [" +
+                "{\"author\": \"Author 1\", \"name\": \"Book 1\", \"price\": 1000, \"amount\": 7}," +
+                "{\"author\": \"Author 2\", \"name\": \"Book 2\", \"price\": 1500, \"amount\": 15}]}"), handler);
+
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(List.of("account", "Book 1", "Book 2"), handler.records),
+                () -> Assertions.assertEquals(20000, handler.account.getMoney()),
+                () -> Assertions.assertEquals(1500, handler.books.get(1).getPrice()),
+                () -> Assertions.assertEquals(15, handler.books.get(1).getAmount()),
+                () -> Assertions.assertEquals("Author 2", handler.books.get(1).getAuthor())
+        );
+    }
+
+    /**
+     * Tests if {@link JsonSeedingReader} reads an account placed after the books
+     *   and skips unknown top-level fields.
+     *
+     * @throws IOException never (valid data).
+     */
+    @Test
+    @DisplayName("Reads an account placed after the books and skips unknown fields")
+    public void testReadsAccountAfterBooks() throws IOException {
+        reader.read(stream("{\"version\": {\"major\": 1, \"tags\": [1, 2]}, \"books\": [" +
+                "{\"author\": \"Author 1\", \"name\": \"Book 1\", \"price\": 1000, \"amount\": 7}]," +
+                "\"account\": {\"money\": 500}}"), handler);
+
+        Assertions.assertEquals(List.of("Book 1", "account"), handler.records);
+    }
+
+    /**
+     * Tests if {@link JsonSeedingReader} passes the books preceding a truncated record
+     *   to the handler and then fails.
+     */
+    @Test
+    @DisplayName("Fails on a truncated file after reading the complete records")
+    public void testFailsOnTruncatedFile() {
+        Assertions.assertThrows(IOException.class, () -> reader.read(stream("{\"books\": [" +
+                "{\"author\": \"Author 1\", \"name\": \"Book 1\", \"price\": 1000, \"amount\": 7}," +
+                "{\"author\": \"Author 2\", \"na"), handler));
+
+        Assertions.assertEquals(List.of("Book 1"), handler.records);
+    }
+
+    /**
+     * Tests if {@link JsonSeedingReader} rejects data that is not a JSON object.
+     */
+    @Test
+    @DisplayName("Rejects data that is not a JSON object")
+    public void testRejectsNonObject() {
+        Assertions.assertAll(
+                () -> Assertions.assertThrows(IOException.class, () -> reader.read(stream("[]"), handler)),
+                () -> Assertions.assertThrows(IOException.class,
+                        () -> reader.read(stream("{\"books\": {}}"), handler))
+        );
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Creates a stream of the specified JSON text.
+     *
+     * @param json JSON text.
+     * @return the stream.
+     */
+    private InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,144 @@
+package dev.vpendischuk.market.configuration.seeding;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.vpendischuk.market.configuration.model.ConfigurationBookModel;
+import dev.vpendischuk.market.service.AccountService;
+import dev.vpendischuk.market.service.BookService;
+import dev.vpendischuk.market.service.ProductService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.IOException;
+
+/**
+ * Class that contains unit tests for the {@link ParallelSeedingWriter} class.
+ * <p>
+ * Tests in this class check if a {@link ParallelSeedingWriter} functions properly in isolation
+ *   from its dependencies' functionality.
+ */
+@DisplayName("ParallelSeedingWriter unit tests")
+@ExtendWith(MockitoExtension.class)
+public class ParallelSeedingWriterUnitTests {
+    /* ---------------------------- Configuration -------------------------- */
+
+    /**
+     * Mock {@link AccountService} instance.
+     */
+    @Mock
+    AccountService accountService;
+
+    /**
+     * Mock {@link BookService} instance.
+     */
+    @Mock
+    BookService bookService;
+
+    /**
+     * Mock {@link ProductService} instance.
+     */
+    @Mock
+    ProductService productService;
+
+    /**
+     * {@link ParallelSeedingWriter} instance - the test subject.
+     */
+    private ParallelSeedingWriter writer;
+
+    /**
+     * Initializes the test subject with partitions of 2 products and 3 workers.
+     */
+    @BeforeEach
+    public void setUp() {
+        writer = new ParallelSeedingWriter(accountService, bookService, productService,
+                TransactionOperations.withoutTransaction(), 2, 3);
+    }
+
+    /* -------------------------------- Tests ------------------------------ */
+
+    /**
+     * Tests if {@link ParallelSeedingWriter} persists the records in partitions
+     *   and checks the persisted data.
+     *
+     * @throws IOException never (valid data).
+     */
+    @Test
+    @DisplayName("Persists the records in partitions")
+    public void testPersistsPartitions() throws IOException {
+        Mockito.when(bookService.count()).thenReturn(5L);
+        Mockito.when(productService.count()).thenReturn(5L);
+
+        for (int i = 0; i < 5; i++) {
+            writer.book(book(i));
+        }
+
+        long productCount = writer.finish();
+
+        Assertions.assertEquals(5, productCount);
+        Mockito.verify(bookService, Mockito.times(3)).saveAll(ArgumentMatchers.anyList());
+        Mockito.verify(productService, Mockito.times(3)).saveAll(ArgumentMatchers.anyList());
+    }
+
+    /**
+     * Tests if {@link ParallelSeedingWriter} fails the seeding if the persisted data
+     *   doesn't match the read records.
+     *
+     * @throws IOException never (valid data).
+     */
+    @Test
+    @DisplayName("Fails the consistency check on missing products")
+    public void testFailsConsistencyCheck() throws IOException {
+        Mockito.when(bookService.count()).thenReturn(3L);
+        Mockito.when(productService.count()).thenReturn(2L);
+
+        for (int i = 0; i < 3; i++) {
+            writer.book(book(i));
+        }
+
+        Assertions.assertThrows(IllegalStateException.class, () -> writer.finish());
+    }
+
+    /**
+     * Tests if {@link ParallelSeedingWriter} reports the failure of a partition
+     *   and keeps the count of the persisted products.
+     *
+     * @throws IOException never (valid data).
+     */
+    @Test
+    @DisplayName("Reports a failed partition")
+    public void testReportsFailedPartition() throws IOException {
+        Mockito.when(productService.saveAll(ArgumentMatchers.anyList()))
+                .thenThrow(new IllegalArgumentException("Invalid product"));
+
+        writer.book(book(0));
+        writer.book(book(1));
+
+        IllegalArgumentException ex = Assertions.assertThrows(IllegalArgumentException.class, () -> writer.finish());
+
+        Assertions.assertAll(
+                () -> Assertions.assertEquals("Invalid product", ex.getMessage()),
+                () -> Assertions.assertEquals(0, writer.abort())
+        );
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Creates a book record with the specified number.
+     *
+     * @param number record number.
+     * @return the book record.
+     * @throws IOException never (valid data).
+     */
+    private ConfigurationBookModel book(int number) throws IOException {
+        return new ObjectMapper().readValue("{\"author\": \"Author " + number + "\", \"name\": \"Book " + number
+                + "\", \"price\": 1000, \"amount\": 7}", ConfigurationBookModel.class);
+    }
+}
@@ -0,0 +1,118 @@
+package dev.vpendischuk.market.configuration.seeding;
+
+import dev.vpendischuk.market.configuration.model.ConfigurationBookModel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Class that contains unit tests for the {@link SeedingFileConverter} class
+ *   and the readers of the converted files.
+ */
+@DisplayName("SeedingFileConverter unit tests")
+public class SeedingFileConverterUnitTests {
+    /* ---------------------------- Configuration -------------------------- */
+
+    /**
+     * Directory of the test files.
+     */
+    @TempDir
+    Path directory;
+
+    /**
+     * JSON seeding data file converted by the tests.
+     */
+    private Path jsonFile;
+
+    /**
+     * Writes the JSON seeding data file.
+     *
+     * @throws IOException if the file could not be written.
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        jsonFile = directory.resolve("data.json");
+        Files.writeString(jsonFile, "{\"books\": [" +
+                "{\"author\": \"Author\", \"name\": \"Book, 1\", \"price\": 1000, \"amount\": 7}," +
+                "{\"author\": \"Author\", \"name\": \"#Book 2\", \"price\": 1500}]," +
+                "\"account\": {\"money\": 20000}}");
+    }
+
+    /* -------------------------------- Tests ------------------------------ */
+
+    /**
+     * Tests if a JSON file converted to CSV is read back with the same records.
+     *
+     * @throws IOException never (valid data).
+     */
+    @Test
+    @DisplayName("Converts JSON to CSV")
+    public void testConvertsToCsv() throws IOException {
+        Path csvFile = directory.resolve("data.csv");
+        CollectingSeedingHandler handler = new CollectingSeedingHandler();
+
+        SeedingFileConverter.convert(jsonFile, csvFile);
+
+        try (InputStream inputStream = Files.newInputStream(csvFile)) {
+            new CsvSeedingReader().read(inputStream, handler);
+        }
+
+        assertConverted(handler);
+    }
+
+    /**
+     * Tests if a JSON file converted to the binary format is read back with the same records,
+     *   sharing the repeated strings.
+     *
+     * @throws IOException never (valid data).
+     */
+    @Test
+    @DisplayName("Converts JSON to the binary format")
+    public void testConvertsToBinary() throws IOException {
+        Path binaryFile = directory.resolve("data.seed");
+        CollectingSeedingHandler handler = new CollectingSeedingHandler();
+
+        SeedingFileConverter.convert(jsonFile, binaryFile);
+        new BinarySeedingReader().read(binaryFile, handler);
+
+        assertConverted(handler);
+        Assertions.assertSame(handler.books.get(0).getAuthor(), handler.books.get(1).getAuthor());
+    }
+
+    /**
+     * Tests if {@link BinarySeedingReader} rejects a file of another format.
+     */
+    @Test
+    @DisplayName("Rejects a file that is not a binary seeding data file")
+    public void testBinaryReaderRejectsOtherFiles() {
+        Assertions.assertThrows(IOException.class,
+                () -> new BinarySeedingReader().read(jsonFile, new CollectingSeedingHandler()));
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Checks if the records read from a converted file match the JSON file.
+     *
+     * @param handler handler of the read records.
+     */
+    private void assertConverted(CollectingSeedingHandler handler) {
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(List.of("Book, 1", "#Book 2"), handler.books.stream()
+                        .map(ConfigurationBookModel::getName).toList()),
+                () -> Assertions.assertEquals(20000, handler.account.getMoney()),
+                () -> Assertions.assertEquals("Author", handler.books.get(1).getAuthor()),
+                () -> Assertions.assertEquals(7, handler.books.get(0).getAmount()),
+                () -> Assertions.assertEquals(1500, handler.books.get(1).getPrice()),
+                () -> Assertions.assertNull(handler.books.get(1).getAmount())
+        );
+    }
+}
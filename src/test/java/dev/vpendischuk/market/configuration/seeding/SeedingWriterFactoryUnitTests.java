@@ -0,0 +1,148 @@
+package dev.vpendischuk.market.configuration.seeding;
+
+import dev.vpendischuk.market.service.AccountService;
+import dev.vpendischuk.market.service.BookService;
+import dev.vpendischuk.market.service.ProductService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+/**
+ * Class that contains unit tests for the {@link SeedingWriterFactory} class.
+ * <p>
+ * Tests in this class check if a {@link SeedingWriterFactory} functions properly in isolation
+ *   from its dependencies' functionality.
+ */
+@DisplayName("SeedingWriterFactory unit tests")
+@ExtendWith(MockitoExtension.class)
+public class SeedingWriterFactoryUnitTests {
+    /* ---------------------------- Configuration -------------------------- */
+
+    /**
+     * Mock {@link AccountService} instance.
+     */
+    @Mock
+    AccountService accountService;
+
+    /**
+     * Mock {@link BookService} instance.
+     */
+    @Mock
+    BookService bookService;
+
+    /**
+     * Mock {@link ProductService} instance.
+     */
+    @Mock
+    ProductService productService;
+
+    /**
+     * Mock provider of no data source.
+     */
+    @Mock
+    ObjectProvider<DataSource> dataSource;
+
+    /**
+     * Mock provider of no transaction manager.
+     */
+    @Mock
+    ObjectProvider<PlatformTransactionManager> transactionManager;
+
+    /* -------------------------------- Tests ------------------------------ */
+
+    /**
+     * Tests if {@link SeedingWriterFactory} creates the writer of the configured seeding mode.
+     */
+    @Test
+    @DisplayName("Creates the writer of the configured seeding mode")
+    public void testCreatesWriter() {
+        Assertions.assertAll(
+                () -> Assertions.assertInstanceOf(ChunkedSeedingWriter.class,
+                        factory(true, false, 1, false, false, false).createWriter()),
+                () -> Assertions.assertInstanceOf(ParallelSeedingWriter.class,
+                        factory(true, false, 4, false, false, false).createWriter()),
+                () -> Assertions.assertInstanceOf(DeltaSeedingWriter.class,
+                        factory(false, false, 1, true, false, false).createWriter()),
+                () -> Assertions.assertInstanceOf(ChunkedSeedingWriter.class,
+                        factory(false, false, 1, false, true, false).createResumableWriter(0, productCount -> { }))
+        );
+    }
+
+    /**
+     * Tests if {@link SeedingWriterFactory} reports the streaming seeding modes.
+     */
+    @Test
+    @DisplayName("Streams the seeding data in any streaming seeding mode")
+    public void testStreamingModes() {
+        Assertions.assertAll(
+                () -> Assertions.assertFalse(factory(false, false, 1, false, false, false).isStreamed()),
+                () -> Assertions.assertTrue(factory(true, false, 1, false, false, false).isStreamed()),
+                () -> Assertions.assertTrue(factory(false, true, 1, false, false, false).isStreamed()),
+                () -> Assertions.assertTrue(factory(false, false, 2, false, false, false).isStreamed()),
+                () -> Assertions.assertTrue(factory(false, false, 1, true, false, false).isStreamed()),
+                () -> Assertions.assertTrue(factory(false, false, 1, false, true, false).isStreamed()),
+                () -> Assertions.assertTrue(factory(false, false, 1, false, false, true).isStreamed())
+        );
+    }
+
+    /**
+     * Tests if {@link SeedingWriterFactory} rejects the conflicting seeding modes.
+     */
+    @Test
+    @DisplayName("Rejects conflicting seeding modes")
+    public void testRejectsConflictingModes() {
+        Assertions.assertAll(
+                () -> Assertions.assertThrows(IllegalArgumentException.class,
+                        () -> factory(false, true, 2, false, false, false)),
+                () -> Assertions.assertThrows(IllegalArgumentException.class,
+                        () -> factory(false, true, 1, true, false, false)),
+                () -> Assertions.assertThrows(IllegalArgumentException.class,
+                        () -> factory(false, false, 1, true, false, true)),
+                () -> Assertions.assertThrows(IllegalArgumentException.class,
+                        () -> factory(false, false, 1, false, true, true)),
+                () -> Assertions.assertThrows(IllegalArgumentException.class,
+                        () -> factory(false, false, -1, false, false, false)),
+                () -> Assertions.assertDoesNotThrow(() -> factory(false, true, 1, false, false, true))
+        );
+    }
+
+    /**
+     * Tests if {@link SeedingWriterFactory} fails to create the database writers without a database.
+     */
+    @Test
+    @DisplayName("Requires a database to bulk-load the seeding data")
+    public void testBulkLoadRequiresDatabase() {
+        Assertions.assertAll(
+                () -> Assertions.assertThrows(IllegalStateException.class,
+                        () -> factory(false, true, 1, false, false, false).createWriter()),
+                () -> Assertions.assertThrows(IllegalStateException.class,
+                        () -> factory(false, false, 1, false, false, true).createWriter())
+        );
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Creates a factory with a chunk size of 100 products.
+     *
+     * @param streaming whether the seeding data files are streamed.
+     * @param bulkLoad whether the streamed products are bulk-loaded.
+     * @param parallelism number of worker threads.
+     * @param delta whether the delta seeding is enabled.
+     * @param resumable whether the resumable seeding is enabled.
+     * @param background whether the background seeding is enabled.
+     * @return the factory.
+     */
+    private SeedingWriterFactory factory(boolean streaming, boolean bulkLoad, int parallelism, boolean delta,
+                                         boolean resumable, boolean background) {
+        return new SeedingWriterFactory(accountService, bookService, productService, dataSource, transactionManager,
+                streaming, 100, bulkLoad, parallelism, delta, resumable, background);
+    }
+}
@@ -0,0 +1,89 @@
+package dev.vpendischuk.market.configuration.startup;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.util.List;
+
+/**
+ * Class that contains unit tests for the {@link StartupBreakdown} class.
+ * <p>
+ * Tests in this class check if a {@link StartupBreakdown} arranges the steps recorded
+ *   by a {@link BufferingApplicationStartup} properly.
+ */
+@DisplayName("StartupBreakdown unit tests")
+public class StartupBreakdownUnitTests {
+    /* -------------------------------- Tests ------------------------------ */
+
+    /**
+     * Tests if {@link StartupBreakdown} nests the steps under their parents, the longest ones first.
+     */
+    @Test
+    @DisplayName("Nests the steps under their parents, the longest ones first")
+    public void testSteps() throws InterruptedException {
+        BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(100);
+
+        StartupStep seeding = applicationStartup.start("market.seeding");
+        applicationStartup.start("market.seeding.truncate").end();
+        StartupStep insert = applicationStartup.start("market.seeding.insert").tag("format", "JSON");
+        Thread.sleep(20);
+        insert.end();
+        seeding.end();
+        applicationStartup.start("spring.beans.instantiate").tag("beanName", "marketController").end();
+
+        List<StartupStepNode> steps = new StartupBreakdown(applicationStartup).getSteps();
+        StartupStepNode seedingNode = steps.get(0);
+
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(2, steps.size()),
+                () -> Assertions.assertEquals("market.seeding", seedingNode.getName()),
+                () -> Assertions.assertEquals(List.of("market.seeding.insert", "market.seeding.truncate"),
+                        seedingNode.getChildren().stream().map(StartupStepNode::getName).toList()),
+                () -> Assertions.assertEquals("JSON", seedingNode.getChildren().get(0).getTags().get("format")),
+                () -> Assertions.assertTrue(seedingNode.getChildren().get(0).getDurationMillis() >= 20),
+                () -> Assertions.assertTrue(seedingNode.getSelfMillis() < seedingNode.getDurationMillis()),
+                () -> Assertions.assertEquals("spring.beans.instantiate[marketController]", steps.get(1).getLabel())
+        );
+    }
+
+    /**
+     * Tests if {@link StartupBreakdown} renders the steps as folded stacks, the longest self times first.
+     */
+    @Test
+    @DisplayName("Renders the steps as folded stacks")
+    public void testFoldedStacks() throws InterruptedException {
+        BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(100);
+
+        StartupStep seeding = applicationStartup.start("market.seeding");
+        StartupStep insert = applicationStartup.start("market.seeding.insert");
+        Thread.sleep(20);
+        insert.end();
+        seeding.end();
+
+        List<String> stacks = new StartupBreakdown(applicationStartup).getFoldedStacks();
+
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(2, stacks.size()),
+                () -> Assertions.assertTrue(stacks.get(0).matches("market\\.seeding;market\\.seeding\\.insert \\d+")),
+                () -> Assertions.assertTrue(stacks.get(1).matches("market\\.seeding \\d+"))
+        );
+    }
+
+    /**
+     * Tests if {@link StartupBreakdown} reports no steps if they are not recorded.
+     */
+    @Test
+    @DisplayName("Reports no steps if they are not recorded")
+    public void testNotRecorded() {
+        StartupBreakdown startupBreakdown = new StartupBreakdown(ApplicationStartup.DEFAULT);
+
+        Assertions.assertAll(
+                () -> Assertions.assertFalse(startupBreakdown.isAvailable()),
+                () -> Assertions.assertTrue(startupBreakdown.getSteps().isEmpty())
+        );
+    }
+}
@@ -5,7 +5,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-import dev.vpendischuk.market.domain.Account;
+import dev.vpendischuk.market.cache.model.AccountReadModel;
 import dev.vpendischuk.market.dto.response.AccountBookDto;
 import dev.vpendischuk.market.dto.response.AccountDto;
 import dev.vpendischuk.market.dto.response.BookDto;
@@ -68,9 +68,7 @@ public class AccountControllerUnitTests {
     public void testGetAccountInfo() throws Exception {
         // Creating mock data.
 
-        Account mockAccount = new Account();
-        mockAccount.setId(1L);
-        mockAccount.setBalance(10000);
+        AccountReadModel mockAccount = new AccountReadModel(1L, 10000, List.of());
 
         AccountDto mockAccountDto = new AccountDto();
         mockAccountDto.setBalance(10000);
@@ -86,8 +84,8 @@ public class AccountControllerUnitTests {
         mockAccountDto.setBooks(List.of(mockAccountBookDto));
 
         // Mocking service functionality with mock data.
-        Mockito.when(accountService.getCurrentAccount()).thenReturn(mockAccount);
-        Mockito.when(accountDtoAssembler.toModel(any(Account.class))).thenReturn(mockAccountDto);
+        Mockito.when(accountService.getCurrentAccountReadModel()).thenReturn(mockAccount);
+        Mockito.when(accountDtoAssembler.toModel(any(AccountReadModel.class))).thenReturn(mockAccountDto);
 
         // Checking response status and JSON content.
         mockMvc.perform(get("/account"))
@@ -0,0 +1,152 @@
+package dev.vpendischuk.market.controller;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import dev.vpendischuk.market.cache.CacheRegistry;
+import dev.vpendischuk.market.cache.model.CacheStatistics;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+/**
+ * Class that contains unit tests for the {@link CacheAdminController} controller class.
+ * <p>
+ * Tests in this class check if a {@link CacheAdminController} functions properly in isolation
+ *   from its dependencies' functionality.
+ */
+@ExtendWith(SpringExtension.class)
+@WebMvcTest(value = CacheAdminController.class, properties = "market.admin.enabled=true")
+@AutoConfigureMockMvc
+@DisplayName("CacheAdminController unit tests")
+public class CacheAdminControllerUnitTests {
+    /* ---------------------------- Configuration -------------------------- */
+
+    /**
+     * Mock {@link CacheRegistry} instance.
+     */
+    @MockBean
+    private CacheRegistry cacheRegistry;
+
+    /**
+     * {@link MockMvc} instance used for testing.
+     */
+    @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+    @Autowired
+    private MockMvc mockMvc;
+
+    /* -------------------------------- Tests ------------------------------ */
+
+    /**
+     * Tests if {@link CacheAdminController} returns the statistics of all caches.
+     */
+    @Test
+    @DisplayName("Returns statistics of all caches")
+    public void testAll() throws Exception {
+        // Creating mock data.
+        CacheStatistics productStatistics = new CacheStatistics("products", 2, 100, false,
+                CacheStats.of(3, 1, 1, 0, 1000000, 0, 0), 512);
+        CacheStatistics responseStatistics = new CacheStatistics("responses", 1, 1024, true,
+                CacheStats.empty(), 256);
+
+        // Mocking registry functionality with mock data.
+        Mockito.when(cacheRegistry.getStatistics()).thenReturn(List.of(productStatistics, responseStatistics));
+
+        // Checking response status and JSON content.
+        mockMvc.perform(get("/admin/caches"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", Matchers.hasSize(2)))
+                .andExpect(jsonPath("$[0].name", Matchers.is("products")))
+                .andExpect(jsonPath("$[0].size", Matchers.is(2)))
+                .andExpect(jsonPath("$[0].hitRatio", Matchers.is(0.75)))
+                .andExpect(jsonPath("$[0].averageLoadMillis", Matchers.is(1.0)))
+                .andExpect(jsonPath("$[0].memoryEstimate", Matchers.is(512)))
+                .andExpect(jsonPath("$[1].weighted", Matchers.is(true)));
+    }
+
+    /**
+     * Tests if {@link CacheAdminController} fails to return the statistics
+     *   of a cache that does not exist.
+     */
+    @Test
+    @DisplayName("Does not return statistics of non-existent cache")
+    public void testDoesNotGetNonExistentCache() throws Exception {
+        // Mocking registry functionality.
+        Mockito.when(cacheRegistry.getStatistics(anyString())).thenReturn(null);
+
+        // Checking response status.
+        mockMvc.perform(get("/admin/caches/books"))
+                .andDo(print())
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * Tests if {@link CacheAdminController} invalidates the cache with the specified name.
+     */
+    @Test
+    @DisplayName("Invalidates cache by name")
+    public void testInvalidatesCache() throws Exception {
+        // Mocking registry functionality.
+        Mockito.when(cacheRegistry.invalidate("products")).thenReturn(true);
+
+        // Checking response status and registry calls.
+        mockMvc.perform(delete("/admin/caches/products"))
+                .andDo(print())
+                .andExpect(status().isNoContent());
+
+        Mockito.verify(cacheRegistry).invalidate("products");
+    }
+
+    /**
+     * Tests if {@link CacheAdminController} resizes the cache with the specified name.
+     */
+    @Test
+    @DisplayName("Resizes cache by name")
+    public void testResizesCache() throws Exception {
+        // Creating mock data.
+        CacheStatistics statistics = new CacheStatistics("products", 2, 50, false, CacheStats.empty(), 512);
+
+        // Mocking registry functionality with mock data.
+        Mockito.when(cacheRegistry.resize("products", 50L)).thenReturn(true);
+        Mockito.when(cacheRegistry.getStatistics("products")).thenReturn(statistics);
+
+        // Checking response status and JSON content.
+        mockMvc.perform(patch("/admin/caches/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"maximumSize\": 50}"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.maximumSize", Matchers.is(50)));
+    }
+
+    /**
+     * Tests if {@link CacheAdminController} rejects a negative maximum cache size.
+     */
+    @Test
+    @DisplayName("Does not resize cache to negative size")
+    public void testDoesNotResizeCacheToNegativeSize() throws Exception {
+        // Checking response status and registry calls.
+        mockMvc.perform(patch("/admin/caches/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"maximumSize\": -1}"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+
+        Mockito.verify(cacheRegistry, Mockito.never()).resize(anyString(), anyLong());
+    }
+}
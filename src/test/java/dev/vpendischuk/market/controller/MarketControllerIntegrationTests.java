@@ -1,11 +1,13 @@
 package dev.vpendischuk.market.controller;
 
 import dev.vpendischuk.market.configuration.ConfigurationRunner;
+import dev.vpendischuk.market.domain.ProductAvailability;
 import dev.vpendischuk.market.dto.request.NewProductRequestDto;
 import dev.vpendischuk.market.dto.request.ProductUpdateRequestDto;
 import dev.vpendischuk.market.dto.response.BookDto;
 import dev.vpendischuk.market.dto.response.MarketDto;
 import dev.vpendischuk.market.dto.response.ProductDto;
+import dev.vpendischuk.market.service.ProductService;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -44,6 +46,12 @@ public class MarketControllerIntegrationTests {
      */
     private static final Logger logger = LoggerFactory.getLogger(MarketControllerIntegrationTests.class);
 
+    /**
+     * ID that no product has (product IDs are not restarted on reseeding,
+     *   so the seeded products' IDs are looked up by book names).
+     */
+    private static final long NON_EXISTENT_PRODUCT_ID = Long.MAX_VALUE;
+
     /* ---------------------------- Configuration -------------------------- */
 
     /**
@@ -58,6 +66,12 @@ public class MarketControllerIntegrationTests {
     @Autowired
     ConfigurationRunner configurationRunner;
 
+    /**
+     * Injected {@link ProductService} instance used to look up seeded products.
+     */
+    @Autowired
+    ProductService productService;
+
     /**
      * Database seeding method that is run before each test.
      */
@@ -82,7 +96,7 @@ public class MarketControllerIntegrationTests {
     public void testGetMarketProducts() {
         // Retrieving market data.
 
-        MarketDto marketDto = marketController.all().getBody();
+        MarketDto marketDto = marketController.all(ProductAvailability.IN_STOCK).getBody();
 
         Assertions.assertNotNull(marketDto);
 
@@ -118,6 +132,34 @@ public class MarketControllerIntegrationTests {
         assertThat(products, hasItems(firstExpectedProduct, secondExpectedProduct));
     }
 
+    /**
+     * Tests if {@link MarketController} keeps a sold-out product on the market
+     *   and lists it as out of stock only.
+     */
+    @Test
+    @DisplayName("Keeps sold-out products as out of stock")
+    public void testKeepsSoldOutProducts() {
+        long productId = getProductId("Effective Java");
+
+        // Selling out the product.
+        productService.decreaseAmount(productId, 10);
+
+        MarketDto inStockDto = marketController.all(ProductAvailability.IN_STOCK).getBody();
+        MarketDto outOfStockDto = marketController.all(ProductAvailability.OUT_OF_STOCK).getBody();
+        ProductDto productDto = marketController.getProduct(productId).getBody();
+
+        Assertions.assertAll(
+                () -> Assertions.assertNotNull(inStockDto),
+                () -> Assertions.assertNotNull(outOfStockDto),
+                () -> Assertions.assertNotNull(productDto),
+                () -> Assertions.assertTrue(inStockDto.getProducts().stream()
+                        .noneMatch(product -> product.getId() == productId)),
+                () -> Assertions.assertTrue(outOfStockDto.getProducts().stream()
+                        .anyMatch(product -> product.getId() == productId)),
+                () -> Assertions.assertEquals(0, productDto.getAmount())
+        );
+    }
+
     /**
      * Tests if {@link MarketController}'s product info by ID retrieval flow
      *   with dependencies functions properly if product exists.
@@ -125,7 +167,7 @@ public class MarketControllerIntegrationTests {
     @Test
     @DisplayName("Retrieves product by ID")
     public void testGetProductById() {
-        ProductDto productDto = marketController.getProduct(2L).getBody();
+        ProductDto productDto = marketController.getProduct(getProductId("Effective Java")).getBody();
 
         Assertions.assertNotNull(productDto);
 
@@ -145,7 +187,7 @@ public class MarketControllerIntegrationTests {
     @Test
     @DisplayName("Does not retrieve product by ID if product with such ID does not exist")
     public void testDoesNotGetProductByNonExistentId() {
-        ProductDto productDto = marketController.getProduct(3L).getBody();
+        ProductDto productDto = marketController.getProduct(NON_EXISTENT_PRODUCT_ID).getBody();
 
         Assertions.assertNull(productDto);
     }
@@ -175,7 +217,8 @@ public class MarketControllerIntegrationTests {
                 () -> Assertions.assertEquals(100, newProduct.getAmount()),
                 () -> Assertions.assertEquals("The C++ Programming Language", newProduct.getBook().getName()),
                 () -> Assertions.assertEquals("Bjarne Stroustrup", newProduct.getBook().getAuthor()),
-                () -> Assertions.assertEquals(3, newProduct.getId())
+                () -> Assertions.assertNotNull(newProduct.getId()),
+                () -> Assertions.assertNotNull(productService.findById(newProduct.getId()))
         );
     }
 
@@ -190,7 +233,7 @@ public class MarketControllerIntegrationTests {
         ProductUpdateRequestDto productUpdateRequestDto = new ProductUpdateRequestDto(null,3000, 20);
 
         // Updating product.
-        ProductDto productDto = marketController.updateProduct(2L, productUpdateRequestDto).getBody();
+        ProductDto productDto = marketController.updateProduct(getProductId("Effective Java"), productUpdateRequestDto).getBody();
 
         // Comparing persisted data with new parameters.
         Assertions.assertNotNull(productDto);
@@ -211,9 +254,25 @@ public class MarketControllerIntegrationTests {
     public void failsToPatchNonExistingProduct() {
         ProductUpdateRequestDto productUpdateRequestDto = new ProductUpdateRequestDto(null,3000, 20);
 
-        ProductDto productDto = marketController.updateProduct(3L, productUpdateRequestDto).getBody();
+        ProductDto productDto = marketController.updateProduct(NON_EXISTENT_PRODUCT_ID, productUpdateRequestDto).getBody();
 
         // Controller output must be null.
         Assertions.assertNull(productDto);
     }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Looks up the ID of the seeded product with the specified book name.
+     *
+     * @param bookName book name.
+     * @return product ID.
+     */
+    private long getProductId(String bookName) {
+        return productService.findAll().stream()
+                .filter(product -> product.getProductBook().getName().equals(bookName))
+                .findFirst()
+                .orElseThrow()
+                .getId();
+    }
 }
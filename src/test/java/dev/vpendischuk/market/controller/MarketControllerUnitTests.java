@@ -5,19 +5,27 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import dev.vpendischuk.market.cache.CatalogCache;
 import dev.vpendischuk.market.domain.Account;
 import dev.vpendischuk.market.domain.Book;
+import dev.vpendischuk.market.domain.CatalogEntry;
 import dev.vpendischuk.market.domain.Product;
+import dev.vpendischuk.market.domain.ProductAvailability;
 import dev.vpendischuk.market.dto.response.BookDto;
 import dev.vpendischuk.market.dto.response.MarketDto;
 import dev.vpendischuk.market.dto.response.ProductDto;
-import dev.vpendischuk.market.dto.assembler.MarketDtoAssembler;
+import dev.vpendischuk.market.dto.assembler.CatalogDtoAssembler;
+import dev.vpendischuk.market.dto.assembler.CatalogEntryDtoAssembler;
 import dev.vpendischuk.market.dto.assembler.ProductDtoAssembler;
 import dev.vpendischuk.market.service.AccountBookService;
 import dev.vpendischuk.market.service.AccountService;
 import dev.vpendischuk.market.service.BookService;
+import dev.vpendischuk.market.service.CatalogService;
+import dev.vpendischuk.market.service.DealValidator;
 import dev.vpendischuk.market.service.ProductService;
+import dev.vpendischuk.market.service.impl.DealServiceImpl;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,6 +34,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
@@ -40,6 +50,7 @@ import java.util.List;
  */
 @ExtendWith(SpringExtension.class)
 @WebMvcTest(MarketController.class)
+@Import({CatalogCache.class, DealValidator.class, DealServiceImpl.class})
 @AutoConfigureMockMvc
 @DisplayName("MarketController unit tests")
 public class MarketControllerUnitTests {
@@ -70,10 +81,22 @@ public class MarketControllerUnitTests {
     private BookService bookService;
 
     /**
-     * Mock {@link MarketDtoAssembler} instance.
+     * Mock {@link CatalogService} instance.
      */
     @MockBean
-    private MarketDtoAssembler marketDtoAssembler;
+    private CatalogService catalogService;
+
+    /**
+     * Mock {@link CatalogDtoAssembler} instance.
+     */
+    @MockBean
+    private CatalogDtoAssembler catalogDtoAssembler;
+
+    /**
+     * Mock {@link CatalogEntryDtoAssembler} instance.
+     */
+    @MockBean
+    private CatalogEntryDtoAssembler catalogEntryDtoAssembler;
 
     /**
      * Mock {@link ProductDtoAssembler} instance.
@@ -88,6 +111,20 @@ public class MarketControllerUnitTests {
     @Autowired
     private MockMvc mockMvc;
 
+    /**
+     * {@link CatalogCache} instance backed by the mock services.
+     */
+    @Autowired
+    private CatalogCache catalogCache;
+
+    /**
+     * Clears the catalog cache, so that every test is served from the mock services.
+     */
+    @BeforeEach
+    public void clearCatalogCache() {
+        catalogCache.invalidateAll();
+    }
+
     /* -------------------------------- Tests ------------------------------ */
 
     /**
@@ -111,12 +148,13 @@ public class MarketControllerUnitTests {
         mockMarketDto.setProducts(List.of(mockProductDto));
 
         // Mocking service functionality with mock data.
-        Mockito.when(marketDtoAssembler.toModel(anyList())).thenReturn(mockMarketDto);
+        Mockito.when(catalogDtoAssembler.toModel(anyList())).thenReturn(mockMarketDto);
 
         // Checking response status and JSON content.
         mockMvc.perform(get("/market"))
                 .andDo(print())
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, Matchers.containsString("stale-while-revalidate=")))
                 .andExpect(jsonPath("$.products", Matchers.hasSize(1)))
                 .andExpect(jsonPath("$.products[0].id", Matchers.is(1)))
                 .andExpect(jsonPath("$.products[0].book.name", Matchers.is("Algorithms")))
@@ -125,6 +163,24 @@ public class MarketControllerUnitTests {
                 .andExpect(jsonPath("$.products[0].amount", Matchers.is(1)));
     }
 
+    /**
+     * Tests if {@link MarketController} lists the products with the requested availability
+     *   and lists the products in stock by default.
+     */
+    @Test
+    @DisplayName("Filters market info by product availability")
+    public void testAllFiltersByAvailability() throws Exception {
+        // Mocking service functionality with mock data.
+        Mockito.when(catalogDtoAssembler.toModel(anyList())).thenReturn(new MarketDto());
+
+        mockMvc.perform(get("/market")).andExpect(status().isOk());
+        mockMvc.perform(get("/market").param("availability", "OUT_OF_STOCK")).andExpect(status().isOk());
+
+        Mockito.verify(catalogService, Mockito.times(1)).findAll(ProductAvailability.IN_STOCK);
+        Mockito.verify(catalogService, Mockito.times(1)).findAll(ProductAvailability.OUT_OF_STOCK);
+        Mockito.verifyNoInteractions(productService);
+    }
+
     /**
      * Tests if {@link MarketController}'s deal is successful
      *   if all the necessary conditions are met.
@@ -133,13 +189,10 @@ public class MarketControllerUnitTests {
     @DisplayName("The deal is successful if all requirements are met")
     public void testDealSuccessful() throws Exception {
         // Creating mock data.
-        Account mockAccount = new Account();
+        Account mockAccount = createAccount(10000);
         Product mockProduct = new Product();
         Book mockBook = new Book();
 
-        mockAccount.setId(1L);
-        mockAccount.setBalance(10000);
-
         mockBook.setId(1L);
         mockBook.setName("Algorithms");
         mockBook.setAuthor("Robert Sedgewick");
@@ -152,6 +205,8 @@ public class MarketControllerUnitTests {
         // Mocking service functionality with mock data.
         Mockito.when(productService.findById(anyLong())).thenReturn(mockProduct);
         Mockito.when(accountService.getCurrentAccount()).thenReturn(mockAccount);
+        Mockito.when(accountService.decreaseBalance(1L, 2000)).thenReturn(true);
+        Mockito.when(productService.decreaseAmount(1L, 2)).thenReturn(true);
 
         // Checking response status.
         mockMvc.perform(post("/market/deal")
@@ -159,6 +214,88 @@ public class MarketControllerUnitTests {
                         .content("{\"id\": 1, \"amount\": 2}"))
                 .andDo(print())
                 .andExpect(status().isOk());
+
+        // Check if the purchase was registered.
+        Mockito.verify(accountBookService, Mockito.times(1)).addOne(1L, 1L, 2);
+        Mockito.verify(productService, Mockito.times(1)).decreaseAmount(1L, 2);
+    }
+
+    /**
+     * Tests if {@link MarketController}'s deal is rejected without registering the purchase
+     *   if the balance was spent by a concurrent deal after it had been read.
+     */
+    @Test
+    @DisplayName("The deal is rejected if the balance was spent concurrently")
+    public void testDealRejectedIfBalanceSpentConcurrently() throws Exception {
+        // Creating mock data.
+        Account mockAccount = createAccount(10000);
+        Product mockProduct = new Product();
+        Book mockBook = new Book();
+
+        mockBook.setId(1L);
+        mockBook.setName("Algorithms");
+        mockBook.setAuthor("Robert Sedgewick");
+
+        mockProduct.setId(1L);
+        mockProduct.setPrice(1000);
+        mockProduct.setAmount(2);
+        mockProduct.setProductBook(mockBook);
+
+        // Mocking service functionality with mock data - the conditional balance update affects no rows.
+        Mockito.when(productService.findById(anyLong())).thenReturn(mockProduct);
+        Mockito.when(accountService.getCurrentAccount()).thenReturn(mockAccount);
+        Mockito.when(accountService.decreaseBalance(1L, 2000)).thenReturn(false);
+
+        // Checking response status and the error message.
+        mockMvc.perform(post("/market/deal")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\": 1, \"amount\": 2}"))
+                .andDo(print())
+                .andExpect(status().is(400))
+                .andExpect(content().string("ERROR: Not enough money for Product ID 1"));
+
+        // Check if the purchase was not registered.
+        Mockito.verifyNoInteractions(accountBookService);
+        Mockito.verify(productService, Mockito.never()).decreaseAmount(anyLong(), anyInt());
+    }
+
+    /**
+     * Tests if {@link MarketController}'s deal is rejected without registering the purchase
+     *   if the product was bought out by a concurrent deal after it had been read.
+     */
+    @Test
+    @DisplayName("The deal is rejected if the product was bought out concurrently")
+    public void testDealRejectedIfProductBoughtOutConcurrently() throws Exception {
+        // Creating mock data.
+        Account mockAccount = createAccount(10000);
+        Product mockProduct = new Product();
+        Book mockBook = new Book();
+
+        mockBook.setId(1L);
+        mockBook.setName("Algorithms");
+        mockBook.setAuthor("Robert Sedgewick");
+
+        mockProduct.setId(1L);
+        mockProduct.setPrice(1000);
+        mockProduct.setAmount(2);
+        mockProduct.setProductBook(mockBook);
+
+        // Mocking service functionality with mock data - the conditional amount update affects no rows.
+        Mockito.when(productService.findById(anyLong())).thenReturn(mockProduct);
+        Mockito.when(accountService.getCurrentAccount()).thenReturn(mockAccount);
+        Mockito.when(accountService.decreaseBalance(1L, 2000)).thenReturn(true);
+        Mockito.when(productService.decreaseAmount(1L, 2)).thenReturn(false);
+
+        // Checking response status and the error message.
+        mockMvc.perform(post("/market/deal")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\": 1, \"amount\": 2}"))
+                .andDo(print())
+                .andExpect(status().is(400))
+                .andExpect(content().string("ERROR: Not enough product for Product ID 1"));
+
+        // Check if the purchase was not registered.
+        Mockito.verifyNoInteractions(accountBookService);
     }
 
     /**
@@ -169,13 +306,10 @@ public class MarketControllerUnitTests {
     @DisplayName("The deal is rejected if user has less money than required")
     public void testDealRejectedIfNotEnoughMoney() throws Exception {
         // Creating mock data.
-        Account mockAccount = new Account();
+        Account mockAccount = createAccount(1000);
         Product mockProduct = new Product();
         Book mockBook = new Book();
 
-        mockAccount.setId(1L);
-        mockAccount.setBalance(1000);
-
         mockBook.setId(1L);
         mockBook.setName("Algorithms");
         mockBook.setAuthor("Robert Sedgewick");
@@ -206,13 +340,10 @@ public class MarketControllerUnitTests {
     @DisplayName("The deal is rejected if there isn't enough product on the market")
     public void testDealRejectedIfNotEnoughProduct() throws Exception {
         // Creating mock data.
-        Account mockAccount = new Account();
+        Account mockAccount = createAccount(10000);
         Product mockProduct = new Product();
         Book mockBook = new Book();
 
-        mockAccount.setId(1L);
-        mockAccount.setBalance(10000);
-
         mockBook.setId(1L);
         mockBook.setName("Algorithms");
         mockBook.setAuthor("Robert Sedgewick");
@@ -243,10 +374,7 @@ public class MarketControllerUnitTests {
     @DisplayName("The deal is rejected if the product was not found")
     public void testDealRejectedIfProductNotFound() throws Exception {
         // Creating mock data.
-        Account mockAccount = new Account();
-
-        mockAccount.setId(1L);
-        mockAccount.setBalance(10000);
+        Account mockAccount = createAccount(10000);
 
         // Mocking service functionality with mock data.
         Mockito.when(productService.findById(anyLong())).thenReturn(null);
@@ -315,18 +443,7 @@ public class MarketControllerUnitTests {
     @DisplayName("Retrieves product by ID if product exists")
     public void testGetsExistingProductById() throws Exception {
         // Creating mock data.
-        Product mockProduct = new Product();
-        Book mockBook = new Book();
-
-        mockBook.setId(1L);
-        mockBook.setName("Algorithms");
-        mockBook.setAuthor("Robert Sedgewick");
-
-        mockProduct.setId(1L);
-        mockProduct.setPrice(100);
-        mockProduct.setAmount(1);
-        mockProduct.setProductBook(mockBook);
-
+        CatalogEntry mockEntry = new CatalogEntry(1L, 1L, "Algorithms", "Robert Sedgewick", 100, 1, 0L);
         ProductDto mockProductDto = new ProductDto();
         BookDto mockBookDto = new BookDto();
 
@@ -338,19 +455,44 @@ public class MarketControllerUnitTests {
         mockProductDto.setAmount(1);
 
         // Mocking service functionality with mock data.
-        Mockito.when(productService.findById(anyLong())).thenReturn(mockProduct);
-        Mockito.when(productDtoAssembler.toModel(any(Product.class))).thenReturn(mockProductDto);
+        Mockito.when(catalogService.findById(anyLong())).thenReturn(mockEntry);
+        Mockito.when(catalogEntryDtoAssembler.toModel(any(CatalogEntry.class))).thenReturn(mockProductDto);
 
         // Checking response status and JSON content.
         mockMvc.perform(get("/market/1"))
                 .andDo(print())
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, Matchers.containsString("max-age=")))
                 .andExpect(jsonPath("$.book.name", Matchers.is("Algorithms")))
                 .andExpect(jsonPath("$.book.author", Matchers.is("Robert Sedgewick")))
                 .andExpect(jsonPath("$.price", Matchers.is(100)))
                 .andExpect(jsonPath("$.amount", Matchers.is(1)));
     }
 
+    /**
+     * Tests if {@link MarketController}'s product info by ID
+     *   retrieval is served from the catalog cache on repeated requests.
+     */
+    @Test
+    @DisplayName("Serves repeated product by ID requests from the catalog cache")
+    public void testGetProductByIdIsCached() throws Exception {
+        // Creating mock data.
+        CatalogEntry mockEntry = new CatalogEntry(1L, 1L, "Algorithms", "Robert Sedgewick", 100, 1, 0L);
+        ProductDto mockProductDto = new ProductDto();
+
+        mockProductDto.setId(1L);
+
+        // Mocking service functionality with mock data.
+        Mockito.when(catalogService.findById(anyLong())).thenReturn(mockEntry);
+        Mockito.when(catalogEntryDtoAssembler.toModel(any(CatalogEntry.class))).thenReturn(mockProductDto);
+
+        // Checking that the product is loaded only once.
+        mockMvc.perform(get("/market/1")).andExpect(status().isOk());
+        mockMvc.perform(get("/market/1")).andExpect(status().isOk());
+
+        Mockito.verify(catalogService, Mockito.times(1)).findById(1L);
+    }
+
     /**
      * Tests if {@link MarketController}'s product info by ID
      *   retrieval fails if product with such ID does not exist.
@@ -359,7 +501,7 @@ public class MarketControllerUnitTests {
     @DisplayName("Does not retrieve product by ID if product with such ID does not exist")
     public void testDoesNotGetProductByNonExistentId() throws Exception {
         // Mocking service functionality.
-        Mockito.when(productService.findById(anyLong())).thenReturn(null);
+        Mockito.when(catalogService.findById(anyLong())).thenReturn(null);
 
         // Checking response status.
         mockMvc.perform(get("/market/1"))
@@ -431,4 +573,21 @@ public class MarketControllerUnitTests {
                 .andDo(print())
                 .andExpect(status().isNotFound());
     }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Creates the current account (ID 1) with the specified balance.
+     *
+     * @param balance account balance.
+     * @return the account.
+     */
+    private Account createAccount(int balance) {
+        Account account = new Account();
+
+        account.setId(1L);
+        account.setBalance(balance);
+
+        return account;
+    }
 }
@@ -0,0 +1,96 @@
+package dev.vpendischuk.market.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import dev.vpendischuk.market.configuration.snapshot.MarketSnapshot;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+
+/**
+ * Class that contains unit tests for the {@link SnapshotAdminController} controller class.
+ * <p>
+ * Tests in this class check if a {@link SnapshotAdminController} functions properly in isolation
+ *   from its dependencies' functionality.
+ */
+@ExtendWith(SpringExtension.class)
+@WebMvcTest(value = SnapshotAdminController.class, properties = "market.admin.enabled=true")
+@AutoConfigureMockMvc
+@DisplayName("SnapshotAdminController unit tests")
+public class SnapshotAdminControllerUnitTests {
+    /* ---------------------------- Configuration -------------------------- */
+
+    /**
+     * Mock {@link MarketSnapshot} instance.
+     */
+    @MockBean
+    private MarketSnapshot marketSnapshot;
+
+    /**
+     * {@link MockMvc} instance used for testing.
+     */
+    @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+    @Autowired
+    private MockMvc mockMvc;
+
+    /* -------------------------------- Tests ------------------------------ */
+
+    /**
+     * Tests if {@link SnapshotAdminController} streams the exported snapshot as an attachment.
+     */
+    @Test
+    @DisplayName("Streams the exported snapshot")
+    public void testExport() throws Exception {
+        // Mocking snapshot functionality.
+        Mockito.when(marketSnapshot.isAvailable()).thenReturn(true);
+        Mockito.doAnswer(invocation -> {
+            invocation.getArgument(0, OutputStream.class).write(new byte[] {1, 2, 3});
+            return null;
+        }).when(marketSnapshot).export(ArgumentMatchers.any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get("/admin/snapshot"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Checking response status, headers and content.
+        mockMvc.perform(asyncDispatch(result))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        Matchers.matchesPattern("attachment; filename=\"market-\\d{8}-\\d{6}\\.snapshot\"")))
+                .andExpect(content().bytes(new byte[] {1, 2, 3}));
+    }
+
+    /**
+     * Tests if {@link SnapshotAdminController} returns error code 501 if snapshots are not available.
+     */
+    @Test
+    @DisplayName("Returns 501 without a database")
+    public void testExportUnavailable() throws Exception {
+        // Mocking snapshot functionality.
+        Mockito.when(marketSnapshot.isAvailable()).thenReturn(false);
+
+        // Checking response status.
+        mockMvc.perform(get("/admin/snapshot"))
+                .andDo(print())
+                .andExpect(status().isNotImplemented());
+        Mockito.verify(marketSnapshot, Mockito.never()).export(ArgumentMatchers.any());
+    }
+}
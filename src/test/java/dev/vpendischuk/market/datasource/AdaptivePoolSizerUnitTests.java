@@ -0,0 +1,94 @@
+package dev.vpendischuk.market.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+
+/**
+ * Class that contains unit tests for the {@link AdaptivePoolSizer} class.
+ */
+@DisplayName("AdaptivePoolSizer unit tests")
+public class AdaptivePoolSizerUnitTests {
+    /* ---------------------------- Configuration -------------------------- */
+
+    /**
+     * Target mean acquire time, in nanoseconds.
+     */
+    private static final double TARGET_NANOS = Duration.ofMillis(5).toNanos();
+
+    /**
+     * {@link AdaptivePoolSizer} instance - the test subject, resizing within 10-20 connections by 2.
+     */
+    private AdaptivePoolSizer poolSizer;
+
+    /**
+     * Initializes the test subject.
+     */
+    @BeforeEach
+    public void setUp() {
+        poolSizer = new AdaptivePoolSizer(Mockito.mock(HikariDataSource.class), new SimpleMeterRegistry(),
+                10, 20, 2, Duration.ofMillis(5));
+    }
+
+    /* -------------------------------- Tests ------------------------------ */
+
+    /**
+     * Tests if {@link AdaptivePoolSizer} grows the pool when the acquire time reaches the target,
+     *   up to the upper bound.
+     */
+    @Test
+    @DisplayName("Grows the pool when connections are acquired slowly")
+    public void testGrowsPool() {
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(12, poolSizer.resize(10, TARGET_NANOS, 5, 0)),
+                () -> Assertions.assertEquals(20, poolSizer.resize(19, TARGET_NANOS * 10, 5, 0)),
+                () -> Assertions.assertEquals(20, poolSizer.resize(20, TARGET_NANOS * 10, 5, 0))
+        );
+    }
+
+    /**
+     * Tests if {@link AdaptivePoolSizer} shrinks the pool when connections are acquired quickly
+     *   and a step of them is idle, down to the lower bound.
+     */
+    @Test
+    @DisplayName("Shrinks the pool when connections are idle")
+    public void testShrinksPool() {
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(16, poolSizer.resize(18, 0, 0, 4)),
+                () -> Assertions.assertEquals(10, poolSizer.resize(11, 0, 0, 4)),
+                () -> Assertions.assertEquals(10, poolSizer.resize(10, 0, 0, 10))
+        );
+    }
+
+    /**
+     * Tests if {@link AdaptivePoolSizer} keeps the pool size while the acquire time is near the target,
+     *   threads are waiting for connections or too few connections are idle.
+     */
+    @Test
+    @DisplayName("Keeps the pool size otherwise")
+    public void testKeepsPoolSize() {
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(14, poolSizer.resize(14, TARGET_NANOS / 2, 0, 10)),
+                () -> Assertions.assertEquals(14, poolSizer.resize(14, 0, 1, 10)),
+                () -> Assertions.assertEquals(14, poolSizer.resize(14, 0, 0, 1))
+        );
+    }
+
+    /**
+     * Tests if {@link AdaptivePoolSizer} brings a pool size out of the bounds within them.
+     */
+    @Test
+    @DisplayName("Brings the pool size within the bounds")
+    public void testClampsPoolSize() {
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(20, poolSizer.resize(30, TARGET_NANOS / 2, 0, 0)),
+                () -> Assertions.assertEquals(10, poolSizer.resize(4, TARGET_NANOS / 2, 0, 0))
+        );
+    }
+}
@@ -0,0 +1,172 @@
+package dev.vpendischuk.market.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Class that contains unit tests for the {@link InstrumentedDataSource} and {@link ConnectionLeakDetector} classes.
+ */
+@DisplayName("InstrumentedDataSource unit tests")
+public class InstrumentedDataSourceUnitTests {
+    /* ---------------------------- Configuration -------------------------- */
+
+    /**
+     * {@link MeterRegistry} instance the connection metrics are published to.
+     */
+    private MeterRegistry meterRegistry;
+
+    /**
+     * {@link ConnectionLeakDetector} instance used by the test subject.
+     */
+    private ConnectionLeakDetector leakDetector;
+
+    /**
+     * Mock target {@link Connection} instance.
+     */
+    private Connection targetConnection;
+
+    /**
+     * {@link InstrumentedDataSource} instance - the test subject.
+     */
+    private InstrumentedDataSource dataSource;
+
+    /**
+     * Initializes the test subject with a mock target data source and a 30 second leak detection threshold.
+     *
+     * @throws SQLException never (mock data source).
+     */
+    @BeforeEach
+    public void setUp() throws SQLException {
+        meterRegistry = new SimpleMeterRegistry();
+        leakDetector = new ConnectionLeakDetector(Duration.ofSeconds(30), meterRegistry);
+        targetConnection = Mockito.mock(Connection.class);
+
+        DataSource targetDataSource = Mockito.mock(DataSource.class);
+        Mockito.when(targetDataSource.getConnection()).thenReturn(targetConnection);
+
+        dataSource = new InstrumentedDataSource(targetDataSource, meterRegistry, leakDetector);
+    }
+
+    /**
+     * Clears the endpoint of the test thread.
+     */
+    @AfterEach
+    public void tearDown() {
+        ConnectionEndpointContext.clear();
+    }
+
+    /* -------------------------------- Tests ------------------------------ */
+
+    /**
+     * Tests if {@link InstrumentedDataSource} records the acquisition and the usage of a connection
+     *   tagged with the endpoint it was acquired for, once per connection.
+     *
+     * @throws SQLException never (mock connection).
+     */
+    @Test
+    @DisplayName("Records connection acquisition and usage per endpoint")
+    public void testRecordsUsagePerEndpoint() throws SQLException {
+        ConnectionEndpointContext.setEndpoint("MarketController.performDeal");
+
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        Timer acquireTimer = meterRegistry.find("market.datasource.connection.acquire")
+                .tag("endpoint", "MarketController.performDeal").timer();
+        Timer usageTimer = meterRegistry.find("market.datasource.connection.usage")
+                .tag("endpoint", "MarketController.performDeal").timer();
+
+        Assertions.assertAll(
+                () -> Assertions.assertNotNull(acquireTimer),
+                () -> Assertions.assertEquals(1, acquireTimer.count()),
+                () -> Assertions.assertNotNull(usageTimer),
+                () -> Assertions.assertEquals(1, usageTimer.count()),
+                () -> Assertions.assertEquals(0, leakDetector.getLeaseCount())
+        );
+        Mockito.verify(targetConnection, Mockito.times(2)).close();
+    }
+
+    /**
+     * Tests if {@link InstrumentedDataSource} attributes the connections acquired outside of requests
+     *   to no endpoint and exposes the target connection.
+     *
+     * @throws SQLException never (mock connection).
+     */
+    @Test
+    @DisplayName("Attributes connections acquired outside of requests to no endpoint")
+    public void testAttributesConnectionsOutsideRequests() throws SQLException {
+        Connection connection = dataSource.getConnection();
+
+        Assertions.assertAll(
+                () -> Assertions.assertSame(targetConnection, ((ConnectionProxy) connection).getTargetConnection()),
+                () -> Assertions.assertEquals(connection, connection),
+                () -> Assertions.assertNotNull(meterRegistry.find("market.datasource.connection.acquire")
+                        .tag("endpoint", ConnectionEndpointContext.NONE).timer())
+        );
+    }
+
+    /**
+     * Tests if {@link ConnectionLeakDetector} reports a connection held for longer than the threshold
+     *   once, tagged with the endpoint it was acquired for.
+     *
+     * @throws SQLException never (mock connection).
+     */
+    @Test
+    @DisplayName("Reports connections held for longer than the threshold once")
+    public void testReportsLeakOnce() throws SQLException {
+        ConnectionEndpointContext.setEndpoint("AccountController.getAccountInfo");
+        Connection connection = dataSource.getConnection();
+
+        long now = System.nanoTime();
+
+        // The connection is not held for long enough yet.
+        Assertions.assertEquals(0, leakDetector.detectLeaks(now));
+
+        // The connection is held for longer than the threshold.
+        long later = now + Duration.ofMinutes(1).toNanos();
+        Assertions.assertEquals(1, leakDetector.detectLeaks(later));
+        Assertions.assertEquals(0, leakDetector.detectLeaks(later));
+
+        connection.close();
+
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(1.0, meterRegistry.find("market.datasource.connection.leaks")
+                        .tag("endpoint", "AccountController.getAccountInfo").counter().count()),
+                () -> Assertions.assertEquals(0, leakDetector.getLeaseCount())
+        );
+    }
+
+    /**
+     * Tests if {@link ConnectionLeakDetector} does not track connections if the threshold is zero.
+     *
+     * @throws SQLException never (mock connection).
+     */
+    @Test
+    @DisplayName("Does not track connections if the detection is disabled")
+    public void testDisabledDetection() throws SQLException {
+        ConnectionLeakDetector disabledDetector = new ConnectionLeakDetector(Duration.ZERO, meterRegistry);
+        DataSource targetDataSource = Mockito.mock(DataSource.class);
+        Mockito.when(targetDataSource.getConnection()).thenReturn(targetConnection);
+
+        new InstrumentedDataSource(targetDataSource, meterRegistry, disabledDetector).getConnection();
+
+        Assertions.assertAll(
+                () -> Assertions.assertFalse(disabledDetector.isEnabled()),
+                () -> Assertions.assertEquals(0, disabledDetector.getLeaseCount())
+        );
+    }
+}
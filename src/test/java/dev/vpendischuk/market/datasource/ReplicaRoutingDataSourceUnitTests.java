@@ -0,0 +1,148 @@
+package dev.vpendischuk.market.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Class that contains unit tests for the {@link ReplicaRoutingDataSource} class.
+ */
+@DisplayName("ReplicaRoutingDataSource unit tests")
+public class ReplicaRoutingDataSourceUnitTests {
+    /* ---------------------------- Configuration -------------------------- */
+
+    /**
+     * {@link MeterRegistry} instance the replication lag is published to.
+     */
+    private MeterRegistry meterRegistry;
+
+    /**
+     * {@link ReplicaLagMonitor} instance used by the test subject.
+     */
+    private ReplicaLagMonitor lagMonitor;
+
+    /**
+     * {@link ReplicaRoutingDataSource} instance - the test subject.
+     */
+    private ReplicaRoutingDataSource routingDataSource;
+
+    /**
+     * Initializes the test subject with a primary and two replica mock data sources.
+     */
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lagMonitor = new ReplicaLagMonitor(List.of(Mockito.mock(DataSource.class), Mockito.mock(DataSource.class)),
+                meterRegistry);
+        routingDataSource = new ReplicaRoutingDataSource(Mockito.mock(DataSource.class), lagMonitor);
+        routingDataSource.afterPropertiesSet();
+    }
+
+    /**
+     * Clears the transaction read-only flag and the routing context of the test thread.
+     */
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReplicaRoutingContext.clear();
+    }
+
+    /* -------------------------------- Tests ------------------------------ */
+
+    /**
+     * Tests if {@link ReplicaRoutingDataSource} routes read-write transactions
+     *   and read-only transactions that do not tolerate lag to the primary database.
+     */
+    @Test
+    @DisplayName("Routes writes and lag-intolerant reads to the primary")
+    public void testRoutesToPrimary() {
+        lagMonitor.recordLag(0, 0);
+        lagMonitor.recordLag(1, 0);
+
+        // Read-write transaction that tolerates lag.
+        ReplicaRoutingContext.setMaxLag(Duration.ofSeconds(5));
+        Object readWriteKey = routingDataSource.determineCurrentLookupKey();
+
+        // Read-only transaction that does not tolerate lag.
+        ReplicaRoutingContext.clear();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        Object readOnlyKey = routingDataSource.determineCurrentLookupKey();
+
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(ReplicaRoutingDataSource.PRIMARY, readWriteKey),
+                () -> Assertions.assertEquals(ReplicaRoutingDataSource.PRIMARY, readOnlyKey)
+        );
+    }
+
+    /**
+     * Tests if {@link ReplicaRoutingDataSource} routes read-only transactions only to
+     *   the replicas within the lag tolerance, distributing them among such replicas.
+     */
+    @Test
+    @DisplayName("Routes reads to the replicas within the lag tolerance")
+    public void testRoutesToRecentReplicas() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReplicaRoutingContext.setMaxLag(Duration.ofSeconds(1));
+
+        // Both replicas within the tolerance.
+        lagMonitor.recordLag(0, 0);
+        lagMonitor.recordLag(1, 500);
+        Set<Object> keys = new HashSet<>(List.of(routingDataSource.determineCurrentLookupKey(),
+                routingDataSource.determineCurrentLookupKey()));
+
+        // The second replica lagging behind.
+        lagMonitor.recordLag(1, 2000);
+        Object firstReplicaKey = routingDataSource.determineCurrentLookupKey();
+        Object repeatedReplicaKey = routingDataSource.determineCurrentLookupKey();
+
+        // The first replica unavailable.
+        lagMonitor.recordLag(0, ReplicaLagMonitor.UNAVAILABLE);
+        Object fallbackKey = routingDataSource.determineCurrentLookupKey();
+
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(Set.of(ReplicaRoutingDataSource.replicaKey(0),
+                        ReplicaRoutingDataSource.replicaKey(1)), keys),
+                () -> Assertions.assertEquals(ReplicaRoutingDataSource.replicaKey(0), firstReplicaKey),
+                () -> Assertions.assertEquals(ReplicaRoutingDataSource.replicaKey(0), repeatedReplicaKey),
+                () -> Assertions.assertEquals(ReplicaRoutingDataSource.PRIMARY, fallbackKey),
+                () -> Assertions.assertEquals(2000, meterRegistry.get("market.datasource.replica.lag")
+                        .tag("replica", "1").gauge().value())
+        );
+    }
+
+    /**
+     * Tests if {@link ReplicaRoutingDataSource} routes read-only transactions made
+     *   with {@link ReplicaRoutingContext#onPrimary} to the primary database
+     *   and restores the lag tolerance afterwards.
+     */
+    @Test
+    @DisplayName("Routes cache loads to the primary")
+    public void testRoutesCacheLoadsToPrimary() {
+        lagMonitor.recordLag(0, 0);
+        lagMonitor.recordLag(1, 0);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReplicaRoutingContext.setMaxLag(Duration.ofSeconds(1));
+
+        Object loadKey = ReplicaRoutingContext.onPrimary(routingDataSource::determineCurrentLookupKey);
+
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(ReplicaRoutingDataSource.PRIMARY, loadKey),
+                () -> Assertions.assertEquals(Duration.ofSeconds(1), ReplicaRoutingContext.getMaxLag()),
+                () -> Assertions.assertNotEquals(ReplicaRoutingDataSource.PRIMARY,
+                        routingDataSource.determineCurrentLookupKey())
+        );
+    }
+}
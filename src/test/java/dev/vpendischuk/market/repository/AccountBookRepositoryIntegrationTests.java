@@ -12,8 +12,13 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import javax.persistence.EntityManager;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasItems;
@@ -31,6 +36,13 @@ import static org.hamcrest.Matchers.hasItems;
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 public class AccountBookRepositoryIntegrationTests {
+    /* ---------------------------- Static fields -------------------------- */
+
+    /**
+     * Pattern of the <b>account_book</b> partition names (and their index names) in query plans.
+     */
+    private static final Pattern PARTITION_PATTERN = Pattern.compile("account_book_p(\\d+)");
+
     /* ---------------------------- Configuration -------------------------- */
 
     /**
@@ -51,6 +63,12 @@ public class AccountBookRepositoryIntegrationTests {
     @Autowired
     BookRepository bookRepository;
 
+    /**
+     * {@link EntityManager} instance used to retrieve query plans.
+     */
+    @Autowired
+    EntityManager entityManager;
+
     /* -------------------------------- Tests ------------------------------ */
 
     /**
@@ -230,4 +248,143 @@ public class AccountBookRepositoryIntegrationTests {
         // Check if no entries were found.
         Assertions.assertEquals(0, savedEntries.size());
     }
+
+    /**
+     * Tests if {@link AccountBookRepository} upserts account-book entries
+     *   by account ID and book ID.
+     */
+    @Test
+    @DisplayName("Adds amount to a new or an existing entry")
+    public void testAddsAmount() {
+        // Creating data.
+        Account newAccount = new Account();
+        newAccount.setBalance(10000);
+
+        Book newBook = new Book();
+        newBook.setName("Algorithms");
+        newBook.setAuthor("Robert Sedgewick");
+
+        // Pre-populating database with data.
+        long accountId = accountRepository.saveAndFlush(newAccount).getId();
+        long bookId = bookRepository.saveAndFlush(newBook).getId();
+
+        // Adding the amount twice - the entry is created, then updated.
+        Integer createdAmount = accountBookRepository.addAmount(accountId, bookId, 2);
+        Integer updatedAmount = accountBookRepository.addAmount(accountId, bookId, 3);
+
+        List<AccountBook> entries = accountBookRepository.findAll().stream()
+                .filter(entry -> entry.getAccount().getId() == accountId)
+                .toList();
+
+        // Check for a single entry with the total amount.
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(2, createdAmount),
+                () -> Assertions.assertEquals(5, updatedAmount),
+                () -> Assertions.assertEquals(1, entries.size()),
+                () -> Assertions.assertEquals(5, entries.get(0).getAmount()),
+                () -> Assertions.assertNull(accountBookRepository.addAmount(accountId, bookId + 1000, 1))
+        );
+    }
+
+    /**
+     * Tests if {@link AccountBookRepository} finds all entries of an account
+     *   together with the purchased books.
+     */
+    @Test
+    @DisplayName("Finds all entries of an account")
+    public void testFindsAllEntriesOfAccount() {
+        // Creating data.
+        Account firstNewAccount = new Account();
+        firstNewAccount.setBalance(10000);
+
+        Account secondNewAccount = new Account();
+        secondNewAccount.setBalance(10000);
+
+        Book newBook = new Book("Algorithms", "Robert Sedgewick");
+
+        // Pre-populating database with data.
+        accountRepository.save(firstNewAccount);
+        accountRepository.save(secondNewAccount);
+        bookRepository.save(newBook);
+
+        AccountBook firstSavedEntry = accountBookRepository.save(new AccountBook(firstNewAccount, newBook, 1));
+        accountBookRepository.save(new AccountBook(secondNewAccount, newBook, 2));
+
+        List<AccountBook> entries = accountBookRepository.findAllByAccountId(firstNewAccount.getId());
+
+        // Check that only the first account's entry was found.
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(List.of(firstSavedEntry), entries),
+                () -> Assertions.assertEquals("Algorithms", entries.get(0).getBook().getName())
+        );
+    }
+
+    /**
+     * Tests if account-book lookups by account ID and book ID are served by a single partition
+     *   and use the index of its <b>account_id, book_id</b> unique constraint.
+     */
+    @Test
+    @DisplayName("Uses a single partition and an index for entry lookups by account ID and book ID")
+    public void testUsesAccountIdBookIdIndex() {
+        String plan = explain("SELECT * FROM account_book WHERE account_id = 1 AND book_id = 1");
+
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(1, scannedPartitions(plan).size(), plan),
+                () -> Assertions.assertTrue(plan.contains("_account_id_book_id_key"), plan)
+        );
+    }
+
+    /**
+     * Tests if account library loads (the account joined with its entries)
+     *   are served by a single partition.
+     */
+    @Test
+    @DisplayName("Uses a single partition for account library loads")
+    public void testPrunesPartitionsForLibraryLoads() {
+        String libraryPlan = explain("SELECT * FROM accounts a LEFT JOIN account_book ab ON ab.account_id = a.id " +
+                "LEFT JOIN books b ON b.id = ab.book_id WHERE a.id = 1");
+        String entriesPlan = explain("SELECT * FROM account_book WHERE account_id = 1");
+        String allPlan = explain("SELECT * FROM account_book");
+
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(1, scannedPartitions(libraryPlan).size(), libraryPlan),
+                () -> Assertions.assertEquals(1, scannedPartitions(entriesPlan).size(), entriesPlan),
+                () -> Assertions.assertTrue(scannedPartitions(allPlan).size() > 1, allPlan)
+        );
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Retrieves the plan of the specified query with sequential scans disabled
+     *   for the current transaction, so that the plan does not depend on the table size.
+     *
+     * @param query SQL query.
+     * @return query plan text.
+     */
+    private String explain(String query) {
+        entityManager.createNativeQuery("SET LOCAL enable_seqscan = off").executeUpdate();
+
+        @SuppressWarnings("unchecked")
+        List<String> planLines = entityManager.createNativeQuery("EXPLAIN " + query).getResultList();
+
+        return String.join("\n", planLines);
+    }
+
+    /**
+     * Retrieves the numbers of the <b>account_book</b> partitions scanned by the specified query plan.
+     *
+     * @param plan query plan text.
+     * @return set of the scanned partition numbers.
+     */
+    private Set<String> scannedPartitions(String plan) {
+        Set<String> partitions = new HashSet<>();
+        Matcher matcher = PARTITION_PATTERN.matcher(plan);
+
+        while (matcher.find()) {
+            partitions.add(matcher.group(1));
+        }
+
+        return partitions;
+    }
 }
@@ -0,0 +1,162 @@
+package dev.vpendischuk.market.repository;
+
+import dev.vpendischuk.market.domain.Book;
+import dev.vpendischuk.market.domain.CatalogEntry;
+import dev.vpendischuk.market.domain.Product;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+/**
+ * Class that contains integration tests for the {@link CatalogEntryRepository} repository.
+ * <p>
+ * Tests in this class check if an {@link CatalogEntryRepository} functions properly
+ *   and manages data in a dedicated database.
+ * <p>
+ * All tests in this class are transactional.
+ */
+@DisplayName("CatalogEntryRepository integration tests")
+@ExtendWith(SpringExtension.class)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class CatalogEntryRepositoryIntegrationTests {
+    /* ---------------------------- Configuration -------------------------- */
+
+    /**
+     * {@link CatalogEntryRepository} instance - the test subject.
+     */
+    @Autowired
+    CatalogEntryRepository catalogEntryRepository;
+
+    /**
+     * {@link ProductRepository} instance required to set up data for tests.
+     */
+    @Autowired
+    ProductRepository productRepository;
+
+    /**
+     * {@link BookRepository} instance required to set up data for tests.
+     */
+    @Autowired
+    BookRepository bookRepository;
+
+    /**
+     * {@link EntityManager} instance used to retrieve query plans.
+     */
+    @Autowired
+    EntityManager entityManager;
+
+    /* -------------------------------- Tests ------------------------------ */
+
+    /**
+     * Tests if {@link CatalogEntryRepository} creates the entry of a new product
+     *   and updates it with a new version when the product changes.
+     */
+    @Test
+    @DisplayName("Creates and updates catalog entries of products")
+    public void testRefreshesProductEntries() {
+        // Creating data.
+        Book newBook = new Book("Algorithms", "Robert Sedgewick");
+        Product newProduct = new Product(newBook, 1000, 2);
+
+        bookRepository.save(newBook);
+        long productId = productRepository.save(newProduct).getId();
+
+        // Creating the entry.
+        int createdCount = catalogEntryRepository.refreshProducts(List.of(productId));
+        entityManager.clear();
+
+        CatalogEntry createdEntry = catalogEntryRepository.findById(productId).orElseThrow();
+
+        // Changing the product and refreshing the entry.
+        Product savedProduct = productRepository.findById(productId).orElseThrow();
+        savedProduct.setAmount(0);
+
+        int updatedCount = catalogEntryRepository.refreshProducts(List.of(productId));
+        entityManager.clear();
+
+        CatalogEntry updatedEntry = catalogEntryRepository.findById(productId).orElseThrow();
+
+        // Checking that the entry follows the product.
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(1, createdCount),
+                () -> Assertions.assertEquals(1, updatedCount),
+                () -> Assertions.assertEquals(newBook.getId(), createdEntry.getBookId()),
+                () -> Assertions.assertEquals("Algorithms", createdEntry.getName()),
+                () -> Assertions.assertEquals(2, createdEntry.getAmount()),
+                () -> Assertions.assertEquals(0, updatedEntry.getAmount()),
+                () -> Assertions.assertEquals(createdEntry.getVersion() + 1, updatedEntry.getVersion()),
+                () -> Assertions.assertTrue(catalogEntryRepository.findInStock().stream()
+                        .noneMatch(entry -> entry.getProductId() == productId)),
+                () -> Assertions.assertTrue(catalogEntryRepository.findOutOfStock().stream()
+                        .anyMatch(entry -> entry.getProductId() == productId))
+        );
+    }
+
+    /**
+     * Tests if {@link CatalogEntryRepository} updates the book data
+     *   of the entries when the book changes.
+     */
+    @Test
+    @DisplayName("Updates catalog entries of changed books")
+    public void testRefreshesBookEntries() {
+        // Creating data.
+        Book newBook = new Book("Algorithms", "Robert Sedgewick");
+
+        bookRepository.save(newBook);
+        long productId = productRepository.save(new Product(newBook, 1000, 2)).getId();
+        catalogEntryRepository.refreshProducts(List.of(productId));
+
+        // Changing the book and refreshing the entries.
+        newBook.setName("Algorithms, 4th Edition");
+
+        int updatedCount = catalogEntryRepository.refreshBooks(List.of(newBook.getId()));
+        entityManager.clear();
+
+        CatalogEntry updatedEntry = catalogEntryRepository.findById(productId).orElseThrow();
+
+        // Checking that the entry follows the book.
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(1, updatedCount),
+                () -> Assertions.assertEquals("Algorithms, 4th Edition", updatedEntry.getName()),
+                () -> Assertions.assertEquals(2L, updatedEntry.getVersion())
+        );
+    }
+
+    /**
+     * Tests if the entries in stock are retrieved through the <b>catalog_view_in_stock_idx</b> partial index.
+     */
+    @Test
+    @DisplayName("Uses a partial index for catalog entries in stock")
+    public void testUsesInStockIndex() {
+        String plan = explain("SELECT * FROM catalog_view WHERE amount > 0 ORDER BY product_id");
+
+        Assertions.assertTrue(plan.contains("catalog_view_in_stock_idx"), plan);
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Retrieves the plan of the specified query with sequential scans disabled
+     *   for the current transaction, so that the plan does not depend on the table size.
+     *
+     * @param query SQL query.
+     * @return query plan text.
+     */
+    private String explain(String query) {
+        entityManager.createNativeQuery("SET LOCAL enable_seqscan = off").executeUpdate();
+
+        @SuppressWarnings("unchecked")
+        List<String> planLines = entityManager.createNativeQuery("EXPLAIN " + query).getResultList();
+
+        return String.join("\n", planLines);
+    }
+}
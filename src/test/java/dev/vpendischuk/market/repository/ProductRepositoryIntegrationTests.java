@@ -11,6 +11,8 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import javax.persistence.EntityManager;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,6 +46,12 @@ public class ProductRepositoryIntegrationTests {
     @Autowired
     BookRepository bookRepository;
 
+    /**
+     * {@link EntityManager} instance used to retrieve query plans.
+     */
+    @Autowired
+    EntityManager entityManager;
+
     /* -------------------------------- Tests ------------------------------ */
 
     /**
@@ -229,4 +237,100 @@ public class ProductRepositoryIntegrationTests {
         // Checking if no entries were found.
         Assertions.assertEquals(0, savedProducts.size());
     }
+
+    /**
+     * Tests if product lookups by book ID use the <b>products_book_id_idx</b> index.
+     */
+    @Test
+    @DisplayName("Uses an index for product lookups by book ID")
+    public void testUsesBookIdIndex() {
+        String plan = explain("SELECT * FROM products WHERE book_id = 1");
+
+        Assertions.assertTrue(plan.contains("products_book_id_idx"), plan);
+    }
+
+    /**
+     * Tests if product searches and sorting by price use the <b>products_price_idx</b> index.
+     */
+    @Test
+    @DisplayName("Uses an index for product search and sort by price")
+    public void testUsesPriceIndex() {
+        String searchPlan = explain("SELECT * FROM products WHERE price BETWEEN 100 AND 1000");
+        String sortPlan = explain("SELECT * FROM products ORDER BY price LIMIT 10");
+
+        Assertions.assertAll(
+                () -> Assertions.assertTrue(searchPlan.contains("products_price_idx"), searchPlan),
+                () -> Assertions.assertTrue(sortPlan.contains("products_price_idx"), sortPlan)
+        );
+    }
+
+    /**
+     * Tests if the products in stock are retrieved through the <b>products_in_stock_idx</b> partial index.
+     */
+    @Test
+    @DisplayName("Uses a partial index for products in stock")
+    public void testUsesInStockIndex() {
+        String plan = explain("SELECT * FROM products WHERE amount > 0");
+
+        Assertions.assertTrue(plan.contains("products_in_stock_idx"), plan);
+    }
+
+    /**
+     * Tests if {@link ProductRepository} keeps sold-out products apart from the products in stock
+     *   and moves them to the archive.
+     */
+    @Test
+    @DisplayName("Archives sold-out products")
+    public void testArchivesSoldOutProducts() {
+        // Creating data.
+        Book firstNewBook = new Book("Algorithms", "Robert Sedgewick");
+        Book secondNewBook = new Book("The C++ Programming Language", "Bjarne Stroustrup");
+
+        bookRepository.save(firstNewBook);
+        bookRepository.save(secondNewBook);
+
+        long soldOutId = productRepository.saveAndFlush(new Product(firstNewBook, 1000, 0)).getId();
+        long inStockId = productRepository.saveAndFlush(new Product(secondNewBook, 2000, 20)).getId();
+
+        boolean listedInStock = productRepository.findInStock().stream()
+                .anyMatch(product -> product.getId() == soldOutId);
+        boolean listedOutOfStock = productRepository.findOutOfStock().stream()
+                .anyMatch(product -> product.getId() == soldOutId);
+
+        // Archiving the products sold out until now.
+        int archivedCount = productRepository.archiveSoldOut(Instant.now().plusSeconds(1), Integer.MAX_VALUE);
+        entityManager.clear();
+
+        Number archivedRows = (Number) entityManager
+                .createNativeQuery("SELECT COUNT(*) FROM products_archive WHERE id = " + soldOutId)
+                .getSingleResult();
+
+        // Checking that only the sold-out product was moved to the archive.
+        Assertions.assertAll(
+                () -> Assertions.assertFalse(listedInStock),
+                () -> Assertions.assertTrue(listedOutOfStock),
+                () -> Assertions.assertTrue(archivedCount >= 1),
+                () -> Assertions.assertEquals(1, archivedRows.intValue()),
+                () -> Assertions.assertTrue(productRepository.findById(soldOutId).isEmpty()),
+                () -> Assertions.assertTrue(productRepository.findById(inStockId).isPresent())
+        );
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Retrieves the plan of the specified query with sequential scans disabled
+     *   for the current transaction, so that the plan does not depend on the table size.
+     *
+     * @param query SQL query.
+     * @return query plan text.
+     */
+    private String explain(String query) {
+        entityManager.createNativeQuery("SET LOCAL enable_seqscan = off").executeUpdate();
+
+        @SuppressWarnings("unchecked")
+        List<String> planLines = entityManager.createNativeQuery("EXPLAIN " + query).getResultList();
+
+        return String.join("\n", planLines);
+    }
 }
@@ -0,0 +1,435 @@
+package dev.vpendischuk.market.repository.memory;
+
+import dev.vpendischuk.market.domain.Account;
+import dev.vpendischuk.market.domain.AccountBook;
+import dev.vpendischuk.market.domain.Book;
+import dev.vpendischuk.market.domain.CatalogEntry;
+import dev.vpendischuk.market.domain.Product;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItems;
+
+/**
+ * Class that contains unit tests for the in-memory repositories and the {@link MemoryStore}.
+ * <p>
+ * Tests in this class check if the in-memory repositories fulfil the same contracts
+ *   as the database repositories, and if the stored data survives a restart.
+ *   Every test uses a dedicated storage directory.
+ */
+@DisplayName("In-memory repositories unit tests")
+public class InMemoryRepositoryUnitTests {
+    /* ---------------------------- Configuration -------------------------- */
+
+    /**
+     * Storage directory of the test.
+     */
+    @TempDir
+    Path directory;
+
+    /**
+     * {@link MemoryStore} instance the repositories are backed by.
+     */
+    MemoryStore store;
+
+    /**
+     * {@link InMemoryBookRepository} instance - a test subject.
+     */
+    InMemoryBookRepository bookRepository;
+
+    /**
+     * {@link InMemoryProductRepository} instance - a test subject.
+     */
+    InMemoryProductRepository productRepository;
+
+    /**
+     * {@link InMemoryAccountRepository} instance - a test subject.
+     */
+    InMemoryAccountRepository accountRepository;
+
+    /**
+     * {@link InMemoryAccountBookRepository} instance - a test subject.
+     */
+    InMemoryAccountBookRepository accountBookRepository;
+
+    /**
+     * {@link InMemoryCatalogEntryRepository} instance - a test subject.
+     */
+    InMemoryCatalogEntryRepository catalogEntryRepository;
+
+    /**
+     * Opens the storage and creates the repositories.
+     */
+    @BeforeEach
+    public void openStore() {
+        open();
+    }
+
+    /**
+     * Closes the storage.
+     */
+    @AfterEach
+    public void closeStore() {
+        store.close();
+    }
+
+    /* -------------------------------- Tests ------------------------------ */
+
+    /**
+     * Tests if the repositories create new entries and save changes in them.
+     */
+    @Test
+    @DisplayName("Creates new entries and saves changes in them")
+    public void testCreatesAndUpdatesEntries() {
+        // Creating data.
+        Book newBook = new Book("Algorithms", "Robert Sedgewick");
+        Account newAccount = new Account();
+        newAccount.setBalance(10000);
+
+        bookRepository.save(newBook);
+        accountRepository.save(newAccount);
+        Product savedProduct = productRepository.save(new Product(newBook, 1000, 100));
+        AccountBook savedEntry = accountBookRepository.save(new AccountBook(newAccount, newBook, 1));
+
+        // Changing entries.
+        newBook.setName("Algorithms, 4th Edition");
+        bookRepository.save(newBook);
+
+        Product changedProduct = new Product(new Book("Algorithms", "Robert Sedgewick"), 2000, 100);
+        changedProduct.setId(savedProduct.getId());
+        changedProduct.getProductBook().setId(newBook.getId());
+        productRepository.save(changedProduct);
+
+        newAccount.setBalance(5000);
+        accountRepository.save(newAccount);
+
+        Optional<Product> foundProduct = productRepository.findById(savedProduct.getId());
+        Optional<Account> foundAccount = accountRepository.findById(newAccount.getId());
+
+        // Checking for persistence.
+        Assertions.assertAll(
+                () -> Assertions.assertNotNull(newBook.getId()),
+                () -> Assertions.assertNotNull(savedEntry.getId()),
+                () -> Assertions.assertTrue(foundProduct.isPresent()),
+                () -> Assertions.assertEquals(2000, foundProduct.get().getPrice()),
+                () -> Assertions.assertEquals("Algorithms, 4th Edition", foundProduct.get().getProductBook().getName()),
+                () -> Assertions.assertTrue(foundAccount.isPresent()),
+                () -> Assertions.assertEquals(5000, foundAccount.get().getBalance()),
+                () -> Assertions.assertEquals(1, foundAccount.get().getAccountBooks().size())
+        );
+    }
+
+    /**
+     * Tests if the repositories find all entries and delete them.
+     */
+    @Test
+    @DisplayName("Finds all entries and deletes them")
+    public void testFindsAndDeletesAllEntries() {
+        // Creating data.
+        Book firstNewBook = new Book("Algorithms", "Robert Sedgewick");
+        Book secondNewBook = new Book("The C++ Programming Language", "Bjarne Stroustrup");
+
+        bookRepository.saveAll(List.of(firstNewBook, secondNewBook));
+        Product firstSavedProduct = productRepository.save(new Product(firstNewBook, 1000, 10));
+        Product secondSavedProduct = productRepository.save(new Product(secondNewBook, 2000, 20));
+
+        List<Book> foundBooks = bookRepository.findAll();
+        List<Product> foundProducts = productRepository.findAll();
+
+        // Deleting the books together with their products.
+        productRepository.deleteAll();
+        bookRepository.deleteAll();
+
+        // Checking the found and the remaining entries.
+        assertThat(foundBooks, hasItems(firstNewBook, secondNewBook));
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(List.of(firstSavedProduct, secondSavedProduct), foundProducts),
+                () -> Assertions.assertEquals(0, productRepository.count()),
+                () -> Assertions.assertEquals(0, bookRepository.count())
+        );
+    }
+
+    /**
+     * Tests if a book can't be deleted while a product refers to it,
+     *   and if truncating the books removes their products.
+     */
+    @Test
+    @DisplayName("Keeps references between entries consistent")
+    public void testKeepsReferencesConsistent() {
+        // Creating data.
+        Book newBook = bookRepository.save(new Book("Algorithms", "Robert Sedgewick"));
+        Product newProduct = productRepository.save(new Product(newBook, 1000, 10));
+        catalogEntryRepository.refreshProducts(List.of(newProduct.getId()));
+
+        // Checking that the referenced book is kept.
+        Assertions.assertThrows(DataIntegrityViolationException.class, () -> bookRepository.delete(newBook));
+
+        bookRepository.truncate();
+
+        // Checking that the products were truncated with the books.
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(0, bookRepository.count()),
+                () -> Assertions.assertEquals(0, productRepository.count()),
+                () -> Assertions.assertEquals(0, catalogEntryRepository.count())
+        );
+    }
+
+    /**
+     * Tests if the account-book repository upserts entries by account ID and book ID
+     *   and finds them by the account ID.
+     */
+    @Test
+    @DisplayName("Adds amount to a new or an existing entry")
+    public void testAddsAmount() {
+        // Creating data.
+        Account firstNewAccount = new Account();
+        firstNewAccount.setBalance(10000);
+
+        Account secondNewAccount = new Account();
+        secondNewAccount.setBalance(10000);
+
+        long firstAccountId = accountRepository.save(firstNewAccount).getId();
+        long secondAccountId = accountRepository.save(secondNewAccount).getId();
+        long bookId = bookRepository.save(new Book("Algorithms", "Robert Sedgewick")).getId();
+
+        // Adding the amount twice - the entry is created, then updated.
+        Integer createdAmount = accountBookRepository.addAmount(firstAccountId, bookId, 2);
+        Integer updatedAmount = accountBookRepository.addAmount(firstAccountId, bookId, 3);
+        accountBookRepository.addAmount(secondAccountId, bookId, 1);
+
+        List<AccountBook> entries = accountBookRepository.findAllByAccountId(firstAccountId);
+
+        // Check for a single entry with the total amount.
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(2, createdAmount),
+                () -> Assertions.assertEquals(5, updatedAmount),
+                () -> Assertions.assertEquals(1, entries.size()),
+                () -> Assertions.assertEquals(5, entries.get(0).getAmount()),
+                () -> Assertions.assertTrue(
+                        accountBookRepository.findAccountBookByAccountIdAndBookId(secondAccountId, bookId).isPresent()),
+                () -> Assertions.assertNull(accountBookRepository.addAmount(firstAccountId, bookId + 1000, 1)),
+                () -> Assertions.assertThrows(DataIntegrityViolationException.class, () -> accountBookRepository.save(
+                        new AccountBook(firstNewAccount, entries.get(0).getBook(), 1)))
+        );
+    }
+
+    /**
+     * Tests if the product repository lists products by availability
+     *   and archives the sold-out products.
+     */
+    @Test
+    @DisplayName("Archives sold-out products")
+    public void testArchivesSoldOutProducts() {
+        // Creating data.
+        Book firstNewBook = bookRepository.save(new Book("Algorithms", "Robert Sedgewick"));
+        Book secondNewBook = bookRepository.save(new Book("The C++ Programming Language", "Bjarne Stroustrup"));
+
+        long soldOutId = productRepository.save(new Product(firstNewBook, 1000, 0)).getId();
+        long inStockId = productRepository.save(new Product(secondNewBook, 2000, 20)).getId();
+
+        List<Product> inStock = productRepository.findInStock();
+        List<Product> outOfStock = productRepository.findOutOfStock();
+
+        // Archiving the products sold out until now.
+        int archivedCount = productRepository.archiveSoldOut(Instant.now().plusSeconds(1), Integer.MAX_VALUE);
+
+        // Checking that only the sold-out product was archived.
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(List.of(inStockId), inStock.stream().map(Product::getId).toList()),
+                () -> Assertions.assertEquals(List.of(soldOutId), outOfStock.stream().map(Product::getId).toList()),
+                () -> Assertions.assertEquals(1, archivedCount),
+                () -> Assertions.assertTrue(productRepository.findById(soldOutId).isEmpty()),
+                () -> Assertions.assertTrue(productRepository.findById(inStockId).isPresent())
+        );
+    }
+
+    /**
+     * Tests if the catalog entries are created and updated with the products and books.
+     */
+    @Test
+    @DisplayName("Creates and updates catalog entries")
+    public void testRefreshesCatalogEntries() {
+        // Creating data.
+        Book newBook = bookRepository.save(new Book("Algorithms", "Robert Sedgewick"));
+        Product newProduct = productRepository.save(new Product(newBook, 1000, 10));
+
+        int createdCount = catalogEntryRepository.refreshProducts(List.of(newProduct.getId()));
+
+        // Changing the product and the book.
+        newProduct.setAmount(0);
+        productRepository.save(newProduct);
+        catalogEntryRepository.refreshProducts(List.of(newProduct.getId()));
+
+        newBook.setName("Algorithms, 4th Edition");
+        bookRepository.save(newBook);
+        int updatedCount = catalogEntryRepository.refreshBooks(List.of(newBook.getId()));
+
+        Optional<CatalogEntry> entry = catalogEntryRepository.findById(newProduct.getId());
+
+        // Checking the entry state.
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(1, createdCount),
+                () -> Assertions.assertEquals(1, updatedCount),
+                () -> Assertions.assertTrue(entry.isPresent()),
+                () -> Assertions.assertEquals("Algorithms, 4th Edition", entry.get().getName()),
+                () -> Assertions.assertEquals(0, entry.get().getAmount()),
+                () -> Assertions.assertEquals(3, entry.get().getVersion()),
+                () -> Assertions.assertTrue(catalogEntryRepository.findInStock().isEmpty()),
+                () -> Assertions.assertEquals(List.of(entry.get()), catalogEntryRepository.findOutOfStock())
+        );
+    }
+
+    /**
+     * Tests if the writes of a rolled back transaction are undone, and the writes
+     *   of a committed transaction are kept.
+     */
+    @Test
+    @DisplayName("Undoes the writes of a rolled back transaction")
+    public void testUndoesRolledBackWrites() {
+        // Creating data.
+        Account newAccount = new Account();
+        newAccount.setBalance(10000);
+
+        long accountId = accountRepository.save(newAccount).getId();
+        Book newBook = bookRepository.save(new Book("Algorithms", "Robert Sedgewick"));
+        long productId = productRepository.save(new Product(newBook, 1000, 10)).getId();
+        accountBookRepository.addAmount(accountId, newBook.getId(), 1);
+        catalogEntryRepository.refreshProducts(List.of(productId));
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new MemoryTransactionManager(store));
+
+        // Making a deal in a rolled back transaction.
+        transactionTemplate.executeWithoutResult(status -> {
+            accountRepository.decreaseBalance(accountId, 2000);
+            productRepository.decreaseAmount(productId, 2);
+            accountBookRepository.addAmount(accountId, newBook.getId(), 2);
+            catalogEntryRepository.refreshProducts(List.of(productId));
+            bookRepository.save(new Book("The C++ Programming Language", "Bjarne Stroustrup"));
+            status.setRollbackOnly();
+        });
+
+        int rolledBackBalance = accountRepository.findById(accountId).orElseThrow().getBalance();
+        int rolledBackAmount = productRepository.findById(productId).orElseThrow().getAmount();
+        int rolledBackEntryAmount = accountBookRepository.findAllByAccountId(accountId).get(0).getAmount();
+        int rolledBackCatalogAmount = catalogEntryRepository.findById(productId).orElseThrow().getAmount();
+        long rolledBackBookCount = bookRepository.count();
+
+        // Making the same deal in a committed transaction.
+        transactionTemplate.executeWithoutResult(status -> {
+            accountRepository.decreaseBalance(accountId, 2000);
+            productRepository.decreaseAmount(productId, 2);
+            accountBookRepository.addAmount(accountId, newBook.getId(), 2);
+        });
+
+        // Checking that only the committed writes are kept.
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(10000, rolledBackBalance),
+                () -> Assertions.assertEquals(10, rolledBackAmount),
+                () -> Assertions.assertEquals(1, rolledBackEntryAmount),
+                () -> Assertions.assertEquals(10, rolledBackCatalogAmount),
+                () -> Assertions.assertEquals(1, rolledBackBookCount),
+                () -> Assertions.assertEquals(8000, accountRepository.findById(accountId).orElseThrow().getBalance()),
+                () -> Assertions.assertEquals(8, productRepository.findById(productId).orElseThrow().getAmount()),
+                () -> Assertions.assertEquals(3, accountBookRepository.findAllByAccountId(accountId).get(0).getAmount())
+        );
+    }
+
+    /**
+     * Tests if the data is recovered from the journal and the snapshot after a restart.
+     */
+    @Test
+    @DisplayName("Recovers the data from the journal and the snapshot")
+    public void testRecoversData() {
+        // Creating data - the first book is in the snapshot, the rest is in the journal.
+        Book firstNewBook = bookRepository.save(new Book("Algorithms", "Robert Sedgewick"));
+        store.snapshot();
+
+        Book secondNewBook = bookRepository.save(new Book("The C++ Programming Language", "Bjarne Stroustrup"));
+        Product newProduct = productRepository.save(new Product(secondNewBook, 2000, 20));
+
+        Account newAccount = new Account();
+        newAccount.setBalance(10000);
+        long accountId = accountRepository.save(newAccount).getId();
+        accountBookRepository.addAmount(accountId, firstNewBook.getId(), 2);
+
+        productRepository.deleteById(newProduct.getId());
+
+        // Restarting without a final snapshot.
+        restart();
+
+        Optional<Account> recoveredAccount = accountRepository.findById(accountId);
+        long nextBookId = bookRepository.save(new Book("Clean Code", "Robert Martin")).getId();
+
+        // Checking the recovered state.
+        assertThat(bookRepository.findAll(), hasItems(firstNewBook, secondNewBook));
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(0, productRepository.count()),
+                () -> Assertions.assertTrue(recoveredAccount.isPresent()),
+                () -> Assertions.assertEquals(10000, recoveredAccount.get().getBalance()),
+                () -> Assertions.assertEquals(2,
+                        recoveredAccount.get().getAccountBooks().iterator().next().getAmount()),
+                () -> Assertions.assertTrue(nextBookId > secondNewBook.getId())
+        );
+    }
+
+    /**
+     * Tests if an incomplete record at the end of the journal is discarded on recovery.
+     *
+     * @throws IOException if the journal can't be changed.
+     */
+    @Test
+    @DisplayName("Discards an incomplete journal record")
+    public void testDiscardsIncompleteJournalRecord() throws IOException {
+        // Creating data.
+        Book newBook = bookRepository.save(new Book("Algorithms", "Robert Sedgewick"));
+        productRepository.save(new Product(newBook, 1000, 10));
+
+        // Cutting the last record (the product) short, as a crash during the write would.
+        try (RandomAccessFile journal = new RandomAccessFile(directory.resolve("journal.bin").toFile(), "rw")) {
+            journal.setLength(journal.length() - 4);
+        }
+
+        restart();
+
+        // Checking that only the complete record was recovered.
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(List.of(newBook), bookRepository.findAll()),
+                () -> Assertions.assertEquals(0, productRepository.count())
+        );
+    }
+
+    /* -------------------------- Private methods -------------------------- */
+
+    /**
+     * Opens the storage in the test directory and creates the repositories.
+     */
+    private void open() {
+        store = new MemoryStore(directory, false);
+        bookRepository = new InMemoryBookRepository(store);
+        productRepository = new InMemoryProductRepository(store);
+        accountRepository = new InMemoryAccountRepository(store);
+        accountBookRepository = new InMemoryAccountBookRepository(store);
+        catalogEntryRepository = new InMemoryCatalogEntryRepository(store);
+    }
+
+    /**
+     * Reopens the storage without closing it, as a restart after a crash would.
+     */
+    private void restart() {
+        open();
+    }
+}
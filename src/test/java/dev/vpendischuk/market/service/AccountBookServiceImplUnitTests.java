@@ -3,10 +3,10 @@ package dev.vpendischuk.market.service;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 
+import dev.vpendischuk.market.cache.AccountCache;
 import dev.vpendischuk.market.controller.AccountController;
 import dev.vpendischuk.market.domain.Account;
 import dev.vpendischuk.market.domain.AccountBook;
-import dev.vpendischuk.market.domain.Book;
 import dev.vpendischuk.market.repository.AccountBookRepository;
 import dev.vpendischuk.market.service.impl.AccountBookServiceImpl;
 import org.junit.jupiter.api.Assertions;
@@ -17,8 +17,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-
-import java.util.Optional;
+import org.springframework.context.ApplicationEventPublisher;
 
 /**
  * Class that contains unit tests for the {@link AccountBookServiceImpl} service class.
@@ -50,10 +49,16 @@ public class AccountBookServiceImplUnitTests {
     AccountService accountService;
 
     /**
-     * Mock {@link BookService} instance.
+     * Mock {@link AccountCache} instance.
+     */
+    @Mock
+    AccountCache accountCache;
+
+    /**
+     * Mock {@link ApplicationEventPublisher} instance.
      */
     @Mock
-    BookService bookService;
+    ApplicationEventPublisher eventPublisher;
 
     /* -------------------------------- Tests ------------------------------ */
 
@@ -65,35 +70,15 @@ public class AccountBookServiceImplUnitTests {
     @Test
     @DisplayName("Creates a new account-book entry")
     public void testAddsNewEntryIfNonexistentAndEntitiesExist() {
-        // Create mock data.
-        Account mockAccount = new Account();
-        Book mockBook = new Book();
+        // Mocking repository functionality - the entry is inserted with the requested amount.
+        Mockito.when(accountBookRepository.addAmount(1L, 1L, 3)).thenReturn(3);
 
-        mockAccount.setId(1L);
-        mockAccount.setBalance(10000);
-
-        mockBook.setId(1L);
-        mockBook.setName("Algorithms");
-        mockBook.setAuthor("Robert Sedgewick");
-
-        AccountBook mockEntry = new AccountBook(mockAccount, mockBook, 0);
-
-        // Mocking service functionality with mock data.
-        Mockito.when(accountService.findById(1L)).thenReturn(mockAccount);
-        Mockito.when(bookService.findById(1L)).thenReturn(mockBook);
-        Mockito.when(accountBookRepository.save(any(AccountBook.class))).thenReturn(mockEntry);
-
-        // Requesting an entry.
         accountBookService.addOne(1L, 1L, 3);
 
-        AccountBook entry = accountBookService.getByAccountAndBookOrCreate(mockAccount, mockBook);
-
-        // Check if entry was created with correct parameters.
-        Assertions.assertAll(
-                () -> Assertions.assertEquals(mockAccount, entry.getAccount()),
-                () -> Assertions.assertEquals(mockBook, entry.getBook()),
-                () -> Assertions.assertEquals(3, entry.getAmount())
-        );
+        // Check if the entry was upserted with a single statement and the cached account was updated.
+        Mockito.verify(accountBookRepository, Mockito.times(1)).addAmount(1L, 1L, 3);
+        Mockito.verify(accountBookRepository, Mockito.never()).save(any(AccountBook.class));
+        Mockito.verify(accountCache).updateBookAmount(1L, 1L, 3);
     }
 
     /**
@@ -104,35 +89,14 @@ public class AccountBookServiceImplUnitTests {
     @Test
     @DisplayName("Updates existing entry")
     public void testUpdatesEntryIfExistentAndEntitiesExist() {
-        // Create mock data.
-        Account mockAccount = new Account();
-        Book mockBook = new Book();
-
-        mockAccount.setId(1L);
-        mockAccount.setBalance(10000);
-
-        mockBook.setId(1L);
-        mockBook.setName("Algorithms");
-        mockBook.setAuthor("Robert Sedgewick");
+        // Mocking repository functionality - the existing entry amount (3) is increased.
+        Mockito.when(accountBookRepository.addAmount(1L, 1L, 3)).thenReturn(6);
 
-        AccountBook mockEntry = new AccountBook(mockAccount, mockBook, 3);
-
-        // Mocking service functionality with mock data.
-        Mockito.when(accountService.findById(1L)).thenReturn(mockAccount);
-        Mockito.when(bookService.findById(1L)).thenReturn(mockBook);
-        Mockito.when(accountBookRepository.save(any(AccountBook.class))).thenReturn(mockEntry);
-
-        // Requesting an entry.
         accountBookService.addOne(1L, 1L, 3);
 
-        AccountBook entry = accountBookService.getByAccountAndBookOrCreate(mockAccount, mockBook);
-
-        // Check if entry was updated with correct parameters.
-        Assertions.assertAll(
-                () -> Assertions.assertEquals(mockAccount, entry.getAccount()),
-                () -> Assertions.assertEquals(mockBook, entry.getBook()),
-                () -> Assertions.assertEquals(6, entry.getAmount())
-        );
+        // Check if the cached account was updated with the resulting amount.
+        Mockito.verify(accountBookRepository, Mockito.never()).findAccountBookByAccountIdAndBookId(anyLong(), anyLong());
+        Mockito.verify(accountCache).updateBookAmount(1L, 1L, 6);
     }
 
     /**
@@ -142,22 +106,17 @@ public class AccountBookServiceImplUnitTests {
     @Test
     @DisplayName("Throws exception if account in the request parameters does not exist")
     public void testAddOneThrowsExceptionIfAccountDoesNotExist() {
-        // Create mock data.
-        Book mockBook = new Book();
-
-        mockBook.setId(1L);
-        mockBook.setName("Algorithms");
-        mockBook.setAuthor("Robert Sedgewick");
-
-        // Mocking service functionality with mock data.
+        // Mocking repository and service functionality - no entry is affected.
+        Mockito.when(accountBookRepository.addAmount(1L, 1L, 3)).thenReturn(null);
         Mockito.when(accountService.findById(1L)).thenReturn(null);
-        Mockito.when(bookService.findById(1L)).thenReturn(mockBook);
 
         // Check if an IllegalArgumentException is thrown.
-        Assertions.assertThrows(
+        IllegalArgumentException exception = Assertions.assertThrows(
                 IllegalArgumentException.class,
                 () -> accountBookService.addOne(1L, 1L, 3)
         );
+
+        Assertions.assertEquals("Invalid Account ID 1", exception.getMessage());
     }
 
     /**
@@ -173,84 +132,17 @@ public class AccountBookServiceImplUnitTests {
         mockAccount.setId(1L);
         mockAccount.setBalance(10000);
 
-        // Mocking service functionality with mock data.
+        // Mocking repository and service functionality - no entry is affected.
+        Mockito.when(accountBookRepository.addAmount(1L, 1L, 3)).thenReturn(null);
         Mockito.when(accountService.findById(1L)).thenReturn(mockAccount);
-        Mockito.when(bookService.findById(1L)).thenReturn(null);
 
         // Check if an IllegalArgumentException is thrown.
-        Assertions.assertThrows(
+        IllegalArgumentException exception = Assertions.assertThrows(
                 IllegalArgumentException.class,
                 () -> accountBookService.addOne(1L, 1L, 3)
         );
-    }
-
-    /**
-     * Tests if {@link AccountBookServiceImpl} successfully finds
-     *   the existing account-book entry for given account and book.
-     */
-    @Test
-    @DisplayName("Finds entries by account and book")
-    public void testFindsExistentEntryByAccountAndBook() {
-        // Create mock data.
-        Account account = new Account();
-        Book book = new Book();
 
-        account.setId(1L);
-        account.setBalance(10000);
-
-        book.setId(1L);
-        book.setName("Algorithms");
-        book.setAuthor("Robert Sedgewick");
-
-        AccountBook mockEntry = new AccountBook(account, book, 3);
-
-        // Mocking service functionality with mock data.
-        Mockito.when(accountBookRepository.findAccountBookByAccountIdAndBookId(1L, 1L))
-                .thenReturn(Optional.of(mockEntry));
-
-        // Requesting an entry.
-        AccountBook foundEntry = accountBookService.getByAccountAndBookOrCreate(account, book);
-
-        // Check that entries are equal.
-        Assertions.assertAll(
-                () -> Assertions.assertNotNull(foundEntry),
-                () -> Assertions.assertEquals(mockEntry, foundEntry)
-        );
-    }
-
-    /**
-     * Tests if {@link AccountBookServiceImpl} successfully creates
-     *   a new account-book entry for given account and book
-     *   if it was previously nonexistent (inner level).
-     */
-    @Test
-    @DisplayName("Creates a new account-book entry (inner level)")
-    public void testCreatesNewEntryForAccountAndBookIfNonExistent() {
-        // Create mock data.
-        Account account = new Account();
-        Book book = new Book();
-
-        account.setId(1L);
-        account.setBalance(10000);
-
-        book.setId(1L);
-        book.setName("Algorithms");
-        book.setAuthor("Robert Sedgewick");
-
-        AccountBook mockEntry = new AccountBook(account, book, 0);
-
-        // Mocking service functionality with mock data.
-        Mockito.when(accountBookRepository.findAccountBookByAccountIdAndBookId(1L, 1L))
-                .thenReturn(Optional.empty());
-        Mockito.when(accountBookRepository.save(any(AccountBook.class))).thenReturn(mockEntry);
-
-        AccountBook foundEntry = accountBookService.getByAccountAndBookOrCreate(account, book);
-
-        // Check if entry is created.
-        Assertions.assertAll(
-                () -> Assertions.assertNotNull(foundEntry),
-                () -> Assertions.assertEquals(mockEntry, foundEntry)
-        );
+        Assertions.assertEquals("Invalid Book ID 1", exception.getMessage());
     }
 
     /**
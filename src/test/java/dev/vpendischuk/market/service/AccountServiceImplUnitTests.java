@@ -1,5 +1,7 @@
 package dev.vpendischuk.market.service;
 
+import dev.vpendischuk.market.cache.AccountCache;
+import dev.vpendischuk.market.cache.model.AccountReadModel;
 import dev.vpendischuk.market.domain.Account;
 import dev.vpendischuk.market.repository.AccountBookRepository;
 import dev.vpendischuk.market.repository.AccountRepository;
@@ -12,8 +14,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -39,6 +48,24 @@ public class AccountServiceImplUnitTests {
     @Mock
     AccountRepository accountRepository;
 
+    /**
+     * Mock {@link AccountBookRepository} instance.
+     */
+    @Mock
+    AccountBookRepository accountBookRepository;
+
+    /**
+     * Mock {@link ApplicationEventPublisher} instance.
+     */
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    /**
+     * {@link AccountCache} instance used by the test subject.
+     */
+    @Spy
+    AccountCache accountCache = new AccountCache(10, Duration.ofMinutes(1));
+
     /* -------------------------------- Tests ------------------------------ */
 
     /**
@@ -67,6 +94,97 @@ public class AccountServiceImplUnitTests {
         );
     }
 
+    /**
+     * Tests if {@link AccountServiceImpl} loads the current account read model once
+     *   and keeps it in sync with balance changes.
+     */
+    @Test
+    @DisplayName("Serves current account read model from cache")
+    public void testGetCurrentAccountReadModelIsCachedAndUpdated() {
+        // Creating mock data.
+        Account account = new Account();
+
+        account.setBalance(10000);
+        account.setId(1L);
+
+        Account updatedAccount = new Account();
+
+        updatedAccount.setBalance(8000);
+        updatedAccount.setId(1L);
+
+        // Mocking service functionality with mock data.
+        Mockito.when(accountRepository.findById(1L)).thenReturn(Optional.of(account), Optional.of(updatedAccount));
+        Mockito.when(accountBookRepository.findAllByAccountId(1L)).thenReturn(List.of());
+        Mockito.when(accountRepository.decreaseBalance(1L, 2000)).thenReturn(1);
+
+        AccountReadModel loadedModel = accountService.getCurrentAccountReadModel();
+
+        // Decreasing balance.
+        accountService.decreaseBalance(1L, 2000);
+
+        AccountReadModel cachedModel = accountService.getCurrentAccountReadModel();
+
+        // Check if the model was loaded only once and updated in place.
+        Assertions.assertAll(
+                () -> Assertions.assertNotNull(loadedModel),
+                () -> Assertions.assertEquals(10000, loadedModel.getBalance()),
+                () -> Assertions.assertEquals(8000, cachedModel.getBalance()),
+                () -> Assertions.assertTrue(cachedModel.getBooks().isEmpty())
+        );
+        Mockito.verify(accountBookRepository, Mockito.times(1)).findAllByAccountId(1L);
+    }
+
+    /**
+     * Tests if {@link AccountServiceImpl} keeps the cached read model unchanged until the balance change
+     *   is committed and drops the model if the change is rolled back.
+     */
+    @Test
+    @DisplayName("Does not cache rolled back balance changes")
+    public void testGetCurrentAccountReadModelIgnoresRolledBackChanges() {
+        // Creating mock data.
+        Account account = new Account();
+
+        account.setBalance(10000);
+        account.setId(1L);
+
+        Account updatedAccount = new Account();
+
+        updatedAccount.setBalance(8000);
+        updatedAccount.setId(1L);
+
+        // Mocking service functionality with mock data.
+        Mockito.when(accountRepository.findById(1L))
+                .thenReturn(Optional.of(account), Optional.of(updatedAccount), Optional.of(account));
+        Mockito.when(accountBookRepository.findAllByAccountId(1L)).thenReturn(List.of());
+        Mockito.when(accountRepository.decreaseBalance(1L, 2000)).thenReturn(1);
+
+        accountService.getCurrentAccountReadModel();
+
+        // Decreasing balance in a transaction that is rolled back.
+        TransactionSynchronizationManager.initSynchronization();
+
+        AccountReadModel uncommittedModel;
+
+        try {
+            accountService.decreaseBalance(1L, 2000);
+            uncommittedModel = accountService.getCurrentAccountReadModel();
+
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        AccountReadModel reloadedModel = accountService.getCurrentAccountReadModel();
+
+        // Check if the uncommitted balance was never cached and the model was reloaded after the rollback.
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(10000, uncommittedModel.getBalance()),
+                () -> Assertions.assertEquals(10000, reloadedModel.getBalance())
+        );
+        Mockito.verify(accountBookRepository, Mockito.times(2)).findAllByAccountId(1L);
+    }
+
     /**
      * Tests if {@link AccountServiceImpl} successfully
      *   finds account by its ID.
@@ -119,22 +237,38 @@ public class AccountServiceImplUnitTests {
         // Creating mock data.
         Account account = new Account();
 
-        account.setBalance(10000);
+        account.setBalance(8000);
         account.setId(1L);
 
         // Mocking service functionality with mock data.
+        Mockito.when(accountRepository.decreaseBalance(1L, 2000)).thenReturn(1);
         Mockito.when(accountRepository.findById(1L)).thenReturn(Optional.of(account));
 
         // Decreasing balance.
-        accountService.decreaseBalance(1L, 2000);
+        boolean decreased = accountService.decreaseBalance(1L, 2000);
 
-        Account foundAccount = accountService.findById(1L);
+        // Check if the balance was decreased by the conditional update and the change was reported.
+        Assertions.assertTrue(decreased);
+        Mockito.verify(accountRepository, Mockito.times(1)).decreaseBalance(1L, 2000);
+        Mockito.verify(eventPublisher, Mockito.times(1)).publishEvent(Mockito.any(Object.class));
+    }
 
-        // Check if the account balance has decreased.
-        Assertions.assertAll(
-                () -> Assertions.assertNotNull(foundAccount),
-                () -> Assertions.assertEquals(8000, foundAccount.getBalance())
-        );
+    /**
+     * Tests if {@link AccountServiceImpl} does not deduct money
+     *   if the conditional update finds the balance too low.
+     */
+    @Test
+    @DisplayName("Does not decrease account balance below zero")
+    public void testDoesNotDecreaseAccountBalanceBelowZero() {
+        // Mocking service functionality - the conditional update affects no rows.
+        Mockito.when(accountRepository.decreaseBalance(1L, 20000)).thenReturn(0);
+
+        boolean decreased = accountService.decreaseBalance(1L, 20000);
+
+        // Check if the failure was reported and no change was published.
+        Assertions.assertFalse(decreased);
+        Mockito.verify(accountRepository, Mockito.never()).findById(1L);
+        Mockito.verifyNoInteractions(eventPublisher);
     }
 
     /**
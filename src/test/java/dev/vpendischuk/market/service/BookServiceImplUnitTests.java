@@ -12,7 +12,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -38,6 +40,18 @@ public class BookServiceImplUnitTests {
     @Mock
     BookRepository bookRepository;
 
+    /**
+     * Mock {@link CatalogService} instance.
+     */
+    @Mock
+    CatalogService catalogService;
+
+    /**
+     * Mock {@link ApplicationEventPublisher} instance.
+     */
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     /* -------------------------------- Tests ------------------------------ */
 
     /**
@@ -92,4 +106,25 @@ public class BookServiceImplUnitTests {
     public void testSavingNullBookThrowsException() {
         Assertions.assertThrows(IllegalArgumentException.class, () -> bookService.save(null));
     }
+
+    /**
+     * Tests if {@link BookServiceImpl} brings the catalog entries
+     *   of a saved book's products up to date.
+     */
+    @Test
+    @DisplayName("Refreshes catalog entries of a saved book")
+    public void testSavingBookRefreshesCatalog() {
+        // Creating mock data.
+        Book mockBook = new Book();
+
+        mockBook.setId(1L);
+        mockBook.setName("Algorithms");
+        mockBook.setAuthor("Robert Sedgewick");
+
+        // Mocking repository functionality with mock data.
+        Mockito.when(bookRepository.save(mockBook)).thenReturn(mockBook);
+
+        Assertions.assertEquals(mockBook, bookService.save(mockBook));
+        Mockito.verify(catalogService, Mockito.times(1)).refreshBooks(List.of(1L));
+    }
 }
@@ -0,0 +1,106 @@
+package dev.vpendischuk.market.service;
+
+import dev.vpendischuk.market.domain.CatalogEntry;
+import dev.vpendischuk.market.domain.ProductAvailability;
+import dev.vpendischuk.market.repository.CatalogEntryRepository;
+import dev.vpendischuk.market.service.impl.CatalogServiceImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+/**
+ * Class that contains unit tests for the {@link CatalogServiceImpl} service class.
+ * <p>
+ * Tests in this class check if an {@link CatalogServiceImpl} functions properly in isolation
+ *   from its dependencies' functionality.
+ */
+@DisplayName("CatalogServiceImpl unit tests")
+@ExtendWith(MockitoExtension.class)
+public class CatalogServiceImplUnitTests {
+    /* ---------------------------- Configuration -------------------------- */
+
+    /**
+     * {@link CatalogServiceImpl} instance - the test subject.
+     */
+    @InjectMocks
+    CatalogServiceImpl catalogService;
+
+    /**
+     * Mock {@link CatalogEntryRepository} instance.
+     */
+    @Mock
+    CatalogEntryRepository catalogEntryRepository;
+
+    /* -------------------------------- Tests ------------------------------ */
+
+    /**
+     * Tests if {@link CatalogServiceImpl} reads the catalog entries
+     *   with the query matching the requested availability.
+     */
+    @Test
+    @DisplayName("Finds catalog entries by availability")
+    public void testFindAllByAvailability() {
+        // Creating mock data.
+        CatalogEntry inStockEntry = new CatalogEntry(1L, 1L, "Algorithms", "Robert Sedgewick", 100, 2, 0L);
+        CatalogEntry soldOutEntry = new CatalogEntry(2L, 2L, "SICP", "Harold Abelson", 200, 0, 3L);
+
+        // Mocking repository functionality with mock data.
+        Mockito.when(catalogEntryRepository.findInStock()).thenReturn(List.of(inStockEntry));
+        Mockito.when(catalogEntryRepository.findOutOfStock()).thenReturn(List.of(soldOutEntry));
+        Mockito.when(catalogEntryRepository.findAllByOrderByProductId()).thenReturn(List.of(inStockEntry, soldOutEntry));
+
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(List.of(inStockEntry),
+                        catalogService.findAll(ProductAvailability.IN_STOCK)),
+                () -> Assertions.assertEquals(List.of(soldOutEntry),
+                        catalogService.findAll(ProductAvailability.OUT_OF_STOCK)),
+                () -> Assertions.assertEquals(List.of(inStockEntry, soldOutEntry),
+                        catalogService.findAll(ProductAvailability.ALL)),
+                () -> Assertions.assertThrows(IllegalArgumentException.class, () -> catalogService.findAll(null))
+        );
+    }
+
+    /**
+     * Tests if {@link CatalogServiceImpl} returns null
+     *   when trying to find the catalog entry of a nonexistent product.
+     */
+    @Test
+    @DisplayName("Returns null for nonexistent product ID")
+    public void testEntryNotFoundByNonexistentId() {
+        // Mocking repository functionality.
+        Mockito.when(catalogEntryRepository.findById(2L)).thenReturn(Optional.empty());
+
+        Assertions.assertNull(catalogService.findById(2L));
+    }
+
+    /**
+     * Tests if {@link CatalogServiceImpl} refreshes the catalog entries
+     *   in bounded batches and skips unassigned IDs.
+     */
+    @Test
+    @DisplayName("Refreshes catalog entries in batches")
+    public void testRefreshesProductsInBatches() {
+        // Creating mock data.
+        List<Long> productIds = new ArrayList<>(LongStream.rangeClosed(1, 2500).boxed().toList());
+        productIds.add(null);
+
+        catalogService.refreshProducts(productIds);
+        catalogService.refreshBooks(Arrays.asList(null, null));
+
+        Mockito.verify(catalogEntryRepository, Mockito.times(3)).refreshProducts(Mockito.anyCollection());
+        Mockito.verify(catalogEntryRepository, Mockito.times(1))
+                .refreshProducts(LongStream.rangeClosed(2001, 2500).boxed().toList());
+        Mockito.verify(catalogEntryRepository, Mockito.never()).refreshBooks(Mockito.anyCollection());
+    }
+}
@@ -0,0 +1,46 @@
+package dev.vpendischuk.market.service;
+
+import dev.vpendischuk.market.domain.Book;
+import dev.vpendischuk.market.domain.Product;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class that contains unit tests for the {@link DealValidator} class.
+ */
+@DisplayName("DealValidator unit tests")
+public class DealValidatorUnitTests {
+    /* ---------------------------- Configuration -------------------------- */
+
+    /**
+     * Tested {@link DealValidator} instance.
+     */
+    private final DealValidator dealValidator = new DealValidator();
+
+    /* -------------------------------- Tests ------------------------------ */
+
+    /**
+     * Tests if {@link DealValidator} reports the correct rejection reason
+     *   for every invalid deal and accepts a valid deal.
+     */
+    @Test
+    @DisplayName("Validates deals")
+    public void testValidatesDeals() {
+        // Creating mock data.
+        Product product = new Product(new Book("Algorithms", "Robert Sedgewick"), 1000, 2);
+        Integer balance = 1500;
+
+        Assertions.assertAll(
+                () -> Assertions.assertEquals(DealValidator.Rejection.PRODUCT_NOT_FOUND,
+                        dealValidator.validate(null, balance, 1)),
+                () -> Assertions.assertEquals(DealValidator.Rejection.ACCOUNT_UNKNOWN,
+                        dealValidator.validate(product, null, 1)),
+                () -> Assertions.assertEquals(DealValidator.Rejection.NOT_ENOUGH_PRODUCT,
+                        dealValidator.validate(product, balance, 3)),
+                () -> Assertions.assertEquals(DealValidator.Rejection.NOT_ENOUGH_MONEY,
+                        dealValidator.validate(product, balance, 2)),
+                () -> Assertions.assertNull(dealValidator.validate(product, balance, 1))
+        );
+    }
+}
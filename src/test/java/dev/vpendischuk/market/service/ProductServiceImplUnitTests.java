@@ -15,6 +15,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -42,6 +43,18 @@ public class ProductServiceImplUnitTests {
     @Mock
     ProductRepository productRepository;
 
+    /**
+     * Mock {@link CatalogService} instance.
+     */
+    @Mock
+    CatalogService catalogService;
+
+    /**
+     * Mock {@link ApplicationEventPublisher} instance.
+     */
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     /* -------------------------------- Tests ------------------------------ */
 
     /**
@@ -138,29 +151,35 @@ public class ProductServiceImplUnitTests {
     @Test
     @DisplayName("Decreases product amount")
     public void testDecreasesProductAmount() {
-        // Creating mock data.
-        Product mockProduct = new Product();
-        Book mockBook = new Book();
+        // Mocking repository functionality - the conditional amount update affects the product.
+        Mockito.when(productRepository.decreaseAmount(1L, 2)).thenReturn(1);
 
-        mockBook.setId(1L);
-        mockBook.setName("Algorithms");
-        mockBook.setAuthor("Robert Sedgewick");
+        boolean decreased = productService.decreaseAmount(1L, 2);
 
-        mockProduct.setProductBook(mockBook);
-        mockProduct.setAmount(2);
-        mockProduct.setPrice(100);
+        // Check if the amount was decreased by the conditional update, the product was kept
+        //   and the change was reported.
+        Assertions.assertTrue(decreased);
+        Mockito.verify(productRepository, Mockito.never()).delete(Mockito.any(Product.class));
+        Mockito.verify(catalogService, Mockito.times(1)).refreshProducts(List.of(1L));
+        Mockito.verify(eventPublisher, Mockito.times(1)).publishEvent(Mockito.any(Object.class));
+    }
 
-        // Mocking service functionality with mock data.
-        Mockito.when(productRepository.findById(1L)).thenReturn(Optional.of(mockProduct));
+    /**
+     * Tests if {@link ProductServiceImpl} does not decrease the product amount
+     *   if the decrement is greater than the amount.
+     */
+    @Test
+    @DisplayName("Does not decrease product amount below zero")
+    public void testDoesNotDecreaseProductAmountBelowZero() {
+        // Mocking repository functionality - the conditional amount update affects no rows.
+        Mockito.when(productRepository.decreaseAmount(1L, 3)).thenReturn(0);
 
-        productService.decreaseAmount(1L, 1);
-        Product foundProduct = productService.findById(1L);
+        boolean decreased = productService.decreaseAmount(1L, 3);
 
-        // Check if the product amount has decreased.
-        Assertions.assertAll(
-                () -> Assertions.assertNotNull(foundProduct),
-                () -> Assertions.assertEquals(1, foundProduct.getAmount())
-        );
+        // Check if the decrease was rejected and no change was reported.
+        Assertions.assertFalse(decreased);
+        Mockito.verifyNoInteractions(catalogService);
+        Mockito.verifyNoInteractions(eventPublisher);
     }
 
     /**
@@ -173,4 +192,43 @@ public class ProductServiceImplUnitTests {
     public void testSavingNullProductThrowsException() {
         Assertions.assertThrows(IllegalArgumentException.class, () -> productService.save(null));
     }
+
+    /**
+     * Tests if {@link ProductServiceImpl} saves a list of products
+     *   with a single repository call and reports a single catalog change.
+     */
+    @Test
+    @DisplayName("Saves a list of products at once")
+    public void testSavesAllProducts() {
+        // Creating mock data.
+        List<Product> products = List.of(new Product(), new Product());
+
+        // Mocking repository functionality with mock data.
+        Mockito.when(productRepository.saveAll(products)).thenReturn(products);
+
+        Assertions.assertEquals(products, productService.saveAll(products));
+        Mockito.verify(productRepository, Mockito.never()).save(Mockito.any(Product.class));
+        Mockito.verify(catalogService, Mockito.times(1)).refreshProducts(Mockito.anyList());
+        Mockito.verify(eventPublisher, Mockito.times(1)).publishEvent(Mockito.any(Object.class));
+    }
+
+    /**
+     * Tests if {@link ProductServiceImpl} deletes a list of products
+     *   with a single repository call by their IDs.
+     */
+    @Test
+    @DisplayName("Deletes a list of products at once")
+    public void testDeletesAllProducts() {
+        // Creating mock data.
+        Product firstProduct = new Product();
+        Product secondProduct = new Product();
+
+        firstProduct.setId(1L);
+        secondProduct.setId(2L);
+
+        productService.deleteAll(List.of(firstProduct, secondProduct));
+
+        Mockito.verify(productRepository, Mockito.times(1)).deleteAllByIdInBatch(List.of(1L, 2L));
+        Mockito.verify(eventPublisher, Mockito.times(1)).publishEvent(Mockito.any(Object.class));
+    }
 }